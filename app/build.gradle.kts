@@ -35,6 +35,8 @@ android {
 
 dependencies {
 
+    implementation(project(":engine"))
+
     implementation(libs.appcompat)
     implementation(libs.material)
     implementation(libs.activity)
@@ -70,6 +72,9 @@ dependencies {
     
     // Ensure you also have ViewModel (likely already there, but good to verify)
     implementation ("androidx.lifecycle:lifecycle-viewmodel:2.7.0")
+
+    // ProcessLifecycleOwner - flush pending match writes when the app goes to background
+    implementation ("androidx.lifecycle:lifecycle-process:2.7.0")
     
     // Splash Screen API
     implementation ("androidx.core:core-splashscreen:1.0.1")
@@ -0,0 +1,108 @@
+package com.example.tournafy.data.repository;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.Choreographer;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
+
+/**
+ * LiveData that passes on the latest value of a source at most once per display
+ * frame, or at most once per interval while the pacing asks for one (battery saver).
+ * Values that arrive in between replace each other: only the latest is delivered.
+ *
+ * A burst of online updates (a ball plus the stats written with it, or a backlog
+ * received after a slow network catches up) then costs the screen one re-render.
+ *
+ * Conflated ListUpdate streams skip versions; observers already treat an update that
+ * does not follow the last one they applied as a RESET (see ListUpdate.follows()).
+ *
+ * Main thread only.
+ *
+ * @param <T> The value type.
+ */
+public class ConflatedLiveData<T> extends MediatorLiveData<T> {
+
+    /**
+     * Decides how often values are delivered.
+     */
+    public interface Pacing {
+        /**
+         * @return Minimum time between two deliveries, or 0 for once per frame.
+         */
+        long minIntervalMillis();
+    }
+
+    private final Pacing pacing;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Choreographer.FrameCallback frameCallback = frameTimeNanos -> dispatch();
+    private final Runnable delayedDispatch = this::dispatch;
+
+    private T pending;
+    private boolean hasPending;
+    private boolean frameScheduled;
+    private boolean delayScheduled;
+    private long lastDispatchAt;
+    private long received;
+    private long delivered;
+
+    public ConflatedLiveData(LiveData<T> source, Pacing pacing) {
+        this.pacing = pacing;
+        addSource(source, value -> {
+            pending = value;
+            hasPending = true;
+            received++;
+            schedule();
+        });
+    }
+
+    /**
+     * @return Number of values received from the source.
+     */
+    public long getReceivedCount() {
+        return received;
+    }
+
+    /**
+     * @return Number of values delivered; the difference to getReceivedCount() was dropped.
+     */
+    public long getDeliveredCount() {
+        return delivered;
+    }
+
+    private void schedule() {
+        if (frameScheduled || delayScheduled) return;
+        long interval = pacing.minIntervalMillis();
+        if (interval <= 0) {
+            frameScheduled = true;
+            Choreographer.getInstance().postFrameCallback(frameCallback);
+        } else {
+            delayScheduled = true;
+            long wait = lastDispatchAt + interval - SystemClock.uptimeMillis();
+            handler.postDelayed(delayedDispatch, Math.max(0, wait));
+        }
+    }
+
+    private void dispatch() {
+        frameScheduled = false;
+        delayScheduled = false;
+        if (!hasPending) return;
+        T value = pending;
+        pending = null;
+        hasPending = false;
+        lastDispatchAt = SystemClock.uptimeMillis();
+        delivered++;
+        setValue(value);
+    }
+
+    @Override
+    protected void onInactive() {
+        super.onInactive();
+        // Nobody is drawing: keep the latest value without waiting for a frame
+        if (frameScheduled) Choreographer.getInstance().removeFrameCallback(frameCallback);
+        if (delayScheduled) handler.removeCallbacks(delayedDispatch);
+        dispatch();
+    }
+}
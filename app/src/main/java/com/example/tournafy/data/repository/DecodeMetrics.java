@@ -0,0 +1,82 @@
+package com.example.tournafy.data.repository;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decode-time counters for one collection (e.g. "firestore/matches", "rtdb/balls").
+ * Updated from the decode executor; read from anywhere (debug screens, logs).
+ */
+public final class DecodeMetrics {
+
+    private static final Map<String, DecodeMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String collection;
+    private final AtomicLong decodeCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private DecodeMetrics(String collection) {
+        this.collection = collection;
+    }
+
+    /**
+     * Returns the shared metrics of a collection, creating them on first use.
+     */
+    public static DecodeMetrics forCollection(String collection) {
+        DecodeMetrics metrics = REGISTRY.get(collection);
+        if (metrics == null) {
+            DecodeMetrics created = new DecodeMetrics(collection);
+            metrics = REGISTRY.putIfAbsent(collection, created);
+            if (metrics == null) metrics = created;
+        }
+        return metrics;
+    }
+
+    /**
+     * @return The metrics of every collection decoded so far, sorted by name.
+     */
+    public static Map<String, DecodeMetrics> all() {
+        return Collections.unmodifiableMap(new TreeMap<>(REGISTRY));
+    }
+
+    void recordDecode(long nanos) {
+        decodeCount.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        long max;
+        do {
+            max = maxNanos.get();
+        } while (nanos > max && !maxNanos.compareAndSet(max, nanos));
+    }
+
+    void recordDropped() {
+        droppedCount.incrementAndGet();
+    }
+
+    public String getCollection() { return collection; }
+
+    /** Number of snapshots decoded. */
+    public long getDecodeCount() { return decodeCount.get(); }
+
+    /** Number of snapshots skipped or discarded because a newer one arrived. */
+    public long getDroppedCount() { return droppedCount.get(); }
+
+    public double getAverageDecodeMillis() {
+        long count = decodeCount.get();
+        return count == 0 ? 0d : totalNanos.get() / (count * 1_000_000d);
+    }
+
+    public double getMaxDecodeMillis() {
+        return maxNanos.get() / 1_000_000d;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(java.util.Locale.US, "%s: %d decodes, avg %.2f ms, max %.2f ms, %d dropped",
+                collection, getDecodeCount(), getAverageDecodeMillis(), getMaxDecodeMillis(), getDroppedCount());
+    }
+}
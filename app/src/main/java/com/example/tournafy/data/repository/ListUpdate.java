@@ -0,0 +1,71 @@
+package com.example.tournafy.data.repository;
+
+import java.util.List;
+
+/**
+ * One change of a streamed list (see LiveList): the list as it is now plus the
+ * range that changed, so an adapter can call notifyItemRangeInserted / Changed /
+ * Removed for just that range instead of rebinding the whole list.
+ *
+ * getItems() is a read-only view of the live list and is only valid on the main
+ * thread, until the next update. Copy it to keep a snapshot.
+ *
+ * Versions increase by one per update of the same stream. LiveData hands an observer
+ * that was inactive only the latest value, so an observer that sees a version that
+ * does not follow the last one it handled (see follows()) must treat the update as
+ * a RESET.
+ *
+ * @param <T> The item type.
+ */
+public class ListUpdate<T> {
+
+    public enum Type {
+        /** The whole list is new (first load, reload or a reordering change). */
+        RESET,
+        INSERTED,
+        CHANGED,
+        REMOVED
+    }
+
+    private final List<T> items;
+    private final Type type;
+    private final int positionStart;
+    private final int itemCount;
+    private final long version;
+
+    ListUpdate(List<T> items, Type type, int positionStart, int itemCount, long version) {
+        this.items = items;
+        this.type = type;
+        this.positionStart = positionStart;
+        this.itemCount = itemCount;
+        this.version = version;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getPositionStart() {
+        return positionStart;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param previousVersion Version of the last update the caller applied, or -1 if none.
+     * @return True if this update applies directly on top of that one.
+     */
+    public boolean follows(long previousVersion) {
+        return type != Type.RESET && previousVersion >= 0 && version == previousVersion + 1;
+    }
+}
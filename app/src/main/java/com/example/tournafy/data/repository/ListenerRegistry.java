@@ -0,0 +1,132 @@
+package com.example.tournafy.data.repository;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.lifecycle.LiveData;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Multiplexes snapshot listeners of a repository.
+ *
+ * share() returns the same SharedListenerLiveData for the same key (collection plus
+ * document id or query), so every caller observing it shares one backend listener and
+ * removeObserver() on a second getById() call reaches the real LiveData. LiveData's own
+ * active-observer count is the reference count: the listener is detached after a grace
+ * period once the last observer leaves, and the entry is dropped from the registry.
+ * An entry that is never observed is dropped after the same grace period.
+ *
+ * The static counters (live listeners, documents read per key) are for debugging.
+ */
+public class ListenerRegistry {
+
+    /** Time a listener stays attached after its last observer left. */
+    public static final long DEFAULT_GRACE_PERIOD_MS = 10_000L;
+
+    private static final AtomicInteger LIVE_LISTENERS = new AtomicInteger();
+    private static final Map<String, AtomicLong> READS = new ConcurrentHashMap<>();
+
+    private final Map<String, SharedListenerLiveData<?>> listeners = new HashMap<>();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final long gracePeriodMs;
+
+    public ListenerRegistry() {
+        this(DEFAULT_GRACE_PERIOD_MS);
+    }
+
+    public ListenerRegistry(long gracePeriodMs) {
+        this.gracePeriodMs = gracePeriodMs;
+    }
+
+    /**
+     * Returns the shared LiveData of a key, creating it if no caller holds one.
+     *
+     * @param key    Unique key of the listener, e.g. "firestore/matches/doc/{id}".
+     * @param source Attaches the listener when the LiveData gets its first observer.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> LiveData<T> share(String key, SharedListenerLiveData.Source<T> source) {
+        SharedListenerLiveData<?> existing = listeners.get(key);
+        if (existing != null) {
+            // Same key always maps to the same value type
+            return (LiveData<T>) existing;
+        }
+        SharedListenerLiveData<T> liveData = new SharedListenerLiveData<>(this, key, source);
+        listeners.put(key, liveData);
+        // Dropped again unless a caller observes it within the grace period
+        liveData.scheduleDetach();
+        return liveData;
+    }
+
+    /**
+     * @return Number of backend listeners currently attached across all repositories.
+     */
+    public static int getLiveListenerCount() {
+        return LIVE_LISTENERS.get();
+    }
+
+    /**
+     * @return Documents delivered per listener key since start, sorted by key.
+     */
+    public static Map<String, Long> getReadCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, AtomicLong> entry : READS.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().get());
+        }
+        return counts;
+    }
+
+    /**
+     * Logs the listener counters (debug builds / diagnostics).
+     */
+    public static void logStats() {
+        android.util.Log.d("ListenerRegistry", "Live listeners: " + getLiveListenerCount() +
+                ", reads: " + getReadCounts());
+    }
+
+    void recordReads(String key, long count) {
+        AtomicLong reads = READS.get(key);
+        if (reads == null) {
+            AtomicLong created = new AtomicLong();
+            reads = READS.putIfAbsent(key, created);
+            if (reads == null) reads = created;
+        }
+        reads.addAndGet(count);
+    }
+
+    synchronized void onAttached(SharedListenerLiveData<?> liveData) {
+        // A detached LiveData that is observed again re-registers itself
+        if (!listeners.containsKey(liveData.getKey())) {
+            listeners.put(liveData.getKey(), liveData);
+        }
+        LIVE_LISTENERS.incrementAndGet();
+    }
+
+    synchronized void onDetached(SharedListenerLiveData<?> liveData) {
+        onUnused(liveData);
+        LIVE_LISTENERS.decrementAndGet();
+    }
+
+    /**
+     * Drops the entry of a LiveData that has no observer (and no listener attached).
+     */
+    synchronized void onUnused(SharedListenerLiveData<?> liveData) {
+        if (listeners.get(liveData.getKey()) == liveData) {
+            listeners.remove(liveData.getKey());
+        }
+    }
+
+    void schedule(Runnable detachTask) {
+        handler.postDelayed(detachTask, gracePeriodMs);
+    }
+
+    void cancel(Runnable detachTask) {
+        handler.removeCallbacks(detachTask);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.tournafy.data.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sorted, keyed in-memory list fed by child events (added / changed / removed) of a
+ * Realtime Database query. Not thread-safe: used on the main thread, where the
+ * database delivers its events.
+ *
+ * Append-optimized: live data (balls, match events) nearly always arrives in order,
+ * so an item that sorts after the last one is appended in O(1). Anything else is
+ * placed by binary search. Ties in the order are broken by key, so every item has
+ * exactly one position.
+ *
+ * Each mutation returns the ListUpdate describing the changed range.
+ *
+ * @param <T> The item type.
+ */
+public class LiveList<T> {
+
+    private final Comparator<T> order;
+    private final List<T> items = new ArrayList<>();
+    private final List<String> keys = new ArrayList<>();
+    private final Map<String, T> byKey = new HashMap<>();
+    private final List<T> view = Collections.unmodifiableList(items);
+    private long version = -1;
+
+    public LiveList(Comparator<T> order) {
+        this.order = order;
+    }
+
+    /**
+     * Adds an item, or replaces the item with the same key.
+     */
+    public ListUpdate<T> put(String key, T item) {
+        T previous = byKey.put(key, item);
+        if (previous == null) {
+            return update(ListUpdate.Type.INSERTED, insert(key, item), 1);
+        }
+        int position = indexOf(key, previous);
+        if (fitsAt(position, key, item)) {
+            items.set(position, item);
+            return update(ListUpdate.Type.CHANGED, position, 1);
+        }
+        // The change moved the item
+        items.remove(position);
+        keys.remove(position);
+        insert(key, item);
+        return reset();
+    }
+
+    /**
+     * Removes the item with the given key.
+     * @return The update, or null if no item has the key.
+     */
+    public ListUpdate<T> remove(String key) {
+        T previous = byKey.remove(key);
+        if (previous == null) {
+            return null;
+        }
+        int position = indexOf(key, previous);
+        items.remove(position);
+        keys.remove(position);
+        return update(ListUpdate.Type.REMOVED, position, 1);
+    }
+
+    /**
+     * Removes every item.
+     */
+    public ListUpdate<T> clear() {
+        items.clear();
+        keys.clear();
+        byKey.clear();
+        return reset();
+    }
+
+    /**
+     * @return An update announcing the whole current list.
+     */
+    public ListUpdate<T> reset() {
+        return update(ListUpdate.Type.RESET, 0, items.size());
+    }
+
+    /**
+     * @return Read-only view of the items, in order.
+     */
+    public List<T> getItems() {
+        return view;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    private int insert(String key, T item) {
+        int size = items.size();
+        int position;
+        if (size == 0 || compare(item, key, items.get(size - 1), keys.get(size - 1)) > 0) {
+            position = size; // Common case: newest item
+        } else {
+            position = search(key, item);
+            position = position < 0 ? -position - 1 : position;
+        }
+        items.add(position, item);
+        keys.add(position, key);
+        return position;
+    }
+
+    private int indexOf(String key, T item) {
+        int last = items.size() - 1;
+        if (last >= 0 && key.equals(keys.get(last))) {
+            return last; // Common case: the newest item changed or was undone
+        }
+        return search(key, item);
+    }
+
+    private int search(String key, T item) {
+        int low = 0;
+        int high = items.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(items.get(mid), keys.get(mid), item, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private boolean fitsAt(int position, String key, T item) {
+        int last = items.size() - 1;
+        return (position == 0 || compare(items.get(position - 1), keys.get(position - 1), item, key) < 0)
+                && (position == last || compare(items.get(position + 1), keys.get(position + 1), item, key) > 0);
+    }
+
+    private int compare(T a, String aKey, T b, String bKey) {
+        int cmp = order.compare(a, b);
+        return cmp != 0 ? cmp : aKey.compareTo(bKey);
+    }
+
+    private ListUpdate<T> update(ListUpdate.Type type, int positionStart, int itemCount) {
+        return new ListUpdate<>(view, type, positionStart, itemCount, ++version);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.tournafy.data.repository;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a PagedRepository read.
+ *
+ * @param <T> The type of the entity.
+ */
+public final class Page<T> {
+
+    private final List<T> items;
+    private final PageCursor nextCursor;
+
+    /**
+     * @param items The entities of the page, in query order.
+     * @param nextCursor Cursor of the next page, or null if this is the last one.
+     */
+    public Page(List<T> items, PageCursor nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+    public PageCursor getNextCursor() { return nextCursor; }
+    public boolean hasMore() { return nextCursor != null; }
+}
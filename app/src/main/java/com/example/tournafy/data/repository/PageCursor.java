@@ -0,0 +1,27 @@
+package com.example.tournafy.data.repository;
+
+/**
+ * Position after the last entity of a page. Opaque to callers: pass
+ * Page.getNextCursor() back to PagedRepository.getPage() for the next page.
+ */
+public final class PageCursor {
+
+    private final Object orderValue;
+    private final String key;
+    private final Object snapshot;
+
+    /**
+     * @param orderValue The order (or, for filtered RTDB queries, filter) value of the last entity.
+     * @param key The document ID / node key of the last entity.
+     * @param snapshot The backend's own cursor, e.g. the Firestore DocumentSnapshot; may be null.
+     */
+    public PageCursor(Object orderValue, String key, Object snapshot) {
+        this.orderValue = orderValue;
+        this.key = key;
+        this.snapshot = snapshot;
+    }
+
+    public Object getOrderValue() { return orderValue; }
+    public String getKey() { return key; }
+    public Object getSnapshot() { return snapshot; }
+}
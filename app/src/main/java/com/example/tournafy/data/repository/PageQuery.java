@@ -0,0 +1,62 @@
+package com.example.tournafy.data.repository;
+
+/**
+ * Filter and order of a paged read (see PagedRepository).
+ *
+ * Firestore applies it as whereEqualTo(filter) + orderBy(order). The Realtime Database
+ * can only order by one child, so a filtered query is ordered by the filter child and,
+ * within it, by key; the order field is used only for unfiltered queries there.
+ */
+public final class PageQuery {
+
+    private final String orderField;
+    private final boolean descending;
+    private final String filterField;
+    private final Object filterValue;
+
+    private PageQuery(String orderField, boolean descending, String filterField, Object filterValue) {
+        this.orderField = orderField;
+        this.descending = descending;
+        this.filterField = filterField;
+        this.filterValue = filterValue;
+    }
+
+    /**
+     * @param field The field the pages are ordered by, e.g. "createdAt".
+     * @return An ascending, unfiltered query.
+     */
+    public static PageQuery orderBy(String field) {
+        if (field == null || field.isEmpty()) {
+            throw new IllegalArgumentException("Paged queries need an order field.");
+        }
+        return new PageQuery(field, false, null, null);
+    }
+
+    /**
+     * @return A copy ordered from the highest value down (e.g. newest first).
+     */
+    public PageQuery descending() {
+        return new PageQuery(orderField, true, filterField, filterValue);
+    }
+
+    /**
+     * @param field The field to filter on, e.g. "hostUserId".
+     * @param value The value the field must equal (String, Number or Boolean).
+     * @return A copy restricted to entities whose field equals the value.
+     */
+    public PageQuery whereEqualTo(String field, Object value) {
+        return new PageQuery(orderField, descending, field, value);
+    }
+
+    public String getOrderField() { return orderField; }
+    public boolean isDescending() { return descending; }
+    public String getFilterField() { return filterField; }
+    public Object getFilterValue() { return filterValue; }
+    public boolean isFiltered() { return filterField != null; }
+
+    @Override
+    public String toString() {
+        return (isFiltered() ? filterField + "==" + filterValue + " " : "") +
+                "orderBy " + orderField + (descending ? " desc" : "");
+    }
+}
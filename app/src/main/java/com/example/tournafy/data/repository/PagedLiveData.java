@@ -0,0 +1,135 @@
+package com.example.tournafy.data.repository;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.example.tournafy.data.repository.interfaces.PagedRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * List LiveData fed page by page from a PagedRepository.
+ *
+ * The first page is loaded when the LiveData gets its first observer; later pages are
+ * loaded by loadNextPage(), usually through onScrolled() from a RecyclerView scroll
+ * listener so the next page arrives before the user reaches the end of the list.
+ * Only one page is in flight at a time. Must be used from the main thread.
+ *
+ * Pages are one-shot reads, not listeners: call refresh() to pick up changes.
+ *
+ * @param <T> The type of the entity.
+ */
+public class PagedLiveData<T> extends LiveData<List<T>> {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    /** Items from the end of the list at which the next page is requested. */
+    public static final int DEFAULT_PREFETCH_DISTANCE = 5;
+
+    private final PagedRepository<T> repository;
+    private final PageQuery query;
+    private final int pageSize;
+    private final int prefetchDistance;
+
+    private final List<T> items = new ArrayList<>();
+    private final MutableLiveData<Boolean> loading = new MutableLiveData<>(false);
+    private PageCursor nextCursor;
+    private boolean endReached;
+    private boolean started;
+    private int generation; // bumped by refresh() to ignore pages of the previous run
+
+    public PagedLiveData(PagedRepository<T> repository, PageQuery query) {
+        this(repository, query, DEFAULT_PAGE_SIZE, DEFAULT_PREFETCH_DISTANCE);
+    }
+
+    public PagedLiveData(PagedRepository<T> repository, PageQuery query, int pageSize, int prefetchDistance) {
+        this.repository = repository;
+        this.query = query;
+        this.pageSize = pageSize;
+        this.prefetchDistance = prefetchDistance;
+    }
+
+    @Override
+    protected void onActive() {
+        super.onActive();
+        if (!started) {
+            started = true;
+            loadNextPage();
+        }
+    }
+
+    /**
+     * Loads the next page unless one is in flight or the last page was reached.
+     */
+    public void loadNextPage() {
+        if (Boolean.TRUE.equals(loading.getValue()) || endReached) return;
+        started = true;
+        loading.setValue(true);
+        final int requested = generation;
+        repository.getPage(query, pageSize, nextCursor).addOnCompleteListener(task -> {
+            if (requested != generation) return; // refreshed meanwhile
+            loading.setValue(false);
+            if (!task.isSuccessful() || task.getResult() == null) {
+                android.util.Log.e("PagedLiveData", "Failed to load page of " + query, task.getException());
+                // Publish once so observers of the first page stop waiting; a later scroll retries
+                if (getValue() == null) {
+                    setValue(new ArrayList<>(items));
+                }
+                return;
+            }
+            Page<T> page = task.getResult();
+            items.addAll(page.getItems());
+            nextCursor = page.getNextCursor();
+            endReached = !page.hasMore();
+            setValue(new ArrayList<>(items));
+        });
+    }
+
+    /**
+     * Prefetch hook for scroll listeners: requests the next page once the last visible
+     * position is within the prefetch distance of the end of the displayed list.
+     *
+     * @param lastVisiblePosition Adapter position of the last visible item.
+     * @param itemCount Number of items the adapter displays.
+     */
+    public void onScrolled(int lastVisiblePosition, int itemCount) {
+        if (lastVisiblePosition >= itemCount - 1 - prefetchDistance) {
+            loadNextPage();
+        }
+    }
+
+    /**
+     * Drops the loaded pages and reloads the first one.
+     */
+    public void refresh() {
+        generation++;
+        items.clear();
+        nextCursor = null;
+        endReached = false;
+        loading.setValue(false);
+        loadNextPage();
+    }
+
+    /**
+     * Removes an item locally, e.g. after it was deleted.
+     */
+    public void remove(T item) {
+        if (items.remove(item)) {
+            setValue(new ArrayList<>(items));
+        }
+    }
+
+    /**
+     * @return True while a page is being loaded.
+     */
+    public LiveData<Boolean> isLoading() {
+        return loading;
+    }
+
+    /**
+     * @return True if more pages can be loaded.
+     */
+    public boolean hasMore() {
+        return !endReached;
+    }
+}
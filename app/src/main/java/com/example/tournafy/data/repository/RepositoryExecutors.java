@@ -0,0 +1,43 @@
+package com.example.tournafy.data.repository;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared background executors of the repository layer.
+ */
+public final class RepositoryExecutors {
+
+    private static final int DECODE_THREADS = 2;
+
+    private static volatile ExecutorService decodeExecutor;
+
+    private RepositoryExecutors() {
+    }
+
+    /**
+     * Executor used by repositories that are not given one explicitly to decode
+     * snapshots off the main thread. Daemon threads, created lazily.
+     */
+    public static Executor decodeExecutor() {
+        ExecutorService executor = decodeExecutor;
+        if (executor == null) {
+            synchronized (RepositoryExecutors.class) {
+                executor = decodeExecutor;
+                if (executor == null) {
+                    AtomicInteger count = new AtomicInteger();
+                    executor = Executors.newFixedThreadPool(DECODE_THREADS, runnable -> {
+                        Thread thread = new Thread(runnable, "repository-decode-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        thread.setPriority(Thread.NORM_PRIORITY - 1);
+                        return thread;
+                    });
+                    decodeExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+}
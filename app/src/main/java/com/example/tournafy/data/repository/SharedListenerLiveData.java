@@ -0,0 +1,97 @@
+package com.example.tournafy.data.repository;
+
+import androidx.lifecycle.MutableLiveData;
+
+/**
+ * LiveData backed by one Firestore / Realtime Database listener that is shared by every
+ * observer of the same key (see ListenerRegistry).
+ *
+ * The listener is attached when the first observer becomes active and removed once the
+ * last one has been gone for the registry's grace period, so a configuration change or
+ * a fragment hop does not re-read the data. One that is never observed leaves the
+ * registry after the same grace period.
+ *
+ * @param <T> The value type (entity or list of entities).
+ */
+public class SharedListenerLiveData<T> extends MutableLiveData<T> {
+
+    /**
+     * Attaches the backend listener that feeds the LiveData.
+     */
+    public interface Source<T> {
+        /**
+         * @param target The LiveData the listener posts to; call recordReads() per snapshot.
+         * @return Handle that removes the listener.
+         */
+        Handle attach(SharedListenerLiveData<T> target);
+    }
+
+    /**
+     * Removes an attached listener (e.g. ListenerRegistration::remove).
+     */
+    public interface Handle {
+        void remove();
+    }
+
+    private final ListenerRegistry registry;
+    private final String key;
+    private final Source<T> source;
+    private final Runnable detachTask = this::detachIfUnobserved;
+    private Handle handle;
+
+    SharedListenerLiveData(ListenerRegistry registry, String key, Source<T> source) {
+        this.registry = registry;
+        this.key = key;
+        this.source = source;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return True while the backend listener is attached.
+     */
+    public boolean isAttached() {
+        return handle != null;
+    }
+
+    /**
+     * Counts documents (or children) delivered to this listener for the debug stats.
+     */
+    public void recordReads(long count) {
+        registry.recordReads(key, count);
+    }
+
+    @Override
+    protected void onActive() {
+        registry.cancel(detachTask);
+        if (handle == null) {
+            registry.onAttached(this);
+            handle = source.attach(this);
+        }
+    }
+
+    @Override
+    protected void onInactive() {
+        scheduleDetach();
+    }
+
+    void scheduleDetach() {
+        registry.schedule(detachTask);
+    }
+
+    private void detachIfUnobserved() {
+        if (hasActiveObservers()) {
+            return;
+        }
+        if (handle == null) {
+            // Never observed since share() created it
+            registry.onUnused(this);
+            return;
+        }
+        handle.remove();
+        handle = null;
+        registry.onDetached(this);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.tournafy.data.repository;
+
+import androidx.lifecycle.MutableLiveData;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Decodes snapshots of one listener on a background Executor and posts only the
+ * finished domain object to its LiveData.
+ *
+ * Every submitted snapshot gets a generation number. A decode is skipped if a newer
+ * snapshot arrived before it started, and its result is discarded if a newer one
+ * arrived while it ran, so a burst of updates only delivers (and usually only
+ * decodes) the latest snapshot.
+ *
+ * @param <T> The value type of the LiveData (entity or list of entities).
+ */
+public class SnapshotDecoder<T> {
+
+    /**
+     * Builds the value from a snapshot captured by the listener. Runs off the main thread.
+     */
+    public interface Decode<T> {
+        T decode();
+    }
+
+    private final Executor executor;
+    private final DecodeMetrics metrics;
+    private final MutableLiveData<T> target;
+    private long generation; // guarded by this
+
+    public SnapshotDecoder(Executor executor, DecodeMetrics metrics, MutableLiveData<T> target) {
+        this.executor = executor;
+        this.metrics = metrics;
+        this.target = target;
+    }
+
+    /**
+     * Schedules a decode. Call from the listener callback.
+     */
+    public void submit(Decode<T> decode) {
+        final long submitted;
+        synchronized (this) {
+            submitted = ++generation;
+        }
+        executor.execute(() -> {
+            if (isStale(submitted)) {
+                metrics.recordDropped();
+                return;
+            }
+            long start = System.nanoTime();
+            T value;
+            try {
+                value = decode.decode();
+            } catch (RuntimeException e) {
+                android.util.Log.e("SnapshotDecoder", "Failed to decode " + metrics.getCollection(), e);
+                value = null;
+            }
+            metrics.recordDecode(System.nanoTime() - start);
+            synchronized (this) {
+                if (submitted != generation) {
+                    metrics.recordDropped();
+                    return;
+                }
+                target.postValue(value);
+            }
+        });
+    }
+
+    /**
+     * Posts a value that needs no decoding (e.g. null for a missing document or an
+     * error). Supersedes any decode still in flight.
+     */
+    public void post(T value) {
+        synchronized (this) {
+            generation++;
+            target.postValue(value);
+        }
+    }
+
+    private synchronized boolean isStale(long submitted) {
+        return submitted != generation;
+    }
+}
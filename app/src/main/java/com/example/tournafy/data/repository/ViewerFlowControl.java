@@ -0,0 +1,89 @@
+package com.example.tournafy.data.repository;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+import android.os.PowerManager;
+
+import androidx.lifecycle.LiveData;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import dagger.hilt.android.qualifiers.ApplicationContext;
+
+/**
+ * Flow control between the online repositories and viewer screens.
+ *
+ * - conflate(): at most one update per display frame, or one per
+ *   getBatterySaverIntervalMillis() while battery saver is on (see ConflatedLiveData).
+ * - isConstrainedNetwork(): slow metered links (2G / EDGE), on which viewers should use
+ *   the latest-only subscriptions (LiveTickerRepository.getLatestTicker()).
+ */
+@Singleton
+public class ViewerFlowControl {
+
+    private static final String PREFS_NAME = "viewer";
+    private static final String PREF_BATTERY_SAVER_INTERVAL = "battery_saver_interval_ms";
+
+    public static final long DEFAULT_BATTERY_SAVER_INTERVAL_MS = 1000;
+
+    // Below this estimated downstream bandwidth a metered link is treated as 2G-class
+    private static final int CONSTRAINED_DOWNSTREAM_KBPS = 500;
+
+    private final SharedPreferences preferences;
+    private final PowerManager powerManager;
+    private final ConnectivityManager connectivityManager;
+    private long batterySaverIntervalMillis;
+
+    @Inject
+    public ViewerFlowControl(@ApplicationContext Context context) {
+        this.preferences = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        this.powerManager = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+        this.connectivityManager = (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
+        this.batterySaverIntervalMillis = preferences.getLong(PREF_BATTERY_SAVER_INTERVAL, DEFAULT_BATTERY_SAVER_INTERVAL_MS);
+    }
+
+    /**
+     * Wraps a viewer LiveData so the screen gets only the latest value, at the current pace.
+     */
+    public <T> LiveData<T> conflate(LiveData<T> source) {
+        return new ConflatedLiveData<>(source, this::minUpdateIntervalMillis);
+    }
+
+    /**
+     * @return Minimum time between two viewer updates, or 0 for once per frame.
+     */
+    public long minUpdateIntervalMillis() {
+        return powerManager != null && powerManager.isPowerSaveMode() ? batterySaverIntervalMillis : 0;
+    }
+
+    public long getBatterySaverIntervalMillis() {
+        return batterySaverIntervalMillis;
+    }
+
+    /**
+     * Sets (and remembers) the viewer update interval used while battery saver is on.
+     */
+    public void setBatterySaverIntervalMillis(long intervalMillis) {
+        batterySaverIntervalMillis = Math.max(0, intervalMillis);
+        preferences.edit().putLong(PREF_BATTERY_SAVER_INTERVAL, batterySaverIntervalMillis).apply();
+    }
+
+    /**
+     * @return True on a metered network slow enough that intermediate states are not
+     *         worth downloading.
+     */
+    public boolean isConstrainedNetwork() {
+        if (connectivityManager == null) return false;
+        Network network = connectivityManager.getActiveNetwork();
+        NetworkCapabilities capabilities = network != null ? connectivityManager.getNetworkCapabilities(network) : null;
+        if (capabilities == null || capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_NOT_METERED)) {
+            return false;
+        }
+        int downstreamKbps = capabilities.getLinkDownstreamBandwidthKbps();
+        return downstreamKbps > 0 && downstreamKbps < CONSTRAINED_DOWNSTREAM_KBPS;
+    }
+}
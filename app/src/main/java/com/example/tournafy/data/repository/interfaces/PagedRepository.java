@@ -0,0 +1,25 @@
+package com.example.tournafy.data.repository.interfaces;
+
+import com.example.tournafy.data.repository.Page;
+import com.example.tournafy.data.repository.PageCursor;
+import com.example.tournafy.data.repository.PageQuery;
+import com.google.android.gms.tasks.Task;
+
+/**
+ * Cursor-based paging for collections too large to load with getAll().
+ * A page is a one-shot read of at most pageSize entities, so reads and memory grow
+ * with what the user scrolls through, not with the size of the collection.
+ *
+ * @param <T> The type of the entity.
+ */
+public interface PagedRepository<T> {
+
+    /**
+     * Loads one page of entities.
+     * @param query The filter and order of the page.
+     * @param pageSize The maximum number of entities in the page.
+     * @param cursor The Page.getNextCursor() of the previous page, or null for the first page.
+     * @return Task holding the page.
+     */
+    Task<Page<T>> getPage(PageQuery query, int pageSize, PageCursor cursor);
+}
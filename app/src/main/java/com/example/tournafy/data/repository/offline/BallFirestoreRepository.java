@@ -5,6 +5,7 @@ import androidx.lifecycle.MutableLiveData;
 import com.google.android.gms.tasks.Task;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.Query;
+import com.example.tournafy.data.repository.offline.codec.CricketMatchCodec;
 import com.example.tournafy.domain.models.match.cricket.Ball;
 
 import java.util.List;
@@ -22,6 +23,9 @@ public class BallFirestoreRepository extends FirestoreRepository<Ball> {
 
     public static final String COLLECTION_NAME = "balls";
 
+    // Field-by-field ball encoding shared with the match documents
+    private final CricketMatchCodec codec = new CricketMatchCodec();
+
     @Inject
     public BallFirestoreRepository(FirebaseFirestore firestore) {
         super(firestore, COLLECTION_NAME, Ball.class);
@@ -32,6 +36,14 @@ public class BallFirestoreRepository extends FirestoreRepository<Ball> {
         return entity.getBallId();
     }
 
+    /**
+     * Writes the stored fields only: legalDelivery is derived from extrasType.
+     */
+    @Override
+    protected Object toDocument(Ball entity) {
+        return codec.encodeValue(entity);
+    }
+
     /**
      * Gets all balls for a specific over.
      * @param overId The over ID.
@@ -6,7 +6,9 @@ import com.google.android.gms.tasks.Task;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.example.tournafy.domain.models.user.CoHost;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -29,6 +31,22 @@ public class CoHostFirestoreRepository extends FirestoreRepository<CoHost> {
         return entity.getEntityId();
     }
 
+    /**
+     * Writes the co-host fields without the entityId alias of coHostId.
+     */
+    @Override
+    protected Object toDocument(CoHost entity) {
+        Map<String, Object> document = new HashMap<>();
+        document.put("coHostId", entity.getCoHostId());
+        document.put("hostedEntityId", entity.getHostedEntityId());
+        document.put("coHostUserId", entity.getCoHostUserId());
+        document.put("invitedAt", entity.getInvitedAt());
+        document.put("permissionLevel", entity.getPermissionLevel());
+        document.put("status", entity.getStatus());
+        document.put("acceptedAt", entity.getAcceptedAt());
+        return document;
+    }
+
     public LiveData<List<CoHost>> getCoHostsByEntityId(String hostedEntityId) {
         MutableLiveData<List<CoHost>> liveData = new MutableLiveData<>();
         collectionReference.whereEqualTo("hostedEntityId", hostedEntityId)
@@ -6,21 +6,56 @@ import androidx.lifecycle.MutableLiveData;
 import com.google.android.gms.tasks.Task;
 import com.google.firebase.firestore.CollectionReference;
 import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.ListenerRegistration;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.WriteBatch;
+import com.example.tournafy.data.repository.DecodeMetrics;
+import com.example.tournafy.data.repository.ListenerRegistry;
+import com.example.tournafy.data.repository.Page;
+import com.example.tournafy.data.repository.PageCursor;
+import com.example.tournafy.data.repository.PageQuery;
+import com.example.tournafy.data.repository.RepositoryExecutors;
+import com.example.tournafy.data.repository.SharedListenerLiveData;
+import com.example.tournafy.data.repository.SnapshotDecoder;
 import com.example.tournafy.data.repository.interfaces.IRepository;
+import com.example.tournafy.data.repository.interfaces.PagedRepository;
+import com.example.tournafy.domain.models.search.SearchResult;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * @param <T> The domain model type.
  */
-public abstract class FirestoreRepository<T> implements com.example.tournafy.data.repository.interfaces.IRepository<T, String> {
+public abstract class FirestoreRepository<T> implements com.example.tournafy.data.repository.interfaces.IRepository<T, String>,
+        PagedRepository<T> {
 
     protected final CollectionReference collectionReference;
     private final Class<T> modelClass;
+    private final Executor decodeExecutor;
+    private final DecodeMetrics decodeMetrics;
+    private final String collectionPath;
+    private final ListenerRegistry listeners = new ListenerRegistry();
+    private SearchIndexFirestoreRepository searchIndex;
+    private int searchType;
 
     public FirestoreRepository(FirebaseFirestore firestoreInstance, String collectionPath, Class<T> modelClass) {
+        this(firestoreInstance, collectionPath, modelClass, RepositoryExecutors.decodeExecutor());
+    }
+
+    /**
+     * @param decodeExecutor Background executor the snapshot listeners decode on.
+     */
+    public FirestoreRepository(FirebaseFirestore firestoreInstance, String collectionPath, Class<T> modelClass,
+                               Executor decodeExecutor) {
         this.collectionReference = firestoreInstance.collection(collectionPath);
         this.modelClass = modelClass;
+        this.decodeExecutor = decodeExecutor;
+        this.decodeMetrics = DecodeMetrics.forCollection("firestore/" + collectionPath);
+        this.collectionPath = collectionPath;
     }
 
     @Override
@@ -29,14 +64,18 @@ public abstract class FirestoreRepository<T> implements com.example.tournafy.dat
         if (id == null || id.isEmpty()) {
             // If ID is missing, let Firestore generate one.
             // Note: This is usually handled by the specific repo override.
-            return collectionReference.add(entity).continueWith(task -> null);
+            return collectionReference.add(toDocument(entity)).continueWith(task -> null);
         }
         // Use the specific ID
-        return collectionReference.document(id).set(entity);
+        Task<Void> write = collectionReference.document(id).set(toDocument(entity));
+        indexForSearch(entity);
+        return write;
     }
     
     public Task<Void> addOrUpdateWithId(String id, T entity) {
-        return collectionReference.document(id).set(entity);
+        Task<Void> write = collectionReference.document(id).set(toDocument(entity));
+        indexForSearch(entity);
+        return write;
     }
 
     @Override
@@ -47,44 +86,185 @@ public abstract class FirestoreRepository<T> implements com.example.tournafy.dat
                 new IllegalArgumentException("Entity ID cannot be null for update.")
             );
         }
-        return collectionReference.document(id).set(entity);
+        Task<Void> write = collectionReference.document(id).set(toDocument(entity));
+        indexForSearch(entity);
+        return write;
+    }
+
+    /**
+     * @return A new batch on this repository's Firestore instance.
+     */
+    public WriteBatch newBatch() {
+        return collectionReference.getFirestore().batch();
+    }
+
+    /**
+     * Adds a full write of the entity to a batch, so several repositories can commit
+     * together (e.g. a sync pull). The caller commits.
+     */
+    public void addToBatch(WriteBatch batch, T entity) {
+        batch.set(collectionReference.document(getEntityId(entity)), toDocument(entity));
+        indexForSearch(entity);
     }
 
     @Override
     public Task<Void> delete(String id) {
+        if (searchIndex != null) {
+            searchIndex.remove(searchType, id);
+        }
         return collectionReference.document(id).delete();
     }
 
     @Override
     public LiveData<T> getById(String id) {
-        MutableLiveData<T> liveData = new MutableLiveData<>();
-        collectionReference.document(id).addSnapshotListener((snapshot, e) -> {
-            if (e != null) {
-                liveData.setValue(null);
-                return;
-            }
-            if (snapshot != null && snapshot.exists()) {
-                liveData.setValue(snapshot.toObject(modelClass));
-            } else {
-                liveData.setValue(null);
-            }
+        return share("doc/" + id, target -> {
+            SnapshotDecoder<T> decoder = newDecoder(target);
+            ListenerRegistration registration = collectionReference.document(id).addSnapshotListener((snapshot, e) -> {
+                if (e != null) {
+                    decoder.post(null);
+                    return;
+                }
+                target.recordReads(1);
+                if (snapshot != null && snapshot.exists()) {
+                    decoder.submit(() -> snapshot.toObject(modelClass));
+                } else {
+                    decoder.post(null);
+                }
+            });
+            return registration::remove;
         });
-        return liveData;
     }
 
     @Override
     public LiveData<List<T>> getAll() {
-        MutableLiveData<List<T>> liveData = new MutableLiveData<>();
-        collectionReference.addSnapshotListener((snapshots, e) -> {
-            if (e != null) {
-                liveData.setValue(null);
-                return;
+        return share("all", target -> {
+            SnapshotDecoder<List<T>> decoder = newDecoder(target);
+            ListenerRegistration registration = collectionReference.addSnapshotListener((snapshots, e) -> {
+                if (e != null) {
+                    decoder.post(null);
+                    return;
+                }
+                if (snapshots != null) {
+                    target.recordReads(snapshots.getDocumentChanges().size());
+                    decoder.submit(() -> snapshots.toObjects(modelClass));
+                }
+            });
+            return registration::remove;
+        });
+    }
+
+    /**
+     * Gets a single snapshot (non-live) of an entity by ID.
+     * Useful for one-time reads without setting up a listener.
+     * @param id The entity ID.
+     * @return Task containing the entity, or null if it does not exist.
+     */
+    public Task<T> getByIdOnce(String id) {
+        return collectionReference.document(id).get().continueWith(task -> {
+            if (task.isSuccessful() && task.getResult() != null && task.getResult().exists()) {
+                return task.getResult().toObject(modelClass);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Loads one page with orderBy + limit + startAfter. One extra document is requested
+     * to tell whether another page exists; it is not returned. The cursor keeps the last
+     * DocumentSnapshot, so ties on the order field do not repeat or skip documents.
+     * Filtered queries need a composite index (filter field + order field).
+     */
+    @Override
+    public Task<Page<T>> getPage(PageQuery query, int pageSize, PageCursor cursor) {
+        Query pageQuery = collectionReference;
+        if (query.isFiltered()) {
+            pageQuery = pageQuery.whereEqualTo(query.getFilterField(), query.getFilterValue());
+        }
+        pageQuery = pageQuery.orderBy(query.getOrderField(),
+                query.isDescending() ? Query.Direction.DESCENDING : Query.Direction.ASCENDING);
+        if (cursor != null) {
+            if (cursor.getSnapshot() instanceof DocumentSnapshot) {
+                pageQuery = pageQuery.startAfter((DocumentSnapshot) cursor.getSnapshot());
+            } else {
+                pageQuery = pageQuery.startAfter(cursor.getOrderValue());
             }
-            if (snapshots != null) {
-                liveData.setValue(snapshots.toObjects(modelClass));
+        }
+        // Decode the page on the decode executor, like the listeners do
+        return pageQuery.limit(pageSize + 1).get().continueWith(decodeExecutor, task -> {
+            if (!task.isSuccessful()) {
+                throw task.getException();
+            }
+            QuerySnapshot snapshots = task.getResult();
+            List<DocumentSnapshot> documents = snapshots.getDocuments();
+            boolean hasMore = documents.size() > pageSize;
+            List<T> items = new ArrayList<>();
+            DocumentSnapshot last = null;
+            for (int i = 0; i < documents.size() && i < pageSize; i++) {
+                last = documents.get(i);
+                T item = last.toObject(modelClass);
+                if (item != null) {
+                    items.add(item);
+                }
             }
+            PageCursor next = hasMore && last != null
+                    ? new PageCursor(last.get(query.getOrderField()), last.getId(), last)
+                    : null;
+            return new Page<>(items, next);
         });
-        return liveData;
+    }
+
+    /**
+     * Returns the LiveData shared by every caller of the same listener key within this
+     * collection (e.g. "doc/{id}", "host/{hostId}"). The source attaches the snapshot
+     * listener when the first observer arrives; it is removed after a grace period
+     * once the last observer is gone.
+     */
+    protected <R> LiveData<R> share(String key, SharedListenerLiveData.Source<R> source) {
+        return listeners.share("firestore/" + collectionPath + "/" + key, source);
+    }
+
+    /**
+     * Creates a latest-only decoder that maps snapshots into the given LiveData off
+     * the main thread. Subclasses use it for their own query listeners.
+     */
+    protected <R> SnapshotDecoder<R> newDecoder(MutableLiveData<R> liveData) {
+        return new SnapshotDecoder<>(decodeExecutor, decodeMetrics, liveData);
+    }
+
+    /**
+     * @return Decode-time metrics of this repository's collection.
+     */
+    public DecodeMetrics getDecodeMetrics() {
+        return decodeMetrics;
+    }
+
+    /**
+     * Makes the entities of this repository searchable: add(), update() and delete()
+     * keep their postings in the search index up to date. Call from the constructor.
+     * @param searchIndex The search index.
+     * @param searchType SearchResult.TYPE_* of the entities.
+     */
+    protected void enableSearchIndex(SearchIndexFirestoreRepository searchIndex, int searchType) {
+        this.searchIndex = searchIndex;
+        this.searchType = searchType;
+    }
+
+    /**
+     * Maps an entity to how it is shown in search results. Searchable repositories
+     * override this; returning null leaves the entity out of the index.
+     * @param entity The entity.
+     * @return The search result of the entity, or null.
+     */
+    protected SearchResult toSearchResult(T entity) {
+        return null;
+    }
+
+    private void indexForSearch(T entity) {
+        if (searchIndex == null) return;
+        SearchResult result = toSearchResult(entity);
+        if (result != null) {
+            searchIndex.index(result);
+        }
     }
 
     /**
@@ -92,4 +272,13 @@ public abstract class FirestoreRepository<T> implements com.example.tournafy.dat
      * @return The entity's ID.
      */
     protected abstract String getEntityId(T entity);
+
+    /**
+     * Returns what is written for an entity's document. Defaults to the entity itself
+     * (Firestore object mapper); repositories whose models carry computed getters that
+     * must not be stored override it with an explicit field map.
+     */
+    protected Object toDocument(T entity) {
+        return entity;
+    }
 }
\ No newline at end of file
@@ -1,21 +1,36 @@
 package com.example.tournafy.data.repository.offline;
 
 import androidx.lifecycle.LiveData;
-import androidx.lifecycle.MutableLiveData;
 
-import com.example.tournafy.domain.models.match.cricket.CricketEvent;
+import com.example.tournafy.data.repository.SnapshotDecoder;
+import com.example.tournafy.data.repository.offline.codec.MatchCodecRegistry;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.AggregateQuerySnapshot;
+import com.google.firebase.firestore.AggregateSource;
 import com.google.firebase.firestore.DocumentSnapshot;
-import com.google.firebase.firestore.Exclude;
+import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.ListenerRegistration;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.WriteBatch;
 import com.example.tournafy.domain.models.base.Match;
-import com.example.tournafy.domain.models.match.cricket.CricketMatch;
-import com.example.tournafy.domain.models.match.cricket.CricketMatchConfig;
-import com.example.tournafy.domain.models.match.football.FootballMatch;
-import com.example.tournafy.domain.models.match.football.FootballMatchConfig;
-import com.example.tournafy.domain.models.sport.SportTypeEnum;
+import com.example.tournafy.domain.models.base.MatchDelta;
+import com.example.tournafy.domain.models.base.MatchEvent;
+import com.example.tournafy.domain.models.match.MatchLogEntry;
+import com.example.tournafy.domain.models.match.MatchSummary;
+import com.example.tournafy.domain.models.search.SearchResult;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -23,17 +38,42 @@ import javax.inject.Singleton;
  * Firestore repository implementation for Match entities.
  * 
  * CRITICAL FIX: Match is abstract, so we cannot use snapshot.toObject(Match.class).
- * We must check the "sportId" field and deserialize to the correct concrete class
- * (CricketMatch or FootballMatch) to avoid runtime crashes.
+ * Documents are read and written through the MatchCodecRegistry, which picks the
+ * codec for the "sportId" field (CricketMatch or FootballMatch) without reflection.
+ *
+ * EVENT LOG: Scoring events are appended to matches/{id}/events (one small document
+ * per event, keyed by sequence number). The match document is a compacted snapshot
+ * tagged with lastAppliedSeq and is only re-written every SNAPSHOT_INTERVAL events
+ * (or when a non-scoring change is saved). getById() loads the snapshot and replays
+ * the tail of the log on top of it.
+ *
+ * SUMMARIES: Every write also upserts the match's MatchSummary in "match_summaries"
+ * (in the same batch) when one of its list-card fields changed, so list screens can
+ * read the small projection through MatchSummaryFirestoreRepository. A changed
+ * summary also re-indexes the match in the search index (name, venue and code).
  */
 @Singleton
 public class MatchFirestoreRepository extends FirestoreRepository<Match> {
 
     public static final String COLLECTION_PATH = "matches";
+    public static final String EVENTS_SUBCOLLECTION = "events";
+
+    /** Number of logged events between two snapshot writes of the match document. */
+    public static final int SNAPSHOT_INTERVAL = 12;
+
+    private final MatchCodecRegistry codecs;
+    private final CollectionReference summaryCollection;
+    // Last summary written per match, to skip rewriting an unchanged one
+    private final Map<String, MatchSummary> writtenSummaries = new ConcurrentHashMap<>();
+    private final SearchIndexFirestoreRepository searchIndex;
 
     @Inject
-    public MatchFirestoreRepository(FirebaseFirestore firestoreInstance) {
+    public MatchFirestoreRepository(FirebaseFirestore firestoreInstance, MatchCodecRegistry codecs,
+                                    SearchIndexFirestoreRepository searchIndex) {
         super(firestoreInstance, COLLECTION_PATH, Match.class);
+        this.codecs = codecs;
+        this.searchIndex = searchIndex;
+        this.summaryCollection = firestoreInstance.collection(MatchSummaryFirestoreRepository.COLLECTION_PATH);
     }
 
     @Override
@@ -43,847 +83,209 @@ public class MatchFirestoreRepository extends FirestoreRepository<Match> {
     
     /**
      * CRITICAL: Deserializes a DocumentSnapshot to the correct concrete Match subclass.
-     * This prevents crashes from trying to instantiate abstract Match class and MatchConfig.
-     * 
-     * WORKAROUND: Firestore's toObject() will fail when trying to deserialize abstract
-     * MatchConfig. We catch the exception and manually handle the deserialization by
-     * reading the matchConfig data as a Map and creating the correct concrete config object.
+     * Match and MatchConfig are abstract, so snapshot.toObject() cannot be used; the
+     * codec registered for the document's sportId builds the match and its config
+     * in one pass over the document data, without reflection or exceptions.
      * 
      * @param snapshot The DocumentSnapshot containing match data.
-     * @return The correct Match subclass instance (CricketMatch or FootballMatch).
+     * @return The correct Match subclass instance (CricketMatch or FootballMatch),
+     *         or null if the document is missing or of an unknown sport.
      */
     private Match deserializeMatch(DocumentSnapshot snapshot) {
         if (snapshot == null || !snapshot.exists()) {
             return null;
         }
         
-        // Read the sportId field to determine which class to use
-        String sportId = snapshot.getString("sportId");
+        Match match = codecs.decode(snapshot.getData());
         
-        if (sportId == null) {
-            return null;
-        }
-        
-        try {
-            Match match = null;
-            
-            // Try direct deserialization first (will fail due to abstract MatchConfig)
-            // But we catch the exception and handle it manually
-            try {
-                if (SportTypeEnum.CRICKET.name().equals(sportId)) {
-                    match = snapshot.toObject(CricketMatch.class);
-                } else if (SportTypeEnum.FOOTBALL.name().equals(sportId)) {
-                    match = snapshot.toObject(FootballMatch.class);
-                }
-            } catch (RuntimeException e) {
-                // Deserialization failed due to abstract MatchConfig
-                // Manually deserialize without the matchConfig field
-                Map<String, Object> data = snapshot.getData();
-                if (data == null) {
-                    return null;
-                }
-                
-                // Get and remove matchConfig data to deserialize the rest
-                @SuppressWarnings("unchecked")
-                Map<String, Object> matchConfigData = (Map<String, Object>) data.get("matchConfig");
-                
-                // Create a new snapshot view without matchConfig
-                // This is a workaround - we manually construct the match object
-                if (SportTypeEnum.CRICKET.name().equals(sportId)) {
-                    match = new CricketMatch();
-                    // Manually set fields from data map
-                    populateMatchFields(match, data);
-                    
-                    // Create and populate CricketMatchConfig
-                    if (matchConfigData != null) {
-                        CricketMatchConfig config = new CricketMatchConfig();
-                        populateConfigFields(config, matchConfigData);
-                        match.setMatchConfig(config);
-                    }
-                } else if (SportTypeEnum.FOOTBALL.name().equals(sportId)) {
-                    match = new FootballMatch();
-                    // Manually set fields from data map
-                    populateMatchFields(match, data);
-                    
-                    // Create and populate FootballMatchConfig
-                    if (matchConfigData != null) {
-                        FootballMatchConfig config = new FootballMatchConfig();
-                        populateConfigFields(config, matchConfigData);
-                        match.setMatchConfig(config);
-                    }
-                }
-            }
-            
-            return match;
-            
-        } catch (Exception e) {
-            // Final catch-all: return null to prevent app crash
-            return null;
+        // Deserialization goes through tracked setters; a freshly loaded match has no changes
+        if (match != null) {
+            match.clearPendingChanges();
         }
+        return match;
     }
     
     /**
-     * Helper method to populate Match fields from a data map.
-     * This is used when automatic deserialization fails.
-     * CRITICAL FIX: Now properly handles cricket-specific fields.
+     * Returns what is written for a full match document: the codec encoding, or the
+     * match itself (Firestore object mapper) for a sport without a codec.
      */
-    private void populateMatchFields(Match match, Map<String, Object> data) {
-        // Populate common Match fields
-        if (data.containsKey("entityId")) match.setEntityId((String) data.get("entityId"));
-        if (data.containsKey("name")) match.setName((String) data.get("name"));
-        if (data.containsKey("sportId")) match.setSportId((String) data.get("sportId"));
-        if (data.containsKey("matchStatus")) match.setMatchStatus((String) data.get("matchStatus"));
-        if (data.containsKey("venue")) match.setVenue((String) data.get("venue"));
-        if (data.containsKey("hostUserId")) match.setHostUserId((String) data.get("hostUserId"));
-        if (data.containsKey("status")) match.setStatus((String) data.get("status"));
-        if (data.containsKey("visibilityLink")) {
-            match.setVisibilityLink((String) data.get("visibilityLink"));
-            android.util.Log.d("MatchFirestoreRepository", "Deserialized visibilityLink: " + data.get("visibilityLink"));
-        }
-        
-        // CRITICAL FIX: Populate cricket-specific fields if this is a CricketMatch
-        if (match instanceof CricketMatch) {
-            CricketMatch cricketMatch = (CricketMatch) match;
-            
-            // Populate toss fields
-            if (data.containsKey("tossWinner")) {
-                cricketMatch.setTossWinner((String) data.get("tossWinner"));
-                android.util.Log.d("MatchFirestoreRepository", "Deserialized tossWinner: " + data.get("tossWinner"));
-            }
-            if (data.containsKey("tossDecision")) {
-                cricketMatch.setTossDecision((String) data.get("tossDecision"));
-                android.util.Log.d("MatchFirestoreRepository", "Deserialized tossDecision: " + data.get("tossDecision"));
-            }
-            
-            // Populate innings
-            if (data.containsKey("innings")) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> inningsData = (List<Map<String, Object>>) data.get("innings");
-                if (inningsData != null) {
-                    List<com.example.tournafy.domain.models.match.cricket.Innings> innings = new ArrayList<>();
-                    for (Map<String, Object> inningsMap : inningsData) {
-                        com.example.tournafy.domain.models.match.cricket.Innings inning = 
-                            new com.example.tournafy.domain.models.match.cricket.Innings();
-                        if (inningsMap.containsKey("inningsId")) 
-                            inning.setInningsId((String) inningsMap.get("inningsId"));
-                        if (inningsMap.containsKey("matchId")) 
-                            inning.setMatchId((String) inningsMap.get("matchId"));
-                        if (inningsMap.containsKey("inningsNumber")) 
-                            inning.setInningsNumber(((Long) inningsMap.get("inningsNumber")).intValue());
-                        if (inningsMap.containsKey("battingTeamId")) 
-                            inning.setBattingTeamId((String) inningsMap.get("battingTeamId"));
-                        if (inningsMap.containsKey("bowlingTeamId")) 
-                            inning.setBowlingTeamId((String) inningsMap.get("bowlingTeamId"));
-                        if (inningsMap.containsKey("totalRuns")) 
-                            inning.setTotalRuns(((Long) inningsMap.get("totalRuns")).intValue());
-                        if (inningsMap.containsKey("wicketsFallen")) 
-                            inning.setWicketsFallen(((Long) inningsMap.get("wicketsFallen")).intValue());
-                        if (inningsMap.containsKey("oversCompleted")) 
-                            inning.setOversCompleted(((Long) inningsMap.get("oversCompleted")).intValue());
-                        if (inningsMap.containsKey("completed")) 
-                            inning.setCompleted((Boolean) inningsMap.get("completed"));
-                        innings.add(inning);
-                    }
-                    cricketMatch.setInnings(innings);
-                    android.util.Log.d("MatchFirestoreRepository", "Deserialized " + innings.size() + 
-                        " innings for match " + match.getEntityId());
-                }
-            }
-            
-            // Populate cricketEvents
-            if (data.containsKey("cricketEvents")) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> eventsData = (List<Map<String, Object>>) data.get("cricketEvents");
-                if (eventsData != null) {
-                    List<CricketEvent> events = new ArrayList<>();
-                    // TODO: Populate individual CricketEvent fields from map
-                    // For now, we'll skip detailed event deserialization
-                    cricketMatch.setCricketEvents(events);
-                }
-            }
-            
-            // Populate teams with players
-            if (data.containsKey("teams")) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> teamsData = (List<Map<String, Object>>) data.get("teams");
-                if (teamsData != null) {
-                    List<com.example.tournafy.domain.models.team.MatchTeam> teams = new ArrayList<>();
-                    for (Map<String, Object> teamMap : teamsData) {
-                        com.example.tournafy.domain.models.team.MatchTeam team = 
-                            new com.example.tournafy.domain.models.team.MatchTeam();
-                        if (teamMap.containsKey("teamId")) 
-                            team.setTeamId((String) teamMap.get("teamId"));
-                        if (teamMap.containsKey("teamName")) 
-                            team.setTeamName((String) teamMap.get("teamName"));
-                        
-                        // Deserialize players list
-                        if (teamMap.containsKey("players")) {
-                            @SuppressWarnings("unchecked")
-                            List<Map<String, Object>> playersData = (List<Map<String, Object>>) teamMap.get("players");
-                            if (playersData != null) {
-                                List<com.example.tournafy.domain.models.team.Player> players = new ArrayList<>();
-                                for (Map<String, Object> playerMap : playersData) {
-                                    com.example.tournafy.domain.models.team.Player player = 
-                                        new com.example.tournafy.domain.models.team.Player();
-                                    if (playerMap.containsKey("playerId")) 
-                                        player.setPlayerId((String) playerMap.get("playerId"));
-                                    if (playerMap.containsKey("playerName")) 
-                                        player.setPlayerName((String) playerMap.get("playerName"));
-                                    if (playerMap.containsKey("jerseyNumber")) 
-                                        player.setJerseyNumber(((Long) playerMap.get("jerseyNumber")).intValue());
-                                    players.add(player);
-                                }
-                                team.setPlayers(players);
-                                android.util.Log.d("MatchFirestoreRepository", "Deserialized " + players.size() + 
-                                    " players for team " + team.getTeamName());
-                            }
-                        }
-                        
-                        teams.add(team);
-                    }
-                    cricketMatch.setTeams(teams);
-                }
-            }
-            
-            // Populate currentInningsNumber and targetScore
-            if (data.containsKey("currentInningsNumber")) {
-                Object inningsNum = data.get("currentInningsNumber");
-                if (inningsNum instanceof Long) {
-                    // Use reflection to set private field
-                    try {
-                        java.lang.reflect.Field field = CricketMatch.class.getDeclaredField("currentInningsNumber");
-                        field.setAccessible(true);
-                        field.set(cricketMatch, ((Long) inningsNum).intValue());
-                        android.util.Log.d("MatchFirestoreRepository", "Set currentInningsNumber to " + inningsNum);
-                    } catch (Exception e) {
-                        android.util.Log.e("MatchFirestoreRepository", "Failed to set currentInningsNumber", e);
-                    }
-                }
-            }
-            if (data.containsKey("targetScore")) {
-                Object targetScoreObj = data.get("targetScore");
-                if (targetScoreObj instanceof Long) {
-                    // Use reflection to set private field
-                    try {
-                        java.lang.reflect.Field field = CricketMatch.class.getDeclaredField("targetScore");
-                        field.setAccessible(true);
-                        field.set(cricketMatch, ((Long) targetScoreObj).intValue());
-                    } catch (Exception e) {
-                        android.util.Log.e("MatchFirestoreRepository", "Failed to set targetScore", e);
-                    }
-                }
-            }
-            
-            // Populate player tracking fields (striker, non-striker, bowler)
-            if (data.containsKey("currentStrikerId")) {
-                Object strikerId = data.get("currentStrikerId");
-                if (strikerId instanceof String) {
-                    try {
-                        java.lang.reflect.Field field = CricketMatch.class.getDeclaredField("currentStrikerId");
-                        field.setAccessible(true);
-                        field.set(cricketMatch, strikerId);
-                        android.util.Log.d("MatchFirestoreRepository", "Set currentStrikerId to " + strikerId);
-                    } catch (Exception e) {
-                        android.util.Log.e("MatchFirestoreRepository", "Failed to set currentStrikerId", e);
-                    }
-                }
-            }
-            if (data.containsKey("currentNonStrikerId")) {
-                Object nonStrikerId = data.get("currentNonStrikerId");
-                if (nonStrikerId instanceof String) {
-                    try {
-                        java.lang.reflect.Field field = CricketMatch.class.getDeclaredField("currentNonStrikerId");
-                        field.setAccessible(true);
-                        field.set(cricketMatch, nonStrikerId);
-                        android.util.Log.d("MatchFirestoreRepository", "Set currentNonStrikerId to " + nonStrikerId);
-                    } catch (Exception e) {
-                        android.util.Log.e("MatchFirestoreRepository", "Failed to set currentNonStrikerId", e);
-                    }
-                }
-            }
-            if (data.containsKey("currentBowlerId")) {
-                Object bowlerId = data.get("currentBowlerId");
-                if (bowlerId instanceof String) {
-                    try {
-                        java.lang.reflect.Field field = CricketMatch.class.getDeclaredField("currentBowlerId");
-                        field.setAccessible(true);
-                        field.set(cricketMatch, bowlerId);
-                        android.util.Log.d("MatchFirestoreRepository", "Set currentBowlerId to " + bowlerId);
-                    } catch (Exception e) {
-                        android.util.Log.e("MatchFirestoreRepository", "Failed to set currentBowlerId", e);
-                    }
-                }
-            }
-            
-            // Populate currentOvers with nested balls
-            if (data.containsKey("currentOvers")) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> oversData = (List<Map<String, Object>>) data.get("currentOvers");
-                if (oversData != null) {
-                    List<com.example.tournafy.domain.models.match.cricket.Over> overs = new ArrayList<>();
-                    for (Map<String, Object> overMap : oversData) {
-                        com.example.tournafy.domain.models.match.cricket.Over over = 
-                            new com.example.tournafy.domain.models.match.cricket.Over();
-                        if (overMap.containsKey("overId")) 
-                            over.setOverId((String) overMap.get("overId"));
-                        if (overMap.containsKey("inningsId")) 
-                            over.setInningsId((String) overMap.get("inningsId"));
-                        if (overMap.containsKey("overNumber")) 
-                            over.setOverNumber(((Long) overMap.get("overNumber")).intValue());
-                        if (overMap.containsKey("bowlerId")) 
-                            over.setBowlerId((String) overMap.get("bowlerId"));
-                        if (overMap.containsKey("runsInOver")) 
-                            over.setRunsInOver(((Long) overMap.get("runsInOver")).intValue());
-                        if (overMap.containsKey("wicketsInOver")) 
-                            over.setWicketsInOver(((Long) overMap.get("wicketsInOver")).intValue());
-                        if (overMap.containsKey("completed")) 
-                            over.setCompleted((Boolean) overMap.get("completed"));
-                        
-                        // Deserialize balls list
-                        if (overMap.containsKey("balls")) {
-                            @SuppressWarnings("unchecked")
-                            List<Map<String, Object>> ballsData = (List<Map<String, Object>>) overMap.get("balls");
-                            if (ballsData != null) {
-                                List<com.example.tournafy.domain.models.match.cricket.Ball> balls = new ArrayList<>();
-                                for (Map<String, Object> ballMap : ballsData) {
-                                    com.example.tournafy.domain.models.match.cricket.Ball ball = 
-                                        new com.example.tournafy.domain.models.match.cricket.Ball();
-                                    if (ballMap.containsKey("ballId")) 
-                                        ball.setBallId((String) ballMap.get("ballId"));
-                                    if (ballMap.containsKey("matchId")) 
-                                        ball.setMatchId((String) ballMap.get("matchId"));
-                                    if (ballMap.containsKey("inningsId")) 
-                                        ball.setInningsId((String) ballMap.get("inningsId"));
-                                    if (ballMap.containsKey("overId")) 
-                                        ball.setOverId((String) ballMap.get("overId"));
-                                    if (ballMap.containsKey("inningsNumber")) 
-                                        ball.setInningsNumber(((Long) ballMap.get("inningsNumber")).intValue());
-                                    if (ballMap.containsKey("overNumber")) 
-                                        ball.setOverNumber(((Long) ballMap.get("overNumber")).intValue());
-                                    if (ballMap.containsKey("ballNumber")) 
-                                        ball.setBallNumber(((Long) ballMap.get("ballNumber")).intValue());
-                                    if (ballMap.containsKey("batsmanId")) 
-                                        ball.setBatsmanId((String) ballMap.get("batsmanId"));
-                                    if (ballMap.containsKey("bowlerId")) 
-                                        ball.setBowlerId((String) ballMap.get("bowlerId"));
-                                    if (ballMap.containsKey("runsScored")) 
-                                        ball.setRunsScored(((Long) ballMap.get("runsScored")).intValue());
-                                    if (ballMap.containsKey("isWicket")) 
-                                        ball.setWicket((Boolean) ballMap.get("isWicket"));
-                                    if (ballMap.containsKey("isBoundary")) 
-                                        ball.setBoundary((Boolean) ballMap.get("isBoundary"));
-                                    if (ballMap.containsKey("extrasType")) 
-                                        ball.setExtrasType((String) ballMap.get("extrasType"));
-                                    if (ballMap.containsKey("wicketType")) 
-                                        ball.setWicketType((String) ballMap.get("wicketType"));
-                                    balls.add(ball);
-                                }
-                                over.setBalls(balls);
-                                android.util.Log.d("MatchFirestoreRepository", "Deserialized " + balls.size() + 
-                                    " balls for over " + over.getOverNumber());
-                            }
-                        }
-                        
-                        overs.add(over);
-                    }
-                    // Use reflection to set private currentOvers field
-                    try {
-                        java.lang.reflect.Field field = CricketMatch.class.getDeclaredField("currentOvers");
-                        field.setAccessible(true);
-                        field.set(cricketMatch, overs);
-                        android.util.Log.d("MatchFirestoreRepository", "Deserialized " + overs.size() + 
-                            " overs for match " + match.getEntityId());
-                    } catch (Exception e) {
-                        android.util.Log.e("MatchFirestoreRepository", "Failed to set currentOvers", e);
-                    }
-                }
-            }
-            
-            // CRITICAL FIX: Populate batsmanStatsMap
-            if (data.containsKey("batsmanStatsMap")) {
-                android.util.Log.d("MatchFirestoreRepository", "Deserializing batsmanStatsMap");
-                @SuppressWarnings("unchecked")
-                Map<String, Object> batsmanStatsData = (Map<String, Object>) data.get("batsmanStatsMap");
-                if (batsmanStatsData != null) {
-                    Map<String, com.example.tournafy.domain.models.match.cricket.BatsmanStats> batsmanStats = new java.util.HashMap<>();
-                    for (Map.Entry<String, Object> entry : batsmanStatsData.entrySet()) {
-                        String playerId = entry.getKey();
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> statsMap = (Map<String, Object>) entry.getValue();
-                        if (statsMap != null) {
-                            // Get playerName from stats map, or use empty string as fallback
-                            String playerName = statsMap.containsKey("playerName") ? (String) statsMap.get("playerName") : "";
-                            
-                            com.example.tournafy.domain.models.match.cricket.BatsmanStats stats = 
-                                new com.example.tournafy.domain.models.match.cricket.BatsmanStats(playerId, playerName);
-                            
-                            if (statsMap.containsKey("runsScored")) 
-                                stats.setRunsScored(((Long) statsMap.get("runsScored")).intValue());
-                            if (statsMap.containsKey("ballsFaced")) 
-                                stats.setBallsFaced(((Long) statsMap.get("ballsFaced")).intValue());
-                            if (statsMap.containsKey("fours")) 
-                                stats.setFours(((Long) statsMap.get("fours")).intValue());
-                            if (statsMap.containsKey("sixes")) 
-                                stats.setSixes(((Long) statsMap.get("sixes")).intValue());
-                            if (statsMap.containsKey("out")) 
-                                stats.setOut((Boolean) statsMap.get("out"));
-                            if (statsMap.containsKey("dismissalType")) 
-                                stats.setDismissalType((String) statsMap.get("dismissalType"));
-                            // Note: strikeRate is calculated automatically in getStrikeRate()
-                            
-                            batsmanStats.put(playerId, stats);
-                            android.util.Log.d("MatchFirestoreRepository", "Deserialized batsman stats for player " + playerId + 
-                                ": " + stats.getRunsScored() + "(" + stats.getBallsFaced() + ")");
-                        }
-                    }
-                    cricketMatch.setBatsmanStatsMap(batsmanStats);
-                    android.util.Log.d("MatchFirestoreRepository", "Set batsmanStatsMap with " + batsmanStats.size() + " entries");
-                }
-            }
+    @Override
+    protected Object toDocument(Match match) {
+        Map<String, Object> document = codecs.encode(match);
+        return document != null ? document : match;
+    }
+    
+    /**
+     * Returns what is written for an event log entry: its stored fields, without the
+     * derived getEvent() view of whichever sport event it holds.
+     */
+    private static Map<String, Object> toLogDocument(MatchLogEntry entry) {
+        Map<String, Object> document = new HashMap<>();
+        document.put("seq", entry.getSeq());
+        document.put("matchId", entry.getMatchId());
+        document.put("sportId", entry.getSportId());
+        if (entry.getCricketEvent() != null) document.put("cricketEvent", entry.getCricketEvent());
+        if (entry.getFootballEvent() != null) document.put("footballEvent", entry.getFootballEvent());
+        if (entry.getBallId() != null) document.put("ballId", entry.getBallId());
+        if (entry.getOverId() != null) document.put("overId", entry.getOverId());
+        document.put("loggedAt", entry.getLoggedAt());
+        return document;
+    }
+    
+    /**
+     * OVERRIDE: One-time read decoded through the sport codec (the base mapper cannot
+     * build the abstract Match). Returns the snapshot document without the log tail.
+     */
+    @Override
+    public Task<Match> getByIdOnce(String id) {
+        return collectionReference.document(id).get().continueWith(task ->
+                task.isSuccessful() ? deserializeMatch(task.getResult()) : null);
+    }
+
+    /**
+     * OVERRIDE: Custom implementation that handles polymorphism.
+     * Emits the snapshot document with the tail of the event log replayed on top of it.
+     * The tail listener is re-registered whenever a new snapshot moves lastAppliedSeq;
+     * that bookkeeping only reads two fields and stays on the main thread, while the
+     * decode and replay run on the decode executor (latest snapshot wins).
+     * All screens observing the same match share one document and one tail listener.
+     */
+    @Override
+    public LiveData<Match> getById(String id) {
+        return share("doc/" + id, target -> {
+            SnapshotDecoder<Match> decoder = newDecoder(target);
+            final DocumentSnapshot[] latestSnapshot = new DocumentSnapshot[1];
+            final QuerySnapshot[] latestTail = new QuerySnapshot[1];
+            final ListenerRegistration[] tailRegistration = new ListenerRegistration[1];
+            final long[] tailFromSeq = {-1L};
             
-            // CRITICAL FIX: Populate bowlerStatsMap
-            if (data.containsKey("bowlerStatsMap")) {
-                android.util.Log.d("MatchFirestoreRepository", "Deserializing bowlerStatsMap");
-                @SuppressWarnings("unchecked")
-                Map<String, Object> bowlerStatsData = (Map<String, Object>) data.get("bowlerStatsMap");
-                if (bowlerStatsData != null) {
-                    Map<String, com.example.tournafy.domain.models.match.cricket.BowlerStats> bowlerStats = new java.util.HashMap<>();
-                    for (Map.Entry<String, Object> entry : bowlerStatsData.entrySet()) {
-                        String playerId = entry.getKey();
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> statsMap = (Map<String, Object>) entry.getValue();
-                        if (statsMap != null) {
-                            // Get playerName from stats map, or use empty string as fallback
-                            String playerName = statsMap.containsKey("playerName") ? (String) statsMap.get("playerName") : "";
-                            
-                            com.example.tournafy.domain.models.match.cricket.BowlerStats stats = 
-                                new com.example.tournafy.domain.models.match.cricket.BowlerStats(playerId, playerName);
-                            
-                            if (statsMap.containsKey("ballsBowled")) 
-                                stats.setBallsBowled(((Long) statsMap.get("ballsBowled")).intValue());
-                            if (statsMap.containsKey("runsConceded")) 
-                                stats.setRunsConceded(((Long) statsMap.get("runsConceded")).intValue());
-                            if (statsMap.containsKey("wicketsTaken")) 
-                                stats.setWicketsTaken(((Long) statsMap.get("wicketsTaken")).intValue());
-                            if (statsMap.containsKey("maidenOvers")) 
-                                stats.setMaidenOvers(((Long) statsMap.get("maidenOvers")).intValue());
-                            if (statsMap.containsKey("wides")) 
-                                stats.setWides(((Long) statsMap.get("wides")).intValue());
-                            if (statsMap.containsKey("noBalls")) 
-                                stats.setNoBalls(((Long) statsMap.get("noBalls")).intValue());
-                            // Note: oversBowled and economyRate are calculated automatically
-                            
-                            bowlerStats.put(playerId, stats);
-                            android.util.Log.d("MatchFirestoreRepository", "Deserialized bowler stats for player " + playerId + 
-                                ": " + stats.getOversBowled() + "-" + stats.getWicketsTaken() + "-" + stats.getRunsConceded());
-                        }
+            ListenerRegistration docRegistration = collectionReference.document(id)
+                .addSnapshotListener((snapshot, e) -> {
+                    if (e != null) {
+                        android.util.Log.e("MatchFirestoreRepository", "Error loading match " + id, e);
+                        decoder.post(null);
+                        return;
                     }
-                    cricketMatch.setBowlerStatsMap(bowlerStats);
-                    android.util.Log.d("MatchFirestoreRepository", "Set bowlerStatsMap with " + bowlerStats.size() + " entries");
-                }
-            }
-        }
-        
-        // CRITICAL FIX: Populate football-specific fields if this is a FootballMatch
-        if (match instanceof FootballMatch) {
-            FootballMatch footballMatch = (FootballMatch) match;
-            
-            android.util.Log.d("MatchFirestoreRepository", "=== DESERIALIZING FOOTBALL MATCH ===");
-            android.util.Log.d("MatchFirestoreRepository", "Match ID: " + match.getEntityId());
-            
-            // Populate teams with players
-            if (data.containsKey("teams")) {
-                android.util.Log.d("MatchFirestoreRepository", "Found 'teams' key in data");
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> teamsData = (List<Map<String, Object>>) data.get("teams");
-                if (teamsData != null) {
-                    android.util.Log.d("MatchFirestoreRepository", "teamsData is NOT null, size: " + teamsData.size());
-                    List<com.example.tournafy.domain.models.team.MatchTeam> teams = new ArrayList<>();
-                    for (Map<String, Object> teamMap : teamsData) {
-                        com.example.tournafy.domain.models.team.MatchTeam team = 
-                            new com.example.tournafy.domain.models.team.MatchTeam();
-                        if (teamMap.containsKey("teamId")) 
-                            team.setTeamId((String) teamMap.get("teamId"));
-                        if (teamMap.containsKey("teamName")) 
-                            team.setTeamName((String) teamMap.get("teamName"));
-                        if (teamMap.containsKey("homeTeam"))
-                            team.setHomeTeam((Boolean) teamMap.get("homeTeam"));
-                        
-                        android.util.Log.d("MatchFirestoreRepository", "Processing team: " + team.getTeamName());
-                        
-                        // Deserialize players list
-                        if (teamMap.containsKey("players")) {
-                            android.util.Log.d("MatchFirestoreRepository", "Found 'players' key in team data");
-                            @SuppressWarnings("unchecked")
-                            List<Map<String, Object>> playersData = (List<Map<String, Object>>) teamMap.get("players");
-                            if (playersData != null) {
-                                android.util.Log.d("MatchFirestoreRepository", "playersData is NOT null, size: " + playersData.size());
-                                List<com.example.tournafy.domain.models.team.Player> players = new ArrayList<>();
-                                for (Map<String, Object> playerMap : playersData) {
-                                    com.example.tournafy.domain.models.team.Player player = 
-                                        new com.example.tournafy.domain.models.team.Player();
-                                    if (playerMap.containsKey("playerId")) 
-                                        player.setPlayerId((String) playerMap.get("playerId"));
-                                    if (playerMap.containsKey("playerName")) 
-                                        player.setPlayerName((String) playerMap.get("playerName"));
-                                    if (playerMap.containsKey("jerseyNumber")) 
-                                        player.setJerseyNumber(((Long) playerMap.get("jerseyNumber")).intValue());
-                                    
-                                    // CRITICAL FIX: Read isStartingXI field from Firestore
-                                    if (playerMap.containsKey("startingXI")) {
-                                        player.setStartingXI((Boolean) playerMap.get("startingXI"));
-                                    }
-                                    
-                                    android.util.Log.d("MatchFirestoreRepository", "  Deserialized player: " + 
-                                        player.getPlayerName() + " (ID: " + player.getPlayerId() + "), Starting XI: " + player.isStartingXI());
-                                    players.add(player);
-                                }
-                                team.setPlayers(players);
-                                android.util.Log.d("MatchFirestoreRepository", "Set " + players.size() + 
-                                    " players for football team " + team.getTeamName());
-                            } else {
-                                android.util.Log.d("MatchFirestoreRepository", "playersData is NULL for team " + team.getTeamName());
-                            }
-                        } else {
-                            android.util.Log.d("MatchFirestoreRepository", "No 'players' key in team data for " + team.getTeamName());
-                        }
-                        
-                        teams.add(team);
+                    target.recordReads(1);
+                    latestSnapshot[0] = snapshot;
+                    if (snapshot == null || !snapshot.exists() || !codecs.supports(snapshot.getString("sportId"))) {
+                        decoder.post(null);
+                        return;
                     }
-                    footballMatch.setTeams(teams);
-                    android.util.Log.d("MatchFirestoreRepository", "Set " + teams.size() + 
-                        " teams for football match " + match.getEntityId());
                     
-                    // Verify teams were actually set
-                    List<com.example.tournafy.domain.models.team.MatchTeam> verifyTeams = footballMatch.getTeams();
-                    if (verifyTeams != null) {
-                        android.util.Log.d("MatchFirestoreRepository", "VERIFICATION: getTeams() returns " + verifyTeams.size() + " teams");
-                        for (int i = 0; i < verifyTeams.size(); i++) {
-                            com.example.tournafy.domain.models.team.MatchTeam t = verifyTeams.get(i);
-                            android.util.Log.d("MatchFirestoreRepository", "  Team " + i + ": " + t.getTeamName() + 
-                                " with " + (t.getPlayers() != null ? t.getPlayers().size() : 0) + " players");
+                    Long lastAppliedSeq = snapshot.getLong("lastAppliedSeq");
+                    long fromSeq = lastAppliedSeq != null ? lastAppliedSeq : 0L;
+                    if (tailRegistration[0] != null && tailFromSeq[0] == fromSeq) {
+                        // Same snapshot sequence (e.g. timer save): re-emit with the current tail,
+                        // or wait for the tail listener if it has not delivered yet
+                        if (latestTail[0] != null) {
+                            QuerySnapshot tail = latestTail[0];
+                            decoder.submit(() -> buildFromSnapshotAndTail(snapshot, tail));
                         }
-                    } else {
-                        android.util.Log.d("MatchFirestoreRepository", "VERIFICATION FAILED: getTeams() returns NULL!");
+                        return;
                     }
-                } else {
-                    android.util.Log.d("MatchFirestoreRepository", "teamsData is NULL");
-                }
-            } else {
-                android.util.Log.d("MatchFirestoreRepository", "No 'teams' key in data");
-            }
-            
-            // Populate football events
-            if (data.containsKey("footballEvents")) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> eventsData = (List<Map<String, Object>>) data.get("footballEvents");
-                if (eventsData != null) {
-                    List<com.example.tournafy.domain.models.match.football.FootballEvent> events = new ArrayList<>();
                     
-                    // Deserialize each event
-                    for (Map<String, Object> eventMap : eventsData) {
-                        try {
-                            com.example.tournafy.domain.models.match.football.FootballEvent event = 
-                                new com.example.tournafy.domain.models.match.football.FootballEvent();
-                            
-                            // Basic fields
-                            if (eventMap.containsKey("eventId")) 
-                                event.setEventId((String) eventMap.get("eventId"));
-                            if (eventMap.containsKey("matchId")) 
-                                event.setMatchId((String) eventMap.get("matchId"));
-                            if (eventMap.containsKey("teamId")) 
-                                event.setTeamId((String) eventMap.get("teamId"));
-                            if (eventMap.containsKey("playerId")) 
-                                event.setPlayerId((String) eventMap.get("playerId"));
-                            if (eventMap.containsKey("eventType")) 
-                                event.setEventType((String) eventMap.get("eventType"));
-                            if (eventMap.containsKey("eventCategory")) 
-                                event.setEventCategory((String) eventMap.get("eventCategory"));
-                            if (eventMap.containsKey("description")) 
-                                event.setDescription((String) eventMap.get("description"));
-                            if (eventMap.containsKey("matchMinute")) 
-                                event.setMatchMinute(((Long) eventMap.get("matchMinute")).intValue());
-                            if (eventMap.containsKey("addedTimeMinute")) 
-                                event.setAddedTimeMinute(((Long) eventMap.get("addedTimeMinute")).intValue());
-                            if (eventMap.containsKey("matchPeriod")) 
-                                event.setMatchPeriod((String) eventMap.get("matchPeriod"));
-                            if (eventMap.containsKey("homeScoreAtEvent")) 
-                                event.setHomeScoreAtEvent(((Long) eventMap.get("homeScoreAtEvent")).intValue());
-                            if (eventMap.containsKey("awayScoreAtEvent")) 
-                                event.setAwayScoreAtEvent(((Long) eventMap.get("awayScoreAtEvent")).intValue());
-                            if (eventMap.containsKey("locationOnPitch")) 
-                                event.setLocationOnPitch((String) eventMap.get("locationOnPitch"));
-                            
-                            // Deserialize GoalDetail if present
-                            if (eventMap.containsKey("goalDetail")) {
-                                @SuppressWarnings("unchecked")
-                                Map<String, Object> goalMap = (Map<String, Object>) eventMap.get("goalDetail");
-                                if (goalMap != null) {
-                                    com.example.tournafy.domain.models.match.football.FootballGoalDetail goalDetail = 
-                                        new com.example.tournafy.domain.models.match.football.FootballGoalDetail();
-                                    
-                                    if (goalMap.containsKey("eventId")) 
-                                        goalDetail.setEventId((String) goalMap.get("eventId"));
-                                    if (goalMap.containsKey("scorerId")) 
-                                        goalDetail.setScorerId((String) goalMap.get("scorerId"));
-                                    if (goalMap.containsKey("assistPlayerId")) 
-                                        goalDetail.setAssistPlayerId((String) goalMap.get("assistPlayerId"));
-                                    if (goalMap.containsKey("goalType")) 
-                                        goalDetail.setGoalType((String) goalMap.get("goalType"));
-                                    if (goalMap.containsKey("minuteScored")) 
-                                        goalDetail.setMinuteScored(((Long) goalMap.get("minuteScored")).intValue());
-                                    if (goalMap.containsKey("penalty") && goalMap.get("penalty") instanceof Boolean) 
-                                        goalDetail.setPenalty((Boolean) goalMap.get("penalty"));
-                                    if (goalMap.containsKey("ownGoal") && goalMap.get("ownGoal") instanceof Boolean) 
-                                        goalDetail.setOwnGoal((Boolean) goalMap.get("ownGoal"));
-                                    
-                                    event.setGoalDetail(goalDetail);
-                                }
+                    // New compaction point: listen to the log entries after it
+                    if (tailRegistration[0] != null) {
+                        tailRegistration[0].remove();
+                    }
+                    tailFromSeq[0] = fromSeq;
+                    latestTail[0] = null;
+                    tailRegistration[0] = eventLog(id)
+                        .whereGreaterThan("seq", fromSeq)
+                        .orderBy("seq")
+                        .addSnapshotListener((tail, tailError) -> {
+                            if (tailError != null) {
+                                android.util.Log.e("MatchFirestoreRepository", "Error loading event log for " + id, tailError);
                             }
-                            
-                            // Deserialize CardDetail if present
-                            if (eventMap.containsKey("cardDetail")) {
-                                @SuppressWarnings("unchecked")
-                                Map<String, Object> cardMap = (Map<String, Object>) eventMap.get("cardDetail");
-                                if (cardMap != null) {
-                                    com.example.tournafy.domain.models.match.football.FootballCardDetail cardDetail = 
-                                        new com.example.tournafy.domain.models.match.football.FootballCardDetail();
-                                    
-                                    if (cardMap.containsKey("eventId")) 
-                                        cardDetail.setEventId((String) cardMap.get("eventId"));
-                                    if (cardMap.containsKey("playerId")) 
-                                        cardDetail.setPlayerId((String) cardMap.get("playerId"));
-                                    if (cardMap.containsKey("cardType")) 
-                                        cardDetail.setCardType((String) cardMap.get("cardType"));
-                                    if (cardMap.containsKey("cardReason")) 
-                                        cardDetail.setCardReason((String) cardMap.get("cardReason"));
-                                    if (cardMap.containsKey("minuteIssued")) 
-                                        cardDetail.setMinuteIssued(((Long) cardMap.get("minuteIssued")).intValue());
-                                    if (cardMap.containsKey("secondYellow") && cardMap.get("secondYellow") instanceof Boolean) 
-                                        cardDetail.setSecondYellow((Boolean) cardMap.get("secondYellow"));
-                                    
-                                    event.setCardDetail(cardDetail);
-                                }
+                            if (tail != null) {
+                                target.recordReads(tail.getDocumentChanges().size());
                             }
-                            
-                            // Deserialize SubstitutionDetail if present
-                            if (eventMap.containsKey("substitutionDetail")) {
-                                @SuppressWarnings("unchecked")
-                                Map<String, Object> subMap = (Map<String, Object>) eventMap.get("substitutionDetail");
-                                if (subMap != null) {
-                                    com.example.tournafy.domain.models.match.football.FootballSubstitutionDetail subDetail = 
-                                        new com.example.tournafy.domain.models.match.football.FootballSubstitutionDetail();
-                                    
-                                    if (subMap.containsKey("eventId")) 
-                                        subDetail.setEventId((String) subMap.get("eventId"));
-                                    if (subMap.containsKey("playerOutId")) 
-                                        subDetail.setPlayerOutId((String) subMap.get("playerOutId"));
-                                    if (subMap.containsKey("playerInId")) 
-                                        subDetail.setPlayerInId((String) subMap.get("playerInId"));
-                                    if (subMap.containsKey("minuteSubstituted")) 
-                                        subDetail.setMinuteSubstituted(((Long) subMap.get("minuteSubstituted")).intValue());
-                                    if (subMap.containsKey("substitutionReason")) 
-                                        subDetail.setSubstitutionReason((String) subMap.get("substitutionReason"));
-                                    
-                                    event.setSubstitutionDetail(subDetail);
+                            latestTail[0] = tail;
+                            DocumentSnapshot base = latestSnapshot[0];
+                            decoder.submit(() -> {
+                                Match match = buildFromSnapshotAndTail(base, tail);
+                                if (match != null) {
+                                    android.util.Log.d("MatchFirestoreRepository", "Loaded match from Firestore - ID: " + 
+                                        match.getEntityId() + ", Name: " + match.getName() + ", Status: " + match.getMatchStatus() +
+                                        ", Seq: " + match.getLastAppliedSeq());
                                 }
-                            }
-                            
-                            events.add(event);
-                        } catch (Exception e) {
-                            android.util.Log.e("MatchFirestoreRepository", "Failed to deserialize FootballEvent", e);
-                        }
-                    }
-                    
-                    footballMatch.setFootballEvents(events);
-                    android.util.Log.d("MatchFirestoreRepository", "Deserialized " + events.size() + " football events");
-                }
-            }
-            
-            // Populate scores
-            if (data.containsKey("homeScore")) {
-                Object homeScoreObj = data.get("homeScore");
-                if (homeScoreObj instanceof Long) {
-                    footballMatch.setHomeScore(((Long) homeScoreObj).intValue());
-                }
-            }
-            if (data.containsKey("awayScore")) {
-                Object awayScoreObj = data.get("awayScore");
-                if (awayScoreObj instanceof Long) {
-                    footballMatch.setAwayScore(((Long) awayScoreObj).intValue());
-                }
-            }
-            
-            // Populate match period and minute
-            if (data.containsKey("matchPeriod")) {
-                // Set via reflection since matchPeriod is private
-                try {
-                    java.lang.reflect.Field field = FootballMatch.class.getDeclaredField("matchPeriod");
-                    field.setAccessible(true);
-                    field.set(footballMatch, (String) data.get("matchPeriod"));
-                } catch (Exception e) {
-                    android.util.Log.e("MatchFirestoreRepository", "Failed to set matchPeriod", e);
-                }
-            }
-            if (data.containsKey("currentMatchMinute")) {
-                Object minuteObj = data.get("currentMatchMinute");
-                if (minuteObj instanceof Long) {
-                    // Set via reflection if field is private
-                    try {
-                        java.lang.reflect.Field field = FootballMatch.class.getDeclaredField("currentMatchMinute");
-                        field.setAccessible(true);
-                        field.set(footballMatch, ((Long) minuteObj).intValue());
-                    } catch (Exception e) {
-                        android.util.Log.e("MatchFirestoreRepository", "Failed to set currentMatchMinute", e);
-                    }
-                }
-            }
-            
-            // CRITICAL: Deserialize timer state for persistence across navigation
-            if (data.containsKey("elapsedTimeMillis")) {
-                Object elapsedObj = data.get("elapsedTimeMillis");
-                if (elapsedObj instanceof Long) {
-                    footballMatch.setElapsedTimeMillis((Long) elapsedObj);
-                    android.util.Log.d("MatchFirestoreRepository", "Deserialized elapsedTimeMillis: " + elapsedObj + "ms");
-                }
-            }
+                                return match;
+                            });
+                        });
+                });
             
-            if (data.containsKey("timerRunning")) {
-                Object timerRunningObj = data.get("timerRunning");
-                if (timerRunningObj instanceof Boolean) {
-                    footballMatch.setTimerRunning((Boolean) timerRunningObj);
-                    android.util.Log.d("MatchFirestoreRepository", "Deserialized timerRunning: " + timerRunningObj);
-                }
-            }
-        }
+            // Detaching the shared match listener also drops its event-log tail listener
+            return () -> {
+                docRegistration.remove();
+                if (tailRegistration[0] != null) {
+                    tailRegistration[0].remove();
+                    tailRegistration[0] = null;
+                }
+            };
+        });
     }
     
     /**
-     * Helper method to populate MatchConfig fields from a data map.
+     * Deserializes the snapshot document and replays every log entry newer than its
+     * lastAppliedSeq. Replayed changes stay recorded on the match, so the next
+     * snapshot write persists them.
      */
-    private void populateConfigFields(com.example.tournafy.domain.models.base.MatchConfig config, Map<String, Object> data) {
-        // Populate base MatchConfig fields
-        if (data.containsKey("configId")) config.setConfigId((String) data.get("configId"));
-        if (data.containsKey("matchId")) config.setMatchId((String) data.get("matchId"));
-        
-        // Populate FootballMatchConfig specific fields
-        if (config instanceof com.example.tournafy.domain.models.match.football.FootballMatchConfig) {
-            com.example.tournafy.domain.models.match.football.FootballMatchConfig footballConfig = 
-                (com.example.tournafy.domain.models.match.football.FootballMatchConfig) config;
-            
-            if (data.containsKey("matchDuration")) {
-                Object durationObj = data.get("matchDuration");
-                if (durationObj instanceof Long) {
-                    footballConfig.setMatchDuration(((Long) durationObj).intValue());
-                    android.util.Log.d("MatchFirestoreRepository", "Deserialized matchDuration: " + ((Long) durationObj).intValue());
-                }
-            }
-            
-            if (data.containsKey("playersPerSide")) {
-                Object playersObj = data.get("playersPerSide");
-                if (playersObj instanceof Long) {
-                    footballConfig.setPlayersPerSide(((Long) playersObj).intValue());
-                    android.util.Log.d("MatchFirestoreRepository", "Deserialized playersPerSide: " + ((Long) playersObj).intValue());
-                }
-            }
-            
-            if (data.containsKey("offsideOn")) {
-                Object offsideObj = data.get("offsideOn");
-                if (offsideObj instanceof Boolean) {
-                    footballConfig.setOffsideOn((Boolean) offsideObj);
-                    android.util.Log.d("MatchFirestoreRepository", "Deserialized offsideOn: " + offsideObj);
-                }
-            }
+    private Match buildFromSnapshotAndTail(DocumentSnapshot snapshot, QuerySnapshot tail) {
+        Match match = deserializeMatch(snapshot);
+        if (match == null || tail == null || tail.isEmpty()) {
+            return match;
         }
         
-        // Populate CricketMatchConfig specific fields
-        if (config instanceof com.example.tournafy.domain.models.match.cricket.CricketMatchConfig) {
-            com.example.tournafy.domain.models.match.cricket.CricketMatchConfig cricketConfig = 
-                (com.example.tournafy.domain.models.match.cricket.CricketMatchConfig) config;
-            
-            if (data.containsKey("numberOfOvers")) {
-                Object oversObj = data.get("numberOfOvers");
-                if (oversObj instanceof Long) {
-                    cricketConfig.setNumberOfOvers(((Long) oversObj).intValue());
-                    android.util.Log.d("MatchFirestoreRepository", "Deserialized numberOfOvers: " + oversObj);
-                }
+        for (DocumentSnapshot doc : tail.getDocuments()) {
+            MatchLogEntry entry;
+            try {
+                entry = doc.toObject(MatchLogEntry.class);
+            } catch (RuntimeException ex) {
+                android.util.Log.e("MatchFirestoreRepository", "Unreadable log entry " + doc.getId(), ex);
+                break;
             }
-            
-            if (data.containsKey("playersPerSide")) {
-                Object playersObj = data.get("playersPerSide");
-                if (playersObj instanceof Long) {
-                    cricketConfig.setPlayersPerSide(((Long) playersObj).intValue());
-                    android.util.Log.d("MatchFirestoreRepository", "Deserialized cricket playersPerSide: " + playersObj);
-                }
+            if (entry == null || entry.getEvent() == null) {
+                continue;
             }
-            
-            if (data.containsKey("wideOn")) {
-                Object wideObj = data.get("wideOn");
-                if (wideObj instanceof Boolean) {
-                    cricketConfig.setWideOn((Boolean) wideObj);
-                }
+            if (entry.getSeq() != match.getLastAppliedSeq() + 1) {
+                if (entry.getSeq() <= match.getLastAppliedSeq()) continue;
+                // A gap means the tail is not fully synced yet; stop at the last contiguous entry
+                android.util.Log.w("MatchFirestoreRepository", "Gap in event log for " + match.getEntityId() +
+                    " at seq " + entry.getSeq() + " (applied " + match.getLastAppliedSeq() + ")");
+                break;
             }
-            
-            if (data.containsKey("lastManStanding")) {
-                Object lastManObj = data.get("lastManStanding");
-                if (lastManObj instanceof Boolean) {
-                    cricketConfig.setLastManStanding((Boolean) lastManObj);
-                    android.util.Log.d("MatchFirestoreRepository", "Deserialized lastManStanding: " + lastManObj);
-                }
+            try {
+                match.replayEntry(entry);
+                match.setLastAppliedSeq(entry.getSeq());
+            } catch (RuntimeException ex) {
+                android.util.Log.e("MatchFirestoreRepository", "Failed to replay seq " + entry.getSeq() +
+                    " for match " + match.getEntityId(), ex);
+                break;
             }
         }
+        return match;
     }
     
     /**
      * OVERRIDE: Custom implementation that handles polymorphism.
      */
     @Override
-    public LiveData<Match> getById(String id) {
-        MutableLiveData<Match> liveData = new MutableLiveData<>();
-        
-        collectionReference.document(id)
-            .addSnapshotListener((snapshot, e) -> {
+    public LiveData<List<Match>> getAll() {
+        return share("all", target -> {
+            SnapshotDecoder<List<Match>> decoder = newDecoder(target);
+            ListenerRegistration registration = collectionReference.addSnapshotListener((snapshots, e) -> {
                 if (e != null) {
-                    android.util.Log.e("MatchFirestoreRepository", "Error loading match " + id, e);
-                    liveData.setValue(null);
+                    decoder.post(null);
                     return;
                 }
-                Match match = deserializeMatch(snapshot);
-                if (match != null) {
-                    android.util.Log.d("MatchFirestoreRepository", "Loaded match from Firestore - ID: " + 
-                        match.getEntityId() + ", Name: " + match.getName() + ", Status: " + match.getMatchStatus());
+                if (snapshots != null) {
+                    target.recordReads(snapshots.getDocumentChanges().size());
+                    decoder.submit(() -> deserializeMatches(snapshots));
                 }
-                liveData.setValue(match);
             });
-            
-        return liveData;
-    }
-    
-    /**
-     * OVERRIDE: Custom implementation that handles polymorphism.
-     */
-    @Override
-    public LiveData<List<Match>> getAll() {
-        MutableLiveData<List<Match>> liveData = new MutableLiveData<>();
-        
-        collectionReference.addSnapshotListener((snapshots, e) -> {
-            if (e != null) {
-                liveData.setValue(null);
-                return;
-            }
-            if (snapshots != null) {
-                List<Match> matches = new ArrayList<>();
-                for (DocumentSnapshot doc : snapshots.getDocuments()) {
-                    Match match = deserializeMatch(doc);
-                    if (match != null) {
-                        matches.add(match);
-                    }
-                }
-                liveData.setValue(matches);
-            }
+            return registration::remove;
         });
-        
-        return liveData;
     }
     
     /**
@@ -893,27 +295,35 @@ public class MatchFirestoreRepository extends FirestoreRepository<Match> {
      * @return LiveData holding a list of matches.
      */
     public LiveData<List<Match>> getMatchesByHostId(String hostId) {
-        MutableLiveData<List<Match>> liveData = new MutableLiveData<>();
-        
-        collectionReference.whereEqualTo("hostUserId", hostId)
-            .addSnapshotListener((snapshots, e) -> {
-                if (e != null) {
-                    liveData.setValue(null);
-                    return;
-                }
-                if (snapshots != null) {
-                    List<Match> matches = new ArrayList<>();
-                    for (DocumentSnapshot doc : snapshots.getDocuments()) {
-                        Match match = deserializeMatch(doc);
-                        if (match != null) {
-                            matches.add(match);
-                        }
+        return share("host/" + hostId, target -> {
+            SnapshotDecoder<List<Match>> decoder = newDecoder(target);
+            ListenerRegistration registration = collectionReference.whereEqualTo("hostUserId", hostId)
+                .addSnapshotListener((snapshots, e) -> {
+                    if (e != null) {
+                        decoder.post(null);
+                        return;
                     }
-                    liveData.setValue(matches);
-                }
-            });
-            
-        return liveData;
+                    if (snapshots != null) {
+                        target.recordReads(snapshots.getDocumentChanges().size());
+                        decoder.submit(() -> deserializeMatches(snapshots));
+                    }
+                });
+            return registration::remove;
+        });
+    }
+    
+    /**
+     * Decodes every match document of a query result, skipping unknown sports.
+     */
+    private List<Match> deserializeMatches(QuerySnapshot snapshots) {
+        List<Match> matches = new ArrayList<>();
+        for (DocumentSnapshot doc : snapshots.getDocuments()) {
+            Match match = deserializeMatch(doc);
+            if (match != null) {
+                matches.add(match);
+            }
+        }
+        return matches;
     }
     
     /**
@@ -926,6 +336,334 @@ public class MatchFirestoreRepository extends FirestoreRepository<Match> {
             String newId = collectionReference.document().getId();
             entity.setEntityId(newId);
         }
-        return addOrUpdateWithId(entity.getEntityId(), entity);
+        return writeFull(entity);
+    }
+
+    /**
+     * Full-document write. Any field-level changes recorded on the match are
+     * contained in the written document, so they are discarded.
+     */
+    @Override
+    public Task<Void> update(Match entity) {
+        if (entity == null || entity.getEntityId() == null) {
+            return Tasks.forException(new IllegalArgumentException("Entity ID cannot be null for update."));
+        }
+        entity.clearPendingChanges();
+        return writeFull(entity);
+    }
+
+    /**
+     * Adds a full write of the match document and its summary to a batch.
+     */
+    @Override
+    public void addToBatch(WriteBatch batch, Match match) {
+        match.clearPendingChanges();
+        batch.set(collectionReference.document(match.getEntityId()), toDocument(match));
+        MatchSummary summary = match.toSummary();
+        batch.set(summaryCollection.document(match.getEntityId()), summary);
+        writtenSummaries.remove(match.getEntityId()); // Known only once the caller's batch commits
+        searchIndex.index(toSearchResult(summary));
+    }
+
+    /**
+     * Writes the whole match document and its summary in one batch.
+     */
+    private Task<Void> writeFull(Match match) {
+        WriteBatch batch = collectionReference.getFirestore().batch();
+        batch.set(collectionReference.document(match.getEntityId()), toDocument(match));
+        return commitWithSummary(batch, match);
+    }
+
+    /**
+     * Persists only what changed on the match since the last save.
+     * Falls back to a full update() when nothing was tracked (e.g. a match built
+     * outside the scoring flow) or when the change cannot be expressed as field paths.
+     *
+     * @param match The match that was just mutated by a scoring action.
+     * @return Task that completes when the write is acknowledged.
+     */
+    public Task<Void> saveChanges(Match match) {
+        if (match == null || match.getEntityId() == null) {
+            return Tasks.forException(new IllegalArgumentException("Match ID cannot be null for update."));
+        }
+        MatchDelta delta = match.drainPendingChanges();
+        if (delta.isEmpty() || delta.isFullWriteRequired()) {
+            return writeFull(match);
+        }
+        return applyDelta(match, delta);
+    }
+
+    /**
+     * Applies a field-level delta with a single update() call:
+     * plain values for set paths, FieldValue.increment for counters,
+     * FieldValue.arrayUnion / arrayRemove for appended / removed array elements.
+     *
+     * Nested values are encoded with the match's codec, so they have the same shape
+     * as in a full write.
+     *
+     * @param match The match the delta was recorded on.
+     * @param delta The recorded changes.
+     * @return Task that completes when the write is acknowledged.
+     */
+    public Task<Void> applyDelta(Match match, MatchDelta delta) {
+        if (match == null || match.getEntityId() == null) {
+            return Tasks.forException(new IllegalArgumentException("Match ID cannot be null for update."));
+        }
+        if (delta == null || delta.isEmpty()) {
+            return Tasks.forResult(null);
+        }
+        if (delta.isFullWriteRequired()) {
+            return Tasks.forException(new IllegalStateException("Delta requires a full document write."));
+        }
+
+        android.util.Log.d("MatchFirestoreRepository", "Applying delta to match " + match.getEntityId() + ": " + delta.getDirtyPaths());
+        WriteBatch batch = collectionReference.getFirestore().batch();
+        batch.update(collectionReference.document(match.getEntityId()), toUpdateMap(match, delta));
+        return commitWithSummary(batch, match);
+    }
+
+    /**
+     * Appends a scoring event to the match's event log. The event must already be
+     * applied to the match. Every SNAPSHOT_INTERVAL events the match document is
+     * re-snapshotted (with lastAppliedSeq) in the same batch; in between, the
+     * recorded field changes stay pending on the match and only the small log
+     * entry is written.
+     *
+     * @param match The match the event was applied to.
+     * @param event The CricketEvent / FootballEvent that was scored.
+     * @return Task that completes when the batch is acknowledged.
+     */
+    public Task<Void> appendEvent(Match match, MatchEvent event) {
+        if (match == null || match.getEntityId() == null) {
+            return Tasks.forException(new IllegalArgumentException("Match ID cannot be null for update."));
+        }
+        List<MatchLogEntry> entries = new ArrayList<>();
+        entries.add(newLogEntry(match, event));
+        return commitBatch(match, entries, false, false);
+    }
+
+    /**
+     * Reserves the next log sequence number of the match and wraps the event in a
+     * log entry. Nothing is written; the entry is committed later by commitBatch().
+     * Reserving at this point fixes the order of events at the time they are scored,
+     * and the entry records the ids the event created so that replay reuses them.
+     *
+     * @param match The match the event was applied to.
+     * @param event The CricketEvent / FootballEvent that was scored.
+     * @return The log entry carrying the reserved sequence number.
+     */
+    public MatchLogEntry newLogEntry(Match match, MatchEvent event) {
+        long seq = match.nextLogSeq();
+        MatchLogEntry entry = new MatchLogEntry(seq, match.getEntityId(), match.getSportId(), event);
+        match.describeLastEvent(entry);
+        return entry;
+    }
+
+    /**
+     * Writes several log entries and at most one snapshot of the match in a single
+     * WriteBatch (used by MatchWriteQueue to coalesce scoring writes).
+     *
+     * The match document is written when:
+     * - fullWrite is set: the whole document, discarding recorded changes
+     * - snapshot is set, or an entry reaches a SNAPSHOT_INTERVAL boundary:
+     *   the recorded field changes (with lastAppliedSeq)
+     *
+     * @param match The match the entries were applied to.
+     * @param entries Log entries created with newLogEntry(), in sequence order.
+     * @param snapshot Whether the recorded field changes must be written now.
+     * @param fullWrite Whether the whole match document must be written.
+     * @return Task that completes when the batch is acknowledged.
+     */
+    public Task<Void> commitBatch(Match match, List<MatchLogEntry> entries, boolean snapshot, boolean fullWrite) {
+        if (match == null || match.getEntityId() == null) {
+            return Tasks.forException(new IllegalArgumentException("Match ID cannot be null for update."));
+        }
+        
+        FirebaseFirestore firestore = collectionReference.getFirestore();
+        WriteBatch batch = firestore.batch();
+        boolean snapshotDue = snapshot;
+        for (MatchLogEntry entry : entries) {
+            batch.set(eventLog(match.getEntityId()).document(seqDocumentId(entry.getSeq())), toLogDocument(entry));
+            if (entry.getSeq() % SNAPSHOT_INTERVAL == 0) {
+                snapshotDue = true;
+            }
+        }
+        
+        DocumentReference matchDoc = collectionReference.document(match.getEntityId());
+        if (fullWrite) {
+            match.clearPendingChanges();
+            batch.set(matchDoc, toDocument(match));
+        } else if (snapshotDue) {
+            MatchDelta delta = match.drainPendingChanges();
+            if (delta.isFullWriteRequired()) {
+                batch.set(matchDoc, toDocument(match));
+            } else if (!delta.isEmpty()) {
+                batch.update(matchDoc, toUpdateMap(match, delta));
+            } else if (snapshot && entries.isEmpty()) {
+                // Explicit save of an untracked match: behave like saveChanges()
+                batch.set(matchDoc, toDocument(match));
+            }
+            android.util.Log.d("MatchFirestoreRepository", "Snapshot of match " + match.getEntityId() + " at seq " + match.getLastAppliedSeq());
+        }
+        return commitWithSummary(batch, match);
+    }
+
+    /**
+     * Adds the match's summary to the batch if it differs from the last one written,
+     * then commits. The summary reflects the in-memory match, which already contains
+     * events whose field changes are still pending for the next snapshot.
+     */
+    private Task<Void> commitWithSummary(WriteBatch batch, Match match) {
+        String matchId = match.getEntityId();
+        MatchSummary summary = match.toSummary();
+        boolean summaryChanged = !summary.equals(writtenSummaries.get(matchId));
+        if (summaryChanged) {
+            batch.set(summaryCollection.document(matchId), summary);
+            writtenSummaries.put(matchId, summary);
+        }
+        Task<Void> commit = batch.commit();
+        if (summaryChanged) {
+            // Rewrite it with the next change if this batch is rejected
+            commit.addOnFailureListener(e -> writtenSummaries.remove(matchId, summary));
+            // Re-indexes only if the name, venue or code changed
+            searchIndex.index(toSearchResult(summary));
+        }
+        return commit;
+    }
+
+    private static SearchResult toSearchResult(MatchSummary summary) {
+        SearchResult result = new SearchResult(summary.getEntityId(), SearchResult.TYPE_MATCH, summary.getName(),
+                summary.getVenue() != null ? summary.getVenue() : "Match");
+        result.setCode(summary.getVisibilityLink());
+        result.setSportId(summary.getSportId());
+        return result;
+    }
+
+    /**
+     * Writes the summaries missing for matches created before the "match_summaries"
+     * projection existed. Counts both collections first (aggregation queries, no
+     * document reads) and only loads the full matches when the counts differ.
+     *
+     * @param hostId The host whose matches are checked, or null for all matches.
+     * @return Task holding the number of summaries written, completed once every batch
+     *         has committed; it fails if any batch fails.
+     */
+    public Task<Integer> backfillSummaries(String hostId) {
+        Query matches = hostId != null ? collectionReference.whereEqualTo("hostUserId", hostId) : collectionReference;
+        Query summaries = hostId != null ? summaryCollection.whereEqualTo("hostUserId", hostId) : summaryCollection;
+        Task<AggregateQuerySnapshot> matchCount = matches.count().get(AggregateSource.SERVER);
+        Task<AggregateQuerySnapshot> summaryCount = summaries.count().get(AggregateSource.SERVER);
+        
+        return Tasks.whenAll(matchCount, summaryCount).continueWithTask(counted -> {
+            if (!counted.isSuccessful()) {
+                // Offline: counts need the server, try again next time
+                return Tasks.forResult(0);
+            }
+            if (matchCount.getResult().getCount() <= summaryCount.getResult().getCount()) {
+                return Tasks.forResult(0);
+            }
+            Task<QuerySnapshot> existing = summaries.get();
+            Task<QuerySnapshot> all = matches.get();
+            return Tasks.whenAll(existing, all).continueWithTask(loaded -> {
+                if (!loaded.isSuccessful()) {
+                    return Tasks.forException(loaded.getException());
+                }
+                Set<String> summarized = new HashSet<>();
+                for (DocumentSnapshot doc : existing.getResult().getDocuments()) {
+                    summarized.add(doc.getId());
+                }
+                List<Task<Void>> commits = new ArrayList<>();
+                WriteBatch batch = collectionReference.getFirestore().batch();
+                int written = 0;
+                for (DocumentSnapshot doc : all.getResult().getDocuments()) {
+                    if (summarized.contains(doc.getId())) continue;
+                    Match match = deserializeMatch(doc);
+                    if (match == null) continue;
+                    MatchSummary summary = match.toSummary();
+                    batch.set(summaryCollection.document(doc.getId()), summary);
+                    writtenSummaries.put(doc.getId(), summary);
+                    // Firestore allows at most 500 writes per batch
+                    if (++written % 450 == 0) {
+                        commits.add(batch.commit());
+                        batch = collectionReference.getFirestore().batch();
+                    }
+                }
+                commits.add(batch.commit());
+                android.util.Log.d("MatchFirestoreRepository", "Backfilled " + written + " match summaries");
+                final int total = written;
+                return Tasks.whenAll(commits).continueWithTask(committed -> committed.isSuccessful()
+                    ? Tasks.forResult(total) : Tasks.forException(committed.getException()));
+            });
+        });
+    }
+
+    /**
+     * Deletes the match document together with its event log and summary
+     * (Firestore does not delete subcollections with their parent).
+     */
+    @Override
+    public Task<Void> delete(String id) {
+        return eventLog(id).get().continueWithTask(task -> {
+            List<Task<Void>> commits = new ArrayList<>();
+            WriteBatch batch = collectionReference.getFirestore().batch();
+            int opsInBatch = 0;
+            if (task.isSuccessful() && task.getResult() != null) {
+                for (DocumentSnapshot doc : task.getResult().getDocuments()) {
+                    batch.delete(doc.getReference());
+                    // Firestore allows at most 500 writes per batch
+                    if (++opsInBatch == 450) {
+                        commits.add(batch.commit());
+                        batch = collectionReference.getFirestore().batch();
+                        opsInBatch = 0;
+                    }
+                }
+            }
+            batch.delete(collectionReference.document(id));
+            batch.delete(summaryCollection.document(id));
+            writtenSummaries.remove(id);
+            searchIndex.remove(SearchResult.TYPE_MATCH, id);
+            commits.add(batch.commit());
+            return Tasks.whenAll(commits);
+        });
+    }
+
+    private CollectionReference eventLog(String matchId) {
+        return collectionReference.document(matchId).collection(EVENTS_SUBCOLLECTION);
+    }
+
+    /**
+     * Zero-padded so that document IDs sort in sequence order.
+     */
+    private static String seqDocumentId(long seq) {
+        return String.format(Locale.US, "%012d", seq);
+    }
+
+    private Map<String, Object> toUpdateMap(Match match, MatchDelta delta) {
+        Map<String, Object> updates = new HashMap<>();
+        for (Map.Entry<String, Object> entry : delta.getSets().entrySet()) {
+            updates.put(entry.getKey(), codecs.encodeField(match, entry.getKey(), entry.getValue()));
+        }
+        for (Map.Entry<String, Long> entry : delta.getIncrements().entrySet()) {
+            updates.put(entry.getKey(), FieldValue.increment(entry.getValue()));
+        }
+        for (Map.Entry<String, List<Object>> entry : delta.getAppends().entrySet()) {
+            updates.put(entry.getKey(), FieldValue.arrayUnion(encodeElements(match, entry.getValue())));
+        }
+        for (Map.Entry<String, List<Object>> entry : delta.getRemovals().entrySet()) {
+            updates.put(entry.getKey(), FieldValue.arrayRemove(encodeElements(match, entry.getValue())));
+        }
+        return updates;
+    }
+
+    /**
+     * arrayUnion / arrayRemove compare elements by value, so they must be encoded
+     * exactly like the elements of a full write.
+     */
+    private Object[] encodeElements(Match match, List<Object> values) {
+        Object[] encoded = new Object[values.size()];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = codecs.encodeValue(match, values.get(i));
+        }
+        return encoded;
     }
-}
\ No newline at end of file
+}
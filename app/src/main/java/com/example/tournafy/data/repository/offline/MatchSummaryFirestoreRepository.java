@@ -0,0 +1,96 @@
+package com.example.tournafy.data.repository.offline;
+
+import androidx.lifecycle.LiveData;
+
+import com.example.tournafy.data.repository.PageQuery;
+import com.example.tournafy.data.repository.PagedLiveData;
+import com.example.tournafy.data.repository.SnapshotDecoder;
+import com.example.tournafy.domain.models.match.MatchSummary;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.ListenerRegistration;
+import com.google.firebase.firestore.Query;
+
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Read side of the "match_summaries" projection.
+ *
+ * Summaries are written by MatchFirestoreRepository together with the match itself,
+ * so this repository only queries them. List screens (home, search, tournament
+ * matches and brackets) use it instead of loading full Match documents.
+ */
+@Singleton
+public class MatchSummaryFirestoreRepository extends FirestoreRepository<MatchSummary> {
+
+    public static final String COLLECTION_PATH = "match_summaries";
+
+    @Inject
+    public MatchSummaryFirestoreRepository(FirebaseFirestore firestoreInstance) {
+        super(firestoreInstance, COLLECTION_PATH, MatchSummary.class);
+    }
+
+    @Override
+    protected String getEntityId(MatchSummary entity) {
+        return entity.getEntityId();
+    }
+
+    /**
+     * Summaries of all matches hosted by a user.
+     * @param hostId The ID of the host user.
+     * @return LiveData holding a list of summaries.
+     */
+    public LiveData<List<MatchSummary>> getSummariesByHostId(String hostId) {
+        return observeQuery("host/" + hostId, collectionReference.whereEqualTo("hostUserId", hostId));
+    }
+
+    /**
+     * Summaries of all matches of a tournament (one query instead of one listener per match).
+     * @param tournamentId The ID of the tournament.
+     * @return LiveData holding a list of summaries.
+     */
+    public LiveData<List<MatchSummary>> getSummariesByTournamentId(String tournamentId) {
+        return observeQuery("tournament/" + tournamentId, collectionReference.whereEqualTo("tournamentId", tournamentId));
+    }
+
+    /**
+     * Summaries of a host's matches, newest first, loaded page by page.
+     * @param hostId The ID of the host user, or null for all summaries.
+     * @return Paged LiveData; the first page loads when it is observed.
+     */
+    public PagedLiveData<MatchSummary> pageSummariesByHostId(String hostId) {
+        PageQuery query = PageQuery.orderBy("createdAt").descending();
+        if (hostId != null) {
+            query = query.whereEqualTo("hostUserId", hostId);
+        }
+        return new PagedLiveData<>(this, query);
+    }
+
+    /**
+     * Summaries of a tournament's matches in creation order, loaded page by page.
+     * @param tournamentId The ID of the tournament.
+     * @return Paged LiveData; the first page loads when it is observed.
+     */
+    public PagedLiveData<MatchSummary> pageSummariesByTournamentId(String tournamentId) {
+        return new PagedLiveData<>(this, PageQuery.orderBy("createdAt").whereEqualTo("tournamentId", tournamentId));
+    }
+
+    private LiveData<List<MatchSummary>> observeQuery(String key, Query query) {
+        return share(key, target -> {
+            SnapshotDecoder<List<MatchSummary>> decoder = newDecoder(target);
+            ListenerRegistration registration = query.addSnapshotListener((snapshots, e) -> {
+                if (e != null) {
+                    decoder.post(null);
+                    return;
+                }
+                if (snapshots != null) {
+                    target.recordReads(snapshots.getDocumentChanges().size());
+                    decoder.submit(() -> snapshots.toObjects(MatchSummary.class));
+                }
+            });
+            return registration::remove;
+        });
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.tournafy.data.repository.offline;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.lifecycle.ProcessLifecycleOwner;
+
+import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.domain.models.base.MatchEvent;
+import com.example.tournafy.domain.models.match.MatchLogEntry;
+
+
+/**
+ * Write-behind queue between MatchViewModel and MatchFirestoreRepository for one match.
+ *
+ * Scoring taps only mutate the in-memory match and enqueue here. Mutations that arrive
+ * within a short window (or until the max batch size is reached) are coalesced into a
+ * single WriteBatch: all queued event-log entries plus at most one snapshot write.
+ *
+ * Ordering: sequence numbers are reserved at enqueue time and batches are committed
+ * from the main thread in enqueue order. Firestore applies writes from one client in
+ * commit order, so a later batch can never overtake an earlier one.
+ *
+ * Failures: a batch whose commit fails goes back ahead of the writes queued since
+ * (see PendingMatchWrites.restore()) and is retried with the next flush, which writes
+ * the whole match document. Log entries are keyed by sequence number, so the retry
+ * lands them in place even after later batches.
+ *
+ * Pending writes are flushed when the window elapses, when the app goes to the
+ * background, and on close() (called from ViewModel.onCleared()).
+ * Must be used from the main thread.
+ */
+public class MatchWriteQueue implements DefaultLifecycleObserver {
+
+    private static final String TAG = "MatchWriteQueue";
+
+    public static final long DEFAULT_WINDOW_MS = 300;
+    public static final int DEFAULT_MAX_BATCH = 20;
+    /** Longest wait before a failed batch is retried. */
+    public static final long MAX_RETRY_DELAY_MS = 60_000;
+
+    /**
+     * Receives the error of a failed batch commit (on the main thread).
+     */
+    public interface ErrorListener {
+        void onWriteFailed(Exception e);
+    }
+
+    private final MatchFirestoreRepository repository;
+    private final String matchId;
+    private final long windowMs;
+    private final int maxBatch;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable flushRunnable = this::flush;
+
+    private final PendingMatchWrites pending = new PendingMatchWrites();
+    private int failedAttempts;
+    private boolean flushScheduled;
+    private boolean closed;
+    private ErrorListener errorListener;
+
+    // Metrics
+    private long mutationsEnqueued;
+    private long batchesCommitted;
+    private long writesCoalesced;
+    private long failedBatches;
+
+    public MatchWriteQueue(MatchFirestoreRepository repository, String matchId) {
+        this(repository, matchId, DEFAULT_WINDOW_MS, DEFAULT_MAX_BATCH);
+    }
+
+    public MatchWriteQueue(MatchFirestoreRepository repository, String matchId, long windowMs, int maxBatch) {
+        this.repository = repository;
+        this.matchId = matchId;
+        this.windowMs = windowMs;
+        this.maxBatch = Math.max(1, maxBatch);
+        ProcessLifecycleOwner.get().getLifecycle().addObserver(this);
+    }
+
+    public String getMatchId() { return matchId; }
+
+    public void setErrorListener(ErrorListener errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    // --- ENQUEUE ---
+
+    /**
+     * Queues a scoring event that has already been applied to the match.
+     * Its log sequence number is reserved immediately.
+     */
+    public void enqueueEvent(Match match, MatchEvent event) {
+        prepare(match);
+        pending.addEntry(match, repository.newLogEntry(match, event));
+        onEnqueued();
+    }
+
+    /**
+     * Queues a snapshot of the fields that changed on the match (field-level delta).
+     */
+    public void enqueueSave(Match match) {
+        prepare(match);
+        pending.requestSnapshot(match);
+        onEnqueued();
+    }
+
+    /**
+     * Queues a full-document write of the match.
+     */
+    public void enqueueFullWrite(Match match) {
+        prepare(match);
+        pending.requestFullWrite(match);
+        onEnqueued();
+    }
+
+    private void prepare(Match match) {
+        if (closed) {
+            throw new IllegalStateException("MatchWriteQueue for " + matchId + " is closed");
+        }
+        if (!matchId.equals(match.getEntityId())) {
+            throw new IllegalArgumentException("Match " + match.getEntityId() + " does not belong to queue " + matchId);
+        }
+        // The ViewModel swapped in a freshly loaded instance: write out what the old one owes first
+        if (pending.getMatch() != null && pending.getMatch() != match) {
+            flush();
+        }
+    }
+
+    private void onEnqueued() {
+        mutationsEnqueued++;
+        if (pending.getMutations() >= maxBatch) {
+            flush();
+        } else {
+            scheduleFlush(windowMs);
+        }
+    }
+
+    private void scheduleFlush(long delayMs) {
+        if (flushScheduled) return;
+        flushScheduled = true;
+        handler.postDelayed(flushRunnable, delayMs);
+    }
+
+    // --- FLUSH ---
+
+    /**
+     * Commits everything queued so far as one WriteBatch. No-op when nothing is pending.
+     */
+    public void flush() {
+        handler.removeCallbacks(flushRunnable);
+        flushScheduled = false;
+        PendingMatchWrites.Batch batch = pending.drain();
+        if (batch == null) {
+            return;
+        }
+
+        repository.commitBatch(batch.getMatch(), batch.getEntries(), batch.isSnapshot(), batch.isFullWrite())
+            .addOnSuccessListener(result -> failedAttempts = 0)
+            .addOnFailureListener(e -> onBatchFailed(batch, e));
+
+        batchesCommitted++;
+        writesCoalesced += batch.getMutations() - 1;
+        android.util.Log.d(TAG, "Flushed " + batch.getMutations() + " mutation(s) for match " + matchId +
+            " in one batch (" + batch.getEntries().size() + " log entries). Total coalesced: " + writesCoalesced +
+            " over " + batchesCommitted + " batches");
+    }
+
+    /**
+     * Puts a failed batch back ahead of the writes queued since and retries it, with
+     * a delay that doubles on every consecutive failure (also after close()).
+     */
+    private void onBatchFailed(PendingMatchWrites.Batch batch, Exception e) {
+        failedBatches++;
+        failedAttempts++;
+        pending.restore(batch);
+        long delay = Math.min(MAX_RETRY_DELAY_MS, windowMs << Math.min(failedAttempts, 16));
+        android.util.Log.e(TAG, "Batch for match " + matchId + " failed (attempt " + failedAttempts +
+            "), retrying in " + delay + "ms", e);
+        scheduleFlush(delay);
+        if (errorListener != null) {
+            errorListener.onWriteFailed(e);
+        }
+    }
+
+    /**
+     * Flushes pending writes and stops listening to app lifecycle. The queue cannot be
+     * used afterwards.
+     */
+    public void close() {
+        if (closed) return;
+        flush();
+        closed = true;
+        ProcessLifecycleOwner.get().getLifecycle().removeObserver(this);
+    }
+
+    public boolean hasPendingWrites() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * App moved to the background: do not leave writes sitting in the window.
+     */
+    @Override
+    public void onStop(@NonNull LifecycleOwner owner) {
+        flush();
+    }
+
+    // --- METRICS ---
+
+    /** Number of mutations handed to the queue. */
+    public long getMutationsEnqueued() { return mutationsEnqueued; }
+
+    /** Number of WriteBatch commits issued. */
+    public long getBatchesCommitted() { return batchesCommitted; }
+
+    /** Number of mutations that did not need their own commit. */
+    public long getWritesCoalesced() { return writesCoalesced; }
+
+    /** Number of batch commits that failed. */
+    public long getFailedBatches() { return failedBatches; }
+}
@@ -3,6 +3,7 @@ package com.example.tournafy.data.repository.offline;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.example.tournafy.data.repository.offline.codec.CricketMatchCodec;
 import com.example.tournafy.domain.models.match.cricket.Over;
 import java.util.List;
 import javax.inject.Inject;
@@ -13,6 +14,9 @@ public class OverFirestoreRepository extends FirestoreRepository<Over> {
 
     public static final String COLLECTION_PATH = "overs";
 
+    // Field-by-field over encoding shared with the match documents
+    private final CricketMatchCodec codec = new CricketMatchCodec();
+
     @Inject
     public OverFirestoreRepository(FirebaseFirestore firestoreInstance) {
         super(firestoreInstance, COLLECTION_PATH, Over.class);
@@ -23,6 +27,15 @@ public class OverFirestoreRepository extends FirestoreRepository<Over> {
         return entity.getOverId();
     }
 
+    /**
+     * Writes the stored fields only, so the balls of the over leave out their derived
+     * legalDelivery.
+     */
+    @Override
+    protected Object toDocument(Over entity) {
+        return codec.encodeValue(entity);
+    }
+
     @Override
     public com.google.android.gms.tasks.Task<Void> add(Over entity) {
         if (entity.getOverId() == null || entity.getOverId().isEmpty()) {
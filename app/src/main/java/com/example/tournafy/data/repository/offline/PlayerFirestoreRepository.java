@@ -4,6 +4,7 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import com.google.android.gms.tasks.Task;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.example.tournafy.domain.models.search.SearchResult;
 import com.example.tournafy.domain.models.team.Player;
 
 import java.util.ArrayList;
@@ -21,8 +22,9 @@ public class PlayerFirestoreRepository extends FirestoreRepository<Player> {
     public static final String COLLECTION_NAME = "players";
 
     @Inject
-    public PlayerFirestoreRepository(FirebaseFirestore firestore) {
+    public PlayerFirestoreRepository(FirebaseFirestore firestore, SearchIndexFirestoreRepository searchIndex) {
         super(firestore, COLLECTION_NAME, Player.class);
+        enableSearchIndex(searchIndex, SearchResult.TYPE_PLAYER);
     }
 
     @Override
@@ -30,6 +32,13 @@ public class PlayerFirestoreRepository extends FirestoreRepository<Player> {
         return entity.getPlayerId();
     }
 
+    @Override
+    protected SearchResult toSearchResult(Player entity) {
+        String role = entity.getRole();
+        return new SearchResult(entity.getPlayerId(), SearchResult.TYPE_PLAYER, entity.getPlayerName(),
+                role != null && !role.isEmpty() ? role : "Player");
+    }
+
     public LiveData<List<Player>> getPlayersByTeamId(String teamId) {
         MutableLiveData<List<Player>> liveData = new MutableLiveData<>();
         collectionReference.whereEqualTo("teamId", teamId)
@@ -0,0 +1,76 @@
+package com.example.tournafy.data.repository.offline;
+
+import android.content.Context;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import dagger.hilt.android.qualifiers.ApplicationContext;
+
+/**
+ * Scoring journals of live matches, one file per match in
+ * "{noBackupFilesDir}/scoring_journal/{matchId}.journal" (see ScoringJournal).
+ * The files are device-local crash recovery data, so they are excluded from backups.
+ */
+@Singleton
+public class ScoringJournalStore {
+
+    private static final String TAG = "ScoringJournalStore";
+    private static final String DIRECTORY = "scoring_journal";
+    private static final String EXTENSION = ".journal";
+
+    private final File directory;
+    // One thread runs the batched fsyncs of all journals, and the journal file work
+    // handed to execute()
+    private final ScheduledExecutorService syncExecutor = Executors.newSingleThreadScheduledExecutor();
+
+    @Inject
+    public ScoringJournalStore(@ApplicationContext Context context) {
+        this.directory = new File(context.getNoBackupFilesDir(), DIRECTORY);
+    }
+
+    /**
+     * Runs journal file work (opening and replaying a journal, checkpoints, deletes)
+     * off the main thread, on the thread that syncs the journals.
+     */
+    public void execute(Runnable task) {
+        syncExecutor.execute(task);
+    }
+
+    /**
+     * Opens the journal of a match, creating it if needed.
+     * @return The journal, or null if it cannot be opened (scoring then relies on
+     *         Firestore alone).
+     */
+    public ScoringJournal open(String matchId) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            android.util.Log.e(TAG, "Cannot create " + directory);
+            return null;
+        }
+        try {
+            return new ScoringJournal(fileOf(matchId), syncExecutor);
+        } catch (IOException e) {
+            android.util.Log.e(TAG, "Cannot open journal of match " + matchId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the journal of a match that is no longer scored.
+     */
+    public void delete(String matchId) {
+        File file = fileOf(matchId);
+        if (file.exists() && !file.delete()) {
+            android.util.Log.w(TAG, "Cannot delete " + file);
+        }
+    }
+
+    private File fileOf(String matchId) {
+        return new File(directory, matchId + EXTENSION);
+    }
+}
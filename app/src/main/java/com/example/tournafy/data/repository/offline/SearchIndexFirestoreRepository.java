@@ -0,0 +1,237 @@
+package com.example.tournafy.data.repository.offline;
+
+import com.example.tournafy.data.repository.Page;
+import com.example.tournafy.data.repository.PageCursor;
+import com.example.tournafy.data.repository.PageQuery;
+import com.example.tournafy.domain.models.search.SearchResult;
+import com.example.tournafy.domain.models.search.SearchTerm;
+import com.example.tournafy.utils.SearchTokenizer;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Inverted index for name search across matches, tournaments, series, teams and players.
+ *
+ * Writes: the repositories of those entities call index() / remove() from their own
+ * write paths, so the index is kept up to date incrementally. An entity is re-indexed
+ * only when its displayed fields change; its stale postings are deleted in the same batch.
+ *
+ * Reads: a query is looked up by its longest word with one indexed query
+ * (token == t, ordered by score), paged with getPage(); the other words filter the page.
+ * First pages are kept in an in-memory hot-prefix cache, and a longer query is answered
+ * from the cached complete result of a shorter prefix, so typing rarely waits on the network.
+ *
+ * Needs a composite index on search_terms (token ASC, score DESC).
+ */
+@Singleton
+public class SearchIndexFirestoreRepository extends FirestoreRepository<SearchTerm> {
+
+    public static final String COLLECTION_PATH = "search_terms";
+
+    private static final int HOT_PREFIX_CACHE_SIZE = 64;
+    private static final long HOT_PREFIX_TTL_MS = 60_000L;
+
+    private final FirebaseFirestore firestore;
+    // Last indexed display fields per entity key, to skip re-indexing unchanged entities
+    private final Map<String, String> indexedSignatures = new ConcurrentHashMap<>();
+    // Normalized query -> first page, least recently used evicted first
+    private final Map<String, CachedPage> hotPrefixes = Collections.synchronizedMap(
+            new LinkedHashMap<String, CachedPage>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedPage> eldest) {
+                    return size() > HOT_PREFIX_CACHE_SIZE;
+                }
+            });
+
+    @Inject
+    public SearchIndexFirestoreRepository(FirebaseFirestore firestoreInstance) {
+        super(firestoreInstance, COLLECTION_PATH, SearchTerm.class);
+        this.firestore = firestoreInstance;
+    }
+
+    @Override
+    protected String getEntityId(SearchTerm entity) {
+        return documentId(entity.getToken(), entity.getEntityKey());
+    }
+
+    // --- Index maintenance ---
+
+    /**
+     * Indexes (or re-indexes) an entity under the tokens of its title.
+     * @param entity The entity as it is shown in search results (ID, type, title, ...).
+     * @return Task that completes when the postings are written.
+     */
+    public Task<Void> index(SearchResult entity) {
+        if (entity == null || entity.getId() == null) {
+            return Tasks.forResult(null);
+        }
+        final String key = SearchTerm.keyOf(entity.getType(), entity.getId());
+        final String signature = entity.getTitle() + "\n" + entity.getSubtitle() + "\n" +
+                entity.getCode() + "\n" + entity.getSportId();
+        if (signature.equals(indexedSignatures.put(key, signature))) {
+            return Tasks.forResult(null);
+        }
+
+        final String normalizedTitle = SearchTokenizer.normalize(entity.getTitle());
+        final Map<String, Long> terms = SearchTokenizer.terms(entity.getTitle());
+        Task<Void> write = collectionReference.whereEqualTo("entityKey", key).get().continueWithTask(task -> {
+            WriteBatch batch = firestore.batch();
+            if (task.isSuccessful() && task.getResult() != null) {
+                for (DocumentSnapshot doc : task.getResult().getDocuments()) {
+                    if (!terms.containsKey(doc.getString("token"))) {
+                        batch.delete(doc.getReference()); // Token of a previous name
+                    }
+                }
+            }
+            for (Map.Entry<String, Long> term : terms.entrySet()) {
+                SearchTerm posting = new SearchTerm(term.getKey(), term.getValue(), normalizedTitle, entity);
+                batch.set(collectionReference.document(documentId(term.getKey(), key)), posting);
+            }
+            hotPrefixes.clear();
+            return batch.commit();
+        });
+        // Retry with the next write if this one is rejected
+        write.addOnFailureListener(e -> indexedSignatures.remove(key, signature));
+        return write;
+    }
+
+    /**
+     * Removes all postings of a deleted entity.
+     * @param type SearchResult.TYPE_* of the entity.
+     * @param entityId The entity ID.
+     * @return Task that completes when the postings are deleted.
+     */
+    public Task<Void> remove(int type, String entityId) {
+        String key = SearchTerm.keyOf(type, entityId);
+        indexedSignatures.remove(key);
+        return collectionReference.whereEqualTo("entityKey", key).get().continueWithTask(task -> {
+            if (!task.isSuccessful() || task.getResult() == null || task.getResult().isEmpty()) {
+                return Tasks.forResult(null);
+            }
+            WriteBatch batch = firestore.batch();
+            for (DocumentSnapshot doc : task.getResult().getDocuments()) {
+                batch.delete(doc.getReference());
+            }
+            hotPrefixes.clear();
+            return batch.commit();
+        });
+    }
+
+    // --- Queries ---
+
+    /**
+     * Returns the first page of a query from memory, without any read.
+     * @param query The query as typed.
+     * @return The cached page, or null if the query has to be read from the index.
+     */
+    public Page<SearchResult> getCachedFirstPage(String query) {
+        List<String> words = SearchTokenizer.words(query);
+        if (words.isEmpty()) {
+            return new Page<>(new ArrayList<>(), null);
+        }
+        String normalized = String.join(" ", words);
+        long now = System.currentTimeMillis();
+
+        synchronized (hotPrefixes) {
+            CachedPage exact = hotPrefixes.get(normalized);
+            if (exact != null && exact.isFresh(now)) {
+                return exact.page;
+            }
+            // A complete result of a shorter prefix already contains every match
+            CachedPage best = null;
+            String bestQuery = null;
+            for (Map.Entry<String, CachedPage> entry : hotPrefixes.entrySet()) {
+                CachedPage cached = entry.getValue();
+                if (!cached.page.hasMore() && cached.isFresh(now) && normalized.startsWith(entry.getKey())
+                        && (bestQuery == null || entry.getKey().length() > bestQuery.length())) {
+                    best = cached;
+                    bestQuery = entry.getKey();
+                }
+            }
+            if (best == null) {
+                return null;
+            }
+            List<SearchResult> narrowed = new ArrayList<>();
+            for (SearchResult result : best.page.getItems()) {
+                if (SearchTokenizer.matchesAll(SearchTokenizer.normalize(result.getTitle()), words)) {
+                    narrowed.add(result);
+                }
+            }
+            Page<SearchResult> page = new Page<>(narrowed, null);
+            hotPrefixes.put(normalized, new CachedPage(page, best.createdAt));
+            return page;
+        }
+    }
+
+    /**
+     * Searches the index, best matches first.
+     * @param query The query as typed (one or more words or prefixes).
+     * @param pageSize The maximum number of postings read for the page.
+     * @param cursor The cursor of the previous page, or null for the first page.
+     * @return Task holding the page of results.
+     */
+    public Task<Page<SearchResult>> search(String query, int pageSize, PageCursor cursor) {
+        if (cursor == null) {
+            Page<SearchResult> cached = getCachedFirstPage(query);
+            if (cached != null) {
+                return Tasks.forResult(cached);
+            }
+        }
+        final List<String> words = SearchTokenizer.words(query);
+        String lead = SearchTokenizer.leadToken(words);
+        if (lead == null) {
+            return Tasks.forResult(new Page<>(new ArrayList<>(), null));
+        }
+
+        PageQuery pageQuery = PageQuery.orderBy("score").descending().whereEqualTo("token", lead);
+        return getPage(pageQuery, pageSize, cursor).continueWith(task -> {
+            if (!task.isSuccessful()) {
+                throw task.getException();
+            }
+            Page<SearchTerm> postings = task.getResult();
+            List<SearchResult> results = new ArrayList<>();
+            for (SearchTerm posting : postings.getItems()) {
+                if (words.size() > 1 && !SearchTokenizer.matchesAll(posting.getNormalizedTitle(), words)) {
+                    continue;
+                }
+                results.add(posting.toResult());
+            }
+            Page<SearchResult> page = new Page<>(results, postings.getNextCursor());
+            if (cursor == null) {
+                hotPrefixes.put(String.join(" ", words), new CachedPage(page, System.currentTimeMillis()));
+            }
+            return page;
+        });
+    }
+
+    private static String documentId(String token, String entityKey) {
+        return token + "|" + entityKey;
+    }
+
+    private static class CachedPage {
+        final Page<SearchResult> page;
+        final long createdAt;
+
+        CachedPage(Page<SearchResult> page, long createdAt) {
+            this.page = page;
+            this.createdAt = createdAt;
+        }
+
+        boolean isFresh(long now) {
+            return now - createdAt < HOT_PREFIX_TTL_MS;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.example.tournafy.domain.models.series.Series; // Uses the Series model
+import com.example.tournafy.domain.models.search.SearchResult;
 import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -19,8 +20,9 @@ public class SeriesFirestoreRepository extends FirestoreRepository<Series> {
     public static final String COLLECTION_PATH = "series";
 
     @Inject
-    public SeriesFirestoreRepository(FirebaseFirestore firestoreInstance) {
+    public SeriesFirestoreRepository(FirebaseFirestore firestoreInstance, SearchIndexFirestoreRepository searchIndex) {
         super(firestoreInstance, COLLECTION_PATH, Series.class);
+        enableSearchIndex(searchIndex, SearchResult.TYPE_SERIES);
     }
 
     @Override
@@ -28,6 +30,14 @@ public class SeriesFirestoreRepository extends FirestoreRepository<Series> {
         return entity.getEntityId();
     }
 
+    @Override
+    protected SearchResult toSearchResult(Series entity) {
+        SearchResult result = new SearchResult(entity.getEntityId(), SearchResult.TYPE_SERIES, entity.getName(), "Series");
+        result.setCode(entity.getVisibilityLink());
+        result.setSportId(entity.getSportId());
+        return result;
+    }
+
     @Override
     public com.google.android.gms.tasks.Task<Void> add(Series entity) {
         // If the entity doesn't have an ID, create one.
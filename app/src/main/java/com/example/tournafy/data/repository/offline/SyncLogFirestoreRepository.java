@@ -1,7 +1,14 @@
 package com.example.tournafy.data.repository.offline;
 
+import androidx.lifecycle.LiveData;
+import com.google.android.gms.tasks.Task;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.ListenerRegistration;
+import com.google.firebase.firestore.Query;
+import com.example.tournafy.data.repository.SnapshotDecoder;
 import com.example.tournafy.domain.models.sync.SyncLog;
+import java.util.ArrayList;
+import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -23,9 +30,55 @@ public class SyncLogFirestoreRepository extends FirestoreRepository<SyncLog> {
     @Override
     public com.google.android.gms.tasks.Task<Void> add(SyncLog entity) {
         if (entity.getSyncId() == null || entity.getSyncId().isEmpty()) {
-            String newId = collectionReference.document().getId();
-            entity.setSyncId(newId);
+            entity.setSyncId(newSyncId());
         }
         return addOrUpdateWithId(entity.getSyncId(), entity);
     }
-}
\ No newline at end of file
+
+    /**
+     * @return A new, unused sync log ID (no read or write).
+     */
+    public String newSyncId() {
+        return collectionReference.document().getId();
+    }
+
+    /**
+     * Gets the sync logs that are not synced yet (pending or failed), live.
+     * @return LiveData holding the unsynced logs, oldest first.
+     */
+    public LiveData<List<SyncLog>> getPendingSyncs() {
+        return share("pending", target -> {
+            SnapshotDecoder<List<SyncLog>> decoder = newDecoder(target);
+            ListenerRegistration registration = pendingQuery().addSnapshotListener((snapshots, e) -> {
+                if (e != null) {
+                    decoder.post(null);
+                    return;
+                }
+                if (snapshots != null) {
+                    target.recordReads(snapshots.getDocumentChanges().size());
+                    decoder.submit(() -> snapshots.toObjects(SyncLog.class));
+                }
+            });
+            return registration::remove;
+        });
+    }
+
+    /**
+     * Gets the sync logs that are not synced yet, once. Used to reload the sync outbox
+     * on startup.
+     * @return Task holding the unsynced logs, oldest first.
+     */
+    public Task<List<SyncLog>> getPendingSyncsOnce() {
+        return pendingQuery().get().continueWith(task -> {
+            if (!task.isSuccessful() || task.getResult() == null) {
+                return new ArrayList<>();
+            }
+            return task.getResult().toObjects(SyncLog.class);
+        });
+    }
+
+    private Query pendingQuery() {
+        return collectionReference.whereEqualTo("synced", false)
+                .orderBy("createdAt", Query.Direction.ASCENDING);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.tournafy.data.repository.offline;
+
+import com.example.tournafy.domain.models.sync.SyncWatermark;
+import com.google.firebase.firestore.FirebaseFirestore;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Offline store of the download watermarks of online entities ("sync_watermarks",
+ * see SyncWatermark). Written by the sync service in the batch of the pulled data.
+ */
+@Singleton
+public class SyncWatermarkFirestoreRepository extends FirestoreRepository<SyncWatermark> {
+
+    public static final String COLLECTION_PATH = "sync_watermarks";
+
+    @Inject
+    public SyncWatermarkFirestoreRepository(FirebaseFirestore firestoreInstance) {
+        super(firestoreInstance, COLLECTION_PATH, SyncWatermark.class);
+    }
+
+    @Override
+    protected String getEntityId(SyncWatermark entity) {
+        return entity.getEntityId();
+    }
+}
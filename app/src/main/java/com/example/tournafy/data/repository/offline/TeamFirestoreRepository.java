@@ -2,6 +2,7 @@
 package com.example.tournafy.data.repository.offline;
 
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.example.tournafy.domain.models.search.SearchResult;
 import com.example.tournafy.domain.models.team.Team;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -12,8 +13,9 @@ public class TeamFirestoreRepository extends FirestoreRepository<Team> {
     public static final String COLLECTION_PATH = "teams";
 
     @Inject
-    public TeamFirestoreRepository(FirebaseFirestore firestoreInstance) {
+    public TeamFirestoreRepository(FirebaseFirestore firestoreInstance, SearchIndexFirestoreRepository searchIndex) {
         super(firestoreInstance, COLLECTION_PATH, Team.class);
+        enableSearchIndex(searchIndex, SearchResult.TYPE_TEAM);
     }
 
     @Override
@@ -21,6 +23,11 @@ public class TeamFirestoreRepository extends FirestoreRepository<Team> {
         return entity.getTeamId();
     }
 
+    @Override
+    protected SearchResult toSearchResult(Team entity) {
+        return new SearchResult(entity.getTeamId(), SearchResult.TYPE_TEAM, entity.getTeamName(), "Team");
+    }
+
     @Override
     public com.google.android.gms.tasks.Task<Void> add(Team entity) {
         if (entity.getTeamId() == null || entity.getTeamId().isEmpty()) {
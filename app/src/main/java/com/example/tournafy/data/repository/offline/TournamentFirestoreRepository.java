@@ -4,6 +4,7 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.example.tournafy.domain.models.tournament.Tournament; // Uses the Tournament model
+import com.example.tournafy.domain.models.search.SearchResult;
 import java.util.List;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -18,8 +19,9 @@ public class TournamentFirestoreRepository extends FirestoreRepository<Tournamen
     public static final String COLLECTION_PATH = "tournaments";
 
     @Inject
-    public TournamentFirestoreRepository(FirebaseFirestore firestoreInstance) {
+    public TournamentFirestoreRepository(FirebaseFirestore firestoreInstance, SearchIndexFirestoreRepository searchIndex) {
         super(firestoreInstance, COLLECTION_PATH, Tournament.class);
+        enableSearchIndex(searchIndex, SearchResult.TYPE_TOURNAMENT);
     }
 
     @Override
@@ -27,6 +29,14 @@ public class TournamentFirestoreRepository extends FirestoreRepository<Tournamen
         return entity.getEntityId();
     }
 
+    @Override
+    protected SearchResult toSearchResult(Tournament entity) {
+        SearchResult result = new SearchResult(entity.getEntityId(), SearchResult.TYPE_TOURNAMENT, entity.getName(), "Tournament");
+        result.setCode(entity.getVisibilityLink());
+        result.setSportId(entity.getSportId());
+        return result;
+    }
+
     @Override
     public com.google.android.gms.tasks.Task<Void> add(Tournament entity) {
         // If the entity doesn't have an ID, create one.
@@ -2,8 +2,10 @@ package com.example.tournafy.data.repository.offline;
 
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
+import com.example.tournafy.data.repository.ListenerRegistry;
 import com.google.android.gms.tasks.Task;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.ListenerRegistration;
 import com.google.firebase.firestore.Query;
 import com.example.tournafy.domain.models.tournament.TournamentMatch;
 
@@ -24,6 +26,7 @@ public class TournamentMatchFirestoreRepository {
     private static final String TOURNAMENT_MATCHES_SUBCOLLECTION = "tournament_matches";
     
     private final FirebaseFirestore firestore;
+    private final ListenerRegistry listeners = new ListenerRegistry();
 
     @Inject
     public TournamentMatchFirestoreRepository(FirebaseFirestore firestoreInstance) {
@@ -96,43 +99,43 @@ public class TournamentMatchFirestoreRepository {
      * Get all matches for a tournament
      */
     public LiveData<List<TournamentMatch>> getAllForTournament(String tournamentId) {
-        MutableLiveData<List<TournamentMatch>> liveData = new MutableLiveData<>();
-        
-        getTournamentMatchesCollection(tournamentId)
-                .orderBy("matchOrder", Query.Direction.ASCENDING)
-                .addSnapshotListener((snapshots, e) -> {
-                    if (e != null) {
-                        liveData.setValue(null);
-                        return;
-                    }
-                    if (snapshots != null) {
-                        liveData.setValue(snapshots.toObjects(TournamentMatch.class));
-                    }
-                });
-        
-        return liveData;
+        return listeners.share("firestore/tournaments/" + tournamentId + "/tournament_matches/all", target -> {
+            ListenerRegistration registration = getTournamentMatchesCollection(tournamentId)
+                    .orderBy("matchOrder", Query.Direction.ASCENDING)
+                    .addSnapshotListener((snapshots, e) -> {
+                        if (e != null) {
+                            target.setValue(null);
+                            return;
+                        }
+                        if (snapshots != null) {
+                            target.recordReads(snapshots.getDocumentChanges().size());
+                            target.setValue(snapshots.toObjects(TournamentMatch.class));
+                        }
+                    });
+            return registration::remove;
+        });
     }
 
     /**
      * Get all matches for a specific stage
      */
     public LiveData<List<TournamentMatch>> getMatchesByStage(String tournamentId, String stageId) {
-        MutableLiveData<List<TournamentMatch>> liveData = new MutableLiveData<>();
-        
-        getTournamentMatchesCollection(tournamentId)
-                .whereEqualTo("stageId", stageId)
-                .orderBy("matchOrder", Query.Direction.ASCENDING)
-                .addSnapshotListener((snapshots, e) -> {
-                    if (e != null) {
-                        liveData.setValue(null);
-                        return;
-                    }
-                    if (snapshots != null) {
-                        liveData.setValue(snapshots.toObjects(TournamentMatch.class));
-                    }
-                });
-        
-        return liveData;
+        return listeners.share("firestore/tournaments/" + tournamentId + "/tournament_matches/stage/" + stageId, target -> {
+            ListenerRegistration registration = getTournamentMatchesCollection(tournamentId)
+                    .whereEqualTo("stageId", stageId)
+                    .orderBy("matchOrder", Query.Direction.ASCENDING)
+                    .addSnapshotListener((snapshots, e) -> {
+                        if (e != null) {
+                            target.setValue(null);
+                            return;
+                        }
+                        if (snapshots != null) {
+                            target.recordReads(snapshots.getDocumentChanges().size());
+                            target.setValue(snapshots.toObjects(TournamentMatch.class));
+                        }
+                    });
+            return registration::remove;
+        });
     }
 
     /**
@@ -2,8 +2,10 @@ package com.example.tournafy.data.repository.offline;
 
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
+import com.example.tournafy.data.repository.ListenerRegistry;
 import com.google.android.gms.tasks.Task;
 import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.ListenerRegistration;
 import com.google.firebase.firestore.Query;
 import com.example.tournafy.domain.models.team.TournamentTeam;
 
@@ -23,6 +25,7 @@ public class TournamentTeamFirestoreRepository {
     private static final String TEAMS_SUBCOLLECTION = "teams";
     
     private final FirebaseFirestore firestore;
+    private final ListenerRegistry listeners = new ListenerRegistry();
 
     @Inject
     public TournamentTeamFirestoreRepository(FirebaseFirestore firestoreInstance) {
@@ -95,20 +98,20 @@ public class TournamentTeamFirestoreRepository {
      * Get all teams for a tournament
      */
     public LiveData<List<TournamentTeam>> getAllForTournament(String tournamentId) {
-        MutableLiveData<List<TournamentTeam>> liveData = new MutableLiveData<>();
-        
-        getTeamsCollection(tournamentId)
-                .addSnapshotListener((snapshots, e) -> {
-                    if (e != null) {
-                        liveData.setValue(null);
-                        return;
-                    }
-                    if (snapshots != null) {
-                        liveData.setValue(snapshots.toObjects(TournamentTeam.class));
-                    }
-                });
-        
-        return liveData;
+        return listeners.share("firestore/tournaments/" + tournamentId + "/teams/all", target -> {
+            ListenerRegistration registration = getTeamsCollection(tournamentId)
+                    .addSnapshotListener((snapshots, e) -> {
+                        if (e != null) {
+                            target.setValue(null);
+                            return;
+                        }
+                        if (snapshots != null) {
+                            target.recordReads(snapshots.getDocumentChanges().size());
+                            target.setValue(snapshots.toObjects(TournamentTeam.class));
+                        }
+                    });
+            return registration::remove;
+        });
     }
 
     /**
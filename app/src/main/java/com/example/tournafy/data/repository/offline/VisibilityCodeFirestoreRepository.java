@@ -0,0 +1,206 @@
+package com.example.tournafy.data.repository.offline;
+
+import com.example.tournafy.domain.models.base.HostedEntity;
+import com.example.tournafy.domain.models.search.VisibilityCode;
+import com.example.tournafy.utils.LinkGenerator;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.AggregateQuerySnapshot;
+import com.google.firebase.firestore.AggregateSource;
+import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * The "codes" index collection: codes/{normalized code} -> entity type and ID.
+ *
+ * Codes are registered wherever a visibility link is generated (HostingService,
+ * MatchViewModel), so looking up a match, tournament or series by its code is a
+ * single document read. backfillCodes() indexes entities saved before the index existed.
+ */
+@Singleton
+public class VisibilityCodeFirestoreRepository extends FirestoreRepository<VisibilityCode> {
+
+    public static final String COLLECTION_PATH = "codes";
+
+    private final FirebaseFirestore firestore;
+
+    @Inject
+    public VisibilityCodeFirestoreRepository(FirebaseFirestore firestoreInstance) {
+        super(firestoreInstance, COLLECTION_PATH, VisibilityCode.class);
+        this.firestore = firestoreInstance;
+    }
+
+    @Override
+    protected String getEntityId(VisibilityCode entity) {
+        return entity.getCode();
+    }
+
+    /**
+     * Indexes the visibility link of an entity. Call after generating the link.
+     * @param entity The match, tournament or series.
+     * @return Task that completes when the index entry is written.
+     */
+    public Task<Void> register(HostedEntity entity) {
+        VisibilityCode entry = entryFor(entity.getVisibilityLink(), entity.getEntityType(),
+                entity.getEntityId(), entity.getHostUserId());
+        if (entry == null) {
+            return Tasks.forResult(null);
+        }
+        return addOrUpdateWithId(entry.getCode(), entry);
+    }
+
+    /**
+     * Removes the index entry of a deleted entity.
+     * @param entity The deleted match (summary), tournament or series.
+     * @return Task that completes when the entry is deleted.
+     */
+    public Task<Void> unregister(HostedEntity entity) {
+        String code = LinkGenerator.normalizeCode(entity.getVisibilityLink());
+        if (code == null) {
+            return Tasks.forResult(null);
+        }
+        return delete(code);
+    }
+
+    /**
+     * Resolves a code as typed by the user or taken from a deep link.
+     * @param code The code, with or without hyphens, in any case.
+     * @return Task holding the index entry, or null if the code is unknown.
+     */
+    public Task<VisibilityCode> lookup(String code) {
+        String normalized = LinkGenerator.normalizeCode(code);
+        if (normalized == null) {
+            return Tasks.forResult(null);
+        }
+        return collectionReference.document(normalized).get().continueWith(task -> {
+            if (task.isSuccessful() && task.getResult() != null && task.getResult().exists()) {
+                return task.getResult().toObject(VisibilityCode.class);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Migration for documents saved before the index existed: if a host has fewer codes
+     * than matches, tournaments and series (server-side counts, no document reads), loads
+     * them once and writes the missing codes. Entities that never got a visibility link
+     * get one generated, like MatchViewModel does when such a match is opened.
+     *
+     * Matches are read from their summaries, so run this after backfillSummaries().
+     *
+     * @param hostId The host whose entities to index, or null for all.
+     * @return Task holding the number of codes written (0 when offline).
+     */
+    public Task<Integer> backfillCodes(String hostId) {
+        List<CollectionReference> sources = new ArrayList<>();
+        sources.add(firestore.collection(MatchSummaryFirestoreRepository.COLLECTION_PATH));
+        sources.add(firestore.collection(TournamentFirestoreRepository.COLLECTION_PATH));
+        sources.add(firestore.collection(SeriesFirestoreRepository.COLLECTION_PATH));
+
+        Query codes = byHost(collectionReference, hostId);
+        Task<AggregateQuerySnapshot> codeCount = codes.count().get(AggregateSource.SERVER);
+        List<Task<AggregateQuerySnapshot>> entityCounts = new ArrayList<>();
+        for (CollectionReference source : sources) {
+            entityCounts.add(byHost(source, hostId).count().get(AggregateSource.SERVER));
+        }
+        List<Task<?>> counts = new ArrayList<>(entityCounts);
+        counts.add(codeCount);
+
+        return Tasks.whenAll(counts).continueWithTask(counted -> {
+            if (!counted.isSuccessful()) {
+                // Offline: counts need the server, try again next time
+                return Tasks.forResult(0);
+            }
+            long entities = 0;
+            for (Task<AggregateQuerySnapshot> count : entityCounts) {
+                entities += count.getResult().getCount();
+            }
+            if (entities <= codeCount.getResult().getCount()) {
+                return Tasks.forResult(0);
+            }
+
+            Task<QuerySnapshot> existing = codes.get();
+            List<Task<QuerySnapshot>> loads = new ArrayList<>();
+            for (CollectionReference source : sources) {
+                loads.add(byHost(source, hostId).get());
+            }
+            List<Task<?>> all = new ArrayList<>(loads);
+            all.add(existing);
+
+            return Tasks.whenAll(all).continueWithTask(loaded -> {
+                if (!loaded.isSuccessful()) {
+                    return Tasks.forException(loaded.getException());
+                }
+                Set<String> indexed = new HashSet<>();
+                for (DocumentSnapshot doc : existing.getResult().getDocuments()) {
+                    indexed.add(doc.getId());
+                }
+                List<Task<Void>> commits = new ArrayList<>();
+                WriteBatch batch = firestore.batch();
+                int ops = 0;
+                int written = 0;
+                for (Task<QuerySnapshot> load : loads) {
+                    for (DocumentSnapshot doc : load.getResult().getDocuments()) {
+                        String link = doc.getString("visibilityLink");
+                        boolean generated = link == null || link.isEmpty();
+                        if (generated) {
+                            link = LinkGenerator.generateLink(doc.getString("name"), doc.getId());
+                        }
+                        VisibilityCode entry = entryFor(link, doc.getString("entityType"),
+                                doc.getId(), doc.getString("hostUserId"));
+                        if (entry == null || indexed.contains(entry.getCode())) continue;
+
+                        batch.set(collectionReference.document(entry.getCode()), entry);
+                        ops++;
+                        if (generated) {
+                            batch.update(doc.getReference(), "visibilityLink", link);
+                            ops++;
+                            if ("MATCH".equals(entry.getEntityType())) {
+                                // The summary was found; write the link into the match too
+                                batch.update(firestore.collection(MatchFirestoreRepository.COLLECTION_PATH)
+                                        .document(doc.getId()), "visibilityLink", link);
+                                ops++;
+                            }
+                        }
+                        indexed.add(entry.getCode());
+                        written++;
+                        // Firestore allows at most 500 writes per batch
+                        if (ops >= 450) {
+                            commits.add(batch.commit());
+                            batch = firestore.batch();
+                            ops = 0;
+                        }
+                    }
+                }
+                android.util.Log.d("VisibilityCodeRepo", "Backfilled " + written + " codes");
+                commits.add(batch.commit());
+                final int total = written;
+                return Tasks.whenAll(commits).continueWith(task -> total);
+            });
+        });
+    }
+
+    private static Query byHost(CollectionReference collection, String hostId) {
+        return hostId != null ? collection.whereEqualTo("hostUserId", hostId) : collection;
+    }
+
+    private static VisibilityCode entryFor(String link, String entityType, String entityId, String hostUserId) {
+        String code = LinkGenerator.normalizeCode(link);
+        if (code == null || entityId == null) {
+            return null;
+        }
+        return new VisibilityCode(code, link, entityType, entityId, hostUserId);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.tournafy.data.repository.offline.codec;
+
+import com.example.tournafy.domain.models.base.Match;
+import com.google.firebase.Timestamp;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Registry of MatchCodecs keyed by sportId.
+ *
+ * Decoding dispatches on the "sportId" field of the document with a single map
+ * lookup; unknown sports and malformed documents yield null instead of an exception,
+ * so the snapshot listeners never pay for a failed reflective pass.
+ */
+@Singleton
+public class MatchCodecRegistry {
+
+    // The codecs live in the engine and know nothing of Firestore's Timestamp
+    private static final Function<Object, Date> FIRESTORE_DATES =
+        value -> value instanceof Timestamp ? ((Timestamp) value).toDate() : null;
+
+    private final Map<String, MatchCodec<? extends Match>> codecs = new HashMap<>();
+
+    @Inject
+    public MatchCodecRegistry() {
+        register(new CricketMatchCodec(FIRESTORE_DATES));
+        register(new FootballMatchCodec(FIRESTORE_DATES));
+    }
+
+    /**
+     * Adds (or replaces) the codec for its sportId.
+     */
+    public void register(MatchCodec<? extends Match> codec) {
+        codecs.put(codec.getSportId(), codec);
+    }
+
+    public boolean supports(String sportId) {
+        return sportId != null && codecs.containsKey(sportId);
+    }
+
+    /**
+     * Decodes a match document into its concrete Match subclass.
+     *
+     * @param data The document data.
+     * @return The match, or null if the data is missing or the sport has no codec.
+     */
+    public Match decode(Map<String, Object> data) {
+        if (data == null) return null;
+        Object sportId = data.get("sportId");
+        MatchCodec<? extends Match> codec = sportId instanceof String ? codecs.get(sportId) : null;
+        return codec != null ? codec.decode(data) : null;
+    }
+
+    /**
+     * Encodes a match into the document written to Firestore.
+     *
+     * @param match The match to encode.
+     * @return The document data, or null if no codec handles the match
+     *         (callers then fall back to the Firestore object mapper).
+     */
+    public Map<String, Object> encode(Match match) {
+        MatchCodec<? extends Match> codec = codecFor(match);
+        return codec != null ? encodeWith(codec, match) : null;
+    }
+
+    /**
+     * Encodes a value recorded in a MatchDelta the way the codec of the match writes it.
+     *
+     * @param match The match the value belongs to.
+     * @param value The nested value (list, stats entry, event...).
+     * @return The encoded value, or the value itself when no codec handles the match.
+     */
+    public Object encodeValue(Match match, Object value) {
+        MatchCodec<? extends Match> codec = codecFor(match);
+        return codec != null ? codec.encodeValue(value) : value;
+    }
+
+    /**
+     * Encodes a field recorded in a MatchDelta the way the codec of the match writes it.
+     *
+     * @param match The match the field belongs to.
+     * @param field The top-level field name.
+     * @param value The field value.
+     * @return The encoded value, or the value itself when no codec handles the match.
+     */
+    public Object encodeField(Match match, String field, Object value) {
+        MatchCodec<? extends Match> codec = codecFor(match);
+        return codec != null ? codec.encodeField(field, value) : value;
+    }
+
+    private MatchCodec<? extends Match> codecFor(Match match) {
+        if (match == null || match.getSportId() == null) return null;
+        MatchCodec<? extends Match> codec = codecs.get(match.getSportId());
+        return codec != null && codec.getMatchClass().isInstance(match) ? codec : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <M extends Match> Map<String, Object> encodeWith(MatchCodec<M> codec, Match match) {
+        // Safe: codecFor() checked that match is an instance of the codec's class
+        return codec.encode((M) match);
+    }
+}
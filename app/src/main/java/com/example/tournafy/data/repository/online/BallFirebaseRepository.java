@@ -1,16 +1,13 @@
 package com.example.tournafy.data.repository.online;
 
 import androidx.lifecycle.LiveData;
-import androidx.lifecycle.MutableLiveData;
 import com.google.android.gms.tasks.Task;
-import com.google.firebase.database.DataSnapshot;
-import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
-import com.google.firebase.database.Query;
-import com.google.firebase.database.ValueEventListener;
+import com.example.tournafy.data.repository.ListUpdate;
 import com.example.tournafy.domain.models.match.cricket.Ball;
 
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -23,15 +20,42 @@ import javax.inject.Singleton;
  * CRITICAL DESIGN: Each ball is stored as a separate document for scalability.
  * This allows viewers to receive real-time updates for each ball without
  * re-downloading the entire match object, similar to ESPN Cricinfo's live ball-by-ball.
+ *
+ * Lists are streamed with child listeners (see stream()): a new ball costs viewers one
+ * ball of download and decoding, however long the match is. Wickets and boundaries are
+ * also indexed per match under "ball_index/{matchId}/wickets" and ".../boundaries",
+ * written by the sync outbox with the ball itself, so those lists never scan the match.
  */
 @Singleton
 public class BallFirebaseRepository extends FirebaseRepository<Ball> {
 
     public static final String DATABASE_PATH = "balls";
+    public static final String INDEX_PATH = "ball_index";
+    public static final String WICKETS = "wickets";
+    public static final String BOUNDARIES = "boundaries";
+
+    /** Innings, over, then ball number. */
+    public static final Comparator<Ball> BALL_ORDER = Comparator
+            .comparingInt(Ball::getInningsNumber)
+            .thenComparingInt(Ball::getOverNumber)
+            .thenComparingInt(Ball::getBallNumber);
+
+    private final DatabaseReference indexReference;
 
     @Inject
     public BallFirebaseRepository(FirebaseDatabase firebaseDatabase) {
         super(firebaseDatabase, DATABASE_PATH, Ball.class);
+        this.indexReference = firebaseDatabase.getReference(INDEX_PATH);
+    }
+
+    /**
+     * @param matchId The match ID.
+     * @param index WICKETS or BOUNDARIES.
+     * @param ballId The ball ID.
+     * @return Path of a ball's entry in an index node, relative to the database root.
+     */
+    public static String indexPath(String matchId, String index, String ballId) {
+        return INDEX_PATH + "/" + matchId + "/" + index + "/" + ballId;
     }
 
     @Override
@@ -48,116 +72,75 @@ public class BallFirebaseRepository extends FirebaseRepository<Ball> {
         return addOrUpdateWithId(entity.getBallId(), entity);
     }
 
+    // --- STREAMS ---
+
+    /**
+     * Streams the balls of an over as ranged updates.
+     * @param overId The over ID.
+     */
+    public LiveData<ListUpdate<Ball>> streamBallsByOverId(String overId) {
+        return stream("over/" + overId, databaseReference.orderByChild("overId").equalTo(overId), BALL_ORDER);
+    }
+
+    /**
+     * Streams the balls of an innings as ranged updates.
+     * @param inningsId The innings ID.
+     */
+    public LiveData<ListUpdate<Ball>> streamBallsByInningsId(String inningsId) {
+        return stream("innings/" + inningsId, databaseReference.orderByChild("inningsId").equalTo(inningsId), BALL_ORDER);
+    }
+
+    /**
+     * Streams the balls of a match as ranged updates.
+     * @param matchId The match ID.
+     */
+    public LiveData<ListUpdate<Ball>> streamBallsByMatchId(String matchId) {
+        return stream("match/" + matchId, databaseReference.orderByChild("matchId").equalTo(matchId), BALL_ORDER);
+    }
+
+    /**
+     * Streams the wicket balls of a match from its index node.
+     * @param matchId The match ID.
+     */
+    public LiveData<ListUpdate<Ball>> streamWicketBalls(String matchId) {
+        return stream("wickets/" + matchId, indexReference.child(matchId).child(WICKETS), BALL_ORDER);
+    }
+
+    /**
+     * Streams the boundary balls of a match from its index node.
+     * @param matchId The match ID.
+     */
+    public LiveData<ListUpdate<Ball>> streamBoundaryBalls(String matchId) {
+        return stream("boundaries/" + matchId, indexReference.child(matchId).child(BOUNDARIES), BALL_ORDER);
+    }
+
+    // --- LISTS ---
+
     /**
      * Gets all balls for a specific over with real-time updates.
      * @param overId The over ID.
      * @return LiveData holding a list of balls ordered by ball number.
      */
     public LiveData<List<Ball>> getBallsByOverId(String overId) {
-        MutableLiveData<List<Ball>> liveData = new MutableLiveData<>();
-        
-        Query query = databaseReference.orderByChild("overId").equalTo(overId);
-        
-        query.addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<Ball> balls = new ArrayList<>();
-                for (DataSnapshot childSnapshot : snapshot.getChildren()) {
-                    Ball ball = childSnapshot.getValue(Ball.class);
-                    if (ball != null) {
-                        balls.add(ball);
-                    }
-                }
-                // Sort by ball number
-                balls.sort((b1, b2) -> Integer.compare(b1.getBallNumber(), b2.getBallNumber()));
-                liveData.setValue(balls);
-            }
-
-            @Override
-            public void onCancelled(DatabaseError error) {
-                liveData.setValue(null);
-            }
-        });
-        
-        return liveData;
+        return asList(streamBallsByOverId(overId));
     }
 
     /**
      * Gets all balls for a specific innings with real-time updates.
      * @param inningsId The innings ID.
-     * @return LiveData holding a list of balls.
+     * @return LiveData holding a list of balls ordered by over, then ball number.
      */
     public LiveData<List<Ball>> getBallsByInningsId(String inningsId) {
-        MutableLiveData<List<Ball>> liveData = new MutableLiveData<>();
-        
-        Query query = databaseReference.orderByChild("inningsId").equalTo(inningsId);
-        
-        query.addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<Ball> balls = new ArrayList<>();
-                for (DataSnapshot childSnapshot : snapshot.getChildren()) {
-                    Ball ball = childSnapshot.getValue(Ball.class);
-                    if (ball != null) {
-                        balls.add(ball);
-                    }
-                }
-                // Sort by over number, then ball number
-                balls.sort((b1, b2) -> {
-                    int overCompare = Integer.compare(b1.getOverNumber(), b2.getOverNumber());
-                    if (overCompare != 0) return overCompare;
-                    return Integer.compare(b1.getBallNumber(), b2.getBallNumber());
-                });
-                liveData.setValue(balls);
-            }
-
-            @Override
-            public void onCancelled(DatabaseError error) {
-                liveData.setValue(null);
-            }
-        });
-        
-        return liveData;
+        return asList(streamBallsByInningsId(inningsId));
     }
 
     /**
      * Gets all balls for a specific match with real-time updates.
      * @param matchId The match ID.
-     * @return LiveData holding a list of balls.
+     * @return LiveData holding a list of balls ordered by innings, over, then ball number.
      */
     public LiveData<List<Ball>> getBallsByMatchId(String matchId) {
-        MutableLiveData<List<Ball>> liveData = new MutableLiveData<>();
-        
-        Query query = databaseReference.orderByChild("matchId").equalTo(matchId);
-        
-        query.addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<Ball> balls = new ArrayList<>();
-                for (DataSnapshot childSnapshot : snapshot.getChildren()) {
-                    Ball ball = childSnapshot.getValue(Ball.class);
-                    if (ball != null) {
-                        balls.add(ball);
-                    }
-                }
-                // Sort by innings, over, then ball number
-                balls.sort((b1, b2) -> {
-                    int inningsCompare = Integer.compare(b1.getInningsNumber(), b2.getInningsNumber());
-                    if (inningsCompare != 0) return inningsCompare;
-                    int overCompare = Integer.compare(b1.getOverNumber(), b2.getOverNumber());
-                    if (overCompare != 0) return overCompare;
-                    return Integer.compare(b1.getBallNumber(), b2.getBallNumber());
-                });
-                liveData.setValue(balls);
-            }
-
-            @Override
-            public void onCancelled(DatabaseError error) {
-                liveData.setValue(null);
-            }
-        });
-        
-        return liveData;
+        return asList(streamBallsByMatchId(matchId));
     }
 
     /**
@@ -166,35 +149,7 @@ public class BallFirebaseRepository extends FirebaseRepository<Ball> {
      * @return LiveData holding a list of wicket balls.
      */
     public LiveData<List<Ball>> getWicketBalls(String matchId) {
-        MutableLiveData<List<Ball>> liveData = new MutableLiveData<>();
-        
-        Query query = databaseReference.orderByChild("matchId").equalTo(matchId);
-        
-        query.addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<Ball> balls = new ArrayList<>();
-                for (DataSnapshot childSnapshot : snapshot.getChildren()) {
-                    Ball ball = childSnapshot.getValue(Ball.class);
-                    if (ball != null && ball.isWicket()) {
-                        balls.add(ball);
-                    }
-                }
-                balls.sort((b1, b2) -> {
-                    int inningsCompare = Integer.compare(b1.getInningsNumber(), b2.getInningsNumber());
-                    if (inningsCompare != 0) return inningsCompare;
-                    return Integer.compare(b1.getOverNumber(), b2.getOverNumber());
-                });
-                liveData.setValue(balls);
-            }
-
-            @Override
-            public void onCancelled(DatabaseError error) {
-                liveData.setValue(null);
-            }
-        });
-        
-        return liveData;
+        return asList(streamWicketBalls(matchId));
     }
 
     /**
@@ -203,34 +158,6 @@ public class BallFirebaseRepository extends FirebaseRepository<Ball> {
      * @return LiveData holding a list of boundary balls.
      */
     public LiveData<List<Ball>> getBoundaryBalls(String matchId) {
-        MutableLiveData<List<Ball>> liveData = new MutableLiveData<>();
-        
-        Query query = databaseReference.orderByChild("matchId").equalTo(matchId);
-        
-        query.addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<Ball> balls = new ArrayList<>();
-                for (DataSnapshot childSnapshot : snapshot.getChildren()) {
-                    Ball ball = childSnapshot.getValue(Ball.class);
-                    if (ball != null && ball.isBoundary()) {
-                        balls.add(ball);
-                    }
-                }
-                balls.sort((b1, b2) -> {
-                    int inningsCompare = Integer.compare(b1.getInningsNumber(), b2.getInningsNumber());
-                    if (inningsCompare != 0) return inningsCompare;
-                    return Integer.compare(b1.getOverNumber(), b2.getOverNumber());
-                });
-                liveData.setValue(balls);
-            }
-
-            @Override
-            public void onCancelled(DatabaseError error) {
-                liveData.setValue(null);
-            }
-        });
-        
-        return liveData;
+        return asList(streamBoundaryBalls(matchId));
     }
 }
@@ -2,16 +2,34 @@ package com.example.tournafy.data.repository.online;
 
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Transformations;
 import com.google.android.gms.tasks.Task;
+import com.google.firebase.database.ChildEventListener;
 import com.google.firebase.database.DataSnapshot;
 import com.google.firebase.database.DatabaseError;
 import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.Query;
 import com.google.firebase.database.ValueEventListener;
+import com.example.tournafy.data.repository.DecodeMetrics;
+import com.example.tournafy.data.repository.ListUpdate;
+import com.example.tournafy.data.repository.ListenerRegistry;
+import com.example.tournafy.data.repository.LiveList;
+import com.example.tournafy.data.repository.Page;
+import com.example.tournafy.data.repository.PageCursor;
+import com.example.tournafy.data.repository.PageQuery;
+import com.example.tournafy.data.repository.RepositoryExecutors;
+import com.example.tournafy.data.repository.SharedListenerLiveData;
+import com.example.tournafy.data.repository.SnapshotDecoder;
 import com.example.tournafy.data.repository.interfaces.IRepository;
+import com.example.tournafy.data.repository.interfaces.PagedRepository;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 
 /**
  * Abstract base class for Firebase Realtime Database repositories (ONLINE storage).
@@ -26,10 +44,14 @@ import java.util.List;
  *
  * @param <T> The domain model type.
  */
-public abstract class FirebaseRepository<T> implements IRepository<T, String> {
+public abstract class FirebaseRepository<T> implements IRepository<T, String>, PagedRepository<T> {
 
     protected final DatabaseReference databaseReference;
     private final Class<T> modelClass;
+    private final Executor decodeExecutor;
+    private final DecodeMetrics decodeMetrics;
+    private final String path;
+    private final ListenerRegistry listeners = new ListenerRegistry();
 
     /**
      * @param firebaseDatabase The Firebase Realtime Database instance.
@@ -37,8 +59,22 @@ public abstract class FirebaseRepository<T> implements IRepository<T, String> {
      * @param modelClass The class type for deserialization.
      */
     public FirebaseRepository(FirebaseDatabase firebaseDatabase, String path, Class<T> modelClass) {
+        this(firebaseDatabase, path, modelClass, RepositoryExecutors.decodeExecutor());
+    }
+
+    /**
+     * @param firebaseDatabase The Firebase Realtime Database instance.
+     * @param path The database path (e.g., "matches", "tournaments").
+     * @param modelClass The class type for deserialization.
+     * @param decodeExecutor Background executor the listeners decode snapshots on.
+     */
+    public FirebaseRepository(FirebaseDatabase firebaseDatabase, String path, Class<T> modelClass,
+                              Executor decodeExecutor) {
         this.databaseReference = firebaseDatabase.getReference(path);
         this.modelClass = modelClass;
+        this.decodeExecutor = decodeExecutor;
+        this.decodeMetrics = DecodeMetrics.forCollection("rtdb/" + path);
+        this.path = path;
     }
 
     @Override
@@ -81,54 +117,275 @@ public abstract class FirebaseRepository<T> implements IRepository<T, String> {
 
     @Override
     public LiveData<T> getById(String id) {
-        MutableLiveData<T> liveData = new MutableLiveData<>();
-        
-        databaseReference.child(id).addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                if (snapshot.exists()) {
-                    T entity = snapshot.getValue(modelClass);
-                    liveData.setValue(entity);
-                } else {
-                    liveData.setValue(null);
+        return share("id/" + id, target -> {
+            SnapshotDecoder<T> decoder = newDecoder(target);
+            DatabaseReference reference = databaseReference.child(id);
+            ValueEventListener listener = reference.addValueEventListener(new ValueEventListener() {
+                @Override
+                public void onDataChange(DataSnapshot snapshot) {
+                    target.recordReads(1);
+                    if (snapshot.exists()) {
+                        // Deserialize off the main thread; only the entity is posted
+                        decoder.submit(() -> snapshot.getValue(modelClass));
+                    } else {
+                        decoder.post(null);
+                    }
                 }
-            }
 
-            @Override
-            public void onCancelled(DatabaseError error) {
-                // Handle error (could log or set error state)
-                liveData.setValue(null);
-            }
+                @Override
+                public void onCancelled(DatabaseError error) {
+                    // Handle error (could log or set error state)
+                    decoder.post(null);
+                }
+            });
+            return () -> reference.removeEventListener(listener);
         });
-        
-        return liveData;
     }
 
     @Override
     public LiveData<List<T>> getAll() {
-        MutableLiveData<List<T>> liveData = new MutableLiveData<>();
-        
-        databaseReference.addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<T> entities = new ArrayList<>();
-                for (DataSnapshot childSnapshot : snapshot.getChildren()) {
-                    T entity = childSnapshot.getValue(modelClass);
-                    if (entity != null) {
-                        entities.add(entity);
-                    }
+        return share("all", target -> {
+            SnapshotDecoder<List<T>> decoder = newDecoder(target);
+            ValueEventListener listener = databaseReference.addValueEventListener(new ValueEventListener() {
+                @Override
+                public void onDataChange(DataSnapshot snapshot) {
+                    target.recordReads(snapshot.getChildrenCount());
+                    decoder.submit(() -> {
+                        List<T> entities = new ArrayList<>();
+                        for (DataSnapshot childSnapshot : snapshot.getChildren()) {
+                            T entity = childSnapshot.getValue(modelClass);
+                            if (entity != null) {
+                                entities.add(entity);
+                            }
+                        }
+                        return entities;
+                    });
+                }
+
+                @Override
+                public void onCancelled(DatabaseError error) {
+                    // Handle error
+                    decoder.post(null);
                 }
-                liveData.setValue(entities);
+            });
+            return () -> databaseReference.removeEventListener(listener);
+        });
+    }
+
+    /**
+     * Loads one page with orderByChild + limitToFirst + startAt (limitToLast + endAt when
+     * descending). startAt/endAt are inclusive, so the entity at the cursor is requested
+     * again and dropped, and one extra entity tells whether another page exists.
+     * A filtered query is ordered by the filter child (then by key), since the Realtime
+     * Database orders by one child only. Order values must be strings, numbers or booleans.
+     */
+    @Override
+    public Task<Page<T>> getPage(PageQuery query, int pageSize, PageCursor cursor) {
+        final String orderChild = query.isFiltered() ? query.getFilterField() : query.getOrderField();
+        Object filterValue = query.getFilterValue();
+        int limit = pageSize + 1 + (cursor != null ? 1 : 0);
+
+        Query pageQuery = databaseReference.orderByChild(orderChild);
+        if (!query.isDescending()) {
+            if (cursor != null) {
+                pageQuery = startAt(pageQuery, cursor.getOrderValue(), cursor.getKey());
+            } else if (query.isFiltered()) {
+                pageQuery = startAt(pageQuery, filterValue, null);
             }
+            if (query.isFiltered()) {
+                pageQuery = endAt(pageQuery, filterValue, null);
+            }
+            pageQuery = pageQuery.limitToFirst(limit);
+        } else {
+            if (cursor != null) {
+                pageQuery = endAt(pageQuery, cursor.getOrderValue(), cursor.getKey());
+            } else if (query.isFiltered()) {
+                pageQuery = endAt(pageQuery, filterValue, null);
+            }
+            if (query.isFiltered()) {
+                pageQuery = startAt(pageQuery, filterValue, null);
+            }
+            pageQuery = pageQuery.limitToLast(limit);
+        }
+
+        return pageQuery.get().continueWith(decodeExecutor, task -> {
+            if (!task.isSuccessful()) {
+                throw task.getException();
+            }
+            List<DataSnapshot> children = new ArrayList<>();
+            for (DataSnapshot child : task.getResult().getChildren()) {
+                if (cursor != null && child.getKey() != null && child.getKey().equals(cursor.getKey())) {
+                    continue; // Already delivered with the previous page
+                }
+                children.add(child);
+            }
+            if (query.isDescending()) {
+                Collections.reverse(children);
+            }
+            boolean hasMore = children.size() > pageSize;
+            List<T> items = new ArrayList<>();
+            DataSnapshot last = null;
+            for (int i = 0; i < children.size() && i < pageSize; i++) {
+                last = children.get(i);
+                T item = last.getValue(modelClass);
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+            PageCursor next = hasMore && last != null
+                    ? new PageCursor(last.child(orderChild).getValue(), last.getKey(), null)
+                    : null;
+            return new Page<>(items, next);
+        });
+    }
+
+    private static Query startAt(Query query, Object value, String key) {
+        if (value instanceof Number) {
+            double number = ((Number) value).doubleValue();
+            return key != null ? query.startAt(number, key) : query.startAt(number);
+        }
+        if (value instanceof Boolean) {
+            boolean flag = (Boolean) value;
+            return key != null ? query.startAt(flag, key) : query.startAt(flag);
+        }
+        String text = value != null ? value.toString() : null;
+        return key != null ? query.startAt(text, key) : query.startAt(text);
+    }
+
+    private static Query endAt(Query query, Object value, String key) {
+        if (value instanceof Number) {
+            double number = ((Number) value).doubleValue();
+            return key != null ? query.endAt(number, key) : query.endAt(number);
+        }
+        if (value instanceof Boolean) {
+            boolean flag = (Boolean) value;
+            return key != null ? query.endAt(flag, key) : query.endAt(flag);
+        }
+        String text = value != null ? value.toString() : null;
+        return key != null ? query.endAt(text, key) : query.endAt(text);
+    }
+
+    /**
+     * Returns the LiveData shared by every caller of the same listener key under this
+     * path (e.g. "id/{id}", "host/{hostId}"). The source attaches the listener when the
+     * first observer arrives; it is removed after a grace period once the last observer
+     * is gone.
+     */
+    protected <R> LiveData<R> share(String key, SharedListenerLiveData.Source<R> source) {
+        return listeners.share("rtdb/" + path + "/" + key, source);
+    }
+
+    /**
+     * Streams a query as child deltas into a shared LiveList. After the initial load,
+     * a new, changed or removed child is decoded on its own and delivered as a one-item
+     * range, so the cost per change no longer grows with the size of the list.
+     *
+     * The initial children are collected silently and delivered as one RESET once the
+     * query's first value event confirms they are complete (value events fire after the
+     * child events of the same data, from the local cache: no second download). The
+     * list is rebuilt when the listener is re-attached.
+     *
+     * @param key   Listener key under this path (see share()).
+     * @param query The query to stream; may be under another path (e.g. an index node).
+     * @param order Order of the items; ties are broken by key.
+     */
+    protected LiveData<ListUpdate<T>> stream(String key, Query query, Comparator<T> order) {
+        return share("stream/" + key, target -> {
+            LiveList<T> list = new LiveList<>(order);
+            boolean[] loaded = new boolean[1];
+            ChildEventListener listener = query.addChildEventListener(new ChildEventListener() {
+                @Override
+                public void onChildAdded(DataSnapshot snapshot, String previousChildName) {
+                    put(snapshot);
+                }
+
+                @Override
+                public void onChildChanged(DataSnapshot snapshot, String previousChildName) {
+                    put(snapshot);
+                }
 
-            @Override
-            public void onCancelled(DatabaseError error) {
-                // Handle error
-                liveData.setValue(null);
+                @Override
+                public void onChildRemoved(DataSnapshot snapshot) {
+                    ListUpdate<T> update = list.remove(snapshot.getKey());
+                    if (loaded[0] && update != null) {
+                        target.setValue(update);
+                    }
+                }
+
+                @Override
+                public void onChildMoved(DataSnapshot snapshot, String previousChildName) {
+                    // Order is the LiveList's own, not the query's
+                }
+
+                @Override
+                public void onCancelled(DatabaseError error) {
+                    target.setValue(null);
+                }
+
+                private void put(DataSnapshot snapshot) {
+                    target.recordReads(1);
+                    T item = snapshot.getValue(modelClass);
+                    if (item == null) return;
+                    ListUpdate<T> update = list.put(snapshot.getKey(), item);
+                    if (loaded[0]) {
+                        target.setValue(update);
+                    }
+                }
+            });
+            query.addListenerForSingleValueEvent(new ValueEventListener() {
+                @Override
+                public void onDataChange(DataSnapshot snapshot) {
+                    loaded[0] = true;
+                    target.setValue(list.reset());
+                }
+
+                @Override
+                public void onCancelled(DatabaseError error) {
+                    // Reported by the child listener
+                }
+            });
+            return () -> query.removeEventListener(listener);
+        });
+    }
+
+    /**
+     * Adapts a stream to the plain list LiveData of the older query methods. Each update
+     * copies the list (no decoding, no download); observers that can apply ranges should
+     * observe the stream itself.
+     */
+    protected static <E> LiveData<List<E>> asList(LiveData<ListUpdate<E>> stream) {
+        return asList(stream, item -> true);
+    }
+
+    /**
+     * Like asList(stream), keeping only the items that match the filter.
+     */
+    protected static <E> LiveData<List<E>> asList(LiveData<ListUpdate<E>> stream, Predicate<E> filter) {
+        return Transformations.map(stream, update -> {
+            if (update == null) return null;
+            List<E> items = new ArrayList<>();
+            for (E item : update.getItems()) {
+                if (filter.test(item)) {
+                    items.add(item);
+                }
             }
+            return items;
         });
-        
-        return liveData;
+    }
+
+    /**
+     * Creates a latest-only decoder that maps snapshots into the given LiveData off
+     * the main thread. Subclasses use it for their own query listeners.
+     */
+    protected <R> SnapshotDecoder<R> newDecoder(MutableLiveData<R> liveData) {
+        return new SnapshotDecoder<>(decodeExecutor, decodeMetrics, liveData);
+    }
+
+    /**
+     * @return Decode-time metrics of this repository's path.
+     */
+    public DecodeMetrics getDecodeMetrics() {
+        return decodeMetrics;
     }
 
     /**
@@ -1,16 +1,12 @@
 package com.example.tournafy.data.repository.online;
 
 import androidx.lifecycle.LiveData;
-import androidx.lifecycle.MutableLiveData;
 import com.google.android.gms.tasks.Task;
-import com.google.firebase.database.DataSnapshot;
-import com.google.firebase.database.DatabaseError;
 import com.google.firebase.database.FirebaseDatabase;
-import com.google.firebase.database.Query;
-import com.google.firebase.database.ValueEventListener;
+import com.example.tournafy.data.repository.ListUpdate;
 import com.example.tournafy.domain.models.match.football.FootballEvent;
 
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -23,12 +19,18 @@ import javax.inject.Singleton;
  * CRITICAL DESIGN: Each event (goal, card, substitution, etc.) is stored as a separate 
  * document for scalability. This allows viewers to receive real-time updates for each 
  * event without re-downloading the entire match object, similar to SofaScore's live updates.
+ *
+ * All queries of a match share one child-listener stream (see stream()); the filtered
+ * lists (goals, cards, team, player, period) are views of it, not extra listeners.
  */
 @Singleton
 public class FootballEventFirebaseRepository extends FirebaseRepository<FootballEvent> {
 
     public static final String DATABASE_PATH = "football_events";
 
+    /** Match minute order. */
+    public static final Comparator<FootballEvent> EVENT_ORDER = Comparator.comparingInt(FootballEvent::getMatchMinute);
+
     @Inject
     public FootballEventFirebaseRepository(FirebaseDatabase firebaseDatabase) {
         super(firebaseDatabase, DATABASE_PATH, FootballEvent.class);
@@ -48,38 +50,21 @@ public class FootballEventFirebaseRepository extends FirebaseRepository<Football
         return addOrUpdateWithId(entity.getEventId(), entity);
     }
 
+    /**
+     * Streams the events of a match as ranged updates.
+     * @param matchId The match ID.
+     */
+    public LiveData<ListUpdate<FootballEvent>> streamEventsByMatchId(String matchId) {
+        return stream("match/" + matchId, databaseReference.orderByChild("matchId").equalTo(matchId), EVENT_ORDER);
+    }
+
     /**
      * Gets all events for a specific match with real-time updates.
      * @param matchId The match ID.
      * @return LiveData holding a list of events ordered by match minute.
      */
     public LiveData<List<FootballEvent>> getEventsByMatchId(String matchId) {
-        MutableLiveData<List<FootballEvent>> liveData = new MutableLiveData<>();
-        
-        Query query = databaseReference.orderByChild("matchId").equalTo(matchId);
-        
-        query.addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<FootballEvent> events = new ArrayList<>();
-                for (DataSnapshot childSnapshot : snapshot.getChildren()) {
-                    FootballEvent event = childSnapshot.getValue(FootballEvent.class);
-                    if (event != null) {
-                        events.add(event);
-                    }
-                }
-                // Sort by match minute
-                events.sort((e1, e2) -> Integer.compare(e1.getMatchMinute(), e2.getMatchMinute()));
-                liveData.setValue(events);
-            }
-
-            @Override
-            public void onCancelled(DatabaseError error) {
-                liveData.setValue(null);
-            }
-        });
-        
-        return liveData;
+        return asList(streamEventsByMatchId(matchId));
     }
 
     /**
@@ -89,31 +74,7 @@ public class FootballEventFirebaseRepository extends FirebaseRepository<Football
      * @return LiveData holding a list of events.
      */
     public LiveData<List<FootballEvent>> getEventsByCategory(String matchId, String eventCategory) {
-        MutableLiveData<List<FootballEvent>> liveData = new MutableLiveData<>();
-        
-        Query query = databaseReference.orderByChild("matchId").equalTo(matchId);
-        
-        query.addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<FootballEvent> events = new ArrayList<>();
-                for (DataSnapshot childSnapshot : snapshot.getChildren()) {
-                    FootballEvent event = childSnapshot.getValue(FootballEvent.class);
-                    if (event != null && eventCategory.equals(event.getEventCategory())) {
-                        events.add(event);
-                    }
-                }
-                events.sort((e1, e2) -> Integer.compare(e1.getMatchMinute(), e2.getMatchMinute()));
-                liveData.setValue(events);
-            }
-
-            @Override
-            public void onCancelled(DatabaseError error) {
-                liveData.setValue(null);
-            }
-        });
-        
-        return liveData;
+        return asList(streamEventsByMatchId(matchId), event -> eventCategory.equals(event.getEventCategory()));
     }
 
     /**
@@ -150,31 +111,7 @@ public class FootballEventFirebaseRepository extends FirebaseRepository<Football
      * @return LiveData holding a list of events.
      */
     public LiveData<List<FootballEvent>> getEventsByTeam(String matchId, String teamId) {
-        MutableLiveData<List<FootballEvent>> liveData = new MutableLiveData<>();
-        
-        Query query = databaseReference.orderByChild("matchId").equalTo(matchId);
-        
-        query.addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<FootballEvent> events = new ArrayList<>();
-                for (DataSnapshot childSnapshot : snapshot.getChildren()) {
-                    FootballEvent event = childSnapshot.getValue(FootballEvent.class);
-                    if (event != null && teamId.equals(event.getTeamId())) {
-                        events.add(event);
-                    }
-                }
-                events.sort((e1, e2) -> Integer.compare(e1.getMatchMinute(), e2.getMatchMinute()));
-                liveData.setValue(events);
-            }
-
-            @Override
-            public void onCancelled(DatabaseError error) {
-                liveData.setValue(null);
-            }
-        });
-        
-        return liveData;
+        return asList(streamEventsByMatchId(matchId), event -> teamId.equals(event.getTeamId()));
     }
 
     /**
@@ -184,31 +121,7 @@ public class FootballEventFirebaseRepository extends FirebaseRepository<Football
      * @return LiveData holding a list of events.
      */
     public LiveData<List<FootballEvent>> getEventsByPlayer(String matchId, String playerId) {
-        MutableLiveData<List<FootballEvent>> liveData = new MutableLiveData<>();
-        
-        Query query = databaseReference.orderByChild("matchId").equalTo(matchId);
-        
-        query.addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<FootballEvent> events = new ArrayList<>();
-                for (DataSnapshot childSnapshot : snapshot.getChildren()) {
-                    FootballEvent event = childSnapshot.getValue(FootballEvent.class);
-                    if (event != null && playerId.equals(event.getPlayerId())) {
-                        events.add(event);
-                    }
-                }
-                events.sort((e1, e2) -> Integer.compare(e1.getMatchMinute(), e2.getMatchMinute()));
-                liveData.setValue(events);
-            }
-
-            @Override
-            public void onCancelled(DatabaseError error) {
-                liveData.setValue(null);
-            }
-        });
-        
-        return liveData;
+        return asList(streamEventsByMatchId(matchId), event -> playerId.equals(event.getPlayerId()));
     }
 
     /**
@@ -218,30 +131,6 @@ public class FootballEventFirebaseRepository extends FirebaseRepository<Football
      * @return LiveData holding a list of events.
      */
     public LiveData<List<FootballEvent>> getEventsByPeriod(String matchId, String matchPeriod) {
-        MutableLiveData<List<FootballEvent>> liveData = new MutableLiveData<>();
-        
-        Query query = databaseReference.orderByChild("matchId").equalTo(matchId);
-        
-        query.addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                List<FootballEvent> events = new ArrayList<>();
-                for (DataSnapshot childSnapshot : snapshot.getChildren()) {
-                    FootballEvent event = childSnapshot.getValue(FootballEvent.class);
-                    if (event != null && matchPeriod.equals(event.getMatchPeriod())) {
-                        events.add(event);
-                    }
-                }
-                events.sort((e1, e2) -> Integer.compare(e1.getMatchMinute(), e2.getMatchMinute()));
-                liveData.setValue(events);
-            }
-
-            @Override
-            public void onCancelled(DatabaseError error) {
-                liveData.setValue(null);
-            }
-        });
-        
-        return liveData;
+        return asList(streamEventsByMatchId(matchId), event -> matchPeriod.equals(event.getMatchPeriod()));
     }
 }
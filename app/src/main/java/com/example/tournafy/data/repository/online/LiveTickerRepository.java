@@ -0,0 +1,132 @@
+package com.example.tournafy.data.repository.online;
+
+import androidx.lifecycle.LiveData;
+import com.example.tournafy.data.repository.SnapshotDecoder;
+import com.example.tournafy.domain.models.match.LiveTicker;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.ValueEventListener;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Firebase Realtime Database repository for the live ticker of online matches
+ * ("live/{matchId}", see LiveTicker).
+ *
+ * Viewer screens subscribe here by default: an update is a few hundred bytes,
+ * however large the match gets. The ticker is written only by the host's sync
+ * outbox (SyncService), in the same multi-path update as the match itself.
+ */
+@Singleton
+public class LiveTickerRepository extends FirebaseRepository<LiveTicker> {
+
+    public static final String DATABASE_PATH = "live";
+
+    @Inject
+    public LiveTickerRepository(FirebaseDatabase firebaseDatabase) {
+        super(firebaseDatabase, DATABASE_PATH, LiveTicker.class);
+    }
+
+    @Override
+    protected String getEntityId(LiveTicker entity) {
+        return entity.getMatchId();
+    }
+
+    /**
+     * Gets the live ticker of a match. All viewers of the match in this process
+     * share one listener.
+     * @param matchId The match ID.
+     * @return LiveData holding the ticker, or null while the match has none.
+     */
+    public LiveData<LiveTicker> getTicker(String matchId) {
+        return getById(matchId);
+    }
+
+    /**
+     * Gets the live ticker of a match, downloading only its latest state: the
+     * listener is on the ticker's "seq" counter alone, and the ticker is read once
+     * per change, with at most one read in flight. Changes made while a read is
+     * in flight are covered by a single read after it, so on a slow link the
+     * viewer skips intermediate states instead of working through a backlog.
+     * @param matchId The match ID.
+     * @return LiveData holding the ticker, or null while the match has none.
+     */
+    public LiveData<LiveTicker> getLatestTicker(String matchId) {
+        return share("latest/" + matchId, target -> {
+            SnapshotDecoder<LiveTicker> decoder = newDecoder(target);
+            DatabaseReference ticker = databaseReference.child(matchId);
+            DatabaseReference seq = ticker.child(LiveTicker.FIELD_SEQ);
+            LatestRead read = new LatestRead(ticker, snapshot -> {
+                target.recordReads(1);
+                if (snapshot != null && snapshot.exists()) {
+                    decoder.submit(() -> snapshot.getValue(LiveTicker.class));
+                } else {
+                    decoder.post(null);
+                }
+            });
+            ValueEventListener listener = seq.addValueEventListener(new ValueEventListener() {
+                @Override
+                public void onDataChange(DataSnapshot snapshot) {
+                    target.recordReads(1);
+                    read.request();
+                }
+
+                @Override
+                public void onCancelled(DatabaseError error) {
+                    decoder.post(null);
+                }
+            });
+            return () -> {
+                seq.removeEventListener(listener);
+                read.stop();
+            };
+        });
+    }
+
+    /**
+     * One-at-a-time reads of a node: a request made while a read is in flight is
+     * served by one more read when it completes.
+     */
+    private static class LatestRead {
+
+        interface Result {
+            void onRead(DataSnapshot snapshot);
+        }
+
+        private final DatabaseReference reference;
+        private final Result result;
+        private boolean inFlight;
+        private boolean requested;
+        private boolean stopped;
+
+        LatestRead(DatabaseReference reference, Result result) {
+            this.reference = reference;
+            this.result = result;
+        }
+
+        void request() {
+            requested = true;
+            if (!inFlight && !stopped) read();
+        }
+
+        void stop() {
+            stopped = true;
+        }
+
+        private void read() {
+            inFlight = true;
+            requested = false;
+            reference.get().addOnCompleteListener(task -> {
+                inFlight = false;
+                if (stopped) return;
+                if (task.isSuccessful()) {
+                    result.onRead(task.getResult());
+                }
+                if (requested) read();
+            });
+        }
+    }
+}
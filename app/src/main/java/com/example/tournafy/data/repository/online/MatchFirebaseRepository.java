@@ -9,6 +9,7 @@ import com.example.tournafy.domain.models.match.cricket.CricketMatchConfig;
 import com.google.android.gms.tasks.Task;
 import com.google.firebase.database.DataSnapshot;
 import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
 import com.google.firebase.database.Query;
 import com.google.firebase.database.ValueEventListener;
@@ -144,6 +145,14 @@ public class MatchFirebaseRepository extends FirebaseRepository<Match> {
                 if (teams != null) {
                     match.setTeams(teams);
                 }
+
+                // Sync merge metadata (see FieldMergeSyncStrategy)
+                java.util.Map<String, String> fieldClocks = snapshot.child(Match.FIELD_CLOCKS)
+                        .getValue(new com.google.firebase.database.GenericTypeIndicator<java.util.Map<String, String>>() {});
+                match.setFieldClocks(fieldClocks);
+                List<String> removedIds = snapshot.child(Match.FIELD_REMOVED_IDS)
+                        .getValue(new com.google.firebase.database.GenericTypeIndicator<List<String>>() {});
+                match.setRemovedIds(removedIds);
             }
             
             return match;
@@ -159,24 +168,35 @@ public class MatchFirebaseRepository extends FirebaseRepository<Match> {
      */
     @Override
     public LiveData<Match> getById(String id) {
-        MutableLiveData<Match> liveData = new MutableLiveData<>();
-        
-        databaseReference.child(id).addValueEventListener(new ValueEventListener() {
-            @Override
-            public void onDataChange(DataSnapshot snapshot) {
-                Match match = deserializeMatch(snapshot);
-                liveData.setValue(match);
-            }
+        // Shared per match: observers (viewer screen, FirebaseMatchObserver...) use one listener
+        return share("id/" + id, target -> {
+            DatabaseReference reference = databaseReference.child(id);
+            ValueEventListener listener = reference.addValueEventListener(new ValueEventListener() {
+                @Override
+                public void onDataChange(DataSnapshot snapshot) {
+                    target.recordReads(1);
+                    Match match = deserializeMatch(snapshot);
+                    target.setValue(match);
+                }
 
-            @Override
-            public void onCancelled(DatabaseError error) {
-                liveData.setValue(null);
-            }
+                @Override
+                public void onCancelled(DatabaseError error) {
+                    target.setValue(null);
+                }
+            });
+            return () -> reference.removeEventListener(listener);
         });
-        
-        return liveData;
     }
     
+    /**
+     * OVERRIDE: Custom implementation that handles polymorphism.
+     */
+    @Override
+    public Task<Match> getByIdOnce(String id) {
+        return databaseReference.child(id).get().continueWith(task ->
+                task.isSuccessful() ? deserializeMatch(task.getResult()) : null);
+    }
+
     /**
      * OVERRIDE: Custom implementation that handles polymorphism.
      */
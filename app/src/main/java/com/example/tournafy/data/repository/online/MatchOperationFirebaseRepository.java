@@ -0,0 +1,121 @@
+package com.example.tournafy.data.repository.online;
+
+import com.example.tournafy.domain.models.sync.MatchOperation;
+import com.google.android.gms.tasks.Task;
+import com.google.firebase.database.ChildEventListener;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseException;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.Query;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Operation log of matches scored by several scorers at once
+ * ("match_ops/{matchId}/{opId}", see MatchOperation).
+ *
+ * Operations are only ever added: a scorer appends its own operations and listens to
+ * everyone's. Keys are the operation ids, so the log reads back in its total order.
+ */
+@Singleton
+public class MatchOperationFirebaseRepository {
+
+    public static final String DATABASE_PATH = "match_ops";
+
+    /**
+     * Receives the operations of a match, old ones first, then new ones as they are added.
+     */
+    public interface OperationListener {
+        void onOperation(MatchOperation operation);
+
+        void onError(Exception e);
+    }
+
+    /**
+     * Handle of a listening log; remove() stops it.
+     */
+    public interface Registration {
+        void remove();
+    }
+
+    private final DatabaseReference databaseReference;
+
+    @Inject
+    public MatchOperationFirebaseRepository(FirebaseDatabase firebaseDatabase) {
+        this.databaseReference = firebaseDatabase.getReference(DATABASE_PATH);
+    }
+
+    /**
+     * Appends an operation to the log of its match.
+     */
+    public Task<Void> append(MatchOperation operation) {
+        return databaseReference.child(operation.getMatchId()).child(operation.getOpId()).setValue(toValue(operation));
+    }
+
+    /**
+     * Returns the stored fields of an operation; isUndo() is derived from its type.
+     */
+    private static Map<String, Object> toValue(MatchOperation operation) {
+        Map<String, Object> value = new HashMap<>();
+        value.put("opId", operation.getOpId());
+        value.put("matchId", operation.getMatchId());
+        value.put("clientId", operation.getClientId());
+        value.put("lamport", operation.getLamport());
+        value.put("type", operation.getType());
+        value.put("event", operation.getEvent());
+        value.put("ball", operation.getBall());
+        value.put("targetOpId", operation.getTargetOpId());
+        value.put("createdAt", operation.getCreatedAt());
+        return value;
+    }
+
+    /**
+     * Listens to the log of a match. Each operation is delivered once, including the
+     * listener's own operations when the server echoes them.
+     */
+    public Registration listen(String matchId, OperationListener listener) {
+        Query query = databaseReference.child(matchId).orderByKey();
+        ChildEventListener childListener = query.addChildEventListener(new ChildEventListener() {
+            @Override
+            public void onChildAdded(DataSnapshot snapshot, String previousChildName) {
+                MatchOperation operation;
+                try {
+                    operation = snapshot.getValue(MatchOperation.class);
+                } catch (DatabaseException e) {
+                    android.util.Log.e("MatchOperationRepo", "Unreadable operation " + snapshot.getKey(), e);
+                    return;
+                }
+                if (operation == null || operation.getClientId() == null) return;
+                operation.setOpId(snapshot.getKey());
+                listener.onOperation(operation);
+            }
+
+            @Override
+            public void onChildChanged(DataSnapshot snapshot, String previousChildName) {
+                // Operations are immutable
+            }
+
+            @Override
+            public void onChildRemoved(DataSnapshot snapshot) {
+                // Operations are never removed while a match is scored
+            }
+
+            @Override
+            public void onChildMoved(DataSnapshot snapshot, String previousChildName) {
+                // Keys never change
+            }
+
+            @Override
+            public void onCancelled(DatabaseError error) {
+                listener.onError(error.toException());
+            }
+        });
+        return () -> query.removeEventListener(childListener);
+    }
+}
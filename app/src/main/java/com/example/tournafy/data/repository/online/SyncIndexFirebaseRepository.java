@@ -0,0 +1,96 @@
+package com.example.tournafy.data.repository.online;
+
+import com.example.tournafy.domain.models.sync.SyncWatermark;
+import com.google.android.gms.tasks.Task;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Change index of online entities: "sync_index/{rootId}/{TYPE:entityId}" holds the
+ * server timestamp of the last write of an entity that belongs to the root (the root
+ * itself, or a match of a tournament / series).
+ *
+ * Entries are written by the sync outbox in the same multi-path update as the entity.
+ * A pull reads only the entries after its watermark (orderByValue + startAfter on
+ * timestamp and key), then downloads just those entities.
+ */
+@Singleton
+public class SyncIndexFirebaseRepository {
+
+    public static final String DATABASE_PATH = "sync_index";
+
+    /** Changes read per pull; a pull that gets this many continues with the next ones. */
+    public static final int MAX_CHANGES_PER_PULL = 200;
+
+    /**
+     * One entry of a change index.
+     */
+    public static class Change {
+        private final String key;
+        private final String entityType;
+        private final String entityId;
+        private final long serverTime;
+
+        Change(String key, String entityType, String entityId, long serverTime) {
+            this.key = key;
+            this.entityType = entityType;
+            this.entityId = entityId;
+            this.serverTime = serverTime;
+        }
+
+        public String getKey() { return key; }
+        public String getEntityType() { return entityType; }
+        public String getEntityId() { return entityId; }
+        public long getServerTime() { return serverTime; }
+    }
+
+    private final DatabaseReference databaseReference;
+
+    @Inject
+    public SyncIndexFirebaseRepository(FirebaseDatabase firebaseDatabase) {
+        this.databaseReference = firebaseDatabase.getReference(DATABASE_PATH);
+    }
+
+    /**
+     * @return Path of an entity's entry in the change index of a root, relative to the
+     *         database root.
+     */
+    public static String entryPath(String rootId, String entityType, String entityId) {
+        return DATABASE_PATH + "/" + rootId + "/" + entityType + ":" + entityId;
+    }
+
+    /**
+     * Reads the changes of a root after a watermark, oldest first.
+     * @param rootId The root entity ID.
+     * @param watermark Position of the last pull, or null for all changes.
+     * @return Task with up to MAX_CHANGES_PER_PULL changes.
+     */
+    public Task<List<Change>> getChangesSince(String rootId, SyncWatermark watermark) {
+        Query query = databaseReference.child(rootId).orderByValue();
+        if (watermark != null && watermark.getLastKey() != null) {
+            query = query.startAfter(watermark.getServerTime(), watermark.getLastKey());
+        }
+        return query.limitToFirst(MAX_CHANGES_PER_PULL).get().continueWith(task -> {
+            if (!task.isSuccessful()) {
+                throw task.getException();
+            }
+            List<Change> changes = new ArrayList<>();
+            for (DataSnapshot child : task.getResult().getChildren()) {
+                String key = child.getKey();
+                Long serverTime = child.getValue(Long.class);
+                int separator = key != null ? key.indexOf(':') : -1;
+                if (separator <= 0 || serverTime == null) continue;
+                changes.add(new Change(key, key.substring(0, separator), key.substring(separator + 1), serverTime));
+            }
+            return changes;
+        });
+    }
+}
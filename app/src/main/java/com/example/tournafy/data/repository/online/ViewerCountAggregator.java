@@ -0,0 +1,61 @@
+package com.example.tournafy.data.repository.online;
+
+import android.os.Handler;
+import android.os.Looper;
+
+/**
+ * Folds the presence shards of a match into the viewer count of its live ticker
+ * (see ViewerPresenceRepository). Run by the host's client while the match is
+ * hosted: every AGGREGATE_INTERVAL_MS it reads the SHARD_COUNT shard counters and
+ * writes "live/{matchId}/viewerCount" when the total changed.
+ *
+ * The ticker therefore gets at most one viewer-count write per interval, whatever
+ * the number of viewers joining and leaving.
+ */
+public class ViewerCountAggregator {
+
+    private static final String TAG = "ViewerCountAggregator";
+
+    public static final long AGGREGATE_INTERVAL_MS = 15_000;
+
+    private final ViewerPresenceRepository presenceRepository;
+    private final String matchId;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable aggregateTask = this::aggregate;
+    private long lastPublished = -1;
+    private boolean running;
+
+    public ViewerCountAggregator(ViewerPresenceRepository presenceRepository, String matchId) {
+        this.presenceRepository = presenceRepository;
+        this.matchId = matchId;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+        handler.post(aggregateTask);
+    }
+
+    public void stop() {
+        running = false;
+        handler.removeCallbacks(aggregateTask);
+    }
+
+    private void aggregate() {
+        if (!running) return;
+        presenceRepository.countViewers(matchId).addOnCompleteListener(task -> {
+            if (!running) return;
+            if (task.isSuccessful() && task.getResult() != null && task.getResult() != lastPublished) {
+                long count = task.getResult();
+                presenceRepository.publishViewerCount(matchId, count)
+                    .addOnSuccessListener(unused -> lastPublished = count);
+                android.util.Log.d(TAG, "Match " + matchId + " has " + count + " viewer(s)");
+            }
+            handler.postDelayed(aggregateTask, AGGREGATE_INTERVAL_MS);
+        });
+    }
+}
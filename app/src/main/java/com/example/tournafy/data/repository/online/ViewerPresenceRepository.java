@@ -0,0 +1,128 @@
+package com.example.tournafy.data.repository.online;
+
+import com.example.tournafy.domain.models.match.LiveTicker;
+import com.example.tournafy.service.util.ViewerShards;
+import com.google.android.gms.tasks.Task;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.ServerValue;
+import com.google.firebase.database.ValueEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Viewer presence of online matches, sharded so that a widely watched match has no
+ * single hot node: "presence/{matchId}/{shard}" counts the viewers connected to that
+ * shard, and a viewer always uses the same shard (see ViewerShards for the shard
+ * math and the counting protocol).
+ *
+ * A viewer increments its shard while connected, and registers an onDisconnect
+ * decrement first, so the server cleans up after a dropped connection or a killed
+ * app. Joins and leaves of N viewers spread over ViewerShards.SHARD_COUNT nodes, so
+ * each node sees 1/SHARD_COUNT of the writes.
+ *
+ * The shards are folded into "live/{matchId}/viewerCount" by the host's
+ * ViewerCountAggregator; viewers only ever read the ticker.
+ */
+@Singleton
+public class ViewerPresenceRepository {
+
+    public static final String DATABASE_PATH = "presence";
+    public static final String FIELD_VIEWER_COUNT = "viewerCount";
+
+    private static final String CONNECTED_PATH = ".info/connected";
+
+    /**
+     * A viewer's presence in one match; leave() ends it.
+     */
+    public interface Presence {
+        void leave();
+    }
+
+    private final FirebaseDatabase firebaseDatabase;
+    private final DatabaseReference databaseReference;
+
+    @Inject
+    public ViewerPresenceRepository(FirebaseDatabase firebaseDatabase) {
+        this.firebaseDatabase = firebaseDatabase;
+        this.databaseReference = firebaseDatabase.getReference(DATABASE_PATH);
+    }
+
+    /**
+     * Counts a viewer as watching a match until leave() is called or the connection
+     * drops. The viewer is counted again after each reconnect.
+     */
+    public Presence join(String matchId, String viewerId) {
+        DatabaseReference shard = databaseReference.child(matchId).child(String.valueOf(ViewerShards.shardOf(viewerId)));
+        DatabaseReference connected = firebaseDatabase.getReference(CONNECTED_PATH);
+        ViewerShards.Presence presence = new ViewerShards.Presence(new ViewerShards.Counter() {
+            @Override
+            public void decrementOnDisconnect(Runnable onRegistered) {
+                shard.onDisconnect().setValue(ServerValue.increment(-1))
+                    .addOnSuccessListener(unused -> onRegistered.run());
+            }
+
+            @Override
+            public void cancelOnDisconnect() {
+                shard.onDisconnect().cancel();
+            }
+
+            @Override
+            public void increment(long delta) {
+                shard.setValue(ServerValue.increment(delta));
+            }
+        });
+        ValueEventListener listener = connected.addValueEventListener(new ValueEventListener() {
+            @Override
+            public void onDataChange(DataSnapshot snapshot) {
+                presence.onConnectionChanged(Boolean.TRUE.equals(snapshot.getValue(Boolean.class)));
+            }
+
+            @Override
+            public void onCancelled(DatabaseError error) {
+                android.util.Log.w("ViewerPresenceRepo", "Presence of " + matchId + " cancelled: " + error.getMessage());
+            }
+        });
+        return () -> {
+            connected.removeEventListener(listener);
+            presence.leave();
+        };
+    }
+
+    /**
+     * Sums the shards of a match (SHARD_COUNT small numbers).
+     * @return Task with the number of connected viewers.
+     */
+    public Task<Long> countViewers(String matchId) {
+        return databaseReference.child(matchId).get().continueWith(task -> {
+            if (!task.isSuccessful()) {
+                throw task.getException();
+            }
+            List<Long> counts = new ArrayList<>();
+            for (DataSnapshot shard : task.getResult().getChildren()) {
+                counts.add(shard.getValue(Long.class));
+            }
+            return ViewerShards.total(counts);
+        });
+    }
+
+    /**
+     * Writes the folded viewer count to the match's live ticker, with a ticker sequence
+     * increment so latest-only viewers pick it up.
+     */
+    public Task<Void> publishViewerCount(String matchId, long viewerCount) {
+        String path = LiveTickerRepository.DATABASE_PATH + "/" + matchId + "/";
+        Map<String, Object> update = new HashMap<>();
+        update.put(path + FIELD_VIEWER_COUNT, viewerCount);
+        update.put(path + LiveTicker.FIELD_SEQ, ServerValue.increment(1));
+        return firebaseDatabase.getReference().updateChildren(update);
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.tournafy.di;
 
-import com.example.tournafy.command.MatchCommandManager;
+import com.example.tournafy.command.MatchCommandManagers;
 import com.google.firebase.database.FirebaseDatabase;
 import com.google.firebase.firestore.FirebaseFirestore;
 
@@ -38,7 +38,7 @@ public class AppModule {
 
     @Provides
     @Singleton
-    public MatchCommandManager provideMatchCommandManager() {
-        return new MatchCommandManager();
+    public MatchCommandManagers provideMatchCommandManagers() {
+        return new MatchCommandManagers();
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.google.firebase.database.FirebaseDatabase;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.example.tournafy.data.repository.offline.*;
 import com.example.tournafy.data.repository.online.*;
+import com.example.tournafy.data.repository.offline.codec.MatchCodecRegistry;
 
 // --- FIXED IMPORTS HERE ---
 import com.example.tournafy.di.RepositoryQualifiers.OfflineRepo;
@@ -90,8 +91,9 @@ public class RepositoryModule {
     @Provides
     @Singleton
     @OfflineRepo
-    public MatchFirestoreRepository provideMatchFirestoreRepository(FirebaseFirestore fs) {
-        return new MatchFirestoreRepository(fs);
+    public MatchFirestoreRepository provideMatchFirestoreRepository(FirebaseFirestore fs, MatchCodecRegistry codecs,
+                                                                    SearchIndexFirestoreRepository searchIndex) {
+        return new MatchFirestoreRepository(fs, codecs, searchIndex);
     }
 
     // --- 6. Over Repositories ---
@@ -120,8 +122,9 @@ public class RepositoryModule {
     @Provides
     @Singleton
     @OfflineRepo
-    public PlayerFirestoreRepository providePlayerFirestoreRepository(FirebaseFirestore fs) {
-        return new PlayerFirestoreRepository(fs);
+    public PlayerFirestoreRepository providePlayerFirestoreRepository(FirebaseFirestore fs,
+                                                                      SearchIndexFirestoreRepository searchIndex) {
+        return new PlayerFirestoreRepository(fs, searchIndex);
     }
 
     // --- 8. PlayerStatistics Repositories ---
@@ -143,8 +146,9 @@ public class RepositoryModule {
     @Provides
     @Singleton
     @OfflineRepo
-    public SeriesFirestoreRepository provideSeriesFirestoreRepository(FirebaseFirestore fs) {
-        return new SeriesFirestoreRepository(fs);
+    public SeriesFirestoreRepository provideSeriesFirestoreRepository(FirebaseFirestore fs,
+                                                                      SearchIndexFirestoreRepository searchIndex) {
+        return new SeriesFirestoreRepository(fs, searchIndex);
     }
 
     @Provides
@@ -180,8 +184,9 @@ public class RepositoryModule {
     @Provides
     @Singleton
     @OfflineRepo
-    public TeamFirestoreRepository provideTeamFirestoreRepository(FirebaseFirestore fs) {
-        return new TeamFirestoreRepository(fs);
+    public TeamFirestoreRepository provideTeamFirestoreRepository(FirebaseFirestore fs,
+                                                                  SearchIndexFirestoreRepository searchIndex) {
+        return new TeamFirestoreRepository(fs, searchIndex);
     }
 
     // --- 12. Tournament Repositories ---
@@ -195,8 +200,9 @@ public class RepositoryModule {
     @Provides
     @Singleton
     @OfflineRepo
-    public TournamentFirestoreRepository provideTournamentFirestoreRepository(FirebaseFirestore fs) {
-        return new TournamentFirestoreRepository(fs);
+    public TournamentFirestoreRepository provideTournamentFirestoreRepository(FirebaseFirestore fs,
+                                                                              SearchIndexFirestoreRepository searchIndex) {
+        return new TournamentFirestoreRepository(fs, searchIndex);
     }
 
     // --- 13. User Repositories ---
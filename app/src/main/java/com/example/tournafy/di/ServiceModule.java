@@ -3,10 +3,12 @@ package com.example.tournafy.di;
 import com.example.tournafy.service.impl.AuthService;
 import com.example.tournafy.service.impl.EventService;
 import com.example.tournafy.service.impl.HostingService;
+import com.example.tournafy.service.impl.SyncService;
 import com.example.tournafy.service.impl.TournamentService;
 import com.example.tournafy.service.interfaces.IAuthService;
 import com.example.tournafy.service.interfaces.IEventService;
 import com.example.tournafy.service.interfaces.IHostingService;
+import com.example.tournafy.service.interfaces.ISyncService;
 import com.example.tournafy.service.interfaces.ITournamentService;
 
 import javax.inject.Singleton;
@@ -49,4 +51,10 @@ public class ServiceModule {
     public ITournamentService provideTournamentService(TournamentService impl) {
         return impl;
     }
-}
\ No newline at end of file
+
+    @Provides
+    @Singleton
+    public ISyncService provideSyncService(SyncService impl) {
+        return impl;
+    }
+}
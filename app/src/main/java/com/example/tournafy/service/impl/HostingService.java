@@ -3,6 +3,7 @@ package com.example.tournafy.service.impl;
 import com.example.tournafy.data.repository.offline.MatchFirestoreRepository;
 import com.example.tournafy.data.repository.offline.SeriesFirestoreRepository;
 import com.example.tournafy.data.repository.offline.TournamentFirestoreRepository;
+import com.example.tournafy.data.repository.offline.VisibilityCodeFirestoreRepository;
 import com.example.tournafy.domain.models.match.cricket.CricketMatch;
 import com.example.tournafy.domain.models.match.football.FootballMatch;
 import com.example.tournafy.domain.models.series.Series;
@@ -26,14 +27,17 @@ public class HostingService implements IHostingService {
     private final MatchFirestoreRepository matchRepository;
     private final TournamentFirestoreRepository tournamentRepository;
     private final SeriesFirestoreRepository seriesRepository;
+    private final VisibilityCodeFirestoreRepository codeRepository;
 
     @Inject
     public HostingService(MatchFirestoreRepository matchRepository,
                           TournamentFirestoreRepository tournamentRepository,
-                          SeriesFirestoreRepository seriesRepository) {
+                          SeriesFirestoreRepository seriesRepository,
+                          VisibilityCodeFirestoreRepository codeRepository) {
         this.matchRepository = matchRepository;
         this.tournamentRepository = tournamentRepository;
         this.seriesRepository = seriesRepository;
+        this.codeRepository = codeRepository;
     }
 
     @Override
@@ -55,6 +59,8 @@ public class HostingService implements IHostingService {
             // Fire and forget for UI purposes (Offline First)
             matchRepository.add(match)
                 .addOnFailureListener(callback::onError); // Only report if local write completely fails
+            // Index the code (after add(), which assigns a missing ID) for one-read lookups
+            codeRepository.register(match);
             
             // Optimistic Success: Don't wait for server sync
             callback.onSuccess(match);
@@ -77,6 +83,8 @@ public class HostingService implements IHostingService {
             
             matchRepository.add(match)
                 .addOnFailureListener(callback::onError);
+            // Index the code (after add(), which assigns a missing ID) for one-read lookups
+            codeRepository.register(match);
             
             // Optimistic Success
             callback.onSuccess(match);
@@ -99,6 +107,8 @@ public class HostingService implements IHostingService {
             
             tournamentRepository.add(tournament)
                 .addOnFailureListener(callback::onError);
+            // Index the code (after add(), which assigns a missing ID) for one-read lookups
+            codeRepository.register(tournament);
             
             // Optimistic Success
             callback.onSuccess(tournament);
@@ -121,6 +131,8 @@ public class HostingService implements IHostingService {
             
             seriesRepository.add(series)
                 .addOnFailureListener(callback::onError);
+            // Index the code (after add(), which assigns a missing ID) for one-read lookups
+            codeRepository.register(series);
             
             // Optimistic Success
             callback.onSuccess(series);
@@ -0,0 +1,968 @@
+package com.example.tournafy.service.impl;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.ProcessLifecycleOwner;
+
+import com.example.tournafy.data.repository.offline.MatchFirestoreRepository;
+import com.example.tournafy.data.repository.offline.SeriesFirestoreRepository;
+import com.example.tournafy.data.repository.offline.SyncLogFirestoreRepository;
+import com.example.tournafy.data.repository.offline.SyncWatermarkFirestoreRepository;
+import com.example.tournafy.data.repository.offline.TournamentFirestoreRepository;
+import com.example.tournafy.data.repository.online.BallFirebaseRepository;
+import com.example.tournafy.data.repository.online.FootballEventFirebaseRepository;
+import com.example.tournafy.data.repository.online.InningsFirebaseRepository;
+import com.example.tournafy.data.repository.online.LiveTickerRepository;
+import com.example.tournafy.data.repository.online.MatchFirebaseRepository;
+import com.example.tournafy.data.repository.online.SeriesFirebaseRepository;
+import com.example.tournafy.data.repository.online.SyncIndexFirebaseRepository;
+import com.example.tournafy.data.repository.online.TournamentFirebaseRepository;
+import com.example.tournafy.di.RepositoryQualifiers.OfflineRepo;
+import com.example.tournafy.di.RepositoryQualifiers.OnlineRepo;
+import com.example.tournafy.domain.models.base.HostedEntity;
+import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.domain.models.base.MatchEvent;
+import com.example.tournafy.domain.models.match.cricket.Ball;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.domain.models.match.cricket.Innings;
+import com.example.tournafy.domain.models.match.cricket.Over;
+import com.example.tournafy.domain.models.match.football.FootballEvent;
+import com.example.tournafy.domain.models.match.football.FootballMatch;
+import com.example.tournafy.domain.models.series.Series;
+import com.example.tournafy.domain.models.sync.HybridLogicalClock;
+import com.example.tournafy.domain.models.sync.SyncLog;
+import com.example.tournafy.domain.models.sync.SyncWatermark;
+import com.example.tournafy.domain.models.tournament.Tournament;
+import com.example.tournafy.service.interfaces.ISyncService;
+import com.example.tournafy.service.strategies.sync.FieldMergeSyncStrategy;
+import com.example.tournafy.service.strategies.sync.ISyncStrategy;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.ServerValue;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import dagger.hilt.android.qualifiers.ApplicationContext;
+
+/**
+ * Outbox-based implementation of ISyncService (offline Firestore -> online Realtime Database).
+ *
+ * A change is not written online when it happens: it is merged into the outbox entry of
+ * its entity, as the RTDB paths it touches ("matches/{id}", "innings/{id}", "balls/{id}",
+ * ...). Each entry is tracked by a SyncLog. A drain runs once the batch window has passed
+ * (or right away when MAX_BATCH_PATHS paths are pending) and sends all pending paths in one
+ * multi-path updateChildren() call, so one round trip carries the match, its innings and
+ * its balls, however many taps were scored in between.
+ *
+ * Every match change also updates the viewer ticker ("live/{matchId}", see LiveTicker)
+ * in place: only its fields that changed are written, plus a server-side increment of
+ * its sequence number. Wicket and boundary balls are also written to their per-match
+ * index nodes ("ball_index/{matchId}/wickets/{ballId}", ".../boundaries/{ballId}") in
+ * the same update, and removed from them when the ball is undone.
+ *
+ * Matches are stamped per field group with a hybrid logical clock (see Match.attachClock()).
+ * The first sync of a match, and every retry, merges with the online copy field by field
+ * (FieldMergeSyncStrategy) instead of overwriting it, so a co-host's changes survive.
+ *
+ * Each write of a whole entity also sets its entry in the change index ("sync_index/{id}",
+ * and "sync_index/{tournamentId or seriesId}" for a match) to the server time. Downloads for
+ * offline viewing read only the index entries after their watermark (SyncWatermark) and
+ * fetch just those entities.
+ *
+ * Failed batches are retried with exponential backoff and jitter. Nothing is sent while
+ * the device has no network; the drain resumes when a network becomes available.
+ *
+ * Durability: entries that cannot be delivered right away (offline, failed, app sent to
+ * the background) are written to sync_logs with the paths they still owe, and reloaded on
+ * the next start; their values are then read back from the offline repositories.
+ * Entries delivered on the first try cost no Firestore write.
+ *
+ * Threading: the outbox lives on the main thread. Its values are the live domain
+ * objects, which are only mutated there, and updateChildren() converts them
+ * synchronously; the network I/O runs on the Realtime Database's own thread.
+ */
+@Singleton
+public class SyncService implements ISyncService, DefaultLifecycleObserver {
+
+    private static final String TAG = "SyncService";
+
+    public static final long BATCH_WINDOW_MS = 1_000;
+    public static final int MAX_BATCH_PATHS = 100;
+    public static final long BASE_BACKOFF_MS = 2_000;
+    public static final long MAX_BACKOFF_MS = 5 * 60_000;
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_SYNCED = "SYNCED";
+    public static final String DIRECTION_UP = "UP";
+    public static final String DIRECTION_DOWN = "DOWN";
+
+    private static final String PREFS_NAME = "sync";
+    private static final String PREF_CLIENT_ID = "client_id";
+
+    private static final String TYPE_MATCH = "MATCH";
+    private static final String TYPE_TOURNAMENT = "TOURNAMENT";
+    private static final String TYPE_SERIES = "SERIES";
+
+    private final DatabaseReference rootReference;
+    private final SyncLogFirestoreRepository syncLogRepository;
+    private final SyncWatermarkFirestoreRepository watermarkRepository;
+    private final SyncIndexFirebaseRepository syncIndex;
+    private final MatchFirestoreRepository offlineMatchRepo;
+    private final TournamentFirestoreRepository offlineTournamentRepo;
+    private final SeriesFirestoreRepository offlineSeriesRepo;
+    private final MatchFirebaseRepository onlineMatchRepo;
+    private final TournamentFirebaseRepository onlineTournamentRepo;
+    private final SeriesFirebaseRepository onlineSeriesRepo;
+    private final ConnectivityManager connectivityManager;
+    private final HybridLogicalClock clock;
+    private final ISyncStrategy mergeStrategy;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable drainRunnable = this::drain;
+    private final Random jitter = new Random();
+
+    // Entries in send order; an open entry still takes the changes of its entity
+    private final List<OutboxEntry> queue = new ArrayList<>();
+    private final Map<String, OutboxEntry> openEntries = new HashMap<>();
+    // Match ID -> ticker fields last enqueued, to write only the fields that change
+    private final Map<String, Map<String, Object>> tickerFields = new HashMap<>();
+    private List<OutboxEntry> inFlight;
+    private int pendingPaths;
+    private boolean drainScheduled;
+    private boolean connected;
+    private int failedAttempts;
+    private long backoffUntil;
+
+    // Metrics
+    private long pathsEnqueued;
+    private long batchesSent;
+    private long batchesFailed;
+
+    @Inject
+    public SyncService(@ApplicationContext Context context,
+                       FirebaseDatabase firebaseDatabase,
+                       @OfflineRepo SyncLogFirestoreRepository syncLogRepository,
+                       @OfflineRepo MatchFirestoreRepository offlineMatchRepo,
+                       @OfflineRepo TournamentFirestoreRepository offlineTournamentRepo,
+                       @OfflineRepo SeriesFirestoreRepository offlineSeriesRepo,
+                       @OnlineRepo MatchFirebaseRepository onlineMatchRepo,
+                       @OnlineRepo TournamentFirebaseRepository onlineTournamentRepo,
+                       @OnlineRepo SeriesFirebaseRepository onlineSeriesRepo,
+                       SyncWatermarkFirestoreRepository watermarkRepository,
+                       SyncIndexFirebaseRepository syncIndex) {
+        this.rootReference = firebaseDatabase.getReference();
+        this.syncLogRepository = syncLogRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.syncIndex = syncIndex;
+        this.offlineMatchRepo = offlineMatchRepo;
+        this.offlineTournamentRepo = offlineTournamentRepo;
+        this.offlineSeriesRepo = offlineSeriesRepo;
+        this.onlineMatchRepo = onlineMatchRepo;
+        this.onlineTournamentRepo = onlineTournamentRepo;
+        this.onlineSeriesRepo = onlineSeriesRepo;
+        this.connectivityManager = (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
+        this.clock = new HybridLogicalClock(loadClientId(context));
+        this.mergeStrategy = new FieldMergeSyncStrategy(clock);
+        this.connected = isNetworkAvailable();
+
+        if (connectivityManager != null) {
+            connectivityManager.registerDefaultNetworkCallback(new ConnectivityManager.NetworkCallback() {
+                @Override
+                public void onAvailable(@NonNull Network network) {
+                    handler.post(() -> {
+                        connected = true;
+                        if (!queue.isEmpty()) {
+                            scheduleDrain(0);
+                        }
+                    });
+                }
+
+                @Override
+                public void onLost(@NonNull Network network) {
+                    handler.post(() -> connected = isNetworkAvailable());
+                }
+            });
+        }
+        handler.post(() -> {
+            ProcessLifecycleOwner.get().getLifecycle().addObserver(this);
+            restorePendingSyncs();
+        });
+    }
+
+    // --- ISyncService ---
+
+    @Override
+    public void syncEntityToOnline(HostedEntity entity, ISyncStrategy strategy, SyncCallback<Void> callback) {
+        String type = typeOf(entity);
+        if (type == null || entity.getEntityId() == null) {
+            if (callback != null) {
+                callback.onError(new IllegalArgumentException("Entity cannot be synced online: " + entity));
+            }
+            return;
+        }
+        runOnMain(() -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put(rootPath(type, entity.getEntityId()), entity);
+            ISyncStrategy entryStrategy = strategy;
+            if (entity instanceof Match) {
+                ((Match) entity).attachClock(clock);
+                if (entryStrategy == null) {
+                    entryStrategy = mergeStrategy; // Another device may have written the match already
+                }
+                tickerFields.remove(entity.getEntityId()); // Write the whole ticker
+                putTicker((Match) entity, values);
+            }
+            if (entity instanceof CricketMatch) {
+                CricketMatch match = (CricketMatch) entity;
+                putInnings(match, values);
+                if (match.getCurrentOvers() != null) {
+                    for (Over over : match.getCurrentOvers()) {
+                        putBalls(over, values);
+                    }
+                }
+            } else if (entity instanceof FootballMatch) {
+                FootballMatch match = (FootballMatch) entity;
+                if (match.getFootballEvents() != null) {
+                    for (FootballEvent event : match.getFootballEvents()) {
+                        values.put(FootballEventFirebaseRepository.DATABASE_PATH + "/" + event.getEventId(), event);
+                    }
+                }
+            }
+            enqueue(type, entity.getEntityId(), entity, values, entryStrategy, callback, null);
+        });
+    }
+
+    @Override
+    public void enqueueMatch(Match match) {
+        if (match == null || match.getEntityId() == null) return;
+        runOnMain(() -> enqueue(TYPE_MATCH, match.getEntityId(), match, matchValues(match), null, null, null));
+    }
+
+    @Override
+    public void enqueueEvent(Match match, MatchEvent event) {
+        if (match == null || match.getEntityId() == null) return;
+        runOnMain(() -> {
+            Map<String, Object> values = matchValues(match);
+            // Cricket balls are covered by the current over; football events have their own node
+            if (event instanceof FootballEvent && event.getEventId() != null) {
+                values.put(FootballEventFirebaseRepository.DATABASE_PATH + "/" + event.getEventId(), event);
+            }
+            enqueue(TYPE_MATCH, match.getEntityId(), match, values, null, null, null);
+        });
+    }
+
+    @Override
+    public void enqueueEventRemoval(Match match, String eventId) {
+        if (match == null || match.getEntityId() == null || eventId == null) return;
+        runOnMain(() -> {
+            Map<String, Object> values = matchValues(match);
+            String node = match instanceof CricketMatch
+                    ? BallFirebaseRepository.DATABASE_PATH
+                    : FootballEventFirebaseRepository.DATABASE_PATH;
+            values.put(node + "/" + eventId, null); // null deletes the node
+            if (match instanceof CricketMatch) {
+                // Deleting a missing index entry is a no-op
+                values.put(BallFirebaseRepository.indexPath(match.getEntityId(), BallFirebaseRepository.WICKETS, eventId), null);
+                values.put(BallFirebaseRepository.indexPath(match.getEntityId(), BallFirebaseRepository.BOUNDARIES, eventId), null);
+            }
+            enqueue(TYPE_MATCH, match.getEntityId(), match, values, null, null, null);
+        });
+    }
+
+    /**
+     * Pulls the changes of an online entity since its watermark: only the entities listed
+     * after it in the entity's change index (the entity itself and, for a tournament or
+     * series, its matches) are downloaded, and they are written offline together with the
+     * new watermark in one batch. An unchanged entity costs one small index query.
+     * If any of them cannot be read, nothing is written and the watermark stays put.
+     * Entities synced before the change index existed are downloaded whole.
+     */
+    @Override
+    public void syncEntityToOffline(String entityId, SyncCallback<HostedEntity> callback) {
+        watermarkRepository.getByIdOnce(entityId).addOnCompleteListener(task ->
+                pullChanges(entityId, task.isSuccessful() ? task.getResult() : null, callback));
+    }
+
+    private void pullChanges(String entityId, SyncWatermark watermark, SyncCallback<HostedEntity> callback) {
+        syncIndex.getChangesSince(entityId, watermark).addOnCompleteListener(indexTask -> {
+            if (!indexTask.isSuccessful()) {
+                if (callback != null) callback.onError(indexTask.getException());
+                return;
+            }
+            List<SyncIndexFirebaseRepository.Change> changes = indexTask.getResult();
+            String rootType = watermark != null ? watermark.getEntityType() : null;
+            for (SyncIndexFirebaseRepository.Change change : changes) {
+                if (change.getEntityId().equals(entityId)) rootType = change.getEntityType();
+            }
+            if (rootType == null) {
+                pullWhole(entityId, callback); // Not indexed yet
+                return;
+            }
+            if (changes.isEmpty()) {
+                Log.d(TAG, "Offline copy of " + entityId + " is up to date");
+                loadOffline(rootType, entityId).addOnCompleteListener(t -> deliver(t, callback));
+                return;
+            }
+
+            List<Task<? extends HostedEntity>> reads = new ArrayList<>();
+            for (SyncIndexFirebaseRepository.Change change : changes) {
+                reads.add(loadOnline(change.getEntityType(), change.getEntityId()));
+            }
+            final String type = rootType;
+            Tasks.whenAllComplete(reads).addOnCompleteListener(all -> {
+                for (Task<? extends HostedEntity> read : reads) {
+                    if (!read.isSuccessful()) {
+                        // The watermark stays put: the next pull reads these changes again
+                        Log.e(TAG, "Failed to pull a change of " + entityId, read.getException());
+                        if (callback != null) callback.onError(read.getException());
+                        return;
+                    }
+                }
+                WriteBatch batch = watermarkRepository.newBatch();
+                HostedEntity root = null;
+                for (Task<? extends HostedEntity> read : reads) {
+                    HostedEntity entity = read.getResult();
+                    if (entity == null) continue; // Deleted online; the watermark still moves past it
+                    addToOfflineBatch(batch, entity);
+                    if (entityId.equals(entity.getEntityId())) root = entity;
+                }
+                SyncIndexFirebaseRepository.Change last = changes.get(changes.size() - 1);
+                SyncWatermark next = new SyncWatermark();
+                next.setEntityId(entityId);
+                next.setEntityType(type);
+                next.setServerTime(last.getServerTime());
+                next.setLastKey(last.getKey());
+                next.setSeq((watermark != null ? watermark.getSeq() : 0) + changes.size());
+                next.setPulledAt(new Date());
+                watermarkRepository.addToBatch(batch, next);
+
+                final HostedEntity pulledRoot = root;
+                batch.commit().addOnCompleteListener(commit -> {
+                    if (!commit.isSuccessful()) {
+                        if (callback != null) callback.onError(commit.getException());
+                        return;
+                    }
+                    Log.d(TAG, "Pulled " + changes.size() + " change(s) of " + entityId + " in one batch");
+                    if (changes.size() >= SyncIndexFirebaseRepository.MAX_CHANGES_PER_PULL) {
+                        pullChanges(entityId, next, callback); // More after this page
+                    } else if (pulledRoot != null) {
+                        if (callback != null) callback.onSuccess(pulledRoot);
+                    } else {
+                        loadOffline(type, entityId).addOnCompleteListener(t -> deliver(t, callback));
+                    }
+                });
+            });
+        });
+    }
+
+    /**
+     * Downloads an entity that has no change index entry yet, trying each type.
+     */
+    private void pullWhole(String entityId, SyncCallback<HostedEntity> callback) {
+        onlineMatchRepo.getByIdOnce(entityId).addOnCompleteListener(matchTask -> {
+            Match match = matchTask.isSuccessful() ? matchTask.getResult() : null;
+            if (match != null) {
+                offlineMatchRepo.update(match).addOnCompleteListener(t -> deliver(t, match, callback));
+                return;
+            }
+            onlineTournamentRepo.getByIdOnce(entityId).addOnCompleteListener(tournamentTask -> {
+                Tournament tournament = tournamentTask.isSuccessful() ? tournamentTask.getResult() : null;
+                if (tournament != null) {
+                    offlineTournamentRepo.update(tournament).addOnCompleteListener(t -> deliver(t, tournament, callback));
+                    return;
+                }
+                onlineSeriesRepo.getByIdOnce(entityId).addOnCompleteListener(seriesTask -> {
+                    Series series = seriesTask.isSuccessful() ? seriesTask.getResult() : null;
+                    if (series != null) {
+                        offlineSeriesRepo.update(series).addOnCompleteListener(t -> deliver(t, series, callback));
+                    } else if (callback != null) {
+                        callback.onError(new IllegalArgumentException("No online entity with ID " + entityId));
+                    }
+                });
+            });
+        });
+    }
+
+    @Override
+    public String getClientId() {
+        return clock.getNodeId();
+    }
+
+    /**
+     * Returns the sync logs of entries that are waiting for delivery. Only entries that
+     * could not be sent right away are written to sync_logs, so a healthy outbox is empty.
+     */
+    @Override
+    public LiveData<List<SyncLog>> getPendingSyncs() {
+        return syncLogRepository.getPendingSyncs();
+    }
+
+    @Override
+    public void retrySync(SyncLog syncLog, ISyncStrategy strategy, SyncCallback<Void> callback) {
+        runOnMain(() -> {
+            // Explicit retry: skip the remaining backoff
+            failedAttempts = 0;
+            backoffUntil = 0;
+            for (OutboxEntry entry : queue) {
+                if (entry.log.getSyncId().equals(syncLog.getSyncId())) {
+                    if (strategy != null) entry.strategy = strategy;
+                    if (callback != null) entry.callbacks.add(callback);
+                    scheduleDrain(0);
+                    return;
+                }
+            }
+            restore(syncLog, strategy, callback);
+        });
+    }
+
+    // --- OUTBOX ---
+
+    private void enqueue(String type, String entityId, Object root, Map<String, Object> values,
+                         ISyncStrategy strategy, SyncCallback<Void> callback, SyncLog restored) {
+        String key = type + ":" + entityId;
+        OutboxEntry entry = restored == null ? openEntries.get(key) : null;
+        if (entry == null) {
+            SyncLog log = restored;
+            if (log == null) {
+                log = new SyncLog();
+                log.setSyncId(syncLogRepository.newSyncId());
+                log.setEntityId(entityId);
+                log.setEntityType(type);
+                log.setSyncDirection(DIRECTION_UP);
+                log.setCreatedAt(new Date());
+                log.setStatus(STATUS_PENDING);
+            }
+            entry = new OutboxEntry(key, log);
+            entry.persisted = restored != null;
+            if (restored != null) {
+                // Written before anything of this session; values are re-read from the offline store
+                queue.add(0, entry);
+            } else {
+                queue.add(entry);
+            }
+            openEntries.putIfAbsent(key, entry);
+        }
+        for (Map.Entry<String, Object> value : values.entrySet()) {
+            if (!entry.values.containsKey(value.getKey())) {
+                pendingPaths++;
+            }
+            entry.values.put(value.getKey(), value.getValue());
+        }
+        entry.root = root;
+        entry.dirty = true;
+        if (strategy != null) entry.strategy = strategy;
+        if (callback != null) entry.callbacks.add(callback);
+        pathsEnqueued += values.size();
+
+        scheduleDrain(pendingPaths >= MAX_BATCH_PATHS ? 0 : BATCH_WINDOW_MS);
+    }
+
+    /**
+     * Schedules a drain. A drain already scheduled is only moved forward, so a steady
+     * stream of changes cannot postpone it past one batch window.
+     */
+    private void scheduleDrain(long delayMs) {
+        if (drainScheduled && delayMs > 0) return;
+        handler.removeCallbacks(drainRunnable);
+        drainScheduled = true;
+        handler.postDelayed(drainRunnable, delayMs);
+    }
+
+    private void drain() {
+        drainScheduled = false;
+        if (queue.isEmpty() || inFlight != null) {
+            return; // An in-flight batch drains again when it completes
+        }
+        if (!connected) {
+            persistPending(); // The network callback drains again
+            return;
+        }
+        long now = SystemClock.elapsedRealtime();
+        if (now < backoffUntil) {
+            drainScheduled = true;
+            handler.postDelayed(drainRunnable, backoffUntil - now);
+            return;
+        }
+
+        // Whole entries, up to MAX_BATCH_PATHS paths (at least one entry)
+        List<OutboxEntry> batch = new ArrayList<>();
+        int paths = 0;
+        while (!queue.isEmpty()
+                && (batch.isEmpty() || paths + queue.get(0).values.size() <= MAX_BATCH_PATHS)) {
+            OutboxEntry entry = queue.remove(0);
+            openEntries.remove(entry.key, entry); // Later changes start a new entry
+            paths += entry.values.size();
+            batch.add(entry);
+        }
+        pendingPaths -= paths;
+        inFlight = batch;
+        resolveConflicts(batch).addOnCompleteListener(task -> send(batch));
+    }
+
+    private void send(List<OutboxEntry> batch) {
+        Map<String, Object> update = new HashMap<>();
+        Date now = new Date();
+        for (OutboxEntry entry : batch) {
+            update.putAll(entry.values);
+            putChangeIndex(entry, update);
+            entry.log.setLastAttemptAt(now);
+        }
+        rootReference.updateChildren(update).addOnCompleteListener(task -> {
+            if (task.isSuccessful()) {
+                onBatchSent(batch, update.size());
+            } else {
+                onBatchFailed(batch, task.getException());
+            }
+        });
+    }
+
+    private void onBatchSent(List<OutboxEntry> batch, int paths) {
+        inFlight = null;
+        failedAttempts = 0;
+        backoffUntil = 0;
+        batchesSent++;
+        Log.d(TAG, "Synced " + paths + " path(s) of " + batch.size() + " entit(ies) in one update. " +
+            "Total: " + pathsEnqueued + " paths enqueued, " + batchesSent + " batches");
+
+        for (OutboxEntry entry : batch) {
+            if (entry.persisted) {
+                entry.log.setSynced(true);
+                entry.log.setStatus(STATUS_SYNCED);
+                entry.log.setSyncedAt(new Date());
+                entry.log.setErrorMessage(null);
+                entry.log.setPaths(null);
+                entry.log.setRemovedPaths(null);
+                syncLogRepository.update(entry.log);
+            }
+            for (SyncCallback<Void> callback : entry.callbacks) {
+                callback.onSuccess(null);
+            }
+        }
+        if (!queue.isEmpty()) {
+            scheduleDrain(0); // These waited for the round trip already
+        }
+    }
+
+    private void onBatchFailed(List<OutboxEntry> batch, Exception e) {
+        inFlight = null;
+        batchesFailed++;
+        failedAttempts++;
+        long delay = backoffDelay(failedAttempts);
+        backoffUntil = SystemClock.elapsedRealtime() + delay;
+        Log.e(TAG, "Sync batch failed (attempt " + failedAttempts + "), retrying in " + delay + "ms", e);
+
+        // Back to the front, in order; newer changes of the same entity stay behind them
+        queue.addAll(0, batch);
+        for (OutboxEntry entry : batch) {
+            openEntries.putIfAbsent(entry.key, entry);
+            pendingPaths += entry.values.size();
+            entry.dirty = true;
+            if (entry.strategy == null && entry.root instanceof Match) {
+                // The retry merges with what reached the server meanwhile instead of overwriting it
+                entry.strategy = mergeStrategy;
+            }
+            entry.log.setRetryCount(entry.log.getRetryCount() + 1);
+            entry.log.setStatus(STATUS_FAILED);
+            entry.log.setErrorMessage(e != null ? e.getMessage() : "Unknown error");
+            for (SyncCallback<Void> callback : entry.callbacks) {
+                callback.onError(e);
+            }
+            entry.callbacks.clear();
+        }
+        persistPending();
+        scheduleDrain(delay);
+    }
+
+    /**
+     * Exponential backoff with "equal jitter": half of the delay is fixed, the other half
+     * random, so clients that failed together do not retry together.
+     */
+    private long backoffDelay(int attempt) {
+        long exponential = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << Math.min(attempt - 1, 20));
+        return exponential / 2 + (long) (jitter.nextDouble() * (exponential / 2));
+    }
+
+    /**
+     * Applies the sync strategy of the entries that have one: their root entity is
+     * resolved against its online copy before it is written.
+     */
+    private Task<?> resolveConflicts(List<OutboxEntry> batch) {
+        List<Task<?>> reads = new ArrayList<>();
+        for (OutboxEntry entry : batch) {
+            if (entry.strategy == null || entry.root == null) continue;
+            String type = entry.log.getEntityType();
+            String path = rootPath(type, entry.log.getEntityId());
+            if (path == null || !entry.values.containsKey(path)) continue;
+            Task<? extends HostedEntity> read = loadOnline(type, entry.log.getEntityId());
+            read.addOnSuccessListener(remote -> {
+                if (remote != null) {
+                    entry.values.put(path, entry.strategy.resolveConflict(entry.root, (Object) remote));
+                }
+            });
+            reads.add(read);
+        }
+        return reads.isEmpty() ? Tasks.forResult(null) : Tasks.whenAllComplete(reads);
+    }
+
+    /**
+     * Writes the entries that have changed since they were last written to sync_logs,
+     * so they survive the process being killed before they are delivered.
+     */
+    private void persistPending() {
+        List<OutboxEntry> entries = new ArrayList<>(queue);
+        if (inFlight != null) {
+            entries.addAll(inFlight);
+        }
+        for (OutboxEntry entry : entries) {
+            if (!entry.dirty) continue;
+            List<String> paths = new ArrayList<>();
+            List<String> removedPaths = new ArrayList<>();
+            for (Map.Entry<String, Object> value : entry.values.entrySet()) {
+                (value.getValue() != null ? paths : removedPaths).add(value.getKey());
+            }
+            entry.log.setSynced(false);
+            entry.log.setPaths(paths);
+            entry.log.setRemovedPaths(removedPaths);
+            syncLogRepository.add(entry.log);
+            entry.persisted = true;
+            entry.dirty = false;
+        }
+    }
+
+    /**
+     * App moved to the background: send now, or keep what cannot be sent.
+     */
+    @Override
+    public void onStop(@NonNull LifecycleOwner owner) {
+        if (connected && inFlight == null && !queue.isEmpty()) {
+            handler.removeCallbacks(drainRunnable);
+            drain();
+        }
+        persistPending();
+    }
+
+    // --- RESTORE ---
+
+    private void restorePendingSyncs() {
+        syncLogRepository.getPendingSyncsOnce().addOnSuccessListener(logs -> {
+            for (SyncLog log : logs) {
+                if (DIRECTION_UP.equals(log.getSyncDirection())) {
+                    restore(log, null, null);
+                }
+            }
+            if (!logs.isEmpty()) {
+                Log.d(TAG, "Restored " + logs.size() + " pending sync log(s)");
+            }
+        });
+    }
+
+    /**
+     * Re-queues a persisted entry: its paths are resolved against the entity as it is
+     * now stored offline. Paths that no longer resolve (e.g. balls of an undone over)
+     * are dropped; removed paths stay removals.
+     */
+    private void restore(SyncLog log, ISyncStrategy strategy, SyncCallback<Void> callback) {
+        loadOffline(log.getEntityType(), log.getEntityId()).addOnCompleteListener(task -> {
+            Object root = task.isSuccessful() ? task.getResult() : null;
+            Map<String, Object> values = new LinkedHashMap<>();
+            if (log.getPaths() != null) {
+                for (String path : log.getPaths()) {
+                    Object value = resolvePath(root, path);
+                    if (value != null) {
+                        values.put(path, value);
+                    }
+                }
+            }
+            if (log.getRemovedPaths() != null) {
+                for (String path : log.getRemovedPaths()) {
+                    values.put(path, null);
+                }
+            }
+            if (values.isEmpty()) {
+                // Nothing left to deliver
+                log.setSynced(true);
+                log.setStatus(STATUS_SYNCED);
+                syncLogRepository.update(log);
+                if (callback != null) callback.onSuccess(null);
+                return;
+            }
+            ISyncStrategy entryStrategy = strategy == null && root instanceof Match ? mergeStrategy : strategy;
+            enqueue(log.getEntityType(), log.getEntityId(), root, values, entryStrategy, callback, log);
+        });
+    }
+
+    private Object resolvePath(Object root, String path) {
+        int slash = path.indexOf('/');
+        if (root == null || slash < 0) return null;
+        String node = path.substring(0, slash);
+        String id = path.substring(slash + 1);
+
+        if (root instanceof HostedEntity && path.equals(rootPath(typeOf((HostedEntity) root), id))) {
+            return id.equals(((HostedEntity) root).getEntityId()) ? root : null;
+        }
+        if (root instanceof Match && LiveTickerRepository.DATABASE_PATH.equals(node)) {
+            // "live/{matchId}/{field}"
+            String field = id.substring(id.indexOf('/') + 1);
+            return "seq".equals(field) ? ServerValue.increment(1) : ((Match) root).toLiveTicker().toFields().get(field);
+        }
+        if (root instanceof CricketMatch) {
+            CricketMatch match = (CricketMatch) root;
+            if (InningsFirebaseRepository.DATABASE_PATH.equals(node) && match.getInnings() != null) {
+                for (Innings innings : match.getInnings()) {
+                    if (id.equals(innings.getInningsId())) return innings;
+                }
+            } else if (BallFirebaseRepository.DATABASE_PATH.equals(node)) {
+                return findBall(match, id);
+            } else if (BallFirebaseRepository.INDEX_PATH.equals(node)) {
+                // "ball_index/{matchId}/{index}/{ballId}"
+                String[] parts = id.split("/");
+                Ball ball = parts.length == 3 ? findBall(match, parts[2]) : null;
+                if (ball != null && (BallFirebaseRepository.WICKETS.equals(parts[1]) ? ball.isWicket() : ball.isBoundary())) {
+                    return ball;
+                }
+            }
+        } else if (root instanceof FootballMatch) {
+            FootballMatch match = (FootballMatch) root;
+            if (FootballEventFirebaseRepository.DATABASE_PATH.equals(node) && match.getFootballEvents() != null) {
+                for (FootballEvent event : match.getFootballEvents()) {
+                    if (id.equals(event.getEventId())) return event;
+                }
+            }
+        }
+        return null;
+    }
+
+    // --- HELPERS ---
+
+    private static Ball findBall(CricketMatch match, String ballId) {
+        if (match.getCurrentOvers() == null) return null;
+        for (Over over : match.getCurrentOvers()) {
+            if (over.getBalls() == null) continue;
+            for (Ball ball : over.getBalls()) {
+                if (ballId.equals(ball.getBallId())) return ball;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The paths a match change touches: the match, its innings and the balls of the
+     * current over. Earlier overs were sent when they were current.
+     */
+    private Map<String, Object> matchValues(Match match) {
+        match.attachClock(clock);
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put(rootPath(TYPE_MATCH, match.getEntityId()), match);
+        if (match instanceof CricketMatch) {
+            CricketMatch cricketMatch = (CricketMatch) match;
+            putInnings(cricketMatch, values);
+            putBalls(cricketMatch.getCurrentOver(), values);
+        }
+        putTicker(match, values);
+        return values;
+    }
+
+    /**
+     * Adds the live ticker fields that changed since the last enqueue of the match,
+     * and the increment of its sequence number.
+     */
+    private void putTicker(Match match, Map<String, Object> values) {
+        Map<String, Object> fields = match.toLiveTicker().toFields();
+        Map<String, Object> previous = tickerFields.put(match.getEntityId(), fields);
+        String path = LiveTickerRepository.DATABASE_PATH + "/" + match.getEntityId() + "/";
+        boolean changed = false;
+        for (Map.Entry<String, Object> field : fields.entrySet()) {
+            if (previous == null || !java.util.Objects.equals(previous.get(field.getKey()), field.getValue())) {
+                values.put(path + field.getKey(), field.getValue());
+                changed = true;
+            }
+        }
+        if (changed) {
+            values.put(path + "seq", ServerValue.increment(1));
+        }
+    }
+
+    private static void putInnings(CricketMatch match, Map<String, Object> values) {
+        if (match.getInnings() == null) return;
+        for (Innings innings : match.getInnings()) {
+            if (innings.getInningsId() != null) {
+                values.put(InningsFirebaseRepository.DATABASE_PATH + "/" + innings.getInningsId(), innings);
+            }
+        }
+    }
+
+    private static void putBalls(Over over, Map<String, Object> values) {
+        if (over == null || over.getBalls() == null) return;
+        for (Ball ball : over.getBalls()) {
+            if (ball.getBallId() == null) continue;
+            values.put(BallFirebaseRepository.DATABASE_PATH + "/" + ball.getBallId(), ball);
+            // Pre-filtered index nodes, so viewers never scan the whole match for them
+            if (ball.getMatchId() != null && ball.isWicket()) {
+                values.put(BallFirebaseRepository.indexPath(ball.getMatchId(), BallFirebaseRepository.WICKETS, ball.getBallId()), ball);
+            }
+            if (ball.getMatchId() != null && ball.isBoundary()) {
+                values.put(BallFirebaseRepository.indexPath(ball.getMatchId(), BallFirebaseRepository.BOUNDARIES, ball.getBallId()), ball);
+            }
+        }
+    }
+
+    /**
+     * @return Id of this installation, used as the node id of the sync clock.
+     */
+    private static String loadClientId(Context context) {
+        SharedPreferences preferences = context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+        String clientId = preferences.getString(PREF_CLIENT_ID, null);
+        if (clientId == null) {
+            clientId = java.util.UUID.randomUUID().toString().substring(0, 8);
+            preferences.edit().putString(PREF_CLIENT_ID, clientId).apply();
+        }
+        return clientId;
+    }
+
+    private static String typeOf(HostedEntity entity) {
+        if (entity instanceof Match) return TYPE_MATCH;
+        if (entity instanceof Tournament) return TYPE_TOURNAMENT;
+        if (entity instanceof Series) return TYPE_SERIES;
+        return null;
+    }
+
+    private static String rootPath(String type, String entityId) {
+        if (TYPE_MATCH.equals(type)) return MatchFirebaseRepository.DATABASE_PATH + "/" + entityId;
+        if (TYPE_TOURNAMENT.equals(type)) return TournamentFirebaseRepository.DATABASE_PATH + "/" + entityId;
+        if (TYPE_SERIES.equals(type)) return SeriesFirebaseRepository.DATABASE_PATH + "/" + entityId;
+        return null;
+    }
+
+    private Task<? extends HostedEntity> loadOffline(String type, String entityId) {
+        if (TYPE_MATCH.equals(type)) return offlineMatchRepo.getByIdOnce(entityId);
+        if (TYPE_TOURNAMENT.equals(type)) return offlineTournamentRepo.getByIdOnce(entityId);
+        if (TYPE_SERIES.equals(type)) return offlineSeriesRepo.getByIdOnce(entityId);
+        return Tasks.forResult(null);
+    }
+
+    private Task<? extends HostedEntity> loadOnline(String type, String entityId) {
+        if (TYPE_MATCH.equals(type)) return onlineMatchRepo.getByIdOnce(entityId);
+        if (TYPE_TOURNAMENT.equals(type)) return onlineTournamentRepo.getByIdOnce(entityId);
+        if (TYPE_SERIES.equals(type)) return onlineSeriesRepo.getByIdOnce(entityId);
+        return Tasks.forResult(null);
+    }
+
+    private void addToOfflineBatch(WriteBatch batch, HostedEntity entity) {
+        if (entity instanceof Match) {
+            offlineMatchRepo.addToBatch(batch, (Match) entity);
+        } else if (entity instanceof Tournament) {
+            offlineTournamentRepo.addToBatch(batch, (Tournament) entity);
+        } else if (entity instanceof Series) {
+            offlineSeriesRepo.addToBatch(batch, (Series) entity);
+        }
+    }
+
+    /**
+     * Adds the change-index entries of an entry whose entity is written: under the
+     * entity itself and, for a match, under its tournament or series. The server sets
+     * the timestamp, so the order of entries is the order the writes were applied.
+     */
+    private static void putChangeIndex(OutboxEntry entry, Map<String, Object> update) {
+        String type = entry.log.getEntityType();
+        String entityId = entry.log.getEntityId();
+        if (!entry.values.containsKey(rootPath(type, entityId))) return;
+        update.put(SyncIndexFirebaseRepository.entryPath(entityId, type, entityId), ServerValue.TIMESTAMP);
+        if (entry.root instanceof Match) {
+            Match match = (Match) entry.root;
+            if (match.getTournamentId() != null) {
+                update.put(SyncIndexFirebaseRepository.entryPath(match.getTournamentId(), type, entityId), ServerValue.TIMESTAMP);
+            }
+            if (match.getSeriesId() != null) {
+                update.put(SyncIndexFirebaseRepository.entryPath(match.getSeriesId(), type, entityId), ServerValue.TIMESTAMP);
+            }
+        }
+    }
+
+    private static void deliver(Task<? extends HostedEntity> read, SyncCallback<HostedEntity> callback) {
+        if (callback == null) return;
+        if (read.isSuccessful() && read.getResult() != null) {
+            callback.onSuccess(read.getResult());
+        } else {
+            callback.onError(read.getException() != null ? read.getException()
+                    : new IllegalStateException("Entity is not stored offline"));
+        }
+    }
+
+    private static <T> void deliver(Task<Void> write, T entity, SyncCallback<T> callback) {
+        if (callback == null) return;
+        if (write.isSuccessful()) {
+            callback.onSuccess(entity);
+        } else {
+            callback.onError(write.getException());
+        }
+    }
+
+    private boolean isNetworkAvailable() {
+        if (connectivityManager == null) return true;
+        NetworkCapabilities capabilities = connectivityManager.getNetworkCapabilities(connectivityManager.getActiveNetwork());
+        return capabilities != null && capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET);
+    }
+
+    private void runOnMain(Runnable action) {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            action.run();
+        } else {
+            handler.post(action);
+        }
+    }
+
+    // --- METRICS ---
+
+    /** Number of path writes handed to the outbox (before coalescing). */
+    public long getPathsEnqueued() { return pathsEnqueued; }
+
+    /** Number of updateChildren() batches delivered. */
+    public long getBatchesSent() { return batchesSent; }
+
+    /** Number of batches that failed and were rescheduled. */
+    public long getBatchesFailed() { return batchesFailed; }
+
+    /**
+     * One outbox entry: the pending paths of one entity, tracked by a SyncLog.
+     */
+    private static class OutboxEntry {
+        final String key; // "{type}:{entityId}"
+        SyncLog log;
+        final Map<String, Object> values = new LinkedHashMap<>(); // Path -> value (null = delete)
+        final List<SyncCallback<Void>> callbacks = new ArrayList<>();
+        Object root;
+        ISyncStrategy strategy;
+        boolean dirty;     // Changed since last written to sync_logs
+        boolean persisted; // Has a sync_logs document
+
+        OutboxEntry(String key, SyncLog log) {
+            this.key = key;
+            this.log = log;
+        }
+    }
+}
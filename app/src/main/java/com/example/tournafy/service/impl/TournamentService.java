@@ -160,7 +160,9 @@ public class TournamentService implements ITournamentService {
         final int totalTeamsToLoad = teams.size();
         
         for (TournamentTeam tournamentTeam : teams) {
-            teamRepository.getById(tournamentTeam.getTeamId())
+            // Keep the LiveData that is observed so the observer (and its listener) is really removed
+            final androidx.lifecycle.LiveData<Team> teamLiveData = teamRepository.getById(tournamentTeam.getTeamId());
+            teamLiveData
                 .observeForever(new androidx.lifecycle.Observer<Team>() {
                     @Override
                     public void onChanged(Team team) {
@@ -177,7 +179,7 @@ public class TournamentService implements ITournamentService {
                         }
                         
                         // Remove observer after first load
-                        teamRepository.getById(tournamentTeam.getTeamId()).removeObserver(this);
+                        teamLiveData.removeObserver(this);
                     }
                 });
         }
@@ -1,6 +1,8 @@
 package com.example.tournafy.service.interfaces;
 
 import com.example.tournafy.domain.models.base.HostedEntity;
+import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.domain.models.base.MatchEvent;
 import com.example.tournafy.domain.models.sync.SyncLog;
 import com.example.tournafy.service.strategies.sync.ISyncStrategy;
 import androidx.lifecycle.LiveData;
@@ -23,6 +25,32 @@ public interface ISyncService {
      */
     void syncEntityToOnline(HostedEntity entity, ISyncStrategy strategy, SyncCallback<Void> callback);
 
+    /**
+     * Queues the current state of a hosted match for online sync: the match, its
+     * innings and the balls of the current over. Cheap enough to call on every
+     * scoring tap; changes are coalesced and written in batches.
+     *
+     * @param match The match that changed.
+     */
+    void enqueueMatch(Match match);
+
+    /**
+     * Queues a new event of a hosted match for online sync, together with the match.
+     *
+     * @param match The match the event was applied to.
+     * @param event The new event.
+     */
+    void enqueueEvent(Match match, MatchEvent event);
+
+    /**
+     * Queues the removal of an undone event (ball or football event) from the online
+     * database, together with the match.
+     *
+     * @param match   The match the event was removed from.
+     * @param eventId The ID of the removed ball or football event.
+     */
+    void enqueueEventRemoval(Match match, String eventId);
+
     /**
      * Downloads an online entity for offline viewing (not editing).
      *
@@ -31,6 +59,12 @@ public interface ISyncService {
      */
     void syncEntityToOffline(String entityId, SyncCallback<HostedEntity> callback);
 
+    /**
+     * @return Id of this installation, shared by the sync clock and the operation ids
+     *         of matches scored by several scorers.
+     */
+    String getClientId();
+
     /**
      * Checks for any pending or failed sync operations.
      *
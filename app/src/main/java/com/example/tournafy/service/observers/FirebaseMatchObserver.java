@@ -1,122 +1,78 @@
 package com.example.tournafy.service.observers;
 
-import com.example.tournafy.data.repository.online.MatchFirebaseRepository;
 import com.example.tournafy.domain.interfaces.MatchObserver;
 import com.example.tournafy.domain.models.base.Match;
 import com.example.tournafy.domain.models.base.MatchEvent;
+import com.example.tournafy.service.interfaces.ISyncService;
 
 /**
  * Implements the MatchObserver pattern to synchronize local match data
- * with the Firebase online database in real-time.
+ * with the Firebase online database.
  *
- * This observer's job is to ensure that any change made by the host
- * (e.g., adding an event, updating the match) is immediately sent
- * to the online repository
+ * This observer does not write anything itself: every change made by the host
+ * is handed to the sync outbox (ISyncService), which coalesces the changes of a
+ * burst of scoring taps and writes them in one batched update.
  */
 public class FirebaseMatchObserver implements MatchObserver {
 
-    private final MatchFirebaseRepository matchFirebaseRepository;
-    private final String matchId;
+    private final ISyncService syncService;
+    private final Match match;
 
     /**
      * Constructs a new FirebaseMatchObserver.
      * This observer is stateful and is tied to a specific match.
      *
-     * @param matchFirebaseRepository The repository instance to use for online operations.
-     * @param matchId The unique ID of the match this observer is responsible for syncing.
+     * @param syncService The sync service that queues the online writes.
+     * @param match The match this observer is responsible for syncing.
      */
-    public FirebaseMatchObserver(MatchFirebaseRepository matchFirebaseRepository, String matchId) {
-        this.matchFirebaseRepository = matchFirebaseRepository;
-        this.matchId = matchId;
+    public FirebaseMatchObserver(ISyncService syncService, Match match) {
+        this.syncService = syncService;
+        this.match = match;
     }
 
     /**
      * Called when the entire Match object state is updated.
-     * This method will push the complete, updated Match object to Firebase,
-     * overwriting the previous state (last-write-wins).
+     * Queues the match (with its innings and current over) for online sync.
      *
      * @param match The updated Match object.
      */
     @Override
     public void onMatchUpdated(Match match) {
-        if (matchFirebaseRepository != null) {
-            // Use the repository to update the entire match document online
-            matchFirebaseRepository.update(match);
-        }
+        syncService.enqueueMatch(match);
     }
 
     /**
      * Called when a new individual event (like a goal or a wicket) is added.
-     * This pushes the new event to the online database.
-     *
-     * CRITICAL FIX: Now actually triggers a Firebase write.
-     * Events are stored within the Match object, so we need to update the entire match.
-     * For better performance in production, consider creating a separate EventRepository.
+     * Queues the event together with the match it was applied to.
      *
      * @param event The new MatchEvent.
      */
     @Override
     public void onEventAdded(MatchEvent event) {
-        if (matchFirebaseRepository != null && event != null) {
-            // Check that the event's matchId matches this observer's matchId
-            if (event.getMatchId() != null && event.getMatchId().equals(this.matchId)) {
-                // CRITICAL FIX: Fetch the match and update it to persist the new event
-                androidx.lifecycle.Observer<com.example.tournafy.domain.models.base.Match> eventSyncObserver = new androidx.lifecycle.Observer<Match>() {
-                    @Override
-                    public void onChanged(com.example.tournafy.domain.models.base.Match match) {
-                        if (match != null) {
-                            // The match object already contains the new event (added by processEvent)
-                            // Now persist it to Firebase
-                            matchFirebaseRepository.update(match)
-                                .addOnFailureListener(e -> 
-                                    System.err.println("FirebaseMatchObserver: Failed to sync event - " + e.getMessage())
-                                );
-                        }
-                        // IMPORTANT: Remove observer after execution to prevent infinite loop
-                        matchFirebaseRepository.getById(matchId).removeObserver(this);
-                    }
-                };
-                matchFirebaseRepository.getById(matchId).observeForever(eventSyncObserver);
-            } else {
-                // Log an error or handle mismatch
-                System.err.println("FirebaseMatchObserver: Event matchId does not match observer's matchId.");
-            }
+        if (event == null) return;
+        // Check that the event's matchId matches this observer's matchId
+        if (event.getMatchId() != null && !event.getMatchId().equals(match.getEntityId())) {
+            android.util.Log.w("FirebaseMatchObserver", "Event matchId does not match observer's matchId.");
+            return;
         }
+        syncService.enqueueEvent(match, event);
     }
 
     /**
      * Called when the match's status changes (e.g., SCHEDULED -> LIVE).
-     * This method updates the match in Firebase.
-     *
-     * CRITICAL FIX: Now actually triggers a Firebase write using updateMatchStatus.
-     * We use the partial update method for efficiency.
+     * The status is part of the match node, so the match is queued.
      *
      * @param newStatus The new status (e.g., from MatchStatus enum).
      */
     @Override
     public void onMatchStatusChanged(String newStatus) {
-        if (matchFirebaseRepository != null && this.matchId != null && newStatus != null) {
-            // CRITICAL FIX: Use the partial update method for efficiency
-            matchFirebaseRepository.updateMatchStatus(matchId, newStatus)
-                .addOnFailureListener(e -> 
-                    System.err.println("FirebaseMatchObserver: Failed to sync status change - " + e.getMessage())
-                );
-                
-            // Also trigger a full match update to ensure all related changes (innings, etc.) are synced
-            androidx.lifecycle.Observer<com.example.tournafy.domain.models.base.Match> statusSyncObserver = new androidx.lifecycle.Observer<Match>() {
-                @Override
-                public void onChanged(com.example.tournafy.domain.models.base.Match match) {
-                    if (match != null) {
-                        matchFirebaseRepository.update(match)
-                            .addOnFailureListener(e -> 
-                                System.err.println("FirebaseMatchObserver: Failed to sync full match after status change - " + e.getMessage())
-                            );
-                    }
-                    // IMPORTANT: Remove observer after execution to prevent infinite loop
-                    matchFirebaseRepository.getById(matchId).removeObserver(this);
-                }
-            };
-            matchFirebaseRepository.getById(matchId).observeForever(statusSyncObserver);
-        }
+        syncService.enqueueMatch(match);
+    }
+
+    /**
+     * @return The match this observer syncs.
+     */
+    public Match getMatch() {
+        return match;
     }
-}
\ No newline at end of file
+}
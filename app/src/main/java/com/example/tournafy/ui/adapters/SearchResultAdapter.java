@@ -102,6 +102,12 @@ public class SearchResultAdapter extends RecyclerView.Adapter<SearchResultAdapte
                 case SearchResult.TYPE_SERIES:
                     ivTypeIcon.setImageResource(R.drawable.ic_series);
                     break;
+                case SearchResult.TYPE_TEAM:
+                    ivTypeIcon.setImageResource(R.drawable.ic_sports);
+                    break;
+                case SearchResult.TYPE_PLAYER:
+                    ivTypeIcon.setImageResource(R.drawable.ic_star);
+                    break;
             }
             
             // Set status chip
@@ -13,7 +13,7 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.tournafy.R;
 import com.example.tournafy.domain.models.base.HostedEntity;
-import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.domain.models.match.MatchSummary;
 import com.example.tournafy.domain.models.series.Series;
 import com.example.tournafy.domain.models.tournament.Tournament;
 import com.google.android.material.button.MaterialButton;
@@ -67,8 +67,8 @@ public class HomeAdapter extends ListAdapter<HostedEntity, HomeAdapter.EntityVie
             tvName.setText(entity.getName());
             tvStatus.setText(entity.getStatus());
 
-            if (entity instanceof Match) {
-                Match match = (Match) entity;
+            if (entity instanceof MatchSummary) {
+                MatchSummary match = (MatchSummary) entity;
                 String sportType = "Match";
                 if (match.getSportId() != null) {
                     if (match.getSportId().equalsIgnoreCase("FOOTBALL")) {
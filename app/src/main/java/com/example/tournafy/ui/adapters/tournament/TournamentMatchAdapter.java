@@ -9,10 +9,7 @@ import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.tournafy.R;
-import com.example.tournafy.domain.models.base.Match;
-import com.example.tournafy.domain.models.match.cricket.CricketMatch;
-import com.example.tournafy.domain.models.match.football.FootballMatch;
-import com.example.tournafy.domain.models.team.MatchTeam;
+import com.example.tournafy.domain.models.match.MatchSummary;
 import com.example.tournafy.domain.models.tournament.TournamentMatch;
 import com.google.android.material.card.MaterialCardView;
 import com.google.android.material.chip.Chip;
@@ -23,17 +20,17 @@ import java.util.List;
 import java.util.Locale;
 
 /**
- * Adapter for displaying tournament matches with actual Match data.
+ * Adapter for displaying tournament matches with their MatchSummary.
  * Shows match details including teams, scores, venue, and status.
  */
 public class TournamentMatchAdapter extends RecyclerView.Adapter<TournamentMatchAdapter.ViewHolder> {
 
-    // Helper class to pair TournamentMatch with Match
+    // Helper class to pair TournamentMatch with its MatchSummary
     public static class TournamentMatchWithDetails {
         public final TournamentMatch tournamentMatch;
-        public final Match match;
+        public final MatchSummary match;
         
-        public TournamentMatchWithDetails(TournamentMatch tournamentMatch, Match match) {
+        public TournamentMatchWithDetails(TournamentMatch tournamentMatch, MatchSummary match) {
             this.tournamentMatch = tournamentMatch;
             this.match = match;
         }
@@ -44,7 +41,7 @@ public class TournamentMatchAdapter extends RecyclerView.Adapter<TournamentMatch
     private List<TournamentMatchWithDetails> matchesWithDetails = new ArrayList<>();
 
     public interface OnMatchClickListener {
-        void onMatchClick(TournamentMatch tournamentMatch, Match match);
+        void onMatchClick(TournamentMatch tournamentMatch, MatchSummary match);
     }
 
     public TournamentMatchAdapter(OnMatchClickListener listener) {
@@ -99,37 +96,15 @@ public class TournamentMatchAdapter extends RecyclerView.Adapter<TournamentMatch
             chipStatus = itemView.findViewById(R.id.chipStatus);
         }
 
-        public void bind(TournamentMatch tournamentMatch, Match match, OnMatchClickListener listener, SimpleDateFormat dateFormat) {
+        public void bind(TournamentMatch tournamentMatch, MatchSummary match, OnMatchClickListener listener, SimpleDateFormat dateFormat) {
             tvMatchNumber.setText("Match " + tournamentMatch.getMatchOrder());
             
             if (match != null) {
-                // Extract team names based on match type
-                if (match instanceof CricketMatch) {
-                    CricketMatch cricketMatch = (CricketMatch) match;
-                    List<MatchTeam> teams = cricketMatch.getTeams();
-                    if (teams != null && teams.size() >= 2) {
-                        tvTeamA.setText(teams.get(0).getTeamName() != null ? teams.get(0).getTeamName() : "Team A");
-                        tvTeamB.setText(teams.get(1).getTeamName() != null ? teams.get(1).getTeamName() : "Team B");
-                    } else {
-                        tvTeamA.setText("Team A");
-                        tvTeamB.setText("Team B");
-                    }
-                } else if (match instanceof FootballMatch) {
-                    FootballMatch footballMatch = (FootballMatch) match;
-                    List<MatchTeam> teams = footballMatch.getTeams();
-                    if (teams != null && teams.size() >= 2) {
-                        tvTeamA.setText(teams.get(0).getTeamName() != null ? teams.get(0).getTeamName() : "Team A");
-                        tvTeamB.setText(teams.get(1).getTeamName() != null ? teams.get(1).getTeamName() : "Team B");
-                    } else {
-                        tvTeamA.setText("Team A");
-                        tvTeamB.setText("Team B");
-                    }
-                } else {
-                    tvTeamA.setText("Team A");
-                    tvTeamB.setText("Team B");
-                }
+                // Team names come precomputed in the summary
+                tvTeamA.setText(match.getHomeTeamName() != null ? match.getHomeTeamName() : "Team A");
+                tvTeamB.setText(match.getAwayTeamName() != null ? match.getAwayTeamName() : "Team B");
 
-                // Extract and display scores based on match type
+                // Display the summary's score lines
                 displayScores(match);
 
                 // Venue
@@ -166,37 +141,18 @@ public class TournamentMatchAdapter extends RecyclerView.Adapter<TournamentMatch
             });
         }
 
-        private void displayScores(Match match) {
-            if (match instanceof CricketMatch) {
-                CricketMatch cricketMatch = (CricketMatch) match;
-                // Display cricket scores
-                // Format: TeamA: Runs/Wickets (Overs)
-                // For simplicity, show placeholder if no innings data
+        private void displayScores(MatchSummary match) {
+            String status = match.getMatchStatus();
+            boolean started = status != null &&
+                (status.equals("COMPLETED") || status.equals("LIVE") || status.equals("IN_PROGRESS"));
+            
+            if (started && (match.getHomeScore() != null || match.getAwayScore() != null)) {
+                // Cricket: "runs/wickets (overs)", football: goals
                 tvScoreA.setVisibility(View.VISIBLE);
                 tvScoreB.setVisibility(View.VISIBLE);
-                tvScoreA.setText("0/0 (0)");
-                tvScoreB.setText("0/0 (0)");
-                // TODO: Extract from innings data when needed
-            } else if (match instanceof FootballMatch) {
-                FootballMatch footballMatch = (FootballMatch) match;
-                // Display football scores
-                int homeScore = footballMatch.getHomeScore();
-                int awayScore = footballMatch.getAwayScore();
-                
-                if (match.getMatchStatus() != null && 
-                    (match.getMatchStatus().equals("COMPLETED") || 
-                     match.getMatchStatus().equals("LIVE") ||
-                     match.getMatchStatus().equals("IN_PROGRESS"))) {
-                    tvScoreA.setVisibility(View.VISIBLE);
-                    tvScoreB.setVisibility(View.VISIBLE);
-                    tvScoreA.setText(String.valueOf(homeScore));
-                    tvScoreB.setText(String.valueOf(awayScore));
-                } else {
-                    tvScoreA.setVisibility(View.GONE);
-                    tvScoreB.setVisibility(View.GONE);
-                }
+                tvScoreA.setText(match.getHomeScore() != null ? match.getHomeScore() : "-");
+                tvScoreB.setText(match.getAwayScore() != null ? match.getAwayScore() : "-");
             } else {
-                // Unknown match type
                 tvScoreA.setVisibility(View.GONE);
                 tvScoreB.setVisibility(View.GONE);
             }
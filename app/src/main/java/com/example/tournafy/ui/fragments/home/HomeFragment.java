@@ -20,7 +20,7 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.tournafy.R;
 import com.example.tournafy.domain.models.base.HostedEntity;
-import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.domain.models.match.MatchSummary;
 import com.example.tournafy.domain.models.series.Series;
 import com.example.tournafy.domain.models.tournament.Tournament;
 import com.example.tournafy.ui.viewmodels.HomeViewModel;
@@ -41,6 +41,7 @@ public class HomeFragment extends Fragment implements HomeAdapter.OnEntityClickL
     private TextView tvEmptyState;
     private ChipGroup chipGroupFilter;
     private ExtendedFloatingActionButton fabCreate;
+    private boolean hasResumed;
 
     public HomeFragment() { }
 
@@ -71,6 +72,29 @@ public class HomeFragment extends Fragment implements HomeAdapter.OnEntityClickL
         adapter = new HomeAdapter(this);
         recyclerView.setLayoutManager(new LinearLayoutManager(getContext()));
         recyclerView.setAdapter(adapter);
+
+        // Prefetch the next page of matches before the end of the list is reached
+        recyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView rv, int dx, int dy) {
+                if (dy <= 0) return;
+                LinearLayoutManager layoutManager = (LinearLayoutManager) rv.getLayoutManager();
+                if (layoutManager != null) {
+                    homeViewModel.onListScrolled(layoutManager.findLastVisibleItemPosition(),
+                            adapter.getItemCount());
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onResume() {
+        super.onResume();
+        // Match pages are one-shot reads: reload them when returning to the list
+        if (hasResumed) {
+            homeViewModel.refreshMatches();
+        }
+        hasResumed = true;
     }
 
     private void setupFilters() {
@@ -131,14 +155,14 @@ public class HomeFragment extends Fragment implements HomeAdapter.OnEntityClickL
         NavController navController = Navigation.findNavController(requireView());
         Bundle args = new Bundle();
         
-        if (entity instanceof Match) {
-            Match match = (Match) entity;
+        if (entity instanceof MatchSummary) {
+            MatchSummary match = (MatchSummary) entity;
             args.putString("match_id", entity.getEntityId());
             
             // Check if this is a tournament match that hasn't been configured yet
             boolean isTournamentMatch = match.getTournamentId() != null && !match.getTournamentId().isEmpty();
             boolean isScheduled = "SCHEDULED".equals(match.getMatchStatus());
-            boolean hasConfig = match.getMatchConfig() != null;
+            boolean hasConfig = match.isConfigured();
             
             if (isTournamentMatch && isScheduled && !hasConfig) {
                 // Navigate to AddMatchDetailsFragment to configure the match
@@ -197,8 +221,8 @@ public class HomeFragment extends Fragment implements HomeAdapter.OnEntityClickL
         }
 
         // Only allow sharing matches (not tournaments or series)
-        if (entity instanceof Match) {
-            ShareHelper.shareMatch(requireContext(), (Match) entity);
+        if (entity instanceof MatchSummary) {
+            ShareHelper.shareMatch(requireContext(), entity);
         } else {
             Toast.makeText(getContext(), "Only matches can be shared", Toast.LENGTH_SHORT).show();
         }
@@ -13,13 +13,10 @@ import androidx.lifecycle.ViewModelProvider;
 
 import com.example.tournafy.R;
 import com.example.tournafy.domain.models.match.football.FootballMatch;
-import com.example.tournafy.domain.models.match.football.FootballEvent;
+import com.example.tournafy.domain.models.match.football.FootballTimeline;
 import com.example.tournafy.ui.viewmodels.MatchViewModel;
 import com.google.android.material.progressindicator.LinearProgressIndicator;
 
-import java.util.List;
-import java.util.Locale;
-
 import dagger.hilt.android.AndroidEntryPoint;
 
 /**
@@ -124,7 +121,7 @@ public class FootballStatisticsFragment extends Fragment {
 
     /**
      * Updates all statistics based on match events.
-     * Calculates stats from FootballEvent list.
+     * Reads the per-team totals of the match timeline.
      */
     private void updateStatistics(FootballMatch match) {
         if (match.getTeams() == null || match.getTeams().size() < 2) {
@@ -137,8 +134,8 @@ public class FootballStatisticsFragment extends Fragment {
         tvHomeTeamName.setText(match.getTeams().get(0).getTeamName());
         tvAwayTeamName.setText(match.getTeams().get(1).getTeamName());
 
-        // Calculate statistics from events
-        MatchStatistics stats = calculateStatistics(match.getFootballEvents(), homeTeamId, awayTeamId);
+        // Calculate statistics from the indexed events
+        MatchStatistics stats = calculateStatistics(match.timeline(), homeTeamId, awayTeamId);
 
         // Update possession
         int homePossession = stats.homePossession;
@@ -173,79 +170,26 @@ public class FootballStatisticsFragment extends Fragment {
     }
 
     /**
-     * Calculates match statistics from event list.
-     * Counts events by category and team.
+     * Reads match statistics from the running team totals of the match timeline.
      */
-    private MatchStatistics calculateStatistics(List<FootballEvent> events, String homeTeamId, String awayTeamId) {
+    private MatchStatistics calculateStatistics(FootballTimeline timeline, String homeTeamId, String awayTeamId) {
         MatchStatistics stats = new MatchStatistics();
-        
-        if (events == null || events.isEmpty()) {
-            // Default possession split
-            stats.homePossession = 50;
-            stats.awayPossession = 50;
-            return stats;
-        }
-
-        for (FootballEvent event : events) {
-            boolean isHomeTeam = homeTeamId.equals(event.getTeamId());
-            
-            String category = event.getEventCategory();
-            if (category == null) continue;
-
-            switch (category) {
-                case "GOAL":
-                    // Count as shot on target
-                    if (isHomeTeam) {
-                        stats.homeShots++;
-                        stats.homeShotsOnTarget++;
-                    } else {
-                        stats.awayShots++;
-                        stats.awayShotsOnTarget++;
-                    }
-                    break;
-
-                case "SHOT":
-                    if (isHomeTeam) {
-                        stats.homeShots++;
-                        if (event.getShotDetail() != null && event.getShotDetail().isOnTarget()) {
-                            stats.homeShotsOnTarget++;
-                        }
-                    } else {
-                        stats.awayShots++;
-                        if (event.getShotDetail() != null && event.getShotDetail().isOnTarget()) {
-                            stats.awayShotsOnTarget++;
-                        }
-                    }
-                    break;
-
-                case "CARD":
-                    if (event.getCardDetail() != null) {
-                        if ("RED".equals(event.getCardDetail().getCardType())) {
-                            if (isHomeTeam) stats.homeRedCards++;
-                            else stats.awayRedCards++;
-                        } else {
-                            if (isHomeTeam) stats.homeYellowCards++;
-                            else stats.awayYellowCards++;
-                        }
-                    }
-                    break;
-
-                case "CORNER":
-                    if (isHomeTeam) stats.homeCorners++;
-                    else stats.awayCorners++;
-                    break;
-
-                case "FOUL":
-                    if (isHomeTeam) stats.homeFouls++;
-                    else stats.awayFouls++;
-                    break;
-
-                case "OFFSIDE":
-                    if (isHomeTeam) stats.homeOffsides++;
-                    else stats.awayOffsides++;
-                    break;
-            }
-        }
+        FootballTimeline.TeamStats home = timeline.statsOf(homeTeamId);
+        FootballTimeline.TeamStats away = timeline.statsOf(awayTeamId);
+        stats.homeShots = home.getShots();
+        stats.awayShots = away.getShots();
+        stats.homeShotsOnTarget = home.getShotsOnTarget();
+        stats.awayShotsOnTarget = away.getShotsOnTarget();
+        stats.homeCorners = home.getCorners();
+        stats.awayCorners = away.getCorners();
+        stats.homeFouls = home.getFouls();
+        stats.awayFouls = away.getFouls();
+        stats.homeYellowCards = home.getYellowCards();
+        stats.awayYellowCards = away.getYellowCards();
+        stats.homeRedCards = home.getRedCards();
+        stats.awayRedCards = away.getRedCards();
+        stats.homeOffsides = home.getOffsides();
+        stats.awayOffsides = away.getOffsides();
 
         // Calculate possession based on events (simple heuristic)
         int totalEvents = stats.homeShots + stats.awayShots + stats.homeCorners + stats.awayCorners;
@@ -14,15 +14,10 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.tournafy.R;
-import com.example.tournafy.domain.models.match.football.FootballEvent;
 import com.example.tournafy.domain.models.match.football.FootballMatch;
 import com.example.tournafy.ui.adapters.FootballEventAdapter;
 import com.example.tournafy.ui.viewmodels.MatchViewModel;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
 import dagger.hilt.android.AndroidEntryPoint;
 
 /**
@@ -85,9 +80,7 @@ public class FootballTimelineFragment extends Fragment {
      * Events are displayed in chronological order (earliest to latest).
      */
     private void updateTimeline(FootballMatch match) {
-        List<FootballEvent> events = match.getFootballEvents();
-        
-        if (events == null || events.isEmpty()) {
+        if (match.timeline().size() == 0) {
             // Show empty state
             rvTimeline.setVisibility(View.GONE);
             llEmptyTimeline.setVisibility(View.VISIBLE);
@@ -98,12 +91,6 @@ public class FootballTimelineFragment extends Fragment {
         rvTimeline.setVisibility(View.VISIBLE);
         llEmptyTimeline.setVisibility(View.GONE);
 
-        // Sort events by match minute (chronological order)
-        List<FootballEvent> sortedEvents = new ArrayList<>(events);
-        Collections.sort(sortedEvents, (e1, e2) -> 
-            Integer.compare(e1.getMatchMinute(), e2.getMatchMinute())
-        );
-
         // Set team names for the adapter
         if (match.getTeams() != null && match.getTeams().size() >= 2) {
             timelineAdapter.setTeamNames(
@@ -114,7 +101,7 @@ public class FootballTimelineFragment extends Fragment {
             );
         }
 
-        // Update adapter with sorted events
-        timelineAdapter.setEvents(sortedEvents);
+        // Already in chronological order in the match's timeline index
+        timelineAdapter.setEvents(match.timeline().events());
     }
 }
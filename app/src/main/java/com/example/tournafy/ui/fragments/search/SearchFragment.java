@@ -28,7 +28,8 @@ import com.google.android.material.textfield.TextInputEditText;
 import dagger.hilt.android.AndroidEntryPoint;
 
 /**
- * Fragment for searching matches, tournaments, and series by code.
+ * Fragment for searching matches, tournaments, and series by code,
+ * and matches, tournaments, series, teams and players by name while typing.
  */
 @AndroidEntryPoint
 public class SearchFragment extends Fragment implements SearchResultAdapter.OnResultClickListener {
@@ -79,6 +80,18 @@ public class SearchFragment extends Fragment implements SearchResultAdapter.OnRe
         adapter = new SearchResultAdapter(this);
         recyclerResults.setLayoutManager(new LinearLayoutManager(getContext()));
         recyclerResults.setAdapter(adapter);
+        
+        // Load the next page of name results before the end of the list is reached
+        recyclerResults.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView rv, int dx, int dy) {
+                LinearLayoutManager layoutManager = (LinearLayoutManager) rv.getLayoutManager();
+                if (dy > 0 && layoutManager != null
+                        && layoutManager.findLastVisibleItemPosition() >= adapter.getItemCount() - 5) {
+                    searchViewModel.loadMore();
+                }
+            }
+        });
     }
     
     private void setupListeners() {
@@ -105,7 +118,10 @@ public class SearchFragment extends Fragment implements SearchResultAdapter.OnRe
             }
             
             @Override
-            public void afterTextChanged(android.text.Editable s) {}
+            public void afterTextChanged(android.text.Editable s) {
+                // Ranked name results while typing (served from the prefix cache when possible)
+                searchViewModel.onQueryChanged(s.toString());
+            }
         });
     }
     
@@ -185,6 +201,12 @@ public class SearchFragment extends Fragment implements SearchResultAdapter.OnRe
                 Toast.makeText(getContext(), "Opening series: " + result.getTitle(), 
                     Toast.LENGTH_SHORT).show();
                 break;
+            case SearchResult.TYPE_TEAM:
+            case SearchResult.TYPE_PLAYER:
+                // TODO: Team and player profiles
+                Toast.makeText(getContext(), result.getSubtitle() + ": " + result.getTitle(), 
+                    Toast.LENGTH_SHORT).show();
+                break;
         }
     }
     
@@ -13,14 +13,15 @@ import android.widget.Toast;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
+import androidx.lifecycle.LiveData;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.tournafy.R;
-import com.example.tournafy.data.repository.offline.MatchFirestoreRepository;
+import com.example.tournafy.data.repository.offline.MatchSummaryFirestoreRepository;
 import com.example.tournafy.data.repository.offline.TournamentMatchFirestoreRepository;
-import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.domain.models.match.MatchSummary;
 import com.example.tournafy.domain.models.tournament.TournamentMatch;
 import com.example.tournafy.ui.activities.MatchActivity;
 import com.example.tournafy.ui.adapters.tournament.TournamentMatchAdapter;
@@ -32,7 +33,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -53,7 +53,7 @@ public class TournamentKnockoutFragment extends Fragment {
     TournamentMatchFirestoreRepository tournamentMatchRepository;
     
     @Inject
-    MatchFirestoreRepository matchRepository;
+    MatchSummaryFirestoreRepository matchSummaryRepository;
 
     private TournamentViewModel tournamentViewModel;
     private BracketView bracketView;
@@ -66,7 +66,7 @@ public class TournamentKnockoutFragment extends Fragment {
     private boolean isOnline;
     
     // Store loaded matches
-    private final Map<String, Match> loadedMatches = new HashMap<>();
+    private final Map<String, MatchSummary> loadedMatches = new HashMap<>();
     private final List<TournamentMatchWithDetails> matchesWithDetails = new ArrayList<>();
 
     public TournamentKnockoutFragment() {}
@@ -200,41 +200,38 @@ public class TournamentKnockoutFragment extends Fragment {
     }
     
     private void loadMatchDetailsForBrackets(List<TournamentMatch> tournamentMatches) {
-        final int totalMatches = tournamentMatches.size();
-        final int[] loadedCount = {0};
+        Log.d(TAG, "Loading match summaries for " + tournamentMatches.size() + " matches");
         
-        Log.d(TAG, "Loading match details for " + totalMatches + " matches");
-        
-        for (TournamentMatch tournamentMatch : tournamentMatches) {
-            String matchId = tournamentMatch.getMatchId();
-            
-            if (matchId == null) {
-                Log.w(TAG, "TournamentMatch has null matchId, skipping");
-                loadedCount[0]++;
-                continue;
+        // One summaries query for the whole tournament instead of a full Match listener per match.
+        // The LiveData is shared, so drop this view's previous observer before re-observing.
+        LiveData<List<MatchSummary>> summariesLiveData = matchSummaryRepository.getSummariesByTournamentId(tournamentId);
+        summariesLiveData.removeObservers(getViewLifecycleOwner());
+        summariesLiveData.observe(getViewLifecycleOwner(), summaries -> {
+            loadedMatches.clear();
+            matchesWithDetails.clear();
+            if (summaries != null) {
+                for (MatchSummary summary : summaries) {
+                    loadedMatches.put(summary.getEntityId(), summary);
+                }
             }
             
-            // Load Match entity
-            matchRepository.getById(matchId).observe(getViewLifecycleOwner(), match -> {
-                loadedCount[0]++;
-                
-                if (match != null) {
-                    loadedMatches.put(matchId, match);
-                    matchesWithDetails.add(new TournamentMatchWithDetails(tournamentMatch, match));
-                    Log.d(TAG, "Loaded match details for: " + matchId);
-                } else {
-                    Log.w(TAG, "Failed to load match: " + matchId);
-                    // Add without match details
-                    matchesWithDetails.add(new TournamentMatchWithDetails(tournamentMatch, null));
+            for (TournamentMatch tournamentMatch : tournamentMatches) {
+                String matchId = tournamentMatch.getMatchId();
+                if (matchId == null) {
+                    Log.w(TAG, "TournamentMatch has null matchId, skipping");
+                    continue;
                 }
-                
-                // When all matches are loaded, display them
-                if (loadedCount[0] == totalMatches) {
-                    Log.d(TAG, "All bracket matches loaded, displaying");
-                    displayBrackets();
+                MatchSummary summary = loadedMatches.get(matchId);
+                if (summary == null) {
+                    Log.w(TAG, "No summary for match: " + matchId);
                 }
-            });
-        }
+                // Added without match details when the summary is missing
+                matchesWithDetails.add(new TournamentMatchWithDetails(tournamentMatch, summary));
+            }
+            
+            Log.d(TAG, "All bracket matches loaded, displaying");
+            displayBrackets();
+        });
     }
     
     private void displayBrackets() {
@@ -2,7 +2,6 @@ package com.example.tournafy.ui.fragments.tournament;
 
 import android.content.Intent;
 import android.os.Bundle;
-import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -18,9 +17,10 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.tournafy.R;
-import com.example.tournafy.data.repository.offline.MatchFirestoreRepository;
+import com.example.tournafy.data.repository.PagedLiveData;
+import com.example.tournafy.data.repository.offline.MatchSummaryFirestoreRepository;
 import com.example.tournafy.data.repository.offline.TournamentMatchFirestoreRepository;
-import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.domain.models.match.MatchSummary;
 import com.example.tournafy.domain.models.tournament.Tournament;
 import com.example.tournafy.domain.models.tournament.TournamentMatch;
 import com.example.tournafy.ui.activities.MatchActivity;
@@ -51,7 +51,7 @@ public class TournamentMatchesFragment extends Fragment {
     TournamentMatchFirestoreRepository tournamentMatchRepository;
 
     @Inject
-    MatchFirestoreRepository matchRepository;
+    MatchSummaryFirestoreRepository matchSummaryRepository;
 
     private TournamentViewModel tournamentViewModel;
     private TournamentMatchAdapter matchAdapter;
@@ -67,8 +67,10 @@ public class TournamentMatchesFragment extends Fragment {
     private Tournament currentTournament;
     private String currentFilter = "ALL";
 
-    private final Map<String, Match> loadedMatches = new HashMap<>();
+    private PagedLiveData<MatchSummary> summaryPages;
+    private final Map<String, MatchSummary> loadedMatches = new HashMap<>();
     private final List<TournamentMatchWithDetails> matchesWithDetails = new ArrayList<>();
+    private List<TournamentMatch> currentTournamentMatches = new ArrayList<>();
 
     public TournamentMatchesFragment() {}
 
@@ -122,6 +124,19 @@ public class TournamentMatchesFragment extends Fragment {
         rvMatches.setLayoutManager(new LinearLayoutManager(getContext()));
         // FIX: Removed rvMatches.setHasFixedSize(true); to satisfy Lint
 
+        // Prefetch the next page of match summaries before the end of the list is reached
+        rvMatches.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView rv, int dx, int dy) {
+                if (dy <= 0 || summaryPages == null) return;
+                LinearLayoutManager layoutManager = (LinearLayoutManager) rv.getLayoutManager();
+                if (layoutManager != null) {
+                    summaryPages.onScrolled(layoutManager.findLastVisibleItemPosition(),
+                            matchAdapter.getItemCount());
+                }
+            }
+        });
+
         setupAdapter();
     }
 
@@ -172,6 +187,20 @@ public class TournamentMatchesFragment extends Fragment {
         } else {
             tournamentViewModel.offlineTournament.observe(getViewLifecycleOwner(), this::onTournamentLoaded);
         }
+
+        // Summaries of the tournament's matches, one page at a time
+        if (tournamentId != null) {
+            summaryPages = matchSummaryRepository.pageSummariesByTournamentId(tournamentId);
+            summaryPages.observe(getViewLifecycleOwner(), summaries -> {
+                loadedMatches.clear();
+                if (summaries != null) {
+                    for (MatchSummary summary : summaries) {
+                        loadedMatches.put(summary.getEntityId(), summary);
+                    }
+                }
+                loadMatchDetails(currentTournamentMatches);
+            });
+        }
     }
 
     private void onTournamentLoaded(Tournament tournament) {
@@ -196,40 +225,26 @@ public class TournamentMatchesFragment extends Fragment {
                 tournamentMatchRepository.getAllForTournament(tournamentId);
 
         matchesLiveData.observe(getViewLifecycleOwner(), tournamentMatches -> {
-            if (tournamentMatches == null || tournamentMatches.isEmpty()) {
+            currentTournamentMatches = tournamentMatches != null ? tournamentMatches : new ArrayList<>();
+            if (currentTournamentMatches.isEmpty()) {
                 showEmptyState(getEmptyMessage());
                 return;
             }
-            loadMatchDetails(tournamentMatches);
+            loadMatchDetails(currentTournamentMatches);
         });
     }
 
     private void loadMatchDetails(List<TournamentMatch> tournamentMatches) {
         matchesWithDetails.clear();
-        int totalMatches = tournamentMatches.size();
-        final int[] loadedCount = {0};
+        if (tournamentMatches.isEmpty()) return;
 
         for (TournamentMatch tm : tournamentMatches) {
-            if (tm.getMatchId() == null) {
-                loadedCount[0]++;
-                if (loadedCount[0] == totalMatches) {
-                    filterAndDisplayMatches();
-                }
-                continue;
+            MatchSummary summary = tm.getMatchId() != null ? loadedMatches.get(tm.getMatchId()) : null;
+            if (summary != null) {
+                matchesWithDetails.add(new TournamentMatchWithDetails(tm, summary));
             }
-
-            matchRepository.getById(tm.getMatchId()).observe(getViewLifecycleOwner(), match -> {
-                if (match != null) {
-                    loadedMatches.put(tm.getMatchId(), match);
-                    matchesWithDetails.add(new TournamentMatchWithDetails(tm, match));
-                }
-
-                loadedCount[0]++;
-                if (loadedCount[0] == totalMatches) {
-                    filterAndDisplayMatches();
-                }
-            });
         }
+        filterAndDisplayMatches();
     }
 
     private void filterAndDisplayMatches() {
@@ -262,6 +277,12 @@ public class TournamentMatchesFragment extends Fragment {
             }
         }
 
+        // A filter can hide most of a page; keep loading until the list can scroll
+        if (summaryPages != null && summaryPages.hasMore()
+                && filtered.size() < PagedLiveData.DEFAULT_PAGE_SIZE) {
+            summaryPages.loadNextPage();
+        }
+
         if (filtered.isEmpty()) {
             showEmptyState(getEmptyMessage());
         } else {
@@ -5,12 +5,15 @@ import androidx.lifecycle.MediatorLiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
 
+import com.example.tournafy.data.repository.PagedLiveData;
 import com.example.tournafy.data.repository.offline.MatchFirestoreRepository;
+import com.example.tournafy.data.repository.offline.MatchSummaryFirestoreRepository;
 import com.example.tournafy.data.repository.offline.SeriesFirestoreRepository;
 import com.example.tournafy.data.repository.offline.TournamentFirestoreRepository;
+import com.example.tournafy.data.repository.offline.VisibilityCodeFirestoreRepository;
 import com.example.tournafy.di.RepositoryQualifiers.OfflineRepo;
 import com.example.tournafy.domain.models.base.HostedEntity;
-import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.domain.models.match.MatchSummary;
 import com.example.tournafy.domain.models.series.Series;
 import com.example.tournafy.domain.models.tournament.Tournament;
 import com.google.firebase.auth.FirebaseAuth;
@@ -27,8 +30,10 @@ import dagger.hilt.android.lifecycle.HiltViewModel;
 public class HomeViewModel extends ViewModel {
 
     private final MatchFirestoreRepository matchRepo;
+    private final MatchSummaryFirestoreRepository matchSummaryRepo;
     private final TournamentFirestoreRepository tournamentRepo;
     private final SeriesFirestoreRepository seriesRepo;
+    private final VisibilityCodeFirestoreRepository codeRepo;
 
     private List<HostedEntity> allEntitiesCache = new ArrayList<>();
     private final MediatorLiveData<List<HostedEntity>> _hostedEntities = new MediatorLiveData<>();
@@ -37,18 +42,23 @@ public class HomeViewModel extends ViewModel {
     private final MutableLiveData<EntityTypeFilter> _currentFilter = new MutableLiveData<>(EntityTypeFilter.ALL);
     
     // Track current data sources to remove when user changes
-    private LiveData<List<Match>> currentMatchSource;
+    // Matches are paged: a host can have far more matches than tournaments or series
+    private PagedLiveData<MatchSummary> currentMatchSource;
     private LiveData<List<Tournament>> currentTournamentSource;
     private LiveData<List<Series>> currentSeriesSource;
 
     @Inject
     public HomeViewModel(
             @OfflineRepo MatchFirestoreRepository matchRepo,
+            MatchSummaryFirestoreRepository matchSummaryRepo,
             @OfflineRepo TournamentFirestoreRepository tournamentRepo,
-            @OfflineRepo SeriesFirestoreRepository seriesRepo) {
+            @OfflineRepo SeriesFirestoreRepository seriesRepo,
+            VisibilityCodeFirestoreRepository codeRepo) {
         this.matchRepo = matchRepo;
+        this.matchSummaryRepo = matchSummaryRepo;
         this.tournamentRepo = tournamentRepo;
         this.seriesRepo = seriesRepo;
+        this.codeRepo = codeRepo;
 
         // Moved setup logic inside constructor
         setupDataAggregation();
@@ -59,20 +69,27 @@ public class HomeViewModel extends ViewModel {
         FirebaseUser currentUser = FirebaseAuth.getInstance().getCurrentUser();
         String currentUserId = currentUser != null ? currentUser.getUid() : null;
         
+        // Matches are listed from their summaries (teams, score lines, status) instead of
+        // full documents; create the summaries missing for matches saved before they existed,
+        // then index the codes of entities saved before the code index existed
+        matchRepo.backfillSummaries(currentUserId)
+                .continueWithTask(task -> codeRepo.backfillCodes(currentUserId));
+        
+        // Newest matches first; null host pages through all summaries
+        currentMatchSource = matchSummaryRepo.pageSummariesByHostId(currentUserId);
+
         if (currentUserId != null) {
             // User is logged in - filter by hostUserId
-            currentMatchSource = matchRepo.getMatchesByHostId(currentUserId);
             currentTournamentSource = tournamentRepo.getTournamentsByHostId(currentUserId);
             currentSeriesSource = seriesRepo.getSeriesByHostId(currentUserId);
         } else {
             // User is not logged in - show all (for offline/local matches)
-            currentMatchSource = matchRepo.getAll();
             currentTournamentSource = tournamentRepo.getAll();
             currentSeriesSource = seriesRepo.getAll();
         }
         
         _hostedEntities.addSource(currentMatchSource, matches -> {
-            updateCache(matches, Match.class);
+            updateCache(matches, MatchSummary.class);
             applyFilter();
         });
 
@@ -104,6 +121,24 @@ public class HomeViewModel extends ViewModel {
         }
     }
 
+    /**
+     * Prefetch hook for the home list's scroll listener: loads the next page of matches
+     * when the user nears the end of a list that shows matches.
+     */
+    public void onListScrolled(int lastVisiblePosition, int itemCount) {
+        EntityTypeFilter filter = _currentFilter.getValue();
+        if (filter == null || filter == EntityTypeFilter.ALL || filter == EntityTypeFilter.MATCH) {
+            currentMatchSource.onScrolled(lastVisiblePosition, itemCount);
+        }
+    }
+
+    /**
+     * Reloads the first page of matches (pages are one-shot reads, not listeners).
+     */
+    public void refreshMatches() {
+        currentMatchSource.refresh();
+    }
+
     public void setFilter(EntityTypeFilter filter) {
         _currentFilter.setValue(filter);
         applyFilter();
@@ -121,7 +156,7 @@ public class HomeViewModel extends ViewModel {
 
         List<HostedEntity> filteredList = new ArrayList<>();
         for (HostedEntity entity : allEntitiesCache) {
-            if (filter == EntityTypeFilter.MATCH && entity instanceof Match) {
+            if (filter == EntityTypeFilter.MATCH && entity instanceof MatchSummary) {
                 filteredList.add(entity);
             } else if (filter == EntityTypeFilter.TOURNAMENT && entity instanceof Tournament) {
                 filteredList.add(entity);
@@ -134,8 +169,11 @@ public class HomeViewModel extends ViewModel {
 
     // In HomeViewModel.java
     public void deleteEntity(HostedEntity entity) {
-        if (entity instanceof Match) {
+        codeRepo.unregister(entity);
+        if (entity instanceof MatchSummary) {
+            // Deletes the match, its event log and its summary
             matchRepo.delete(entity.getEntityId());
+            currentMatchSource.remove((MatchSummary) entity);
         } else if (entity instanceof Tournament) {
             tournamentRepo.delete(entity.getEntityId());
         } else if (entity instanceof Series) {
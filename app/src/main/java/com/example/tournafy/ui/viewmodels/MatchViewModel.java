@@ -6,21 +6,38 @@ import androidx.lifecycle.Transformations;
 import androidx.lifecycle.ViewModel;
 
 import com.example.tournafy.command.MatchCommandManager;
+import com.example.tournafy.command.MatchCommandManagers;
+import com.example.tournafy.command.MatchOperationLog;
+import com.example.tournafy.command.MatchReplayer;
+import com.example.tournafy.command.ScoringJournalReplay;
 import com.example.tournafy.command.cricket.AddBallCommand;
 import com.example.tournafy.command.cricket.AddExtrasCommand;
 import com.example.tournafy.command.cricket.AddWicketCommand;
 import com.example.tournafy.data.repository.offline.PlayerStatisticsFirestoreRepository;
+import com.example.tournafy.data.repository.ListUpdate;
+import com.example.tournafy.data.repository.RepositoryExecutors;
+import com.example.tournafy.data.repository.ViewerFlowControl;
 import com.example.tournafy.data.repository.online.BallFirebaseRepository;
 import com.example.tournafy.data.repository.online.FootballEventFirebaseRepository;
 import com.example.tournafy.data.repository.online.InningsFirebaseRepository;
+import com.example.tournafy.data.repository.online.LiveTickerRepository;
 import com.example.tournafy.data.repository.online.MatchFirebaseRepository;
+import com.example.tournafy.data.repository.online.MatchOperationFirebaseRepository;
+import com.example.tournafy.data.repository.online.ViewerCountAggregator;
+import com.example.tournafy.data.repository.online.ViewerPresenceRepository;
 import com.example.tournafy.data.repository.offline.BallFirestoreRepository;
 import com.example.tournafy.data.repository.offline.FootballEventFirestoreRepository;
 import com.example.tournafy.data.repository.offline.InningsFirestoreRepository;
 import com.example.tournafy.data.repository.offline.MatchFirestoreRepository;
+import com.example.tournafy.data.repository.offline.MatchWriteQueue;
+import com.example.tournafy.data.repository.offline.ScoringJournal;
+import com.example.tournafy.data.repository.offline.ScoringJournalStore;
+import com.example.tournafy.data.repository.offline.VisibilityCodeFirestoreRepository;
+import com.example.tournafy.data.repository.offline.codec.CricketMatchCodec;
 import com.example.tournafy.di.RepositoryQualifiers.OfflineRepo;
 import com.example.tournafy.di.RepositoryQualifiers.OnlineRepo;
 import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.domain.models.match.LiveTicker;
 import com.example.tournafy.domain.models.match.cricket.Ball;
 import com.example.tournafy.domain.models.match.cricket.CricketEvent;
 import com.example.tournafy.domain.models.match.cricket.CricketExtrasDetail;
@@ -30,7 +47,10 @@ import com.example.tournafy.domain.models.match.cricket.Innings;
 import com.example.tournafy.domain.models.match.cricket.Over;
 import com.example.tournafy.domain.models.match.football.FootballEvent;
 import com.example.tournafy.domain.models.statistics.PlayerStatistics;
+import com.example.tournafy.domain.models.sync.MatchOperation;
 import com.example.tournafy.service.interfaces.IEventService;
+import com.example.tournafy.service.interfaces.ISyncService;
+import com.example.tournafy.service.observers.FirebaseMatchObserver;
 
 import java.util.List;
 
@@ -51,12 +71,20 @@ public class MatchViewModel extends ViewModel {
     private final InningsFirebaseRepository onlineInningsRepo;
     private final BallFirebaseRepository onlineBallRepo;
     private final FootballEventFirebaseRepository onlineFootballEventRepo;
+    private final LiveTickerRepository liveTickerRepo;
+    private final MatchOperationFirebaseRepository operationRepo;
+    private final ViewerFlowControl viewerFlowControl;
+    private final ViewerPresenceRepository presenceRepo;
+    private final ScoringJournalStore journalStore;
 
     private final IEventService eventService;
-    private final MatchCommandManager commandManager;
+    private final ISyncService syncService;
+    private final MatchCommandManagers commandManagers;
+    private final VisibilityCodeFirestoreRepository codeRepository;
 
     private final MutableLiveData<String> _offlineMatchId = new MutableLiveData<>();
     private final MutableLiveData<String> _onlineMatchId = new MutableLiveData<>();
+    private final MutableLiveData<String> _onlineScorecardId = new MutableLiveData<>();
     private final MutableLiveData<String> _onlineOverId = new MutableLiveData<>();
 
     // MediatorLiveData allows us to update match state either from DB or manually
@@ -64,9 +92,13 @@ public class MatchViewModel extends ViewModel {
     public final LiveData<Match> offlineMatch = _offlineMatch;
     public final LiveData<List<Innings>> offlineInningsList;
 
+    // Viewers: the small live ticker by default, the full scorecard only on demand.
+    // Conflated to at most one update per frame (see ViewerFlowControl)
+    public final LiveData<LiveTicker> liveTicker;
     public final LiveData<Match> onlineMatch;
-    public final LiveData<List<FootballEvent>> onlineFootballEvents;
-    public final LiveData<List<Ball>> onlineBallStream;
+    // Ball and event lists are ranged updates (see ListUpdate): adapters rebind only what changed
+    public final LiveData<ListUpdate<FootballEvent>> onlineFootballEvents;
+    public final LiveData<ListUpdate<Ball>> onlineBallStream;
     public final LiveData<List<Innings>> onlineInningsList;
 
     private final MutableLiveData<String> _errorMessage = new MutableLiveData<>();
@@ -82,6 +114,30 @@ public class MatchViewModel extends ViewModel {
     private final MutableLiveData<Boolean> _matchStartEvent = new MutableLiveData<>();
     public final LiveData<Boolean> matchStartEvent = _matchStartEvent;
 
+    // Coalesces scoring writes of the current match (recreated when the match changes)
+    private MatchWriteQueue writeQueue;
+    // Online sync of the match being hosted (null until a match is loaded)
+    private FirebaseMatchObserver onlineSyncObserver;
+    // Shared operation log while the match is scored together with co-hosts (null otherwise)
+    private MatchOperationLog operationLog;
+    private MatchOperationFirebaseRepository.Registration operationRegistration;
+    private final CricketMatchCodec checkpointCodec = new CricketMatchCodec();
+    // Viewer presence in the online match being watched, and the host's viewer count
+    private ViewerPresenceRepository.Presence viewerPresence;
+    private ViewerCountAggregator viewerCountAggregator;
+    // Crash-safe journal of the cricket match being scored (null if none or not openable)
+    private ScoringJournal journal;
+    private String journalMatchId;
+    // Appends to the journal when it was last checkpointed
+    private long journalCheckpointedAt;
+    // Match whose journal is being opened and replayed off the main thread
+    private String recoveringMatchId;
+    private final android.os.Handler mainHandler = new android.os.Handler(android.os.Looper.getMainLooper());
+    // Match whose derived state was last checked against its events, and the one
+    // being checked off the main thread
+    private String verifiedMatchId;
+    private String verifyingMatchId;
+
     @Inject
     PlayerStatisticsFirestoreRepository playerStatisticsRepository;
 
@@ -100,8 +156,15 @@ public class MatchViewModel extends ViewModel {
             @OnlineRepo InningsFirebaseRepository onlineInningsRepo,
             @OnlineRepo BallFirebaseRepository onlineBallRepo,
             @OnlineRepo FootballEventFirebaseRepository onlineFootballEventRepo,
+            LiveTickerRepository liveTickerRepo,
+            MatchOperationFirebaseRepository operationRepo,
+            ViewerFlowControl viewerFlowControl,
+            ViewerPresenceRepository presenceRepo,
+            ScoringJournalStore journalStore,
             IEventService eventService,
-            MatchCommandManager commandManager
+            ISyncService syncService,
+            MatchCommandManagers commandManagers,
+            VisibilityCodeFirestoreRepository codeRepository
     ) {
         this.offlineMatchRepo = offlineMatchRepo;
         this.offlineInningsRepo = offlineInningsRepo;
@@ -113,9 +176,16 @@ public class MatchViewModel extends ViewModel {
         this.onlineInningsRepo = onlineInningsRepo;
         this.onlineBallRepo = onlineBallRepo;
         this.onlineFootballEventRepo = onlineFootballEventRepo;
+        this.liveTickerRepo = liveTickerRepo;
+        this.operationRepo = operationRepo;
+        this.viewerFlowControl = viewerFlowControl;
+        this.presenceRepo = presenceRepo;
+        this.journalStore = journalStore;
 
         this.eventService = eventService;
-        this.commandManager = commandManager;
+        this.syncService = syncService;
+        this.commandManagers = commandManagers;
+        this.codeRepository = codeRepository;
 
         // Set up MediatorLiveData to listen to database changes
         // This allows us to also manually update _offlineMatch for undo/redo
@@ -123,6 +193,10 @@ public class MatchViewModel extends ViewModel {
                 matchId -> offlineMatchRepo.getById(matchId)
         );
         _offlineMatch.addSource(dbMatch, match -> {
+            // While co-scoring, the shared operation log owns the match instance
+            if (operationLog != null && match != null && operationLog.getMatchId().equals(match.getEntityId())) return;
+            if (recoverFromJournal(match)) return; // Emitted once its journal is replayed
+            if (verifyReplay(match)) return; // Emitted once it is verified
             _offlineMatch.setValue(match);
         });
         
@@ -130,17 +204,23 @@ public class MatchViewModel extends ViewModel {
                 matchId -> offlineInningsRepo.getInningsByMatchId(matchId)
         );
 
-        this.onlineMatch = Transformations.switchMap(_onlineMatchId,
-                matchId -> onlineMatchRepo.getById(matchId)
+        // On a slow metered link the ticker skips intermediate states (latest only)
+        this.liveTicker = Transformations.switchMap(_onlineMatchId,
+                matchId -> viewerFlowControl.conflate(viewerFlowControl.isConstrainedNetwork()
+                        ? liveTickerRepo.getLatestTicker(matchId)
+                        : liveTickerRepo.getTicker(matchId))
+        );
+        this.onlineMatch = Transformations.switchMap(_onlineScorecardId,
+                matchId -> viewerFlowControl.conflate(onlineMatchRepo.getById(matchId))
         );
-        this.onlineFootballEvents = Transformations.switchMap(_onlineMatchId,
-                matchId -> onlineFootballEventRepo.getEventsByMatchId(matchId)
+        this.onlineFootballEvents = Transformations.switchMap(_onlineScorecardId,
+                matchId -> viewerFlowControl.conflate(onlineFootballEventRepo.streamEventsByMatchId(matchId))
         );
         this.onlineBallStream = Transformations.switchMap(_onlineOverId,
-                overId -> onlineBallRepo.getBallsByOverId(overId)
+                overId -> viewerFlowControl.conflate(onlineBallRepo.streamBallsByOverId(overId))
         );
-        this.onlineInningsList = Transformations.switchMap(_onlineMatchId,
-                matchId -> onlineInningsRepo.getInningsByMatchId(matchId)
+        this.onlineInningsList = Transformations.switchMap(_onlineScorecardId,
+                matchId -> viewerFlowControl.conflate(onlineInningsRepo.getInningsByMatchId(matchId))
         );
     }
     
@@ -157,34 +237,292 @@ public class MatchViewModel extends ViewModel {
     }
 
     /**
-     * CRITICAL FIX: Registers FirebaseMatchObserver to enable automatic sync from Firestore (offline) to Firebase (online).
+     * Returns the undo history of the given match; every match keeps its own.
+     */
+    private MatchCommandManager commandsFor(Match match) {
+        return commandManagers.forMatch(match != null ? match.getEntityId() : null);
+    }
+
+    /**
+     * Returns the write-behind queue for the given match, replacing the queue of a
+     * previously scored match (its pending writes are flushed first).
+     */
+    private MatchWriteQueue writeQueueFor(Match match) {
+        if (writeQueue != null && !writeQueue.getMatchId().equals(match.getEntityId())) {
+            writeQueue.close();
+            writeQueue = null;
+        }
+        if (writeQueue == null) {
+            writeQueue = new MatchWriteQueue(offlineMatchRepo, match.getEntityId());
+            writeQueue.setErrorListener(e -> _errorMessage.setValue("Failed to save match update"));
+        }
+        return writeQueue;
+    }
+
+    /**
+     * Commits queued scoring writes right away. Called before direct full-document
+     * writes so they are ordered after everything scored before them.
+     */
+    private void flushPendingWrites() {
+        if (writeQueue != null) {
+            writeQueue.flush();
+        }
+    }
+
+    // --- Scoring journal ---
+
+    /**
+     * Opens the scoring journal when a cricket match is first loaded and replays the
+     * commands the persisted snapshot is missing (the process died before Firestore
+     * stored them). Also rebuilds the undo history from the journal, and replaces a
+     * long journal whose entries are all persisted with a checkpoint of that history.
+     *
+     * The journal is opened, replayed and checkpointed on the journal store's thread;
+     * the match is emitted once that is done, and copies of it loaded meanwhile are
+     * dropped.
+     * @return Whether the match is being recovered (and must not be emitted yet).
+     */
+    private boolean recoverFromJournal(Match match) {
+        if (!(match instanceof CricketMatch) || match.getEntityId() == null) return false;
+        String matchId = match.getEntityId();
+        if (matchId.equals(recoveringMatchId)) return true;
+        if (matchId.equals(journalMatchId)) return false;
+        closeJournal();
+        journalMatchId = matchId;
+        String status = match.getMatchStatus();
+        if (com.example.tournafy.domain.enums.MatchStatus.COMPLETED.name().equals(status) ||
+                com.example.tournafy.domain.enums.MatchStatus.ABANDONED.name().equals(status)) {
+            // Nothing left to score or undo
+            journalStore.execute(() -> journalStore.delete(matchId));
+            return false;
+        }
+        recoveringMatchId = matchId;
+        _isLoading.setValue(true);
+        CricketMatch cricketMatch = (CricketMatch) match;
+        journalStore.execute(() -> {
+            ScoringJournal opened = journalStore.open(matchId);
+            MatchCommandManager commands = new MatchCommandManager();
+            int applied = opened != null && !opened.getEntries().isEmpty()
+                ? ScoringJournalReplay.recover(cricketMatch, opened.getEntries(), commands) : 0;
+            if (applied == 0 && opened != null && opened.getEntries().size() > 2 * commands.getHistoryLimit() &&
+                    opened.getLastSeq() <= cricketMatch.getLastAppliedSeq()) {
+                // The snapshot holds every entry: keep only what rebuilds the undo history
+                opened.compact(commands.getHistoryLimit());
+            }
+            ScoringJournal recovered = opened;
+            mainHandler.post(() -> onJournalRecovered(cricketMatch, recovered, commands, applied));
+        });
+        return true;
+    }
+
+    /**
+     * Installs a journal and the history recovered from it, then emits the match.
+     * Called on the main thread.
+     */
+    private void onJournalRecovered(CricketMatch match, ScoringJournal opened, MatchCommandManager commands, int applied) {
+        if (!match.getEntityId().equals(recoveringMatchId)) {
+            // The view model was cleared, or moved to another match, meanwhile
+            if (opened != null) opened.close();
+            return;
+        }
+        recoveringMatchId = null;
+        _isLoading.setValue(false);
+        journal = opened;
+        journalCheckpointedAt = 0;
+        commandManagers.put(match.getEntityId(), commands);
+        if (applied > 0) {
+            offlineMatchRepo.update(match);
+            syncOnline(match, null);
+        }
+        if (!verifyReplay(match)) _offlineMatch.setValue(match);
+    }
+
+    /**
+     * Checks the derived state of a match (innings totals, overs, stats, scores) against
+     * a replay of its events when it is first loaded, and repairs it if they drifted.
+     *
+     * The replay runs on the decode executor; the match is emitted once it is checked,
+     * and copies of it loaded meanwhile are dropped.
+     * @return Whether the match is being checked (and must not be emitted yet).
+     */
+    private boolean verifyReplay(Match match) {
+        if (match == null || match.getEntityId() == null) return false;
+        String matchId = match.getEntityId();
+        if (matchId.equals(verifyingMatchId)) return true;
+        if (matchId.equals(verifiedMatchId)) return false;
+        verifiedMatchId = matchId;
+        verifyingMatchId = matchId;
+        RepositoryExecutors.decodeExecutor().execute(() -> {
+            MatchReplayer.Verification verification = MatchReplayer.verify(match);
+            mainHandler.post(() -> onReplayVerified(match, verification));
+        });
+        return true;
+    }
+
+    /**
+     * Repairs a match whose derived state drifted from its events, then emits it.
+     * Called on the main thread.
+     */
+    private void onReplayVerified(Match match, MatchReplayer.Verification verification) {
+        // The view model was cleared, or moved to another match, meanwhile
+        if (!match.getEntityId().equals(verifyingMatchId)) return;
+        verifyingMatchId = null;
+        if (MatchReplayer.repair(match, verification)) {
+            offlineMatchRepo.update(match);
+            syncOnline(match, null);
+        }
+        _offlineMatch.setValue(match);
+    }
+
+    private void closeJournal() {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+        journalMatchId = null;
+        recoveringMatchId = null;
+    }
+
+    private boolean isJournaled(Match match) {
+        return journal != null && match != null && match.getEntityId().equals(journalMatchId);
+    }
+
+    /**
+     * Journals a delivery before its event is queued for Firestore, under the log
+     * sequence number the write queue reserves for it next.
+     */
+    private void journalDelivery(CricketMatch match, String type, Ball ball, CricketEvent event) {
+        if (!isJournaled(match)) return;
+        journal.appendDelivery(type, match.getLastAppliedSeq() + 1, ball, event);
+        checkpointJournalIfDue(match);
+    }
+
+    /**
+     * Journals an undo. It takes its own log sequence number, so the full write that
+     * follows tells recovery whether the undo reached the snapshot.
+     */
+    private void journalUndo(Match match) {
+        if (!isJournaled(match)) return;
+        journal.appendUndo(match.nextLogSeq());
+        checkpointJournalIfDue(match);
+    }
+
+    private void journalRedo(Match match) {
+        if (!isJournaled(match)) return;
+        journal.appendRedo(match.nextLogSeq());
+        checkpointJournalIfDue(match);
+    }
+
+    /**
+     * Checkpoints the journal every historyLimit appends, on the journal store's
+     * thread, so it stays bounded while a long match is scored. The entries the
+     * checkpoint drops are at least historyLimit commands old: the write queue handed
+     * them to Firestore long ago.
+     */
+    private void checkpointJournalIfDue(Match match) {
+        int historyLimit = commandsFor(match).getHistoryLimit();
+        if (journal.getRecordsAppended() - journalCheckpointedAt < historyLimit) return;
+        journalCheckpointedAt = journal.getRecordsAppended();
+        ScoringJournal checkpointed = journal;
+        journalStore.execute(() -> checkpointed.compact(historyLimit));
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        stopSharedScoring();
+        leaveOnlineMatch();
+        stopViewerCount();
+        unregisterOnlineSync();
+        closeJournal();
+        verifyingMatchId = null;
+        if (writeQueue != null) {
+            android.util.Log.d("MatchViewModel", "Write queue: " + writeQueue.getMutationsEnqueued() +
+                " mutations, " + writeQueue.getBatchesCommitted() + " batches, " +
+                writeQueue.getWritesCoalesced() + " coalesced");
+            writeQueue.close();
+            writeQueue = null;
+        }
+    }
+
+    /**
+     * Registers FirebaseMatchObserver to sync the match from Firestore (offline) to Firebase (online).
      * This method should be called whenever a match is loaded, created, or started.
      * 
-     * DISABLED FOR OFFLINE-FIRST: Online sync disabled to improve offline performance.
-     * Re-enable when implementing explicit sync feature.
+     * Changes go through the sync outbox (ISyncService), which batches them into one
+     * multi-path write per window and waits for connectivity, so scoring stays offline-first.
+     * The first registration for a match also queues the whole match for upload.
      * 
-     * @param match The CricketMatch to register the observer for
+     * @param match The match to register the observer for
      */
-    private void registerOnlineSync(CricketMatch match) {
-        // DISABLED: Online sync causes performance issues for offline-first app
-        // TODO: Re-enable with network check and user preference
-        /*
-        if (match != null && onlineMatchRepo != null) {
-            // Create observer with Firebase repository and match ID
-            com.example.tournafy.service.observers.FirebaseMatchObserver observer = 
-                new com.example.tournafy.service.observers.FirebaseMatchObserver(
-                    onlineMatchRepo, 
-                    match.getEntityId()
-                );
-            
-            // Register observer to receive notifications
-            match.addObserver(observer);
-            
-            // Log for debugging
-            android.util.Log.d("MatchViewModel", "Registered FirebaseMatchObserver for match: " + match.getEntityId());
+    private void registerOnlineSync(Match match) {
+        if (match == null || match.getEntityId() == null) return;
+        if (onlineSyncObserver != null && onlineSyncObserver.getMatch() == match) return;
+        
+        boolean newMatch = onlineSyncObserver == null ||
+            !match.getEntityId().equals(onlineSyncObserver.getMatch().getEntityId());
+        unregisterOnlineSync();
+        
+        // The LiveData may hand out a freshly decoded instance: observe that one
+        onlineSyncObserver = new FirebaseMatchObserver(syncService, match);
+        if (match instanceof CricketMatch) {
+            ((CricketMatch) match).addObserver(onlineSyncObserver);
+        } else if (match instanceof com.example.tournafy.domain.models.match.football.FootballMatch) {
+            ((com.example.tournafy.domain.models.match.football.FootballMatch) match).addObserver(onlineSyncObserver);
+        }
+        
+        if (newMatch) {
+            android.util.Log.d("MatchViewModel", "Registered online sync for match: " + match.getEntityId());
+            // The host folds the viewer presence shards into the ticker's viewer count
+            stopViewerCount();
+            viewerCountAggregator = new ViewerCountAggregator(presenceRepo, match.getEntityId());
+            viewerCountAggregator.start();
+            syncService.syncEntityToOnline(match, null, new ISyncService.SyncCallback<Void>() {
+                @Override
+                public void onSuccess(Void result) {
+                    android.util.Log.d("MatchViewModel", "Match synced online: " + match.getEntityId());
+                }
+
+                @Override
+                public void onError(Exception e) {
+                    // The outbox keeps retrying; nothing to show the host
+                    android.util.Log.w("MatchViewModel", "Online sync pending: " + (e != null ? e.getMessage() : ""));
+                }
+            });
+        }
+    }
+
+    private void stopViewerCount() {
+        if (viewerCountAggregator != null) {
+            viewerCountAggregator.stop();
+            viewerCountAggregator = null;
+        }
+    }
+
+    private void unregisterOnlineSync() {
+        if (onlineSyncObserver == null) return;
+        Match match = onlineSyncObserver.getMatch();
+        if (match instanceof CricketMatch) {
+            ((CricketMatch) match).removeObserver(onlineSyncObserver);
+        } else if (match instanceof com.example.tournafy.domain.models.match.football.FootballMatch) {
+            ((com.example.tournafy.domain.models.match.football.FootballMatch) match).removeObserver(onlineSyncObserver);
+        }
+        onlineSyncObserver = null;
+    }
+
+    /**
+     * Queues a change of the match for online sync (batched by the outbox).
+     * @param match The changed match
+     * @param event The new event, or null for a state change
+     */
+    private void syncOnline(Match match, com.example.tournafy.domain.models.base.MatchEvent event) {
+        if (match == null || match.getEntityId() == null) return;
+        registerOnlineSync(match);
+        if (event != null) {
+            syncService.enqueueEvent(match, event);
+        } else {
+            syncService.enqueueMatch(match);
         }
-        */
-        android.util.Log.d("MatchViewModel", "Online sync DISABLED for offline-first experience");
     }
 
     public void loadOfflineMatch(String matchId) {
@@ -203,9 +541,7 @@ public class MatchViewModel extends ViewModel {
                 android.util.Log.d("MatchViewModel", "Checking match: " + match.getName() + 
                     " (ID: " + match.getEntityId() + ") for visibility link");
                 
-                if (match instanceof CricketMatch) {
-                    registerOnlineSync((CricketMatch) match);
-                }
+                registerOnlineSync(match);
                 
                 // Auto-generate visibility link if missing (for existing matches) - ONLY ONCE
                 if (match.getVisibilityLink() == null || match.getVisibilityLink().isEmpty()) {
@@ -229,6 +565,7 @@ public class MatchViewModel extends ViewModel {
                             android.util.Log.e("MatchViewModel", "Failed to persist visibility link: " + e.getMessage());
                             // Even if persistence fails, the in-memory object still has the link
                         });
+                    codeRepository.register(match);
                 } else {
                     android.util.Log.d("MatchViewModel", "Match already has visibility link: " + match.getVisibilityLink());
                 }
@@ -241,8 +578,32 @@ public class MatchViewModel extends ViewModel {
         offlineMatch.observeForever(linkGenerationObserver);
     }
 
+    /**
+     * Subscribes to the live ticker of an online match (liveTicker). This is what
+     * viewer screens show; it does not download the match itself.
+     */
     public void loadOnlineMatch(String matchId) {
         _onlineMatchId.setValue(matchId);
+        leaveOnlineMatch();
+        if (matchId != null) {
+            // Counted in the match's viewer count (liveTicker.viewerCount) while watching
+            viewerPresence = presenceRepo.join(matchId, syncService.getClientId());
+        }
+    }
+
+    private void leaveOnlineMatch() {
+        if (viewerPresence != null) {
+            viewerPresence.leave();
+            viewerPresence = null;
+        }
+    }
+
+    /**
+     * Subscribes to the full online match (onlineMatch, onlineInningsList,
+     * onlineFootballEvents), e.g. when a viewer opens the scorecard.
+     */
+    public void loadOnlineScorecard(String matchId) {
+        _onlineScorecardId.setValue(matchId);
     }
 
     public void loadOnlineBallStream(String overId) {
@@ -267,8 +628,9 @@ public class MatchViewModel extends ViewModel {
      * Update/save match to offline repository
      */
     public void updateMatch(Match match) {
-        if (match != null) {
-            offlineMatchRepo.update(match);
+        if (match != null && match.getEntityId() != null) {
+            writeQueueFor(match).enqueueFullWrite(match);
+            syncOnline(match, null);
         }
     }
 
@@ -278,50 +640,29 @@ public class MatchViewModel extends ViewModel {
 
     /**
      * Load match by match code (visibility link).
-     * Searches for match in offline repository with the given match code.
-     * Case-insensitive search with hyphen handling.
+     * Resolves the code with one read of its entry in the "codes" index.
+     * Case-insensitive, with or without hyphens.
      * 
      * @param matchCode The match code to search for (e.g., "MHA-E2B" or "MHAE2B")
      */
     public void loadMatchByCode(String matchCode) {
         _isLoading.setValue(true);
         
-        // Normalize match code: uppercase and remove hyphens for comparison
-        String normalizedInput = matchCode.toUpperCase().replaceAll("-", "");
-        
-        // Search offline repository for match with this code
-        androidx.lifecycle.Observer<java.util.List<Match>> searchObserver = new androidx.lifecycle.Observer<java.util.List<Match>>() {
-            @Override
-            public void onChanged(java.util.List<Match> matches) {
-                if (matches != null) {
-                    for (Match match : matches) {
-                        String visibilityLink = match.getVisibilityLink();
-                        if (visibilityLink != null) {
-                            // Normalize stored code for comparison
-                            String normalizedStored = visibilityLink.toUpperCase().replaceAll("-", "");
-                            if (normalizedInput.equals(normalizedStored)) {
-                                // Found the match, load it
-                                loadOfflineMatch(match.getEntityId());
-                                _isLoading.setValue(false);
-                                android.util.Log.d("MatchViewModel", "Found match by code: " + match.getName() + " (Code: " + visibilityLink + ")");
-                                // IMPORTANT: Remove observer after finding match to prevent infinite loop
-                                offlineMatchRepo.getAll().removeObserver(this);
-                                return;
-                            }
-                        }
-                    }
-                }
-                
-                // Match not found
-                _errorMessage.setValue("No match found with code: " + matchCode);
+        codeRepository.lookup(matchCode).addOnCompleteListener(task -> {
+            com.example.tournafy.domain.models.search.VisibilityCode entry =
+                    task.isSuccessful() ? task.getResult() : null;
+            if (entry != null && "MATCH".equals(entry.getEntityType())) {
+                loadOfflineMatch(entry.getEntityId());
                 _isLoading.setValue(false);
-                android.util.Log.w("MatchViewModel", "No match found with code: " + matchCode);
-                // IMPORTANT: Remove observer even if match not found
-                offlineMatchRepo.getAll().removeObserver(this);
+                android.util.Log.d("MatchViewModel", "Found match by code: " + entry.getEntityId() + " (Code: " + entry.getDisplayCode() + ")");
+                return;
             }
-        };
-        
-        offlineMatchRepo.getAll().observeForever(searchObserver);
+            
+            // Match not found
+            _errorMessage.setValue("No match found with code: " + matchCode);
+            _isLoading.setValue(false);
+            android.util.Log.w("MatchViewModel", "No match found with code: " + matchCode);
+        });
     }
     
     /**
@@ -390,15 +731,9 @@ public class MatchViewModel extends ViewModel {
                 // CRR = Runs / Overs
                 // Standard CRR uses balls: (Runs / Balls) * 6
                 int totalBalls = (innings.getOversCompleted() * 6); 
-                // Add current over balls
-                Over currentOver = cm.getCurrentOver();
-                if (currentOver != null && currentOver.getBalls() != null) {
-                    // Count only legal deliveries
-                    for (Ball ball : currentOver.getBalls()) {
-                        if (ball.isLegalDelivery()) {
-                            totalBalls++;
-                        }
-                    }
+                // Add the legal deliveries of the current over (kept by the innings aggregate)
+                if (cm.getCurrentOver() != null) {
+                    totalBalls += cm.currentInningsAggregate().getOverLegalBalls();
                 }
                 
                 if (totalBalls > 0) {
@@ -487,13 +822,10 @@ public class MatchViewModel extends ViewModel {
      * @param runs The number of runs scored on this ball (0-6)
      */
     public void addCricketBall(int runs) {
-        _isLoading.setValue(true);
-        
         // Get current match from LiveData
         Match currentMatch = offlineMatch.getValue();
         if (!(currentMatch instanceof CricketMatch)) {
             _errorMessage.setValue("Not a cricket match");
-            _isLoading.setValue(false);
             return;
         }
         
@@ -505,7 +837,6 @@ public class MatchViewModel extends ViewModel {
         
         if (currentInnings == null) {
             _errorMessage.setValue("Match not started: No current innings");
-            _isLoading.setValue(false);
             return;
         }
         
@@ -549,21 +880,24 @@ public class MatchViewModel extends ViewModel {
         event.setBowlerId(cricketMatch.getCurrentBowlerId());
         
         // --- STEP 3: Create and execute Command (updates state + undo stack) ---
-        AddBallCommand command = new AddBallCommand(cricketMatch, ball);
-        commandManager.executeCommand(command);
-        
-        // --- STEP 3.5: Process post-ball logic (striker swap, over/innings completion) ---
-        // NOTE: Do NOT call processEvent - it would add the ball again!
-        cricketMatch.processPostBallLogic(event);
-        
-        // --- STEP 4: Update player statistics ---
-        updatePlayerStatsAfterBall(cricketMatch, event, runs);
+        // With co-hosts scoring, the shared operation log runs steps 3 to 4 instead
+        if (!submitSharedOperation(MatchOperation.TYPE_BALL, event, ball)) {
+            AddBallCommand command = new AddBallCommand(cricketMatch, ball, event);
+            journalDelivery(cricketMatch, ScoringJournal.Entry.TYPE_BALL, ball, event);
+            commandsFor(cricketMatch).executeCommand(command);
+            
+            // --- STEP 3.5: Process post-ball logic (striker swap, over/innings completion) ---
+            // NOTE: Do NOT call processEvent - it would add the ball again!
+            cricketMatch.processPostBallLogic(event);
+            
+            // --- STEP 4: Update player statistics ---
+            updatePlayerStatsAfterBall(cricketMatch, event, runs);
+        }
         
         // --- Get current over AFTER processPostBallLogic (it may have created it) ---
         Over finalCurrentOver = cricketMatch.getCurrentOver();
         if (finalCurrentOver == null) {
             _errorMessage.setValue("Failed to create over");
-            _isLoading.setValue(false);
             return;
         }
         
@@ -578,32 +912,26 @@ public class MatchViewModel extends ViewModel {
         
         android.util.Log.d("MatchViewModel", "Innings ended: " + inningsJustEnded + ", Innings number: " + currentInningsNum);
         
-        // --- SIMPLIFIED PERSISTENCE: Only update Match document ---
-        // All nested data (innings, overs, balls) is stored within the match document
-        // No need to persist Ball, Over, Innings separately
+        // --- PERSISTENCE: Append to the match event log ---
+        // The event log entry (matches/{id}/events) is queued and committed together with
+        // other taps of the same burst in one WriteBatch; the match document (innings,
+        // overs, balls, stats) is a snapshot re-written every SNAPSHOT_INTERVAL events
+        writeQueueFor(cricketMatch).enqueueEvent(cricketMatch, event);
+        syncOnline(cricketMatch, event);
         
-        offlineMatchRepo.update(cricketMatch).addOnCompleteListener(matchTask -> {
-            if (matchTask.isSuccessful()) {
-                // Notify UI that match state changed (without refetching from database)
-                // This preserves command references for undo/redo functionality
-                notifyMatchChanged();
-                    
-                // If innings just ended and we're moving to next innings, trigger match start event
-                // This will show dialogs for batsman and bowler selection for the new innings
-                if (inningsJustEnded && currentInningsNum == 1) {
-                    android.util.Log.d("MatchViewModel", "First innings ended - triggering match start event for second innings");
-                    new android.os.Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-                        _matchStartEvent.setValue(false);
-                        _matchStartEvent.setValue(true);
-                    }, 300);
-                }
-                
-                _isLoading.setValue(false);
-            } else {
-                _errorMessage.setValue("Failed to save match update");
-                _isLoading.setValue(false);
-            }
-        });
+        // Notify UI that match state changed (without waiting for the write)
+        // This preserves command references for undo/redo functionality
+        notifyMatchChanged();
+            
+        // If innings just ended and we're moving to next innings, trigger match start event
+        // This will show dialogs for batsman and bowler selection for the new innings
+        if (inningsJustEnded && currentInningsNum == 1) {
+            android.util.Log.d("MatchViewModel", "First innings ended - triggering match start event for second innings");
+            new android.os.Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
+                _matchStartEvent.setValue(false);
+                _matchStartEvent.setValue(true);
+            }, 300);
+        }
     }
 
     /**
@@ -614,12 +942,9 @@ public class MatchViewModel extends ViewModel {
      * @param wicketType The type of wicket (e.g., "BOWLED", "CAUGHT", "LBW")
      */
     public void addCricketWicket(String wicketType) {
-        _isLoading.setValue(true);
-        
         Match currentMatch = offlineMatch.getValue();
         if (!(currentMatch instanceof CricketMatch)) {
             _errorMessage.setValue("Not a cricket match");
-            _isLoading.setValue(false);
             return;
         }
         
@@ -630,7 +955,6 @@ public class MatchViewModel extends ViewModel {
         
         if (currentInnings == null) {
             _errorMessage.setValue("Match not started: No current innings");
-            _isLoading.setValue(false);
             return;
         }
         
@@ -679,40 +1003,36 @@ public class MatchViewModel extends ViewModel {
         event.setWicketDetail(wicketDetail);
         
         // --- STEP 3: Create and execute Command (updates state + undo stack) ---
-        AddWicketCommand command = new AddWicketCommand(cricketMatch, ball, event, wicketDetail);
-        commandManager.executeCommand(command);
-        
-        // --- STEP 3.5: Process post-ball logic (over/innings completion) ---
-        // NOTE: Do NOT call processEvent - it would add the ball again!
-        cricketMatch.processPostBallLogic(event);
-        
-        // --- STEP 4: Update stats for wicket ---
-        updatePlayerStatsAfterWicket(cricketMatch, event, wicketType);
+        // With co-hosts scoring, the shared operation log runs steps 3 to 4 instead
+        if (!submitSharedOperation(MatchOperation.TYPE_WICKET, event, ball)) {
+            AddWicketCommand command = new AddWicketCommand(cricketMatch, ball, event, wicketDetail);
+            journalDelivery(cricketMatch, ScoringJournal.Entry.TYPE_WICKET, ball, event);
+            commandsFor(cricketMatch).executeCommand(command);
+            
+            // --- STEP 3.5: Process post-ball logic (over/innings completion) ---
+            // NOTE: Do NOT call processEvent - it would add the ball again!
+            cricketMatch.processPostBallLogic(event);
+            
+            // --- STEP 4: Update stats for wicket ---
+            updatePlayerStatsAfterWicket(cricketMatch, event, wicketType);
+        }
         
         // --- Get current over AFTER processPostBallLogic ---
         Over finalCurrentOver = cricketMatch.getCurrentOver();
         if (finalCurrentOver == null) {
             _errorMessage.setValue("Failed to create over");
-            _isLoading.setValue(false);
             return;
         }
         
-        // --- SIMPLIFIED PERSISTENCE: Only update Match document ---
-        // All nested data (innings, overs, balls) is stored within the match document
+        // --- PERSISTENCE: Append to the match event log (see addCricketBall) ---
+        writeQueueFor(cricketMatch).enqueueEvent(cricketMatch, event);
+        syncOnline(cricketMatch, event);
         
-        offlineMatchRepo.update(cricketMatch).addOnCompleteListener(matchTask -> {
-            if (matchTask.isSuccessful()) {
-                // Notify UI that match state changed (without refetching from database)
-                // This preserves command references for undo/redo functionality
-                notifyMatchChanged();
-                // Trigger wicket fall event for fragment to handle
-                _wicketFallEvent.setValue(true);
-                _isLoading.setValue(false);
-            } else {
-                _errorMessage.setValue("Failed to save match update");
-                _isLoading.setValue(false);
-            }
-        });
+        // Notify UI that match state changed (without waiting for the write)
+        // This preserves command references for undo/redo functionality
+        notifyMatchChanged();
+        // Trigger wicket fall event for fragment to handle
+        _wicketFallEvent.setValue(true);
     }
 
     /**
@@ -744,12 +1064,9 @@ public class MatchViewModel extends ViewModel {
      * @param additionalRuns The additional runs scored on this delivery (beyond penalty run)
      */
     public void addCricketExtra(String extrasType, int additionalRuns) {
-        _isLoading.setValue(true);
-        
         Match currentMatch = offlineMatch.getValue();
         if (!(currentMatch instanceof CricketMatch)) {
             _errorMessage.setValue("Not a cricket match");
-            _isLoading.setValue(false);
             return;
         }
         
@@ -760,7 +1077,6 @@ public class MatchViewModel extends ViewModel {
         
         if (currentInnings == null) {
             _errorMessage.setValue("Match not started: No current innings");
-            _isLoading.setValue(false);
             return;
         }
         
@@ -822,38 +1138,34 @@ public class MatchViewModel extends ViewModel {
         event.setExtrasDetail(extrasDetail);
         
         // --- STEP 4: Create and execute Command (updates state + undo stack) ---
-        AddExtrasCommand command = new AddExtrasCommand(cricketMatch, ball, event, extrasDetail);
-        commandManager.executeCommand(command);
-        
-        // --- STEP 4.5: Process post-ball logic (striker swap, over/innings completion) ---
-        // NOTE: Do NOT call processEvent - it would add the ball again!
-        cricketMatch.processPostBallLogic(event);
-        
-        // --- STEP 5: Update stats for extras ---
-        updatePlayerStatsAfterExtra(cricketMatch, event, extrasType, isLegal);
+        // With co-hosts scoring, the shared operation log runs steps 4 to 5 instead
+        if (!submitSharedOperation(MatchOperation.TYPE_EXTRAS, event, ball)) {
+            AddExtrasCommand command = new AddExtrasCommand(cricketMatch, ball, event, extrasDetail);
+            journalDelivery(cricketMatch, ScoringJournal.Entry.TYPE_EXTRAS, ball, event);
+            commandsFor(cricketMatch).executeCommand(command);
+            
+            // --- STEP 4.5: Process post-ball logic (striker swap, over/innings completion) ---
+            // NOTE: Do NOT call processEvent - it would add the ball again!
+            cricketMatch.processPostBallLogic(event);
+            
+            // --- STEP 5: Update stats for extras ---
+            updatePlayerStatsAfterExtra(cricketMatch, event, extrasType, isLegal);
+        }
         
         // --- Get current over AFTER processPostBallLogic ---
         Over finalCurrentOver = cricketMatch.getCurrentOver();
         if (finalCurrentOver == null) {
             _errorMessage.setValue("Failed to create over");
-            _isLoading.setValue(false);
             return;
         }
         
-        // --- SIMPLIFIED PERSISTENCE: Only update Match document ---
-        // All nested data (innings, overs, balls) is stored within the match document
+        // --- PERSISTENCE: Append to the match event log (see addCricketBall) ---
+        writeQueueFor(cricketMatch).enqueueEvent(cricketMatch, event);
+        syncOnline(cricketMatch, event);
         
-        offlineMatchRepo.update(cricketMatch).addOnCompleteListener(matchTask -> {
-            if (matchTask.isSuccessful()) {
-                // Notify UI that match state changed (without refetching from database)
-                // This preserves command references for undo/redo functionality
-                notifyMatchChanged();
-                _isLoading.setValue(false);
-            } else {
-                _errorMessage.setValue("Failed to save match update");
-                _isLoading.setValue(false);
-            }
-        });
+        // Notify UI that match state changed (without waiting for the write)
+        // This preserves command references for undo/redo functionality
+        notifyMatchChanged();
     }
 
     /**
@@ -870,16 +1182,9 @@ public class MatchViewModel extends ViewModel {
         CricketMatch cricketMatch = (CricketMatch) currentMatch;
         cricketMatch.endCurrentOver();
         
-        // Persist the updated match
-        offlineMatchRepo.update(cricketMatch).addOnCompleteListener(task -> {
-            // DISABLED: Online sync disabled for offline-first performance
-            // if (task.isSuccessful()) {
-            //     cricketMatch.notifyObservers();
-            // }
-            if (!task.isSuccessful()) {
-                _errorMessage.setValue("Failed to end over");
-            }
-        });
+        // Persist the updated match (coalesced with the balls of the over)
+        writeQueueFor(cricketMatch).enqueueSave(cricketMatch);
+        syncOnline(cricketMatch, null);
     }
 
     /**
@@ -896,6 +1201,9 @@ public class MatchViewModel extends ViewModel {
             return;
         }
         
+        // Full-document writes below must land after any queued scoring writes
+        flushPendingWrites();
+        
         if (currentMatch instanceof CricketMatch) {
             CricketMatch cricketMatch = (CricketMatch) currentMatch;
             
@@ -940,10 +1248,6 @@ public class MatchViewModel extends ViewModel {
                             Over firstOver = cricketMatch.getCurrentOver();
                             if (firstOver != null) {
                                 offlineOverRepo.add(firstOver).addOnCompleteListener(overTask -> {
-                                    // DISABLED: Online sync disabled for offline-first performance
-                                    // if (overTask.isSuccessful()) {
-                                    //     cricketMatch.notifyStatusChanged(com.example.tournafy.domain.enums.MatchStatus.LIVE.name());
-                                    // }
                                     if (overTask.isSuccessful()) {
                                         // Trigger match start event to show initial dialogs
                                         // Use a delay to ensure UI is ready and match data is loaded
@@ -1000,8 +1304,8 @@ public class MatchViewModel extends ViewModel {
                 return;
             }
             
-            // NOTE: Online sync is disabled for offline-first performance
-            // Football doesn't need online sync registration like cricket's complex innings/over structure
+            // Register observer BEFORE starting match (startMatch() notifies the LIVE status)
+            registerOnlineSync(footballMatch);
             
             // Start the match (sets status to LIVE)
             try {
@@ -1048,10 +1352,12 @@ public class MatchViewModel extends ViewModel {
             return;
         }
         
+        registerOnlineSync(cricketMatch);
         cricketMatch.endCurrentInnings();
         
-        // Persist updated match and innings
-        offlineMatchRepo.update(cricketMatch).addOnCompleteListener(matchTask -> {
+        // Persist updated match and innings (after the queued scoring writes)
+        flushPendingWrites();
+        offlineMatchRepo.saveChanges(cricketMatch).addOnCompleteListener(matchTask -> {
             if (matchTask.isSuccessful()) {
                 // CRITICAL FIX: Trigger online sync after offline persistence succeeds
                 cricketMatch.notifyObservers();
@@ -1080,8 +1386,10 @@ public class MatchViewModel extends ViewModel {
             return;
         }
         
+        registerOnlineSync(currentMatch);
         currentMatch.endMatch();
         
+        flushPendingWrites();
         offlineMatchRepo.update(currentMatch).addOnCompleteListener(task -> {
             _isLoading.setValue(false);
             if (!task.isSuccessful()) {
@@ -1161,16 +1469,8 @@ public class MatchViewModel extends ViewModel {
             
             if (innings != null) {
                 int completed = innings.getOversCompleted();
-                int balls = 0;
-                
-                if (currentOver != null && currentOver.getBalls() != null) {
-                    // Count only legal deliveries
-                    for (Ball ball : currentOver.getBalls()) {
-                        if (ball.isLegalDelivery()) {
-                            balls++;
-                        }
-                    }
-                }
+                // Legal deliveries of the current over (kept by the innings aggregate)
+                int balls = currentOver != null ? cm.currentInningsAggregate().getOverLegalBalls() : 0;
                 
                 if (balls > 0) {
                     return completed + "." + balls;
@@ -1261,12 +1561,9 @@ public class MatchViewModel extends ViewModel {
      * @param minute The match minute when the goal was scored
      */
     public void addFootballGoal(String teamId, String scorerId, String assisterId, String goalType, int minute) {
-        _isLoading.setValue(true);
-        
         Match currentMatch = offlineMatch.getValue();
         if (!(currentMatch instanceof com.example.tournafy.domain.models.match.football.FootballMatch)) {
             _errorMessage.setValue("Not a football match");
-            _isLoading.setValue(false);
             return;
         }
         
@@ -1309,7 +1606,7 @@ public class MatchViewModel extends ViewModel {
         // Create and execute Command
         com.example.tournafy.command.football.AddGoalCommand command = 
             new com.example.tournafy.command.football.AddGoalCommand(footballMatch, event, goalDetail);
-        commandManager.executeCommand(command);
+        commandsFor(footballMatch).executeCommand(command);
         
         // Set event score AFTER command updates match score (for timeline display)
         event.setHomeScoreAtEvent(footballMatch.getHomeScore());
@@ -1318,29 +1615,14 @@ public class MatchViewModel extends ViewModel {
         // Update player statistics for goal scorer and assister
         updateFootballPlayerStatsAfterGoal(footballMatch, scorerId, assisterId);
         
-        // Persist event and match
-        offlineFootballEventRepo.add(event).addOnCompleteListener(eventTask -> {
-            if (eventTask.isSuccessful()) {
-                offlineMatchRepo.update(footballMatch).addOnCompleteListener(matchTask -> {
-                    if (matchTask.isSuccessful()) {
-                        // Trigger LiveData refresh
-                        new android.os.Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-                            String currentId = _offlineMatchId.getValue();
-                            if (currentId != null) {
-                                _offlineMatchId.setValue(currentId);
-                            }
-                            _isLoading.setValue(false);
-                        }, 100);
-                    } else {
-                        _errorMessage.setValue("Failed to save match update");
-                        _isLoading.setValue(false);
-                    }
-                });
-            } else {
-                _errorMessage.setValue("Failed to save goal event");
-                _isLoading.setValue(false);
-            }
-        });
+        // Persist the event document and append it to the match event log.
+        // Both writes are independent: the log entry is queued and coalesced with
+        // other events of the same burst, and the UI updates from memory right away.
+        offlineFootballEventRepo.add(event).addOnFailureListener(e ->
+            _errorMessage.setValue("Failed to save goal event"));
+        writeQueueFor(footballMatch).enqueueEvent(footballMatch, event);
+        syncOnline(footballMatch, event);
+        notifyMatchChanged();
     }
 
     /**
@@ -1354,12 +1636,9 @@ public class MatchViewModel extends ViewModel {
      * @param minute The match minute when the card was issued
      */
     public void addFootballCard(String teamId, String playerId, String cardType, String cardReason, int minute) {
-        _isLoading.setValue(true);
-        
         Match currentMatch = offlineMatch.getValue();
         if (!(currentMatch instanceof com.example.tournafy.domain.models.match.football.FootballMatch)) {
             _errorMessage.setValue("Not a football match");
-            _isLoading.setValue(false);
             return;
         }
         
@@ -1396,35 +1675,20 @@ public class MatchViewModel extends ViewModel {
         // Create and execute Command
         com.example.tournafy.command.football.AddCardCommand command = 
             new com.example.tournafy.command.football.AddCardCommand(footballMatch, event, cardDetail);
-        commandManager.executeCommand(command);
+        commandsFor(footballMatch).executeCommand(command);
         
         // Set event score for timeline display (card doesn't change score, just record current state)
         event.setHomeScoreAtEvent(footballMatch.getHomeScore());
         event.setAwayScoreAtEvent(footballMatch.getAwayScore());
         
-        // Persist event and match
-        offlineFootballEventRepo.add(event).addOnCompleteListener(eventTask -> {
-            if (eventTask.isSuccessful()) {
-                offlineMatchRepo.update(footballMatch).addOnCompleteListener(matchTask -> {
-                    if (matchTask.isSuccessful()) {
-                        // Trigger LiveData refresh
-                        new android.os.Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-                            String currentId = _offlineMatchId.getValue();
-                            if (currentId != null) {
-                                _offlineMatchId.setValue(currentId);
-                            }
-                            _isLoading.setValue(false);
-                        }, 100);
-                    } else {
-                        _errorMessage.setValue("Failed to save match update");
-                        _isLoading.setValue(false);
-                    }
-                });
-            } else {
-                _errorMessage.setValue("Failed to save card event");
-                _isLoading.setValue(false);
-            }
-        });
+        // Persist the event document and append it to the match event log.
+        // Both writes are independent: the log entry is queued and coalesced with
+        // other events of the same burst, and the UI updates from memory right away.
+        offlineFootballEventRepo.add(event).addOnFailureListener(e ->
+            _errorMessage.setValue("Failed to save card event"));
+        writeQueueFor(footballMatch).enqueueEvent(footballMatch, event);
+        syncOnline(footballMatch, event);
+        notifyMatchChanged();
     }
 
     /**
@@ -1437,12 +1701,9 @@ public class MatchViewModel extends ViewModel {
      * @param minute The match minute when the substitution occurred
      */
     public void addFootballSubstitution(String teamId, String playerOutId, String playerInId, int minute) {
-        _isLoading.setValue(true);
-        
         Match currentMatch = offlineMatch.getValue();
         if (!(currentMatch instanceof com.example.tournafy.domain.models.match.football.FootballMatch)) {
             _errorMessage.setValue("Not a football match");
-            _isLoading.setValue(false);
             return;
         }
         
@@ -1483,35 +1744,20 @@ public class MatchViewModel extends ViewModel {
         // Create and execute Command
         com.example.tournafy.command.football.SubstitutePlayerCommand command = 
             new com.example.tournafy.command.football.SubstitutePlayerCommand(footballMatch, event, subDetail);
-        commandManager.executeCommand(command);
+        commandsFor(footballMatch).executeCommand(command);
         
         // Set event score for timeline display (substitution doesn't change score, just record current state)
         event.setHomeScoreAtEvent(footballMatch.getHomeScore());
         event.setAwayScoreAtEvent(footballMatch.getAwayScore());
         
-        // Persist event and match
-        offlineFootballEventRepo.add(event).addOnCompleteListener(eventTask -> {
-            if (eventTask.isSuccessful()) {
-                offlineMatchRepo.update(footballMatch).addOnCompleteListener(matchTask -> {
-                    if (matchTask.isSuccessful()) {
-                        // Trigger LiveData refresh
-                        new android.os.Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-                            String currentId = _offlineMatchId.getValue();
-                            if (currentId != null) {
-                                _offlineMatchId.setValue(currentId);
-                            }
-                            _isLoading.setValue(false);
-                        }, 100);
-                    } else {
-                        _errorMessage.setValue("Failed to save match update");
-                        _isLoading.setValue(false);
-                    }
-                });
-            } else {
-                _errorMessage.setValue("Failed to save substitution event");
-                _isLoading.setValue(false);
-            }
-        });
+        // Persist the event document and append it to the match event log.
+        // Both writes are independent: the log entry is queued and coalesced with
+        // other events of the same burst, and the UI updates from memory right away.
+        offlineFootballEventRepo.add(event).addOnFailureListener(e ->
+            _errorMessage.setValue("Failed to save substitution event"));
+        writeQueueFor(footballMatch).enqueueEvent(footballMatch, event);
+        syncOnline(footballMatch, event);
+        notifyMatchChanged();
     }
 
     /**
@@ -1532,16 +1778,8 @@ public class MatchViewModel extends ViewModel {
     private String getPlayerNameById(com.example.tournafy.domain.models.match.football.FootballMatch match, String playerId) {
         if (match == null || playerId == null) return "Unknown";
         
-        for (com.example.tournafy.domain.models.team.MatchTeam team : match.getTeams()) {
-            if (team.getPlayers() != null) {
-                for (com.example.tournafy.domain.models.team.Player player : team.getPlayers()) {
-                    if (player.getPlayerId().equals(playerId)) {
-                        return player.getPlayerName();
-                    }
-                }
-            }
-        }
-        return "Unknown";
+        com.example.tournafy.domain.models.team.Player player = match.findPlayer(playerId);
+        return player != null ? player.getPlayerName() : "Unknown";
     }
 
     /**
@@ -1552,41 +1790,128 @@ public class MatchViewModel extends ViewModel {
     private void swapPlayerStatus(com.example.tournafy.domain.models.match.football.FootballMatch match, 
                                    String teamId, String playerOutId, String playerInId) {
         if (match == null || teamId == null) return;
-        
-        for (com.example.tournafy.domain.models.team.MatchTeam team : match.getTeams()) {
-            if (team.getTeamId().equals(teamId) && team.getPlayers() != null) {
-                for (com.example.tournafy.domain.models.team.Player player : team.getPlayers()) {
-                    if (player.getPlayerId().equals(playerOutId)) {
-                        // Player going out becomes substitute
-                        player.setStartingXI(false);
-                    } else if (player.getPlayerId().equals(playerInId)) {
-                        // Player coming in becomes starting XI
-                        player.setStartingXI(true);
-                    }
+        match.applyLineupSubstitution(teamId, playerOutId, playerInId);
+    }
+
+    // --- Shared Scoring (co-hosts) ---
+
+    /**
+     * Starts scoring the current cricket match together with its co-hosts: deliveries
+     * go through the match's shared operation log (see MatchOperationLog), and the
+     * deliveries of the other scorers are folded into this match as they arrive.
+     * Undo then only takes back this scorer's own deliveries, and there is no redo: the
+     * local command history is dropped, since its commands would act on a match the
+     * log may have rebuilt since.
+     */
+    public void startSharedScoring() {
+        Match currentMatch = offlineMatch.getValue();
+        if (!(currentMatch instanceof CricketMatch) || currentMatch.getEntityId() == null) {
+            _errorMessage.setValue("Shared scoring needs a cricket match");
+            return;
+        }
+        if (operationLog != null && operationLog.getMatchId().equals(currentMatch.getEntityId())) return;
+        stopSharedScoring();
+        commandsFor(currentMatch).clear();
+
+        operationLog = new MatchOperationLog((CricketMatch) currentMatch, syncService.getClientId(),
+            match -> checkpointCodec.decode(checkpointCodec.encode(match)),
+            operation -> operationRepo.append(operation).addOnFailureListener(e ->
+                _errorMessage.setValue("Failed to send the delivery to co-hosts")),
+            this::onSharedMatchChanged);
+        operationRegistration = operationRepo.listen(currentMatch.getEntityId(),
+            new MatchOperationFirebaseRepository.OperationListener() {
+                @Override
+                public void onOperation(MatchOperation operation) {
+                    if (operationLog != null) operationLog.onOperation(operation);
                 }
-                break;
-            }
+
+                @Override
+                public void onError(Exception e) {
+                    _errorMessage.setValue("Lost connection to co-hosts");
+                }
+            });
+        android.util.Log.d("MatchViewModel", "Shared scoring started for match: " + currentMatch.getEntityId());
+    }
+
+    public void stopSharedScoring() {
+        if (operationRegistration != null) {
+            operationRegistration.remove();
+            operationRegistration = null;
+        }
+        operationLog = null;
+    }
+
+    public boolean isSharedScoring() {
+        return operationLog != null;
+    }
+
+    /**
+     * Scores a delivery through the shared operation log when co-scoring.
+     * @return false if the match is scored alone (the caller runs the command itself).
+     */
+    private boolean submitSharedOperation(String type, CricketEvent event, Ball ball) {
+        if (operationLog == null) return false;
+        operationLog.submit(type, event, ball);
+        return true;
+    }
+
+    private void undoSharedOperation() {
+        MatchOperation undone = operationLog.undoLast();
+        if (undone == null || undone.getBall() == null || undone.getEvent() == null) return;
+        // Removes the undone ball / event online, as for a single scorer's undo
+        CricketMatch match = operationLog.getMatch();
+        registerOnlineSync(match);
+        String eventId = MatchOperation.TYPE_BALL.equals(undone.getType())
+            ? undone.getBall().getBallId() : undone.getEvent().getEventId();
+        syncService.enqueueEventRemoval(match, eventId);
+    }
+
+    /**
+     * Persists the match after an operation of the shared log. This scorer's own
+     * deliveries are persisted by the scoring methods; another scorer's delivery is
+     * logged like a local one; a rebuilt match (rebase or undo) replaces the current
+     * instance and is written whole.
+     */
+    private void onSharedMatchChanged(CricketMatch match, MatchOperation operation, boolean rebuilt) {
+        if (rebuilt) {
+            flushPendingWrites();
+            offlineMatchRepo.update(match);
+            syncOnline(match, null);
+            _offlineMatch.setValue(match);
+        } else if (!syncService.getClientId().equals(operation.getClientId()) && operation.getEvent() != null) {
+            writeQueueFor(match).enqueueEvent(match, operation.getEvent());
+            syncOnline(match, operation.getEvent());
+            notifyMatchChanged();
         }
     }
 
     // --- Common Persistence ---
 
     private void persistOfflineMatch(Match match) {
-        // Update the repository
-        // Note: FirestoreRepository.update returns a Task. 
-        // We assume fire-and-forget for UI responsiveness here,
-        // but in a robust app we'd handle success/failure.
-        offlineMatchRepo.update(match);
+        // Update the repository (only the changed fields are written)
+        // Queued so that frequent timer ticks coalesce into one write;
+        // failures are reported through the queue's error listener.
+        if (match == null || match.getEntityId() == null) return;
+        writeQueueFor(match).enqueueSave(match);
+        syncOnline(match, null);
     }
 
     public void undoLastEvent() {
+        if (operationLog != null) {
+            undoSharedOperation();
+            return;
+        }
+        Match match = offlineMatch.getValue();
+        MatchCommandManager commandManager = commandsFor(match);
         if (commandManager.canUndo()) {
             // Get the last command to undo
             com.example.tournafy.command.interfaces.MatchCommand lastCommand = commandManager.getLastExecutedCommand();
+            journalUndo(match);
             commandManager.undo();
             // After undo, persist the reverted state
-            Match match = offlineMatch.getValue();
             if (match != null) {
+                // Queued writes of the undone event go out first; the full write supersedes them
+                flushPendingWrites();
                 // Use update with completion callback to ensure data is saved before refreshing UI
                 offlineMatchRepo.update(match).addOnCompleteListener(task -> {
                     // Notify UI of change without refetching (preserves command references)
@@ -1598,6 +1923,15 @@ public class MatchViewModel extends ViewModel {
             if (lastCommand != null) {
                 String eventId = lastCommand.getEventId();
                 String commandType = lastCommand.getCommandType();
+                boolean hasOnlineNode = commandType != null && java.util.Arrays.asList(
+                    "BALL", "WICKET", "EXTRAS", "GOAL", "CARD", "SUBSTITUTION").contains(commandType);
+                if (eventId != null && hasOnlineNode && match != null) {
+                    // Removes the undone ball / football event online (and re-syncs the match)
+                    registerOnlineSync(match);
+                    syncService.enqueueEventRemoval(match, eventId);
+                } else {
+                    syncOnline(match, null);
+                }
                 if (eventId != null) {
                     // Handle football events
                     if (commandType != null && (commandType.equals("GOAL") || commandType.equals("CARD") || commandType.equals("SUBSTITUTION"))) {
@@ -1641,11 +1975,17 @@ public class MatchViewModel extends ViewModel {
     }
 
     public void redoLastEvent() {
+        // The shared operation log has no redo; a delivery is scored again instead
+        if (operationLog != null) return;
+        Match match = offlineMatch.getValue();
+        MatchCommandManager commandManager = commandsFor(match);
         if (commandManager.canRedo()) {
+            journalRedo(match);
             commandManager.redo();
             // After redo, persist the new state
-            Match match = offlineMatch.getValue();
             if (match != null) {
+                flushPendingWrites();
+                syncOnline(match, null);
                 offlineMatchRepo.update(match).addOnCompleteListener(task -> {
                     // Notify UI of change without refetching (preserves command references)
                     notifyMatchChanged();
@@ -1691,139 +2031,24 @@ public class MatchViewModel extends ViewModel {
      * Updates batsman and bowler statistics after a ball is bowled.
      */
     private void updatePlayerStatsAfterBall(CricketMatch match, CricketEvent event, int runs) {
-        // Update batsman stats
-        String strikerId = event.getBatsmanStrikerId();
-        if (strikerId != null) {
-            com.example.tournafy.domain.models.match.cricket.BatsmanStats batsmanStats = 
-                match.getBatsmanStats(strikerId);
-            
-            if (batsmanStats == null) {
-                // Initialize stats for this batsman
-                String batsmanName = getPlayerName(match, strikerId);
-                batsmanStats = new com.example.tournafy.domain.models.match.cricket.BatsmanStats(strikerId, batsmanName);
-            }
-            
-            // Add ball and runs
-            batsmanStats.addBall();
-            if (runs > 0) {
-                batsmanStats.addRuns(runs);
-            }
-            
-            match.updateBatsmanStats(strikerId, batsmanStats);
-        }
-        
-        // Update bowler stats
-        String bowlerId = event.getBowlerId();
-        if (bowlerId != null) {
-            com.example.tournafy.domain.models.match.cricket.BowlerStats bowlerStats = 
-                match.getBowlerStats(bowlerId);
-            
-            if (bowlerStats == null) {
-                // Initialize stats for this bowler
-                String bowlerName = getPlayerName(match, bowlerId);
-                bowlerStats = new com.example.tournafy.domain.models.match.cricket.BowlerStats(bowlerId, bowlerName);
-            }
-            
-            // Add ball and runs
-            if (event.isLegalDelivery()) {
-                bowlerStats.addBall(runs);
-            }
-            
-            match.updateBowlerStats(bowlerId, bowlerStats);
-        }
+        // Shared with event-log replay so both paths produce the same stats
+        match.applyPlayerStats(event);
     }
     
     /**
      * Updates stats after an extra is bowled.
      */
     private void updatePlayerStatsAfterExtra(CricketMatch match, CricketEvent event, String extrasType, boolean isLegal) {
-        // Update batsman stats only for byes/leg-byes (legal deliveries)
-        if (isLegal) {
-            String strikerId = event.getBatsmanStrikerId();
-            if (strikerId != null) {
-                com.example.tournafy.domain.models.match.cricket.BatsmanStats batsmanStats = 
-                    match.getBatsmanStats(strikerId);
-                
-                if (batsmanStats == null) {
-                    String batsmanName = getPlayerName(match, strikerId);
-                    batsmanStats = new com.example.tournafy.domain.models.match.cricket.BatsmanStats(strikerId, batsmanName);
-                }
-                
-                // Add ball faced (bye/leg-bye count as balls faced)
-                batsmanStats.addBall();
-                
-                match.updateBatsmanStats(strikerId, batsmanStats);
-            }
-        }
-        
-        // Update bowler stats
-        String bowlerId = event.getBowlerId();
-        if (bowlerId != null) {
-            com.example.tournafy.domain.models.match.cricket.BowlerStats bowlerStats = 
-                match.getBowlerStats(bowlerId);
-            
-            if (bowlerStats == null) {
-                String bowlerName = getPlayerName(match, bowlerId);
-                bowlerStats = new com.example.tournafy.domain.models.match.cricket.BowlerStats(bowlerId, bowlerName);
-            }
-            
-            // Track extras
-            int extrasRuns = event.getRunsScoredExtras();
-            if (extrasType.equals("WIDE")) {
-                bowlerStats.addWide(extrasRuns - 1); // Subtract the 1 auto-added run
-            } else if (extrasType.equals("NO_BALL")) {
-                bowlerStats.addNoBall(extrasRuns - 1);
-            } else if (isLegal) {
-                // Byes/Leg-byes don't count against bowler's runs
-                bowlerStats.addBall(0);
-            }
-            
-            match.updateBowlerStats(bowlerId, bowlerStats);
-        }
+        // Shared with event-log replay so both paths produce the same stats
+        match.applyPlayerStats(event);
     }
     
     /**
      * Updates stats after a wicket is taken.
      */
     private void updatePlayerStatsAfterWicket(CricketMatch match, CricketEvent event, String wicketType) {
-        // Update batsman stats - mark as out
-        String strikerId = event.getBatsmanStrikerId();
-        if (strikerId != null) {
-            com.example.tournafy.domain.models.match.cricket.BatsmanStats batsmanStats = 
-                match.getBatsmanStats(strikerId);
-            
-            if (batsmanStats == null) {
-                String batsmanName = getPlayerName(match, strikerId);
-                batsmanStats = new com.example.tournafy.domain.models.match.cricket.BatsmanStats(strikerId, batsmanName);
-            }
-            
-            // Add ball faced
-            batsmanStats.addBall();
-            // Mark as dismissed
-            batsmanStats.dismissBatsman(wicketType);
-            
-            match.updateBatsmanStats(strikerId, batsmanStats);
-        }
-        
-        // Update bowler stats - add wicket
-        String bowlerId = event.getBowlerId();
-        if (bowlerId != null) {
-            com.example.tournafy.domain.models.match.cricket.BowlerStats bowlerStats = 
-                match.getBowlerStats(bowlerId);
-            
-            if (bowlerStats == null) {
-                String bowlerName = getPlayerName(match, bowlerId);
-                bowlerStats = new com.example.tournafy.domain.models.match.cricket.BowlerStats(bowlerId, bowlerName);
-            }
-            
-            // Add ball and wicket
-            if (event.isLegalDelivery()) {
-                bowlerStats.addBall(0); // Wicket ball with 0 runs
-                bowlerStats.addWicket();
-            }
-            
-            match.updateBowlerStats(bowlerId, bowlerStats);
-        }
+        // Shared with event-log replay so both paths produce the same stats
+        match.applyPlayerStats(event);
     }
 
     /**
@@ -1910,13 +2135,15 @@ public class MatchViewModel extends ViewModel {
      * Gets observable for undo button state.
      */
     public boolean canUndo() {
-        return commandManager.canUndo();
+        if (operationLog != null) return operationLog.canUndo();
+        return commandsFor(offlineMatch.getValue()).canUndo();
     }
 
     /**
      * Gets observable for redo button state.
      */
     public boolean canRedo() {
-        return commandManager.canRedo();
+        if (operationLog != null) return false;
+        return commandsFor(offlineMatch.getValue()).canRedo();
     }
 }
\ No newline at end of file
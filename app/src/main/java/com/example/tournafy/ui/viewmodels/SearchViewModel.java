@@ -4,9 +4,20 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
 
-import com.example.tournafy.data.repository.offline.MatchFirestoreRepository;
-import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.data.repository.Page;
+import com.example.tournafy.data.repository.PageCursor;
+import com.example.tournafy.data.repository.offline.MatchSummaryFirestoreRepository;
+import com.example.tournafy.data.repository.offline.SearchIndexFirestoreRepository;
+import com.example.tournafy.data.repository.offline.SeriesFirestoreRepository;
+import com.example.tournafy.data.repository.offline.TournamentFirestoreRepository;
+import com.example.tournafy.data.repository.offline.VisibilityCodeFirestoreRepository;
+import com.example.tournafy.di.RepositoryQualifiers.OfflineRepo;
+import com.example.tournafy.domain.models.base.HostedEntity;
+import com.example.tournafy.domain.models.match.MatchSummary;
 import com.example.tournafy.domain.models.search.SearchResult;
+import com.example.tournafy.domain.models.search.VisibilityCode;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,12 +28,17 @@ import dagger.hilt.android.lifecycle.HiltViewModel;
 
 /**
  * ViewModel for search functionality.
- * Searches for matches, tournaments, and series by code/ID.
+ * Finds matches, tournaments and series by code, and matches, tournaments, series,
+ * teams and players by name through the search index.
  */
 @HiltViewModel
 public class SearchViewModel extends ViewModel {
 
-    private final MatchFirestoreRepository matchRepository;
+    private final MatchSummaryFirestoreRepository matchRepository;
+    private final TournamentFirestoreRepository tournamentRepository;
+    private final SeriesFirestoreRepository seriesRepository;
+    private final VisibilityCodeFirestoreRepository codeRepository;
+    private final SearchIndexFirestoreRepository searchIndex;
     
     private final MutableLiveData<List<SearchResult>> _searchResults = new MutableLiveData<>();
     public final LiveData<List<SearchResult>> searchResults = _searchResults;
@@ -33,18 +49,38 @@ public class SearchViewModel extends ViewModel {
     private final MutableLiveData<String> _errorMessage = new MutableLiveData<>();
     public final LiveData<String> errorMessage = _errorMessage;
     
-    private androidx.lifecycle.Observer<List<Match>> searchObserver;
+    public static final int PAGE_SIZE = 20;
 
+    private int searchGeneration; // Results of an older search are ignored
+    private String currentQuery;
+    private PageCursor nextCursor;
+    private boolean loadingMore;
+
+    /**
+     * @param matchRepository Match summaries: search only needs name, venue, status and code.
+     * @param codeRepository Index of codes, for one-read code lookups.
+     * @param searchIndex Index of names, for ranked prefix search.
+     */
     @Inject
-    public SearchViewModel(MatchFirestoreRepository matchRepository) {
+    public SearchViewModel(MatchSummaryFirestoreRepository matchRepository,
+                           @OfflineRepo TournamentFirestoreRepository tournamentRepository,
+                           @OfflineRepo SeriesFirestoreRepository seriesRepository,
+                           VisibilityCodeFirestoreRepository codeRepository,
+                           SearchIndexFirestoreRepository searchIndex) {
         this.matchRepository = matchRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.seriesRepository = seriesRepository;
+        this.codeRepository = codeRepository;
+        this.searchIndex = searchIndex;
     }
 
     /**
      * Search for matches, tournaments, or series by code.
-     * Searches match codes (visibilityLink) case-insensitively.
+     * A code (case-insensitive, hyphens optional) is resolved with one read of the
+     * "codes" index plus one read of the entity. Queries that are not a known code
+     * are searched by name.
      * 
-     * @param query The search query (match code)
+     * @param query The search query (match code or name)
      */
     public void search(String query) {
         if (query == null || query.trim().isEmpty()) {
@@ -56,67 +92,158 @@ public class SearchViewModel extends ViewModel {
         _errorMessage.setValue(null);
         _searchResults.setValue(new ArrayList<>());
         
-        // Normalize query: uppercase and remove hyphens
-        String normalizedQuery = query.trim().toUpperCase().replaceAll("-", "");
+        // Normalize query: uppercase and remove hyphens (same form as the index keys)
+        String normalizedQuery = com.example.tournafy.utils.LinkGenerator.normalizeCode(query);
         
         android.util.Log.d("SearchViewModel", "Searching for: " + query + " (normalized: " + normalizedQuery + ")");
         
-        // Remove previous observer if exists
-        if (searchObserver != null) {
-            matchRepository.getAll().removeObserver(searchObserver);
-        }
+        final int generation = ++searchGeneration;
+        currentQuery = query;
+        nextCursor = null;
         
-        // Search matches
-        searchObserver = new androidx.lifecycle.Observer<List<Match>>() {
-            @Override
-            public void onChanged(List<Match> matches) {
+        codeRepository.lookup(query).continueWithTask(task -> {
+            VisibilityCode entry = task.isSuccessful() ? task.getResult() : null;
+            return entry != null ? loadResult(entry) : Tasks.<SearchResult>forResult(null);
+        }).addOnCompleteListener(task -> {
+            if (generation != searchGeneration) return;
+            SearchResult result = task.isSuccessful() ? task.getResult() : null;
+            if (result != null) {
+                android.util.Log.d("SearchViewModel", "Found by code: " + result.getTitle() +
+                    " (Code: " + result.getCode() + ")");
                 List<SearchResult> results = new ArrayList<>();
-                
-                if (matches != null) {
-                    for (Match match : matches) {
-                        String visibilityLink = match.getVisibilityLink();
-                        if (visibilityLink != null) {
-                            String normalizedCode = visibilityLink.toUpperCase().replaceAll("-", "");
-                            
-                            // Check if code matches or name contains query
-                            boolean codeMatches = normalizedCode.contains(normalizedQuery);
-                            boolean nameMatches = match.getName().toUpperCase().contains(query.toUpperCase());
-                            
-                            if (codeMatches || nameMatches) {
-                                SearchResult result = new SearchResult();
-                                result.setId(match.getEntityId());
-                                result.setType(SearchResult.TYPE_MATCH);
-                                result.setTitle(match.getName());
-                                result.setSubtitle(match.getVenue() != null ? match.getVenue() : "Match");
-                                result.setStatus(match.getMatchStatus());
-                                result.setCode(match.getVisibilityLink());
-                                result.setSportId(match.getSportId());
-                                results.add(result);
-                                
-                                android.util.Log.d("SearchViewModel", "Found match: " + match.getName() + 
-                                    " (Code: " + visibilityLink + ")");
-                            }
-                        }
-                    }
-                }
-                
-                _searchResults.setValue(results);
+                results.add(result);
+                publishResults(results, query);
+            } else {
+                searchByName(query, generation, true);
+            }
+        });
+    }
+
+    /**
+     * Loads the entity an index entry points to and maps it to a search result.
+     */
+    private Task<SearchResult> loadResult(VisibilityCode entry) {
+        String id = entry.getEntityId();
+        if ("TOURNAMENT".equals(entry.getEntityType())) {
+            return tournamentRepository.getByIdOnce(id).continueWith(task -> {
+                HostedEntity tournament = task.getResult();
+                return tournament != null
+                        ? toResult(tournament, SearchResult.TYPE_TOURNAMENT, "Tournament", task.getResult().getSportId())
+                        : null;
+            });
+        }
+        if ("SERIES".equals(entry.getEntityType())) {
+            return seriesRepository.getByIdOnce(id).continueWith(task -> {
+                HostedEntity series = task.getResult();
+                return series != null
+                        ? toResult(series, SearchResult.TYPE_SERIES, "Series", task.getResult().getSportId())
+                        : null;
+            });
+        }
+        return matchRepository.getByIdOnce(id).continueWith(task -> {
+            MatchSummary match = task.getResult();
+            return match != null
+                    ? toResult(match, SearchResult.TYPE_MATCH,
+                            match.getVenue() != null ? match.getVenue() : "Match", match.getSportId())
+                    : null;
+        });
+    }
+
+    private SearchResult toResult(HostedEntity entity, int type, String subtitle, String sportId) {
+        SearchResult result = new SearchResult();
+        result.setId(entity.getEntityId());
+        result.setType(type);
+        result.setTitle(entity.getName());
+        result.setSubtitle(subtitle);
+        result.setStatus(entity.getStatus());
+        result.setCode(entity.getVisibilityLink());
+        result.setSportId(sportId);
+        return result;
+    }
+
+    /**
+     * Search-as-you-type: shows the ranked name matches of the text typed so far.
+     * Prefixes typed before are answered from the in-memory hot-prefix cache without
+     * any read, so this is cheap to call on every keystroke.
+     *
+     * @param text The current text of the search field
+     */
+    public void onQueryChanged(String text) {
+        final int generation = ++searchGeneration;
+        currentQuery = text;
+        nextCursor = null;
+        if (text == null || text.trim().length() < com.example.tournafy.utils.SearchTokenizer.MIN_PREFIX_LENGTH) {
+            _searchResults.setValue(new ArrayList<>());
+            _isLoading.setValue(false);
+            return;
+        }
+        _errorMessage.setValue(null);
+        
+        Page<SearchResult> cached = searchIndex.getCachedFirstPage(text);
+        if (cached != null) {
+            nextCursor = cached.getNextCursor();
+            _searchResults.setValue(new ArrayList<>(cached.getItems()));
+            return;
+        }
+        searchByName(text, generation, false);
+    }
+
+    /**
+     * Loads the next page of name results (prefetch from the result list's scroll listener).
+     */
+    public void loadMore() {
+        if (nextCursor == null || loadingMore || currentQuery == null) return;
+        loadingMore = true;
+        final int generation = searchGeneration;
+        searchIndex.search(currentQuery, PAGE_SIZE, nextCursor).addOnCompleteListener(task -> {
+            loadingMore = false;
+            if (generation != searchGeneration || !task.isSuccessful()) return;
+            Page<SearchResult> page = task.getResult();
+            nextCursor = page.getNextCursor();
+            List<SearchResult> results = new ArrayList<>();
+            if (_searchResults.getValue() != null) {
+                results.addAll(_searchResults.getValue());
+            }
+            results.addAll(page.getItems());
+            _searchResults.setValue(results);
+        });
+    }
+
+    /**
+     * Ranked name search through the search index.
+     */
+    private void searchByName(String query, int generation, boolean reportEmpty) {
+        searchIndex.search(query, PAGE_SIZE, null).addOnCompleteListener(task -> {
+            if (generation != searchGeneration) return;
+            if (!task.isSuccessful()) {
+                android.util.Log.e("SearchViewModel", "Search failed", task.getException());
                 _isLoading.setValue(false);
-                
-                if (results.isEmpty()) {
-                    _errorMessage.setValue("No matches found for \"" + query + "\"");
-                    android.util.Log.d("SearchViewModel", "No results found");
-                } else {
-                    android.util.Log.d("SearchViewModel", "Found " + results.size() + " result(s)");
+                if (reportEmpty) {
+                    _errorMessage.setValue("Search failed. Check your connection and try again.");
                 }
-                
-                // Remove observer after search completes
-                matchRepository.getAll().removeObserver(this);
-                searchObserver = null;
+                return;
+            }
+            Page<SearchResult> page = task.getResult();
+            nextCursor = page.getNextCursor();
+            if (reportEmpty) {
+                publishResults(new ArrayList<>(page.getItems()), query);
+            } else {
+                _searchResults.setValue(new ArrayList<>(page.getItems()));
+                _isLoading.setValue(false);
             }
-        };
+        });
+    }
+
+    private void publishResults(List<SearchResult> results, String query) {
+        _searchResults.setValue(results);
+        _isLoading.setValue(false);
         
-        matchRepository.getAll().observeForever(searchObserver);
+        if (results.isEmpty()) {
+            _errorMessage.setValue("Nothing found for \"" + query + "\"");
+            android.util.Log.d("SearchViewModel", "No results found");
+        } else {
+            android.util.Log.d("SearchViewModel", "Found " + results.size() + " result(s)");
+        }
     }
 
     /**
@@ -130,9 +257,7 @@ public class SearchViewModel extends ViewModel {
     @Override
     protected void onCleared() {
         super.onCleared();
-        // Clean up observer when ViewModel is destroyed
-        if (searchObserver != null) {
-            matchRepository.getAll().removeObserver(searchObserver);
-        }
+        // Ignore results still in flight
+        searchGeneration++;
     }
 }
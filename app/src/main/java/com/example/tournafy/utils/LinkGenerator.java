@@ -146,6 +146,22 @@ public class LinkGenerator {
         return code.substring(0, 3) + "-" + code.substring(3, 6);
     }
     
+    /**
+     * Normalizes a code for lookups: uppercase, without hyphens or spaces.
+     * "mha-e2b", "MHA E2B" and "MHAE2B" all become "MHAE2B". This is the document
+     * ID of the code in the "codes" index collection.
+     *
+     * @param link The visibility link or code as typed or generated
+     * @return The normalized code, or null if the link has no letters or digits
+     */
+    public static String normalizeCode(String link) {
+        if (link == null) {
+            return null;
+        }
+        String code = link.trim().toUpperCase().replaceAll("[^A-Z0-9]", "");
+        return code.isEmpty() ? null : code;
+    }
+
     /**
      * Validates if a link string is valid (contains only allowed characters).
      * 
@@ -0,0 +1,136 @@
+package com.example.tournafy.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Turns names into the tokens of the search index (search_terms collection).
+ *
+ * A name is normalized (lowercase, accents and punctuation removed) and split into
+ * words; every word contributes its edge n-grams ("barcelona" -> "ba", "bar", ...,
+ * "barcelona"), so a typed prefix is found with one equality query on the token.
+ * Each token gets a score: longer prefixes of a word, whole words and earlier words
+ * rank higher.
+ */
+public class SearchTokenizer {
+
+    /** Shortest prefix that is indexed (and searched). */
+    public static final int MIN_PREFIX_LENGTH = 2;
+    /** Longer prefixes are cut to this length, both when indexing and searching. */
+    public static final int MAX_PREFIX_LENGTH = 15;
+    /** Only the first words of a name are indexed, to bound the writes per entity. */
+    public static final int MAX_INDEXED_WORDS = 8;
+
+    /**
+     * Normalizes text for indexing and matching.
+     * Example: "Real Madrid C.F. – Barça" -> "real madrid c f barca"
+     *
+     * @param text The text to normalize
+     * @return The normalized text (may be empty)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")             // Remove accents
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]+", " ")        // Punctuation -> word break
+                .trim();
+    }
+
+    /**
+     * @param text The text to split
+     * @return The normalized words of the text
+     */
+    public static List<String> words(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(normalized.split(" ")));
+    }
+
+    /**
+     * Builds the index tokens of a name with their scores. A token shared by several
+     * words keeps its best score.
+     *
+     * @param name The name of the match, tournament, series, team or player
+     * @return Token -> score, in word order
+     */
+    public static Map<String, Long> terms(String name) {
+        Map<String, Long> terms = new LinkedHashMap<>();
+        List<String> words = words(name);
+        for (int i = 0; i < words.size() && i < MAX_INDEXED_WORDS; i++) {
+            String word = words.get(i);
+            int longest = Math.min(word.length(), MAX_PREFIX_LENGTH);
+            for (int length = MIN_PREFIX_LENGTH; length <= longest; length++) {
+                String token = word.substring(0, length);
+                long score = score(length, word.length(), i);
+                Long existing = terms.get(token);
+                if (existing == null || existing < score) {
+                    terms.put(token, score);
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Picks the token a query is looked up by: its longest word, cut to the longest
+     * indexed prefix. The other words filter the results.
+     *
+     * @param queryWords The normalized words of the query
+     * @return The lookup token, or null if no word is long enough to be indexed
+     */
+    public static String leadToken(List<String> queryWords) {
+        String lead = null;
+        for (String word : queryWords) {
+            if (word.length() >= MIN_PREFIX_LENGTH && (lead == null || word.length() > lead.length())) {
+                lead = word;
+            }
+        }
+        if (lead != null && lead.length() > MAX_PREFIX_LENGTH) {
+            lead = lead.substring(0, MAX_PREFIX_LENGTH);
+        }
+        return lead;
+    }
+
+    /**
+     * Checks that every query word is a prefix of some word of the name.
+     *
+     * @param normalizedName The normalized name
+     * @param queryWords The normalized words of the query
+     * @return true if the name matches the whole query
+     */
+    public static boolean matchesAll(String normalizedName, List<String> queryWords) {
+        List<String> nameWords = Arrays.asList(normalizedName.split(" "));
+        for (String queryWord : queryWords) {
+            boolean found = false;
+            for (String nameWord : nameWords) {
+                if (nameWord.startsWith(queryWord)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long score(int prefixLength, int wordLength, int wordIndex) {
+        long score = 1000L * prefixLength / wordLength;   // How much of the word is typed
+        if (prefixLength == wordLength) {
+            score += 500;                                  // Whole word
+        }
+        score += Math.max(0, 100 - 20 * wordIndex);        // Earlier words first
+        return score;
+    }
+}
@@ -6,6 +6,7 @@ import android.content.Context;
 import android.content.Intent;
 import android.widget.Toast;
 
+import com.example.tournafy.domain.models.base.HostedEntity;
 import com.example.tournafy.domain.models.base.Match;
 import com.example.tournafy.domain.models.match.cricket.CricketMatch;
 import com.example.tournafy.domain.models.match.football.FootballMatch;
@@ -21,9 +22,9 @@ public class ShareHelper {
      * Creates a custom app link that will open directly in the app.
      * 
      * @param context The context to start the intent from
-     * @param match The match to share
+     * @param match The match (or its MatchSummary) to share
      */
-    public static void shareMatch(Context context, Match match) {
+    public static void shareMatch(Context context, HostedEntity match) {
         if (match == null) {
             Toast.makeText(context, "No match to share", Toast.LENGTH_SHORT).show();
             return;
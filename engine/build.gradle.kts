@@ -0,0 +1,28 @@
+// Scoring rules, commands and tournament math: plain Java, no Android or Firebase
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    testImplementation(libs.junit)
+}
+
+// Scoring hot-path benchmarks (src/jmh): ./gradlew :engine:jmh
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    // The benchmarks build their matches with the test fixtures
+    includeTests.set(true)
+    // Allocation per operation (gc.alloc.rate.norm) next to the timings
+    profilers.add("gc")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    timeOnIteration.set("2s")
+    resultFormat.set("JSON")
+}
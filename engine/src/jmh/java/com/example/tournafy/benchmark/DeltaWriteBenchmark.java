@@ -0,0 +1,104 @@
+package com.example.tournafy.benchmark;
+
+import com.example.tournafy.command.MatchCommandManager;
+import com.example.tournafy.data.repository.offline.codec.CricketMatchCodec;
+import com.example.tournafy.domain.models.base.MatchDelta;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bytes written per ball over a 20-over innings: the field-level delta update that
+ * MatchFirestoreRepository sends against the full set() of the match document it
+ * replaces. One invocation scores the whole innings; the bytesPerBall counter is the
+ * average update size, estimated with Firestore's storage-size rules.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class DeltaWriteBenchmark {
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class WrittenBytes {
+        public double bytesPerBall;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerBall = 0;
+        }
+    }
+
+    private final CricketMatchCodec codec = new CricketMatchCodec();
+
+    @Benchmark
+    public CricketMatch delta(WrittenBytes written) {
+        return scoreInnings(written, true);
+    }
+
+    @Benchmark
+    public CricketMatch fullSet(WrittenBytes written) {
+        return scoreInnings(written, false);
+    }
+
+    private CricketMatch scoreInnings(WrittenBytes written, boolean delta) {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        match.drainPendingChanges();
+        MatchCommandManager commands = new MatchCommandManager();
+        Random random = new Random(42);
+        long bytes = 0;
+        int balls = 0;
+        while (match.getCurrentInningsNumber() == 1 && CricketFixtures.isScoring(match)) {
+            CricketFixtures.score(match, commands, CricketFixtures.random(match, random));
+            MatchDelta changes = match.drainPendingChanges();
+            bytes += delta && !changes.isFullWriteRequired()
+                ? FirestoreSize.sizeOf(updateOf(changes))
+                : FirestoreSize.sizeOf(codec.encode(match));
+            balls++;
+        }
+        written.bytesPerBall = (double) bytes / balls;
+        return match;
+    }
+
+    /**
+     * The update map of MatchFirestoreRepository.toUpdateMap, with the arrayUnion /
+     * arrayRemove / increment transforms replaced by the values they carry.
+     */
+    private Map<String, Object> updateOf(MatchDelta delta) {
+        Map<String, Object> updates = new HashMap<>();
+        for (Map.Entry<String, Object> entry : delta.getSets().entrySet()) {
+            updates.put(entry.getKey(), codec.encodeField(entry.getKey(), entry.getValue()));
+        }
+        updates.putAll(delta.getIncrements());
+        for (Map.Entry<String, List<Object>> entry : delta.getAppends().entrySet()) {
+            updates.put(entry.getKey(), encodeElements(entry.getValue()));
+        }
+        for (Map.Entry<String, List<Object>> entry : delta.getRemovals().entrySet()) {
+            updates.put(entry.getKey(), encodeElements(entry.getValue()));
+        }
+        return updates;
+    }
+
+    private Object[] encodeElements(List<Object> values) {
+        Object[] encoded = new Object[values.size()];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = codec.encodeValue(values.get(i));
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.tournafy.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Storage size of encoded documents and values, by Firestore's size rules: strings are
+ * their UTF-8 length + 1, numbers and dates 8, booleans and null 1, maps the sum of
+ * their keys and values.
+ */
+final class FirestoreSize {
+
+    private FirestoreSize() {
+    }
+
+    static long sizeOf(Object value) {
+        if (value == null || value instanceof Boolean) return 1;
+        if (value instanceof Number || value instanceof Date) return 8;
+        if (value instanceof String) return ((String) value).getBytes(StandardCharsets.UTF_8).length + 1;
+        long size = 0;
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+            }
+        } else if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) size += sizeOf(element);
+        } else if (value instanceof Object[]) {
+            for (Object element : (Object[]) value) size += sizeOf(element);
+        }
+        return size;
+    }
+}
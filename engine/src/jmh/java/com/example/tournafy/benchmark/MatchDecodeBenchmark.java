@@ -0,0 +1,48 @@
+package com.example.tournafy.benchmark;
+
+import com.example.tournafy.data.repository.offline.codec.CricketMatchCodec;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decode (and, for comparison, encode) time of a T20 match document: a completed
+ * 20-over first innings and a chase in progress, the document every snapshot of a
+ * live match is decoded from.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class MatchDecodeBenchmark {
+
+    private final CricketMatchCodec codec = new CricketMatchCodec();
+
+    private CricketMatch match;
+    private Map<String, Object> document;
+
+    @Setup
+    public void scoreMatch() {
+        match = CricketFixtures.scoredMatch(20, 200, 42);
+        document = codec.encode(match);
+    }
+
+    @Benchmark
+    public CricketMatch decode() {
+        return codec.decode(document);
+    }
+
+    @Benchmark
+    public Map<String, Object> encode() {
+        return codec.encode(match);
+    }
+}
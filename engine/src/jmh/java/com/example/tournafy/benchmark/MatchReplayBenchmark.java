@@ -0,0 +1,70 @@
+package com.example.tournafy.benchmark;
+
+import com.example.tournafy.command.MatchCommandManager;
+import com.example.tournafy.command.MatchReplayer;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time of the replay check a match gets when it is first loaded (MatchReplayer.verify)
+ * on a 50-over match: a completed first innings and a chase in progress, about 600
+ * deliveries. replayInnings replays one full 50-over innings on its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class MatchReplayBenchmark {
+
+    /**
+     * A match of exactly one completed 50-over innings.
+     */
+    @State(Scope.Thread)
+    public static class FullInnings {
+        CricketMatch match;
+
+        @Setup
+        public void scoreInnings() {
+            match = CricketFixtures.startedMatch(50);
+            MatchCommandManager commands = new MatchCommandManager();
+            Random random = new Random(42);
+            while (match.getCurrentInningsNumber() == 1) {
+                // No more wickets once eight are down, so the innings lasts its 50 overs
+                CricketFixtures.score(match, commands, match.getCurrentInnings().getWicketsFallen() < 8
+                    ? CricketFixtures.random(match, random) : CricketFixtures.ball(match, random.nextInt(5)));
+            }
+        }
+    }
+
+    private CricketMatch match;
+
+    @Setup
+    public void scoreMatch() {
+        match = CricketFixtures.scoredMatch(50, 600, 42);
+    }
+
+    @Benchmark
+    public MatchReplayer.Verification verify() {
+        return MatchReplayer.verify(match);
+    }
+
+    @Benchmark
+    public CricketMatch replay() {
+        return new MatchReplayer(match).replay();
+    }
+
+    @Benchmark
+    public CricketMatch replayInnings(FullInnings innings) {
+        return new MatchReplayer(innings.match).replay();
+    }
+}
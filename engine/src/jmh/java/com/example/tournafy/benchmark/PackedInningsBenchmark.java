@@ -0,0 +1,112 @@
+package com.example.tournafy.benchmark;
+
+import com.example.tournafy.command.MatchCommandManager;
+import com.example.tournafy.data.repository.offline.codec.CricketMatchCodec;
+import com.example.tournafy.domain.models.match.cricket.Ball;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.domain.models.match.cricket.Over;
+import com.example.tournafy.domain.models.match.cricket.PackedInnings;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The packed current overs (see PackedInnings) against the object graph they replace,
+ * on 49 overs of a 50-over innings: the stored size of each form (storedBytes, by
+ * Firestore's size rules), decode time and, with -prof gc, the allocation of decoding
+ * a match document in each form and of totalling the innings runs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class PackedInningsBenchmark {
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class StoredBytes {
+        public long storedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            storedBytes = 0;
+        }
+    }
+
+    private final CricketMatchCodec codec = new CricketMatchCodec();
+
+    private List<Over> overs;
+    private List<Ball> balls;
+    private PackedInnings packed;
+    private Map<String, Object> packedDocument;
+    private Map<String, Object> objectGraphDocument;
+
+    @Setup
+    public void scoreInnings() {
+        CricketMatch match = CricketFixtures.startedMatch(50);
+        MatchCommandManager commands = new MatchCommandManager();
+        Random random = new Random(42);
+        while (match.getCurrentInningsNumber() == 1 && match.getCurrentInnings().getOversCompleted() < 49) {
+            // No more wickets once eight are down, so the innings lasts its 49 overs
+            CricketFixtures.score(match, commands, match.getCurrentInnings().getWicketsFallen() < 8
+                ? CricketFixtures.random(match, random) : CricketFixtures.ball(match, random.nextInt(5)));
+        }
+        overs = match.getCurrentOvers();
+        balls = new ArrayList<>();
+        for (Over over : overs) balls.addAll(over.getBalls());
+        packed = PackedInnings.pack(balls);
+        packedDocument = codec.encode(match);
+        objectGraphDocument = new HashMap<>(packedDocument);
+        objectGraphDocument.put(CricketMatch.FIELD_CURRENT_OVERS, codec.encodeValue(overs));
+    }
+
+    @Benchmark
+    public Object encodePacked(StoredBytes stored) {
+        Object encoded = codec.encodeField(CricketMatch.FIELD_CURRENT_OVERS, overs);
+        stored.storedBytes = FirestoreSize.sizeOf(encoded);
+        return encoded;
+    }
+
+    @Benchmark
+    public Object encodeObjectGraph(StoredBytes stored) {
+        Object encoded = codec.encodeValue(overs);
+        stored.storedBytes = FirestoreSize.sizeOf(encoded);
+        return encoded;
+    }
+
+    @Benchmark
+    public CricketMatch decodePacked() {
+        return codec.decode(packedDocument);
+    }
+
+    @Benchmark
+    public CricketMatch decodeObjectGraph() {
+        return codec.decode(objectGraphDocument);
+    }
+
+    @Benchmark
+    public int totalRunsPacked() {
+        return packed.totalRuns();
+    }
+
+    @Benchmark
+    public int totalRunsObjectGraph() {
+        int runs = 0;
+        for (Ball ball : balls) runs += ball.getRunsScored();
+        return runs;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.tournafy.benchmark;
+
+import com.example.tournafy.command.MatchCommandManager;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Balls per second through the two scoring paths, one operation per delivery:
+ * - commands: MatchViewModel's live path (command through the MatchCommandManager,
+ *   post-ball logic, player stats);
+ * - processEvent: the event-log replay path (processEvent, player stats).
+ * Each invocation scores a 20-over innings on a fresh match, creating the ball and
+ * event of every delivery as a tap does, so with the gc profiler gc.alloc.rate.norm
+ * is the allocation per ball.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ScoringBenchmark {
+
+    static final int DELIVERIES = 120;
+
+    private CricketMatch match;
+    private MatchCommandManager commands;
+    private Random random;
+
+    @Setup(Level.Invocation)
+    public void newMatch() {
+        match = CricketFixtures.startedMatch(50);
+        commands = new MatchCommandManager();
+        random = new Random(42);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DELIVERIES)
+    public CricketMatch commands() {
+        for (int i = 0; i < DELIVERIES && CricketFixtures.isScoring(match); i++) {
+            CricketFixtures.score(match, commands, CricketFixtures.random(match, random));
+        }
+        return match;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DELIVERIES)
+    public CricketMatch processEvent() {
+        for (int i = 0; i < DELIVERIES && CricketFixtures.isScoring(match); i++) {
+            CricketFixtures.Delivery delivery = CricketFixtures.random(match, random);
+            match.processEvent(delivery.event);
+            match.applyPlayerStats(delivery.event);
+        }
+        return match;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.tournafy.benchmark;
+
+import com.example.tournafy.command.MatchCommandManager;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Undo and redo throughput of scoring commands, one operation per undo or redo: the
+ * last DEPTH deliveries of a 19-over innings are undone, then redone. They are all in
+ * the current over, so every undo takes its ball off the over and the state is the
+ * same after each invocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class UndoRedoBenchmark {
+
+    static final int DEPTH = 5;
+    static final int CYCLES = 10_000;
+
+    private MatchCommandManager commands;
+
+    @Setup
+    public void scoreInnings() {
+        CricketMatch match = CricketFixtures.startedMatch(50);
+        commands = new MatchCommandManager();
+        Random random = new Random(42);
+        while (match.getCurrentInningsNumber() == 1 && match.getCurrentInnings().getOversCompleted() < 19) {
+            CricketFixtures.score(match, commands, CricketFixtures.random(match, random));
+        }
+        // Mid-over runs: no over or innings ends among the undone deliveries
+        int[] runs = {1, 4, 0, 2, 6};
+        for (int i = 0; i < DEPTH; i++) {
+            CricketFixtures.score(match, commands, CricketFixtures.ball(match, runs[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * DEPTH)
+    public MatchCommandManager undoRedo() {
+        for (int i = 0; i < DEPTH; i++) {
+            commands.undo();
+        }
+        for (int i = 0; i < DEPTH; i++) {
+            commands.redo();
+        }
+        return commands;
+    }
+
+    /**
+     * CYCLES undo/redo cycles as one operation, DEPTH deliveries deep at a time.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public MatchCommandManager tenThousandCycles() {
+        for (int cycle = 0; cycle < CYCLES; cycle += DEPTH) {
+            for (int i = 0; i < DEPTH; i++) {
+                commands.undo();
+            }
+            for (int i = 0; i < DEPTH; i++) {
+                commands.redo();
+            }
+        }
+        return commands;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.tournafy.command;
+
+import com.example.tournafy.command.interfaces.MatchCommand;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Invoker Class.
+ * Manages the history of commands to enable Undo/Redo functionality.
+ * Linked to the 'Undo' button in your XML layouts.
+ *
+ * One manager holds the history of one match (see MatchCommandManagers). The history
+ * keeps the most recent historyLimit commands; older ones can no longer be undone.
+ * Must be used from the main thread.
+ */
+public class MatchCommandManager {
+
+    /** Commands kept for undo by default: more than the deliveries of a T20 innings pair. */
+    public static final int DEFAULT_HISTORY_LIMIT = 300;
+
+    private final int historyLimit;
+
+    // Stack to store history of executed commands (most recent first)
+    private final Deque<MatchCommand> commandHistory = new ArrayDeque<>();
+
+    // Stack to store undone commands (for Redo functionality)
+    private final Deque<MatchCommand> redoStack = new ArrayDeque<>();
+
+    public MatchCommandManager() {
+        this(DEFAULT_HISTORY_LIMIT);
+    }
+
+    public MatchCommandManager(int historyLimit) {
+        this.historyLimit = historyLimit;
+    }
+
+    public int getHistoryLimit() {
+        return historyLimit;
+    }
+
+    /**
+     * Returns the last command that was undone (top of redo stack), or null if none.
+     */
+    public MatchCommand getLastUndoneCommand() {
+        return redoStack.peek();
+    }
+
+    /**
+     * Returns the last command that was executed (top of history stack), or null if none.
+     */
+    public MatchCommand getLastExecutedCommand() {
+        return commandHistory.peek();
+    }
+
+    /**
+     * Executes a command and pushes it onto the history stack.
+     * Clears the redo stack because a new path of history has started.
+     * * @param command The command to execute (e.g., AddBallCommand)
+     */
+    public void executeCommand(MatchCommand command) {
+        command.execute();
+        pushHistory(command);
+        redoStack.clear();
+    }
+
+    /**
+     * Undoes the most recent command.
+     * Called when R.id.btnUndo or R.id.cardUndo is clicked.
+     */
+    public void undo() {
+        if (!commandHistory.isEmpty()) {
+            MatchCommand command = commandHistory.pop();
+            command.undo();
+            redoStack.push(command);
+        }
+    }
+
+    /**
+     * Redoes the most recently undone command.
+     */
+    public void redo() {
+        if (!redoStack.isEmpty()) {
+            MatchCommand command = redoStack.pop();
+            command.execute();
+            commandHistory.push(command);
+        }
+    }
+
+    // --- RESTORE (scoring journal recovery) ---
+
+    /**
+     * Drops the whole history, e.g. before it is rebuilt from a scoring journal.
+     */
+    public void clear() {
+        commandHistory.clear();
+        redoStack.clear();
+    }
+
+    /**
+     * Pushes a command whose effect is already part of the match, without executing it.
+     */
+    public void restoreExecuted(MatchCommand command) {
+        pushHistory(command);
+        redoStack.clear();
+    }
+
+    /**
+     * Moves the most recent command to the redo stack without undoing it again
+     * (its undo is already part of the match).
+     */
+    public void restoreUndone() {
+        if (!commandHistory.isEmpty()) {
+            redoStack.push(commandHistory.pop());
+        }
+    }
+
+    /**
+     * Moves the most recently undone command back to the history without executing it.
+     */
+    public void restoreRedone() {
+        if (!redoStack.isEmpty()) {
+            commandHistory.push(redoStack.pop());
+        }
+    }
+
+    public boolean canUndo() {
+        return !commandHistory.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Pushes a new command, dropping the oldest one beyond the history limit. Redo
+     * never needs this: undone commands came off the history.
+     */
+    private void pushHistory(MatchCommand command) {
+        commandHistory.push(command);
+        if (commandHistory.size() > historyLimit) {
+            commandHistory.removeLast();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.tournafy.command;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The command managers of the matches being scored, one per match id, so the undo
+ * history of one match never undoes anything in another.
+ *
+ * The most recently used MAX_MATCHES managers are kept; an older one is dropped with
+ * its history (a cricket match rebuilds it from its scoring journal when it is loaded
+ * again, see ScoringJournalReplay). Must be used from the main thread.
+ */
+public class MatchCommandManagers {
+
+    public static final int MAX_MATCHES = 4;
+
+    private final Map<String, MatchCommandManager> managers =
+        new LinkedHashMap<String, MatchCommandManager>(8, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MatchCommandManager> eldest) {
+                return size() > MAX_MATCHES;
+            }
+        };
+
+    /**
+     * @return The manager of the match, created on first use. A match without an id
+     *         gets a new manager that is not kept.
+     */
+    public MatchCommandManager forMatch(String matchId) {
+        if (matchId == null) return new MatchCommandManager();
+        MatchCommandManager manager = managers.get(matchId);
+        if (manager == null) {
+            manager = new MatchCommandManager();
+            managers.put(matchId, manager);
+        }
+        return manager;
+    }
+
+    /**
+     * Makes a manager built elsewhere (e.g. recovered from a scoring journal off the
+     * main thread) the manager of the match, replacing its current history.
+     */
+    public void put(String matchId, MatchCommandManager manager) {
+        managers.put(matchId, manager);
+    }
+
+    /**
+     * Drops the history of a match, e.g. once it is completed.
+     */
+    public void remove(String matchId) {
+        managers.remove(matchId);
+    }
+}
@@ -0,0 +1,404 @@
+package com.example.tournafy.command;
+
+import com.example.tournafy.command.cricket.AddBallCommand;
+import com.example.tournafy.command.cricket.AddExtrasCommand;
+import com.example.tournafy.command.cricket.AddWicketCommand;
+import com.example.tournafy.command.interfaces.MatchCommand;
+import com.example.tournafy.domain.models.match.cricket.Ball;
+import com.example.tournafy.domain.models.match.cricket.CricketEvent;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.domain.models.match.cricket.Innings;
+import com.example.tournafy.domain.models.match.cricket.Over;
+import com.example.tournafy.domain.models.sync.MatchOperation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Folds the shared operation log of a cricket match scored by several scorers
+ * (host and co-hosts) into one CricketMatch, so that every scorer ends up with the
+ * same match whatever order the operations reach them in.
+ *
+ * Every delivery is an operation with a (lamport, clientId) id (see MatchOperation),
+ * and the match is the fold of all operations in id order through the same
+ * commands as single-scorer scoring: AddBallCommand / AddWicketCommand /
+ * AddExtrasCommand, then the post-ball logic and player stats. A scorer's own
+ * operations are applied right away and stay pending until the log echoes them.
+ *
+ * An operation that sorts after everything applied so far (the usual case) is
+ * folded into the current match. One that sorts earlier - a concurrent delivery of
+ * another scorer - is a rebase: the match is rebuilt from the nearest checkpoint
+ * before it, and the later operations (including pending ones) are folded again on
+ * top of it. Checkpoints are taken every CHECKPOINT_INTERVAL operations, so a
+ * rebase replays at most a few overs. An UNDO operation cancels its target the same
+ * way: the match is rebuilt without it.
+ *
+ * Not thread-safe: operations are submitted and received on the main thread.
+ */
+public class MatchOperationLog {
+
+    private static final Logger LOG = Logger.getLogger("MatchOperationLog");
+
+    // Operations folded between two checkpoints
+    private static final int CHECKPOINT_INTERVAL = 12;
+    // Checkpoints kept besides the initial state (rebases only reach back a few overs)
+    private static final int MAX_CHECKPOINTS = 4;
+
+    /**
+     * Makes an independent copy of a match (used for checkpoints).
+     */
+    public interface Snapshots {
+        CricketMatch copy(CricketMatch match);
+    }
+
+    /**
+     * Sends a local operation to the shared log.
+     */
+    public interface Publisher {
+        void publish(MatchOperation operation);
+    }
+
+    /**
+     * Told after each operation. When rebuilt is true the match is a new instance that
+     * replaces the previous one, and all of its scoring state may have changed.
+     */
+    public interface Listener {
+        void onMatchChanged(CricketMatch match, MatchOperation operation, boolean rebuilt);
+    }
+
+    private final String matchId;
+    private final String clientId;
+    private final Snapshots snapshots;
+    private final Publisher publisher;
+    private final Listener listener;
+
+    // All operations received or submitted, in log order
+    private final List<MatchOperation> operations = new ArrayList<>();
+    private final Set<String> known = new HashSet<>();
+    // Operations cancelled by an UNDO
+    private final Set<String> cancelled = new HashSet<>();
+    // Local operations not echoed by the log yet
+    private final Set<String> pending = new LinkedHashSet<>();
+    // Deliveries already in the match the log started from (a scorer joining late)
+    private final Set<String> baseEventIds = new HashSet<>();
+    // Match state before operations.get(key), i.e. after the first key operations
+    private final TreeMap<Integer, CricketMatch> checkpoints = new TreeMap<>();
+
+    private CricketMatch match;
+    private long lamport;
+    private int rebases;
+
+    /**
+     * @param match     The match as it was before the first operation of the log.
+     * @param clientId  Id of this scorer's installation.
+     * @param snapshots Copies matches for checkpoints.
+     * @param publisher Sends local operations to the shared log.
+     * @param listener  Told about every change of the match.
+     */
+    public MatchOperationLog(CricketMatch match, String clientId, Snapshots snapshots,
+                             Publisher publisher, Listener listener) {
+        this.match = match;
+        this.matchId = match.getEntityId();
+        this.clientId = clientId;
+        this.snapshots = snapshots;
+        this.publisher = publisher;
+        this.listener = listener;
+        checkpoints.put(0, snapshots.copy(match));
+        if (match.getCricketEvents() != null) {
+            for (CricketEvent event : match.getCricketEvents()) {
+                baseEventIds.add(event.getEventId());
+            }
+        }
+    }
+
+    public CricketMatch getMatch() {
+        return match;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public int getRebaseCount() {
+        return rebases;
+    }
+
+    /**
+     * @return The operations in log order (for tests).
+     */
+    List<MatchOperation> operations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    /**
+     * @return The positions of the kept checkpoints (for tests).
+     */
+    NavigableSet<Integer> checkpointPositions() {
+        return Collections.unmodifiableNavigableSet(checkpoints.navigableKeySet());
+    }
+
+    /**
+     * Scores a delivery: applies it to the match and sends it to the shared log.
+     * @param type  MatchOperation.TYPE_BALL, TYPE_WICKET or TYPE_EXTRAS.
+     * @param event The delivery, with the crease and any wicket / extras detail.
+     * @param ball  The ball entity of the delivery.
+     * @return The operation that was sent.
+     */
+    public MatchOperation submit(String type, CricketEvent event, Ball ball) {
+        MatchOperation operation = new MatchOperation(matchId, clientId, ++lamport, type);
+        operation.setEvent(event);
+        operation.setBall(ball);
+        pending.add(operation.getOpId());
+        insert(operation);
+        publisher.publish(operation);
+        return operation;
+    }
+
+    /**
+     * Undoes this scorer's most recent delivery that is not undone yet. Deliveries of
+     * other scorers are left alone.
+     * @return The undone operation, or null if there was none.
+     */
+    public MatchOperation undoLast() {
+        MatchOperation target = lastUndoable();
+        if (target != null) {
+            MatchOperation undo = new MatchOperation(matchId, clientId, ++lamport, MatchOperation.TYPE_UNDO);
+            undo.setTargetOpId(target.getOpId());
+            pending.add(undo.getOpId());
+            insert(undo);
+            publisher.publish(undo);
+        }
+        return target;
+    }
+
+    /**
+     * @return Whether undoLast() has a delivery of this scorer to undo.
+     */
+    public boolean canUndo() {
+        return lastUndoable() != null;
+    }
+
+    /**
+     * Receives an operation of the shared log (another scorer's, or the echo of a
+     * local one).
+     */
+    public void onOperation(MatchOperation operation) {
+        lamport = Math.max(lamport, operation.getLamport());
+        if (known.contains(operation.getOpId())) {
+            pending.remove(operation.getOpId());
+            return;
+        }
+        insert(operation);
+    }
+
+    // --- FOLDING ---
+
+    private void insert(MatchOperation operation) {
+        known.add(operation.getOpId());
+        int position = insertionPoint(operation);
+        operations.add(position, operation);
+
+        int rebuildFrom = position;
+        if (operation.isUndo() && operation.getTargetOpId() != null) {
+            cancelled.add(operation.getTargetOpId());
+            int target = indexOf(operation.getTargetOpId());
+            // A target that has not arrived yet is skipped when it does
+            if (target >= 0) rebuildFrom = Math.min(rebuildFrom, target);
+        }
+
+        if (rebuildFrom == operations.size() - 1) {
+            boolean applied = fold(match, operation);
+            checkpoint(match, operations.size());
+            if (applied) listener.onMatchChanged(match, operation, false);
+        } else {
+            rebuild(rebuildFrom);
+            listener.onMatchChanged(match, operation, true);
+        }
+    }
+
+    private int insertionPoint(MatchOperation operation) {
+        int size = operations.size();
+        if (size == 0 || MatchOperation.compare(operations.get(size - 1), operation) < 0) {
+            return size; // Appended
+        }
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (MatchOperation.compare(operations.get(mid), operation) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private MatchOperation lastUndoable() {
+        for (int i = operations.size() - 1; i >= 0; i--) {
+            MatchOperation operation = operations.get(i);
+            if (clientId.equals(operation.getClientId()) && !operation.isUndo()
+                    && !cancelled.contains(operation.getOpId())) {
+                return operation;
+            }
+        }
+        return null;
+    }
+
+    private int indexOf(String opId) {
+        for (int i = operations.size() - 1; i >= 0; i--) {
+            if (opId.equals(operations.get(i).getOpId())) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Rebuilds the match from the last checkpoint at or before an operation, folding
+     * that operation and every later one again.
+     */
+    private void rebuild(int from) {
+        checkpoints.tailMap(from, false).clear();
+        Map.Entry<Integer, CricketMatch> base = checkpoints.floorEntry(from);
+        CricketMatch rebuilt = snapshots.copy(base.getValue());
+        for (int i = base.getKey(); i < operations.size(); i++) {
+            fold(rebuilt, operations.get(i));
+            checkpoint(rebuilt, i + 1);
+        }
+        markRebuilt(rebuilt);
+        // Log sequence numbers already reserved stay reserved
+        rebuilt.setLastAppliedSeq(match.getLastAppliedSeq());
+        match = rebuilt;
+        rebases++;
+        LOG.fine("Rebuilt " + matchId + " from operation " + base.getKey() +
+            " (" + (operations.size() - base.getKey()) + " replayed, " + pending.size() + " pending)");
+    }
+
+    private void checkpoint(CricketMatch state, int folded) {
+        if (folded % CHECKPOINT_INTERVAL != 0 || checkpoints.containsKey(folded)) return;
+        checkpoints.put(folded, snapshots.copy(state));
+        while (checkpoints.size() > MAX_CHECKPOINTS + 1) {
+            checkpoints.remove(checkpoints.higherKey(0)); // Keep the initial state
+        }
+    }
+
+    /**
+     * Applies one operation the way live scoring does: the command, then the
+     * post-ball logic (striker swap, over / innings completion), then player stats.
+     * @return Whether the match changed.
+     */
+    private boolean fold(CricketMatch target, MatchOperation operation) {
+        CricketEvent event = operation.getEvent();
+        Ball ball = operation.getBall();
+        if (operation.isUndo() || event == null || ball == null) return false;
+        if (baseEventIds.contains(event.getEventId())) return false;
+        if (cancelled.contains(operation.getOpId())) {
+            // Tombstones keep the undone delivery from coming back in a sync merge
+            target.recordRemoval(ball.getBallId());
+            target.recordRemoval(event.getEventId());
+            return false;
+        }
+
+        // The delivery recorded who was at the crease (selections are not logged)
+        if (event.getBatsmanStrikerId() != null) target.setCurrentStrikerId(event.getBatsmanStrikerId());
+        if (event.getBatsmanNonStrikerId() != null) target.setCurrentNonStrikerId(event.getBatsmanNonStrikerId());
+        if (event.getBowlerId() != null) target.setCurrentBowlerId(event.getBowlerId());
+
+        if (target.getCurrentInnings() == null) return false;
+        if (target.getCurrentOver() == null) {
+            target.startNewOver();
+            nameOpenedOver(target, null, operation, "first");
+        }
+        if (target.getCurrentOver() == null) return false; // Innings completed
+
+        MatchCommand command = commandFor(target, operation);
+        if (command == null) {
+            LOG.warning("Skipping malformed operation " + operation.getOpId());
+            return false;
+        }
+        Over scoredIn = target.getCurrentOver();
+        place(target, ball, event);
+        command.execute();
+        target.processPostBallLogic(event);
+        target.applyPlayerStats(event);
+        nameOpenedOver(target, scoredIn, operation, "next");
+        return true;
+    }
+
+    /**
+     * Gives an over the operation opened an id derived from the operation instead of
+     * a random one, so that every scorer folding it opens the same over.
+     */
+    private static void nameOpenedOver(CricketMatch target, Over previous, MatchOperation operation, String slot) {
+        Over opened = target.getCurrentOver();
+        if (opened == null || opened == previous) return;
+        String key = operation.getOpId() + "/" + slot;
+        opened.setOverId(UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString());
+    }
+
+    private static MatchCommand commandFor(CricketMatch target, MatchOperation operation) {
+        CricketEvent event = operation.getEvent();
+        Ball ball = operation.getBall();
+        switch (String.valueOf(operation.getType())) {
+            case MatchOperation.TYPE_BALL:
+                return new AddBallCommand(target, ball, event);
+            case MatchOperation.TYPE_WICKET:
+                return event.getWicketDetail() != null
+                    ? new AddWicketCommand(target, ball, event, event.getWicketDetail()) : null;
+            case MatchOperation.TYPE_EXTRAS:
+                return event.getExtrasDetail() != null
+                    ? new AddExtrasCommand(target, ball, event, event.getExtrasDetail()) : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Numbers the delivery from the match it is folded into: after a rebase it may land
+     * in a different over, or at a different position, than where it was scored.
+     */
+    private void place(CricketMatch target, Ball ball, CricketEvent event) {
+        Innings innings = target.getCurrentInnings();
+        Over over = target.getCurrentOver();
+        int number = over.getBalls() != null ? over.getBalls().size() + 1 : 1;
+        ball.setMatchId(matchId);
+        ball.setInningsId(innings.getInningsId());
+        ball.setInningsNumber(innings.getInningsNumber());
+        ball.setOverId(over.getOverId());
+        ball.setOverNumber(over.getOverNumber());
+        ball.setBallNumber(number);
+        event.setMatchId(matchId);
+        event.setTeamId(innings.getBattingTeamId());
+        event.setOverNumber(over.getOverNumber());
+        event.setBallNumber(number);
+    }
+
+    /**
+     * A rebuilt match starts with a clean delta: record every scoring field so the
+     * next write carries the whole rebuilt state.
+     */
+    private static void markRebuilt(CricketMatch rebuilt) {
+        rebuilt.markOversChanged();
+        rebuilt.markInningsChanged();
+        rebuilt.setCricketEvents(rebuilt.getCricketEvents());
+        rebuilt.setBatsmanStatsMap(rebuilt.getBatsmanStatsMap());
+        rebuilt.setBowlerStatsMap(rebuilt.getBowlerStatsMap());
+        rebuilt.setCurrentInningsNumber(rebuilt.getCurrentInningsNumber());
+        rebuilt.setCurrentStrikerId(rebuilt.getCurrentStrikerId());
+        rebuilt.setCurrentNonStrikerId(rebuilt.getCurrentNonStrikerId());
+        rebuilt.setCurrentBowlerId(rebuilt.getCurrentBowlerId());
+    }
+}
@@ -0,0 +1,687 @@
+package com.example.tournafy.command;
+
+import com.example.tournafy.command.cricket.AddBallCommand;
+import com.example.tournafy.command.cricket.AddExtrasCommand;
+import com.example.tournafy.command.cricket.AddWicketCommand;
+import com.example.tournafy.command.football.AddGoalCommand;
+import com.example.tournafy.command.interfaces.MatchCommand;
+import com.example.tournafy.domain.enums.MatchStatus;
+import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.domain.models.match.cricket.Ball;
+import com.example.tournafy.domain.models.match.cricket.BatsmanStats;
+import com.example.tournafy.domain.models.match.cricket.BowlerStats;
+import com.example.tournafy.domain.models.match.cricket.CricketEvent;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.domain.models.match.cricket.Innings;
+import com.example.tournafy.domain.models.match.cricket.Over;
+import com.example.tournafy.domain.models.match.football.FootballEvent;
+import com.example.tournafy.domain.models.match.football.FootballMatch;
+import com.example.tournafy.domain.models.team.MatchTeam;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Rebuilds the scoring state of a match from what it was set up with (config, teams,
+ * innings order) and its ordered event list, the way live scoring built it: cricket
+ * deliveries go through AddBallCommand / AddWicketCommand / AddExtrasCommand, then the
+ * post-ball logic and the player stats (as in MatchOperationLog); football goals go
+ * through AddGoalCommand.
+ *
+ * A match document stores derived state (innings totals, overs, stats maps, scores)
+ * next to its events, and the two can drift apart. verify() replays the events and
+ * compares the result with the loaded match; repair() then replaces the derived state
+ * with the replayed one.
+ *
+ * Over and innings ends made by hand are not events. A delivery numbered in a later
+ * over, or batted by the other team, ends the current over or innings first; ends
+ * after the last delivery are taken from the loaded match.
+ *
+ * A cricket replayer keeps a checkpoint at the start of every over, so replayTo()
+ * reaches any delivery replaying at most one over. Football has no overs: it is
+ * always replayed from the start.
+ *
+ * Replayed matches are scratch copies: they share the teams, config and events of the
+ * source match, and the completed overs of a checkpoint. Not thread-safe.
+ */
+public class MatchReplayer {
+
+    private static final Logger LOG = Logger.getLogger("MatchReplayer");
+
+    /**
+     * Result of comparing a match with the replay of its events.
+     */
+    public static final class Verification {
+
+        public enum Status {
+            /** The derived state matches the events. */
+            CONSISTENT,
+            /** The derived state differs from the replay; see getDriftedFields(). */
+            DRIFTED,
+            /** The events do not explain the match (e.g. deliveries scored before balls were recorded as events): not comparable. */
+            INCOMPLETE
+        }
+
+        private final Status status;
+        private final Match replayed;
+        private final List<String> driftedFields;
+
+        private Verification(Status status, Match replayed, List<String> driftedFields) {
+            this.status = status;
+            this.replayed = replayed;
+            this.driftedFields = driftedFields;
+        }
+
+        public Status getStatus() { return status; }
+
+        /** The match rebuilt from the events (null if INCOMPLETE). */
+        public Match getReplayed() { return replayed; }
+
+        /** Paths of the derived fields that differ, e.g. "innings[0].totalRuns". */
+        public List<String> getDriftedFields() { return driftedFields; }
+    }
+
+    private final CricketMatch source;
+    private final List<CricketEvent> events;
+    // State before events.get(eventIndex), one at the start of every over, oldest first
+    private final List<Checkpoint> checkpoints = new ArrayList<>();
+    private int unapplied;
+
+    /**
+     * @param source The match whose config, teams, innings order and events are replayed.
+     *               Later changes to its event list are not seen.
+     */
+    public MatchReplayer(CricketMatch source) {
+        this.source = source;
+        this.events = source.getCricketEvents() != null
+            ? new ArrayList<>(source.getCricketEvents()) : Collections.emptyList();
+        checkpoints.add(Checkpoint.initial(source));
+    }
+
+    public int getEventCount() {
+        return events.size();
+    }
+
+    public int getCheckpointCount() {
+        return checkpoints.size();
+    }
+
+    /**
+     * @return Events of the last replay that could not be applied (no innings left to
+     *         bat, or a wicket / extra without its detail).
+     */
+    public int getUnappliedCount() {
+        return unapplied;
+    }
+
+    /**
+     * Rebuilds the match from all of its events.
+     */
+    public CricketMatch replay() {
+        return replayTo(events.size());
+    }
+
+    /**
+     * Rebuilds the match as it was after its first count events, starting from the
+     * last checkpoint before them.
+     */
+    public CricketMatch replayTo(int count) {
+        if (count < 0 || count > events.size()) {
+            throw new IndexOutOfBoundsException("Event " + count + " of " + events.size());
+        }
+        Checkpoint from = floorCheckpoint(count);
+        CricketMatch match = from.restore(source);
+        int lastCheckpoint = checkpoints.get(checkpoints.size() - 1).eventIndex;
+        unapplied = 0;
+        for (int i = from.eventIndex; i < count; i++) {
+            if (!apply(match, events.get(i))) unapplied++;
+            if (i + 1 > lastCheckpoint && startsOver(match)) {
+                checkpoints.add(Checkpoint.capture(match, i + 1));
+                lastCheckpoint = i + 1;
+            }
+        }
+        return match;
+    }
+
+    private Checkpoint floorCheckpoint(int count) {
+        int low = 0;
+        int high = checkpoints.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (checkpoints.get(mid).eventIndex <= count) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return checkpoints.get(low);
+    }
+
+    private static boolean startsOver(CricketMatch match) {
+        Over over = match.getCurrentOver();
+        return over != null && !over.isCompleted() && (over.getBalls() == null || over.getBalls().isEmpty());
+    }
+
+    // --- CRICKET DELIVERIES ---
+
+    /**
+     * Applies one delivery the way live scoring does: the command, then the post-ball
+     * logic (striker swap, over / innings completion), then player stats.
+     * @return Whether the delivery was applied.
+     */
+    private static boolean apply(CricketMatch match, CricketEvent event) {
+        // A delivery of the other batting team: the innings was ended by hand before it
+        Innings innings = match.getCurrentInnings();
+        if (innings != null && event.getTeamId() != null && match.getCurrentInningsNumber() == 1 &&
+                match.getInnings().size() > 1 && !event.getTeamId().equals(innings.getBattingTeamId())) {
+            match.endCurrentInnings();
+            innings = match.getCurrentInnings();
+        }
+        if (innings == null || innings.isCompleted()) return false;
+        if (match.getCurrentOver() == null) match.startNewOver();
+
+        // A delivery of a later over: the current one was ended by hand before it
+        Over over = match.getCurrentOver();
+        for (int guard = 0; over != null && event.getOverNumber() > over.getOverNumber() &&
+                !innings.isCompleted() && guard < event.getOverNumber(); guard++) {
+            match.endCurrentOver();
+            over = match.getCurrentOver();
+        }
+        if (over == null || innings.isCompleted()) return false;
+
+        // The delivery recorded who was at the crease (selections are not events)
+        if (event.getBatsmanStrikerId() != null) match.setCurrentStrikerId(event.getBatsmanStrikerId());
+        if (event.getBatsmanNonStrikerId() != null) match.setCurrentNonStrikerId(event.getBatsmanNonStrikerId());
+        if (event.getBowlerId() != null) match.setCurrentBowlerId(event.getBowlerId());
+
+        MatchCommand command = commandFor(match, ballOf(match, innings, over, event), event);
+        if (command == null) return false;
+        command.execute();
+        match.processPostBallLogic(event);
+        match.applyPlayerStats(event);
+        return true;
+    }
+
+    private static MatchCommand commandFor(CricketMatch match, Ball ball, CricketEvent event) {
+        if (event.isWicket()) {
+            return event.getWicketDetail() != null
+                ? new AddWicketCommand(match, ball, event, event.getWicketDetail()) : null;
+        }
+        if (isExtra(event.getExtrasType())) {
+            return event.getExtrasDetail() != null
+                ? new AddExtrasCommand(match, ball, event, event.getExtrasDetail()) : null;
+        }
+        return new AddBallCommand(match, ball, event);
+    }
+
+    /**
+     * The ball entity MatchViewModel creates for a delivery. Ball ids are left empty:
+     * repair() takes them from the loaded match.
+     */
+    private static Ball ballOf(CricketMatch match, Innings innings, Over over, CricketEvent event) {
+        Ball ball = new Ball();
+        ball.setMatchId(match.getEntityId());
+        ball.setInningsId(innings.getInningsId());
+        ball.setInningsNumber(innings.getInningsNumber());
+        ball.setOverId(over.getOverId());
+        ball.setOverNumber(over.getOverNumber());
+        ball.setBallNumber(over.getBalls() != null ? over.getBalls().size() + 1 : 1);
+        ball.setRunsScored(event.getTotalRuns());
+        ball.setWicket(event.isWicket());
+        ball.setBoundary(event.isBoundary());
+        ball.setExtrasType(isExtra(event.getExtrasType()) ? event.getExtrasType() : "NONE");
+        ball.setBatsmanId(event.getBatsmanStrikerId());
+        ball.setBowlerId(event.getBowlerId());
+        if (event.isWicket() && event.getWicketDetail() != null) {
+            ball.setWicketType(event.getWicketDetail().getWicketType());
+        }
+        return ball;
+    }
+
+    private static boolean isExtra(String extrasType) {
+        return extrasType != null && !extrasType.equals("NONE");
+    }
+
+    // --- CHECKPOINTS ---
+
+    /**
+     * Scoring state of a cricket match before one of its events. Completed overs never
+     * change again, so they are shared; everything else is copied in and out.
+     */
+    private static final class Checkpoint {
+        final int eventIndex;
+        final String status;
+        final int currentInningsNumber;
+        final int targetScore;
+        final List<Innings> innings;
+        final List<Over> overs;
+        final String strikerId;
+        final String nonStrikerId;
+        final String bowlerId;
+        final Map<String, BatsmanStats> batsmanStats;
+        final Map<String, BowlerStats> bowlerStats;
+
+        private Checkpoint(int eventIndex, String status, int currentInningsNumber, int targetScore,
+                           List<Innings> innings, List<Over> overs, String strikerId, String nonStrikerId,
+                           String bowlerId, Map<String, BatsmanStats> batsmanStats, Map<String, BowlerStats> bowlerStats) {
+            this.eventIndex = eventIndex;
+            this.status = status;
+            this.currentInningsNumber = currentInningsNumber;
+            this.targetScore = targetScore;
+            this.innings = innings;
+            this.overs = overs;
+            this.strikerId = strikerId;
+            this.nonStrikerId = nonStrikerId;
+            this.bowlerId = bowlerId;
+            this.batsmanStats = batsmanStats;
+            this.bowlerStats = bowlerStats;
+        }
+
+        /**
+         * The match before its first delivery: its innings in order, nothing scored.
+         */
+        static Checkpoint initial(CricketMatch source) {
+            List<Innings> innings = new ArrayList<>();
+            if (source.getInnings() != null) {
+                for (Innings played : source.getInnings()) {
+                    Innings fresh = new Innings();
+                    fresh.setInningsId(played.getInningsId());
+                    fresh.setMatchId(played.getMatchId());
+                    fresh.setInningsNumber(played.getInningsNumber());
+                    fresh.setBattingTeamId(played.getBattingTeamId());
+                    fresh.setBowlingTeamId(played.getBowlingTeamId());
+                    innings.add(fresh);
+                }
+            }
+            return new Checkpoint(0, MatchStatus.LIVE.name(), innings.isEmpty() ? 0 : 1, 0, innings,
+                Collections.emptyList(), null, null, null, Collections.emptyMap(), Collections.emptyMap());
+        }
+
+        static Checkpoint capture(CricketMatch match, int eventIndex) {
+            return new Checkpoint(eventIndex, match.getMatchStatus(), match.getCurrentInningsNumber(),
+                match.getTargetScore(), copyInnings(match.getInnings()), shareCompletedOvers(match.getCurrentOvers()),
+                match.getCurrentStrikerId(), match.getCurrentNonStrikerId(), match.getCurrentBowlerId(),
+                copyBatsmanStats(match.getBatsmanStatsMap()), copyBowlerStats(match.getBowlerStatsMap()));
+        }
+
+        CricketMatch restore(CricketMatch source) {
+            CricketMatch match = new CricketMatch();
+            match.setEntityId(source.getEntityId());
+            match.setMatchConfig(source.getMatchConfig());
+            match.setTeams(source.getTeams());
+            match.setMatchStatus(status);
+            match.setInnings(copyInnings(innings));
+            match.setCurrentInningsNumber(currentInningsNumber);
+            match.setTargetScore(targetScore);
+            match.setCurrentOvers(shareCompletedOvers(overs));
+            match.setCurrentStrikerId(strikerId);
+            match.setCurrentNonStrikerId(nonStrikerId);
+            match.setCurrentBowlerId(bowlerId);
+            match.setBatsmanStatsMap(copyBatsmanStats(batsmanStats));
+            match.setBowlerStatsMap(copyBowlerStats(bowlerStats));
+            return match;
+        }
+
+        private static List<Over> shareCompletedOvers(List<Over> overs) {
+            List<Over> copy = new ArrayList<>(overs != null ? overs.size() : 0);
+            if (overs == null) return copy;
+            for (Over over : overs) {
+                copy.add(over.isCompleted() ? over : copyOver(over));
+            }
+            return copy;
+        }
+    }
+
+    // --- VERIFICATION ---
+
+    /**
+     * Replays the events of a match and compares the result with its derived state.
+     * The match itself is not changed.
+     */
+    public static Verification verify(Match match) {
+        if (match instanceof CricketMatch) return verifyCricket((CricketMatch) match);
+        if (match instanceof FootballMatch) return verifyFootball((FootballMatch) match);
+        return new Verification(Verification.Status.INCOMPLETE, null, Collections.emptyList());
+    }
+
+    /**
+     * Replaces the derived state of a match with the replay of a DRIFTED verification.
+     * The changes are recorded on the match, so its next save persists them.
+     * @return Whether the match was changed.
+     */
+    public static boolean repair(Match match, Verification verification) {
+        if (verification.getStatus() != Verification.Status.DRIFTED) return false;
+        if (match instanceof CricketMatch) {
+            repairCricket((CricketMatch) match, (CricketMatch) verification.getReplayed());
+        } else if (match instanceof FootballMatch) {
+            FootballMatch replayed = (FootballMatch) verification.getReplayed();
+            ((FootballMatch) match).setHomeScore(replayed.getHomeScore());
+            ((FootballMatch) match).setAwayScore(replayed.getAwayScore());
+        } else {
+            return false;
+        }
+        LOG.warning("Repaired " + match.getEntityId() + " from its events: " + verification.getDriftedFields());
+        return true;
+    }
+
+    private static Verification verifyCricket(CricketMatch match) {
+        if (match.getInnings() == null || match.getInnings().isEmpty()) {
+            return new Verification(Verification.Status.CONSISTENT, null, Collections.emptyList());
+        }
+        MatchReplayer replayer = new MatchReplayer(match);
+        CricketMatch replayed = replayer.replay();
+        if (replayer.getUnappliedCount() > 0) return incomplete();
+        closeLikeLoaded(replayed, match);
+
+        // Fewer deliveries than the loaded match holds: the event list is missing some
+        if (replayed.getCurrentInningsNumber() != match.getCurrentInningsNumber() ? replayed.getCurrentInningsNumber() < match.getCurrentInningsNumber()
+                : ballCount(replayed.getCurrentOvers()) < ballCount(match.getCurrentOvers())) {
+            return incomplete();
+        }
+        for (int i = 0; i < match.getInnings().size(); i++) {
+            if (replayed.getInnings().get(i).getOversCompleted() < match.getInnings().get(i).getOversCompleted()) {
+                return incomplete();
+            }
+        }
+
+        List<String> drift = new ArrayList<>();
+        if (replayed.getCurrentInningsNumber() != match.getCurrentInningsNumber()) drift.add("currentInningsNumber");
+        if (replayed.getTargetScore() != match.getTargetScore()) drift.add("targetScore");
+        for (int i = 0; i < match.getInnings().size(); i++) {
+            compareInnings("innings[" + i + "]", match.getInnings().get(i), replayed.getInnings().get(i), drift);
+        }
+        compareOvers(match.getCurrentOvers(), replayed.getCurrentOvers(), drift);
+        compareBatsmanStats(match.getBatsmanStatsMap(), replayed.getBatsmanStatsMap(), drift);
+        compareBowlerStats(match.getBowlerStatsMap(), replayed.getBowlerStatsMap(), drift);
+        if (MatchStatus.COMPLETED.name().equals(replayed.getMatchStatus()) &&
+                !Objects.equals(replayed.getWinnerTeamId(), match.getWinnerTeamId())) {
+            drift.add("winnerTeamId");
+        }
+        return new Verification(drift.isEmpty() ? Verification.Status.CONSISTENT : Verification.Status.DRIFTED,
+            replayed, drift);
+    }
+
+    /**
+     * Applies the over and innings ends made by hand after the last delivery, which
+     * only the loaded match knows about.
+     */
+    private static void closeLikeLoaded(CricketMatch replayed, CricketMatch loaded) {
+        Innings current = replayed.getCurrentInnings();
+        if (current == null || current.isCompleted()) return;
+        Innings loadedCurrent = loaded.getInnings().get(replayed.getCurrentInningsNumber() - 1);
+        if (loadedCurrent.getOversCompleted() == current.getOversCompleted() + 1 &&
+                ballCount(Collections.singletonList(replayed.getCurrentOver())) > 0) {
+            replayed.endCurrentOver();
+        }
+        if (loadedCurrent.isCompleted() || loaded.getCurrentInningsNumber() > replayed.getCurrentInningsNumber()) {
+            replayed.endCurrentInnings();
+        }
+    }
+
+    private static void compareInnings(String path, Innings loaded, Innings replayed, List<String> drift) {
+        if (loaded.getTotalRuns() != replayed.getTotalRuns()) drift.add(path + ".totalRuns");
+        if (loaded.getWicketsFallen() != replayed.getWicketsFallen()) drift.add(path + ".wicketsFallen");
+        if (loaded.getOversCompleted() != replayed.getOversCompleted()) drift.add(path + ".oversCompleted");
+        if (loaded.isCompleted() != replayed.isCompleted()) drift.add(path + ".completed");
+        if (loaded.getWides() != replayed.getWides() || loaded.getNoBalls() != replayed.getNoBalls() ||
+                loaded.getByes() != replayed.getByes() || loaded.getLegByes() != replayed.getLegByes()) {
+            drift.add(path + ".extras");
+        }
+    }
+
+    private static void compareOvers(List<Over> loaded, List<Over> replayed, List<String> drift) {
+        int loadedSize = loaded != null ? loaded.size() : 0;
+        if (loadedSize != replayed.size()) {
+            drift.add("currentOvers");
+            return;
+        }
+        for (int i = 0; i < loadedSize; i++) {
+            Over a = loaded.get(i);
+            Over b = replayed.get(i);
+            if (a.getRunsInOver() != b.getRunsInOver() || a.getWicketsInOver() != b.getWicketsInOver() ||
+                    a.isCompleted() != b.isCompleted() || ballCount(Collections.singletonList(a)) != ballCount(Collections.singletonList(b))) {
+                drift.add("currentOvers[" + i + "]");
+            }
+        }
+    }
+
+    private static void compareBatsmanStats(Map<String, BatsmanStats> loaded, Map<String, BatsmanStats> replayed,
+                                            List<String> drift) {
+        Set<String> players = new HashSet<>(loaded.keySet());
+        players.addAll(replayed.keySet());
+        for (String playerId : players) {
+            BatsmanStats a = loaded.get(playerId);
+            BatsmanStats b = replayed.get(playerId);
+            if (a == null) a = new BatsmanStats(playerId, null);
+            if (b == null) b = new BatsmanStats(playerId, null);
+            if (a.getRunsScored() != b.getRunsScored() || a.getBallsFaced() != b.getBallsFaced() ||
+                    a.getFours() != b.getFours() || a.getSixes() != b.getSixes() || a.isOut() != b.isOut()) {
+                drift.add(CricketMatch.FIELD_BATSMAN_STATS + "." + playerId);
+            }
+        }
+    }
+
+    private static void compareBowlerStats(Map<String, BowlerStats> loaded, Map<String, BowlerStats> replayed,
+                                           List<String> drift) {
+        Set<String> players = new HashSet<>(loaded.keySet());
+        players.addAll(replayed.keySet());
+        for (String playerId : players) {
+            BowlerStats a = loaded.get(playerId);
+            BowlerStats b = replayed.get(playerId);
+            if (a == null) a = new BowlerStats(playerId, null);
+            if (b == null) b = new BowlerStats(playerId, null);
+            if (a.getBallsBowled() != b.getBallsBowled() || a.getRunsConceded() != b.getRunsConceded() ||
+                    a.getWicketsTaken() != b.getWicketsTaken() || a.getWides() != b.getWides() ||
+                    a.getNoBalls() != b.getNoBalls()) {
+                drift.add(CricketMatch.FIELD_BOWLER_STATS + "." + playerId);
+            }
+        }
+    }
+
+    private static void repairCricket(CricketMatch match, CricketMatch replayed) {
+        List<Innings> innings = match.getInnings();
+        for (int i = 0; i < innings.size(); i++) {
+            Innings target = innings.get(i);
+            Innings from = replayed.getInnings().get(i);
+            target.setTotalRuns(from.getTotalRuns());
+            target.setWicketsFallen(from.getWicketsFallen());
+            target.setOversCompleted(from.getOversCompleted());
+            target.setCompleted(from.isCompleted());
+            target.setWides(from.getWides());
+            target.setNoBalls(from.getNoBalls());
+            target.setByes(from.getByes());
+            target.setLegByes(from.getLegByes());
+        }
+        match.setInnings(innings);
+        match.setCurrentInningsNumber(replayed.getCurrentInningsNumber());
+        match.setTargetScore(replayed.getTargetScore());
+        match.setCurrentOvers(adoptIds(match.getCurrentOvers(), replayed.getCurrentOvers()));
+        match.setBatsmanStatsMap(copyBatsmanStats(replayed.getBatsmanStatsMap()));
+        match.setBowlerStatsMap(copyBowlerStats(replayed.getBowlerStatsMap()));
+        if (MatchStatus.COMPLETED.name().equals(replayed.getMatchStatus())) {
+            match.setWinnerTeamId(replayed.getWinnerTeamId());
+            match.setMatchResult(replayed.getMatchResult());
+            match.setMatchStatus(MatchStatus.COMPLETED.name());
+        }
+    }
+
+    /**
+     * Copies the replayed overs, keeping the over and ball ids of the loaded match
+     * position by position (they name the over and ball nodes stored online).
+     */
+    private static List<Over> adoptIds(List<Over> loaded, List<Over> replayed) {
+        List<Over> overs = new ArrayList<>(replayed.size());
+        for (int i = 0; i < replayed.size(); i++) {
+            Over over = copyOver(replayed.get(i));
+            Over old = loaded != null && i < loaded.size() ? loaded.get(i) : null;
+            if (old != null) over.setOverId(old.getOverId());
+            List<Ball> oldBalls = old != null ? old.getBalls() : null;
+            for (int b = 0; b < over.getBalls().size(); b++) {
+                Ball ball = over.getBalls().get(b);
+                Ball oldBall = oldBalls != null && b < oldBalls.size() ? oldBalls.get(b) : null;
+                ball.setBallId(oldBall != null ? oldBall.getBallId() : UUID.randomUUID().toString());
+                ball.setOverId(over.getOverId());
+            }
+            overs.add(over);
+        }
+        return overs;
+    }
+
+    private static Verification verifyFootball(FootballMatch match) {
+        FootballMatch replayed = replay(match);
+        List<String> drift = new ArrayList<>();
+        if (replayed.getHomeScore() != match.getHomeScore()) drift.add("homeScore");
+        if (replayed.getAwayScore() != match.getAwayScore()) drift.add("awayScore");
+        return new Verification(drift.isEmpty() ? Verification.Status.CONSISTENT : Verification.Status.DRIFTED,
+            replayed, drift);
+    }
+
+    /**
+     * Rebuilds the score of a football match from its events: every goal goes through
+     * AddGoalCommand, the other events are only recorded.
+     */
+    public static FootballMatch replay(FootballMatch source) {
+        FootballMatch match = new FootballMatch();
+        match.setEntityId(source.getEntityId());
+        match.setMatchConfig(source.getMatchConfig());
+        List<MatchTeam> teams = new ArrayList<>();
+        if (source.getTeams() != null) {
+            for (MatchTeam team : source.getTeams()) {
+                MatchTeam copy = new MatchTeam();
+                copy.setMatchTeamId(team.getMatchTeamId());
+                copy.setMatchId(team.getMatchId());
+                copy.setTeamId(team.getTeamId());
+                copy.setTeamName(team.getTeamName());
+                copy.setHomeTeam(team.isHomeTeam());
+                copy.setPlayers(team.getPlayers());
+                teams.add(copy);
+            }
+        }
+        match.setTeams(teams);
+        if (source.getFootballEvents() == null) return match;
+        for (FootballEvent event : source.getFootballEvents()) {
+            if ("GOAL".equalsIgnoreCase(event.getEventCategory()) && event.getGoalDetail() != null &&
+                    event.getTeamId() != null) {
+                new AddGoalCommand(match, event, event.getGoalDetail()).execute();
+            } else {
+                match.addMatchEvent(event);
+            }
+        }
+        return match;
+    }
+
+    private static Verification incomplete() {
+        return new Verification(Verification.Status.INCOMPLETE, null, Collections.emptyList());
+    }
+
+    // --- COPIES ---
+
+    private static int ballCount(List<Over> overs) {
+        int count = 0;
+        if (overs == null) return count;
+        for (Over over : overs) {
+            if (over != null && over.getBalls() != null) count += over.getBalls().size();
+        }
+        return count;
+    }
+
+    private static List<Innings> copyInnings(List<Innings> innings) {
+        List<Innings> copy = new ArrayList<>(innings.size());
+        for (Innings from : innings) {
+            Innings to = new Innings();
+            to.setInningsId(from.getInningsId());
+            to.setMatchId(from.getMatchId());
+            to.setInningsNumber(from.getInningsNumber());
+            to.setBattingTeamId(from.getBattingTeamId());
+            to.setBowlingTeamId(from.getBowlingTeamId());
+            to.setTotalRuns(from.getTotalRuns());
+            to.setWicketsFallen(from.getWicketsFallen());
+            to.setOversCompleted(from.getOversCompleted());
+            to.setCompleted(from.isCompleted());
+            to.setByes(from.getByes());
+            to.setLegByes(from.getLegByes());
+            to.setWides(from.getWides());
+            to.setNoBalls(from.getNoBalls());
+            copy.add(to);
+        }
+        return copy;
+    }
+
+    private static Over copyOver(Over from) {
+        Over to = new Over();
+        to.setOverId(from.getOverId());
+        to.setInningsId(from.getInningsId());
+        to.setOverNumber(from.getOverNumber());
+        to.setBowlerId(from.getBowlerId());
+        to.setRunsInOver(from.getRunsInOver());
+        to.setWicketsInOver(from.getWicketsInOver());
+        to.setCompleted(from.isCompleted());
+        List<Ball> balls = new ArrayList<>();
+        if (from.getBalls() != null) {
+            for (Ball ball : from.getBalls()) {
+                balls.add(copyBall(ball));
+            }
+        }
+        to.setBalls(balls);
+        return to;
+    }
+
+    private static Ball copyBall(Ball from) {
+        Ball to = new Ball();
+        to.setBallId(from.getBallId());
+        to.setMatchId(from.getMatchId());
+        to.setInningsId(from.getInningsId());
+        to.setOverId(from.getOverId());
+        to.setInningsNumber(from.getInningsNumber());
+        to.setOverNumber(from.getOverNumber());
+        to.setBallNumber(from.getBallNumber());
+        to.setBatsmanId(from.getBatsmanId());
+        to.setBowlerId(from.getBowlerId());
+        to.setRunsScored(from.getRunsScored());
+        to.setWicket(from.isWicket());
+        to.setBoundary(from.isBoundary());
+        to.setExtrasType(from.getExtrasType());
+        to.setWicketType(from.getWicketType());
+        return to;
+    }
+
+    private static Map<String, BatsmanStats> copyBatsmanStats(Map<String, BatsmanStats> stats) {
+        Map<String, BatsmanStats> copy = new HashMap<>();
+        for (Map.Entry<String, BatsmanStats> entry : stats.entrySet()) {
+            BatsmanStats from = entry.getValue();
+            BatsmanStats to = new BatsmanStats(from.getPlayerId(), from.getPlayerName());
+            to.setRunsScored(from.getRunsScored());
+            to.setBallsFaced(from.getBallsFaced());
+            to.setFours(from.getFours());
+            to.setSixes(from.getSixes());
+            to.setOut(from.isOut());
+            to.setDismissalType(from.getDismissalType());
+            copy.put(entry.getKey(), to);
+        }
+        return copy;
+    }
+
+    private static Map<String, BowlerStats> copyBowlerStats(Map<String, BowlerStats> stats) {
+        Map<String, BowlerStats> copy = new HashMap<>();
+        for (Map.Entry<String, BowlerStats> entry : stats.entrySet()) {
+            BowlerStats from = entry.getValue();
+            BowlerStats to = new BowlerStats(from.getPlayerId(), from.getPlayerName());
+            to.setBallsBowled(from.getBallsBowled());
+            to.setRunsConceded(from.getRunsConceded());
+            to.setWicketsTaken(from.getWicketsTaken());
+            to.setWides(from.getWides());
+            to.setNoBalls(from.getNoBalls());
+            to.setMaidenOvers(from.getMaidenOvers());
+            copy.put(entry.getKey(), to);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.tournafy.command;
+
+import com.example.tournafy.command.cricket.AddBallCommand;
+import com.example.tournafy.command.cricket.AddExtrasCommand;
+import com.example.tournafy.command.cricket.AddWicketCommand;
+import com.example.tournafy.command.interfaces.MatchCommand;
+import com.example.tournafy.data.repository.offline.ScoringJournal;
+import com.example.tournafy.domain.models.match.cricket.Ball;
+import com.example.tournafy.domain.models.match.cricket.CricketEvent;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.domain.models.match.cricket.Innings;
+import com.example.tournafy.domain.models.match.cricket.Over;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Recovers a cricket match and its undo history from its scoring journal.
+ *
+ * Every journal entry carries the log sequence number the match moved to, so the
+ * persisted snapshot (with its event-log tail replayed) already contains exactly the
+ * entries up to its lastAppliedSeq. Those are only pushed onto the command history;
+ * the newer ones are applied the way live scoring applied them - the same command,
+ * then the post-ball logic and the player stats - so the recovered match is the one
+ * that was on screen when the process died.
+ */
+public final class ScoringJournalReplay {
+
+    private static final Logger LOG = Logger.getLogger("ScoringJournalReplay");
+
+    private ScoringJournalReplay() {
+    }
+
+    /**
+     * Rebuilds the command history from the journal and applies the entries the match
+     * does not contain yet.
+     * @return Number of entries applied to the match (0 if the snapshot was current).
+     */
+    public static int recover(CricketMatch match, List<ScoringJournal.Entry> entries, MatchCommandManager commands) {
+        commands.clear();
+        int applied = 0;
+        for (ScoringJournal.Entry entry : entries) {
+            boolean persisted = entry.getSeq() <= match.getLastAppliedSeq();
+            try {
+                if (entry.isDelivery()) {
+                    if (persisted) {
+                        MatchCommand command = commandFor(match, entry, true);
+                        if (command != null) commands.restoreExecuted(command);
+                    } else if (applyDelivery(match, entry, commands)) {
+                        applied++;
+                    }
+                } else if (ScoringJournal.Entry.TYPE_UNDO.equals(entry.getType())) {
+                    if (persisted) {
+                        commands.restoreUndone();
+                    } else {
+                        commands.undo();
+                        applied++;
+                    }
+                } else if (ScoringJournal.Entry.TYPE_REDO.equals(entry.getType())) {
+                    if (persisted) {
+                        commands.restoreRedone();
+                    } else {
+                        commands.redo();
+                        applied++;
+                    }
+                }
+            } catch (RuntimeException e) {
+                // The rest of the journal builds on this entry: stop here
+                LOG.log(Level.SEVERE, "Failed to recover seq " + entry.getSeq() + " of match " + match.getEntityId(), e);
+                break;
+            }
+            if (!persisted) match.setLastAppliedSeq(entry.getSeq());
+        }
+        if (applied > 0) {
+            LOG.fine("Recovered " + applied + " journaled commands of match " +
+                match.getEntityId() + " (seq " + match.getLastAppliedSeq() + ")");
+        }
+        return applied;
+    }
+
+    /**
+     * Applies a journaled delivery as MatchViewModel scored it.
+     */
+    private static boolean applyDelivery(CricketMatch match, ScoringJournal.Entry entry, MatchCommandManager commands) {
+        CricketEvent event = entry.getEvent();
+        Ball ball = entry.getBall();
+        Innings innings = match.getCurrentInnings();
+        if (innings == null) return false;
+
+        // The delivery recorded who was at the crease (selections are not journaled)
+        if (event.getBatsmanStrikerId() != null) match.setCurrentStrikerId(event.getBatsmanStrikerId());
+        if (event.getBatsmanNonStrikerId() != null) match.setCurrentNonStrikerId(event.getBatsmanNonStrikerId());
+        if (event.getBowlerId() != null) match.setCurrentBowlerId(event.getBowlerId());
+
+        attach(match, ball, event);
+        MatchCommand command = commandFor(match, entry, false);
+        if (command == null) return false;
+        commands.executeCommand(command);
+        match.processPostBallLogic(event);
+        match.applyPlayerStats(event);
+        return true;
+    }
+
+    /**
+     * Sets the foreign keys of a journaled delivery from the match's current innings
+     * and the over of its journaled number (the current over if there is none).
+     */
+    private static void attach(CricketMatch match, Ball ball, CricketEvent event) {
+        Innings innings = match.getCurrentInnings();
+        if (innings == null) return;
+        Over over = match.getCurrentOver();
+        if (match.getCurrentOvers() != null) {
+            for (Over numbered : match.getCurrentOvers()) {
+                if (numbered.getOverNumber() == ball.getOverNumber()) over = numbered;
+            }
+        }
+        ball.setMatchId(match.getEntityId());
+        ball.setInningsId(innings.getInningsId());
+        ball.setInningsNumber(innings.getInningsNumber());
+        ball.setOverId(over != null ? over.getOverId() : null);
+        event.setMatchId(match.getEntityId());
+        event.setTeamId(innings.getBattingTeamId());
+    }
+
+    /**
+     * @param persisted Whether the delivery is part of the match already; its command
+     *                  then refers to the match's own ball and event instances, so an
+     *                  undo can remove them. An undone delivery is not in the match: it
+     *                  is attached to the current over, where a redo adds it back.
+     */
+    private static MatchCommand commandFor(CricketMatch match, ScoringJournal.Entry entry, boolean persisted) {
+        Ball ball = entry.getBall();
+        CricketEvent journaled = entry.getEvent();
+        CricketEvent event = journaled;
+        if (persisted) {
+            ball = persistedBall(match, ball);
+            event = persistedEvent(match, journaled);
+            if (ball == entry.getBall()) attach(match, ball, event);
+        }
+        switch (entry.getType()) {
+            case ScoringJournal.Entry.TYPE_BALL:
+                return new AddBallCommand(match, ball, event);
+            case ScoringJournal.Entry.TYPE_WICKET:
+                return journaled.getWicketDetail() != null
+                    ? new AddWicketCommand(match, ball, event, journaled.getWicketDetail()) : null;
+            case ScoringJournal.Entry.TYPE_EXTRAS:
+                return journaled.getExtrasDetail() != null
+                    ? new AddExtrasCommand(match, ball, event, journaled.getExtrasDetail()) : null;
+            default:
+                return null;
+        }
+    }
+
+    private static Ball persistedBall(CricketMatch match, Ball journaled) {
+        if (match.getCurrentOvers() != null) {
+            for (Over over : match.getCurrentOvers()) {
+                if (over.getBalls() == null) continue;
+                for (Ball ball : over.getBalls()) {
+                    if (journaled.getBallId().equals(ball.getBallId())) return ball;
+                }
+            }
+        }
+        return journaled;
+    }
+
+    private static CricketEvent persistedEvent(CricketMatch match, CricketEvent journaled) {
+        if (match.getCricketEvents() != null) {
+            for (CricketEvent event : match.getCricketEvents()) {
+                if (journaled.getEventId().equals(event.getEventId())) return event;
+            }
+        }
+        return journaled;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.tournafy.command.cricket;
 
 import com.example.tournafy.command.interfaces.MatchCommand;
+import com.example.tournafy.domain.models.match.cricket.CricketEvent;
 import com.example.tournafy.domain.models.match.cricket.CricketMatch;
 import com.example.tournafy.domain.models.match.cricket.Ball;
 
@@ -12,14 +13,18 @@ public class AddBallCommand implements MatchCommand {
 
     private final CricketMatch match;
     private final Ball ball;
+    private final CricketEvent event;
 
     /**
      * @param match The current match instance being hosted.
      * @param ball The ball object created by the Factory containing run data.
+     * @param event The delivery's event, recorded in the match's event list like
+     *              wickets and extras (null to record none).
      */
-    public AddBallCommand(CricketMatch match, Ball ball) {
+    public AddBallCommand(CricketMatch match, Ball ball, CricketEvent event) {
         this.match = match;
         this.ball = ball;
+        this.event = event;
     }
 
     @Override
@@ -34,6 +39,7 @@ public class AddBallCommand implements MatchCommand {
             match.getCurrentOver().setBalls(new java.util.ArrayList<>());
         }
         match.getCurrentOver().getBalls().add(ball);
+        match.onBallAdded(ball);
         
         // 2. Update total score
         int currentScore = match.getCurrentInnings().getTotalRuns();
@@ -41,6 +47,13 @@ public class AddBallCommand implements MatchCommand {
         
         // 3. Update over runs
         match.getCurrentOver().setRunsInOver(match.getCurrentOver().getRunsInOver() + ball.getRunsScored());
+
+        // 4. Save the event
+        if (event != null) match.addMatchEvent(event);
+
+        // 5. Record changed fields for the delta write
+        match.markOversChanged();
+        match.markInningsChanged();
     }
 
     @Override
@@ -52,7 +65,9 @@ public class AddBallCommand implements MatchCommand {
         
         // 1. Remove the ball from the current over
         if (match.getCurrentOver().getBalls() != null && !match.getCurrentOver().getBalls().isEmpty()) {
-            match.getCurrentOver().getBalls().remove(match.getCurrentOver().getBalls().size() - 1);
+            Ball removed = match.getCurrentOver().getBalls().remove(match.getCurrentOver().getBalls().size() - 1);
+            match.recordRemoval(removed.getBallId());
+            match.onBallRemoved(removed);
         }
         
         // 2. Revert total score
@@ -61,6 +76,12 @@ public class AddBallCommand implements MatchCommand {
         
         // 3. Revert over runs
         match.getCurrentOver().setRunsInOver(match.getCurrentOver().getRunsInOver() - ball.getRunsScored());
+
+        if (event != null) match.removeMatchEvent(event);
+
+        // 4. Record changed fields for the delta write
+        match.markOversChanged();
+        match.markInningsChanged();
     }
     
     @Override
@@ -33,12 +33,14 @@ public class AddExtrasCommand implements MatchCommand {
                 match.getCurrentOver().setBalls(new java.util.ArrayList<>());
             }
             match.getCurrentOver().getBalls().add(ball);
+            match.onBallAdded(ball);
         } else {
             // Add as extra delivery (still tracked but doesn't count as legal ball)
             if (match.getCurrentOver().getBalls() == null) {
                 match.getCurrentOver().setBalls(new java.util.ArrayList<>());
             }
             match.getCurrentOver().getBalls().add(ball);
+            match.onBallAdded(ball);
         }
 
         // 2. Add Extras to total score
@@ -48,6 +50,10 @@ public class AddExtrasCommand implements MatchCommand {
 
         event.setExtrasDetail(extrasDetail);
         match.addMatchEvent(event);
+
+        // 3. Record changed fields for the delta write
+        match.markOversChanged();
+        match.markInningsChanged();
     }
 
     @Override
@@ -59,7 +65,9 @@ public class AddExtrasCommand implements MatchCommand {
         
         // Remove the ball
         if (match.getCurrentOver().getBalls() != null && !match.getCurrentOver().getBalls().isEmpty()) {
-            match.getCurrentOver().getBalls().remove(match.getCurrentOver().getBalls().size() - 1);
+            Ball removed = match.getCurrentOver().getBalls().remove(match.getCurrentOver().getBalls().size() - 1);
+            match.recordRemoval(removed.getBallId());
+            match.onBallRemoved(removed);
         }
 
         int currentRuns = match.getCurrentInnings().getTotalRuns();
@@ -67,6 +75,10 @@ public class AddExtrasCommand implements MatchCommand {
         match.getCurrentOver().setRunsInOver(match.getCurrentOver().getRunsInOver() - extrasDetail.getExtrasRuns());
 
         match.removeMatchEvent(event);
+
+        // Record changed fields for the delta write
+        match.markOversChanged();
+        match.markInningsChanged();
     }
     
     @Override
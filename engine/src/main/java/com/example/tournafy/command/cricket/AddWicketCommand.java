@@ -32,6 +32,7 @@ public class AddWicketCommand implements MatchCommand {
             match.getCurrentOver().setBalls(new java.util.ArrayList<>());
         }
         match.getCurrentOver().getBalls().add(ball);
+        match.onBallAdded(ball);
         
         // 2. Update Wicket Count
         int wickets = match.getCurrentInnings().getWicketsFallen();
@@ -46,6 +47,10 @@ public class AddWicketCommand implements MatchCommand {
         // 4. Save detail
         event.setWicketDetail(wicketDetail);
         match.addMatchEvent(event);
+
+        // 5. Record changed fields for the delta write
+        match.markOversChanged();
+        match.markInningsChanged();
     }
 
     @Override
@@ -57,7 +62,9 @@ public class AddWicketCommand implements MatchCommand {
         
         // Remove the ball
         if (match.getCurrentOver().getBalls() != null && !match.getCurrentOver().getBalls().isEmpty()) {
-            match.getCurrentOver().getBalls().remove(match.getCurrentOver().getBalls().size() - 1);
+            Ball removed = match.getCurrentOver().getBalls().remove(match.getCurrentOver().getBalls().size() - 1);
+            match.recordRemoval(removed.getBallId());
+            match.onBallRemoved(removed);
         }
         
         // Revert Wickets
@@ -71,6 +78,10 @@ public class AddWicketCommand implements MatchCommand {
         match.getCurrentOver().setRunsInOver(match.getCurrentOver().getRunsInOver() - ball.getRunsScored());
 
         match.removeMatchEvent(event);
+
+        // Record changed fields for the delta write
+        match.markOversChanged();
+        match.markInningsChanged();
     }
     
     @Override
@@ -28,6 +28,10 @@ public class EndOverCommand implements MatchCommand {
         
         // 3. Initialize new over (Managed by match logic)
         match.startNewOver(); 
+
+        // 4. Record changed fields for the delta write
+        match.markOversChanged();
+        match.markInningsChanged();
     }
 
     @Override
@@ -45,5 +49,9 @@ public class EndOverCommand implements MatchCommand {
         
         // 3. Decrement overs completed
         match.getCurrentInnings().setOversCompleted(match.getCurrentInnings().getOversCompleted() - 1);
+
+        // 4. Record changed fields for the delta write
+        match.markOversChanged();
+        match.markInningsChanged();
     }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.example.tournafy.data.repository.offline;
+
+import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.domain.models.match.MatchLogEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The writes MatchWriteQueue has coalesced for one match and not committed yet:
+ * event-log entries in sequence order, plus the snapshot write they need.
+ *
+ * drain() hands everything over as one Batch. A batch whose commit failed is put
+ * back with restore(): its entries go ahead of the ones queued meanwhile, and the
+ * next batch writes the whole match document, because the failed commit already
+ * drained the match's recorded field changes.
+ * Must be used from one thread.
+ */
+public class PendingMatchWrites {
+
+    /**
+     * Writes drained for one WriteBatch commit.
+     */
+    public static final class Batch {
+        private final Match match;
+        private final List<MatchLogEntry> entries;
+        private final int mutations;
+        private final boolean snapshot;
+        private final boolean fullWrite;
+
+        Batch(Match match, List<MatchLogEntry> entries, int mutations, boolean snapshot, boolean fullWrite) {
+            this.match = match;
+            this.entries = Collections.unmodifiableList(entries);
+            this.mutations = mutations;
+            this.snapshot = snapshot;
+            this.fullWrite = fullWrite;
+        }
+
+        public Match getMatch() { return match; }
+
+        /** Log entries to write, in sequence order. */
+        public List<MatchLogEntry> getEntries() { return entries; }
+
+        /** Number of mutations coalesced into the batch. */
+        public int getMutations() { return mutations; }
+
+        /** Whether the recorded field changes of the match must be written. */
+        public boolean isSnapshot() { return snapshot; }
+
+        /** Whether the whole match document must be written. */
+        public boolean isFullWrite() { return fullWrite; }
+    }
+
+    private Match match;
+    private final List<MatchLogEntry> entries = new ArrayList<>();
+    private int mutations;
+    private boolean snapshot;
+    private boolean fullWrite;
+
+    public void addEntry(Match match, MatchLogEntry entry) {
+        this.match = match;
+        entries.add(entry);
+        mutations++;
+    }
+
+    public void requestSnapshot(Match match) {
+        this.match = match;
+        snapshot = true;
+        mutations++;
+    }
+
+    public void requestFullWrite(Match match) {
+        this.match = match;
+        fullWrite = true;
+        mutations++;
+    }
+
+    /** The match instance the pending writes belong to, or null. */
+    public Match getMatch() { return match; }
+
+    public int getMutations() { return mutations; }
+
+    public boolean isEmpty() { return match == null || mutations == 0; }
+
+    /**
+     * @return Everything pending as one batch (the queue is then empty), or null if
+     *         nothing is pending.
+     */
+    public Batch drain() {
+        if (isEmpty()) return null;
+        Batch batch = new Batch(match, new ArrayList<>(entries), mutations, snapshot, fullWrite);
+        entries.clear();
+        mutations = 0;
+        snapshot = false;
+        fullWrite = false;
+        return batch;
+    }
+
+    /**
+     * Puts a batch whose commit failed back ahead of the writes queued since, as a
+     * full write. If a newer instance of the match was queued meanwhile, that one is
+     * written.
+     */
+    public void restore(Batch failed) {
+        if (match == null) match = failed.getMatch();
+        entries.addAll(0, failed.getEntries());
+        mutations += failed.getMutations();
+        fullWrite = true;
+    }
+}
@@ -0,0 +1,757 @@
+package com.example.tournafy.data.repository.offline;
+
+import com.example.tournafy.domain.models.match.cricket.Ball;
+import com.example.tournafy.domain.models.match.cricket.CricketEvent;
+import com.example.tournafy.domain.models.match.cricket.CricketExtrasDetail;
+import com.example.tournafy.domain.models.match.cricket.CricketWicketDetail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary journal of the scoring commands of one live match, kept in app
+ * storage independently of Firestore (see ScoringJournalStore).
+ *
+ * Every delivery, undo and redo is appended before the Firestore write is queued, and
+ * tagged with the match log sequence number it moves the match to. On the next load the
+ * entries newer than the persisted snapshot's lastAppliedSeq are replayed on top of it,
+ * and the whole journal rebuilds the undo history (see ScoringJournalReplay).
+ *
+ * FORMAT: a header (MAGIC, VERSION), then records of
+ * [varint payload length][payload][CRC32 of payload]. A payload starts with its kind:
+ * - KIND_STRING: a string added to the journal's dictionary (player ids, types);
+ *   later records refer to it by its index, so a delivery costs about 50 bytes.
+ * - KIND_BALL / KIND_WICKET / KIND_EXTRAS: seq, ball and event of a delivery, then the
+ *   ids of its wicket and extras details (absent from records written before them).
+ * - KIND_UNDO / KIND_REDO: seq.
+ * A torn record at the end (process killed mid-write) fails its CRC and is cut off.
+ *
+ * CHECKPOINTS: a long journal is replaced by a checkpoint of the undo history it
+ * rebuilds (see checkpoint() and compact()): when a match whose snapshot holds every
+ * entry is loaded, and every historyLimit appends while scoring. Its size stays
+ * bounded by the history limit.
+ *
+ * DURABILITY: each record is handed to the OS with a single write() before append()
+ * returns, so it survives the process being killed. fsync (power loss) is batched:
+ * one force() at most every SYNC_DELAY_MS, on the store's background thread.
+ *
+ * Appends come from the main thread; compact() runs on the store's background thread
+ * while they go on.
+ */
+public class ScoringJournal {
+
+    private static final Logger LOG = Logger.getLogger("ScoringJournal");
+
+    private static final int MAGIC = 0x544a524e; // "TJRN"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 5;
+
+    private static final int KIND_STRING = 1;
+    private static final int KIND_BALL = 2;
+    private static final int KIND_WICKET = 3;
+    private static final int KIND_EXTRAS = 4;
+    private static final int KIND_UNDO = 5;
+    private static final int KIND_REDO = 6;
+
+    // Delivery flags
+    private static final int FLAG_LEGAL = 1;
+    private static final int FLAG_WICKET = 1 << 1;
+    private static final int FLAG_BOUNDARY = 1 << 2;
+    private static final int FLAG_BALL_WICKET = 1 << 3;
+    private static final int FLAG_BALL_BOUNDARY = 1 << 4;
+    private static final int FLAG_WICKET_DETAIL = 1 << 5;
+    private static final int FLAG_EXTRAS_DETAIL = 1 << 6;
+    private static final int FLAG_RUNS_ALSO_SCORED = 1 << 7;
+
+    // Ids: UUIDs are stored as 16 bytes, anything else through the dictionary
+    private static final int ID_UUID = 0;
+    private static final int ID_STRING = 1;
+
+    /** Longest wait between a record and its fsync. */
+    public static final long SYNC_DELAY_MS = 100;
+
+    /** Largest accepted record payload; anything larger is a corrupt length. */
+    private static final int MAX_PAYLOAD = 4096;
+
+    /**
+     * One journaled scoring command.
+     */
+    public static final class Entry {
+        public static final String TYPE_BALL = "BALL";
+        public static final String TYPE_WICKET = "WICKET";
+        public static final String TYPE_EXTRAS = "EXTRAS";
+        public static final String TYPE_UNDO = "UNDO";
+        public static final String TYPE_REDO = "REDO";
+
+        private final String type;
+        private final long seq;
+        private final Ball ball;
+        private final CricketEvent event;
+
+        Entry(String type, long seq, Ball ball, CricketEvent event) {
+            this.type = type;
+            this.seq = seq;
+            this.ball = ball;
+            this.event = event;
+        }
+
+        /** BALL, WICKET or EXTRAS (the command type of the delivery), UNDO or REDO. */
+        public String getType() { return type; }
+
+        /** The match log sequence number the match is at after this command. */
+        public long getSeq() { return seq; }
+
+        /** The delivery's ball, or null for UNDO / REDO. */
+        public Ball getBall() { return ball; }
+
+        /** The delivery's event, or null for UNDO / REDO. */
+        public CricketEvent getEvent() { return event; }
+
+        public boolean isDelivery() { return ball != null && event != null; }
+    }
+
+    private final File file;
+    private final ScheduledExecutorService syncExecutor;
+    // The entries read at open and appended since, oldest first; guarded by this
+    private List<Entry> entries;
+    private List<String> strings = new ArrayList<>();
+    private Map<String, Integer> stringIndex = new HashMap<>();
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+    private final CRC32 crc = new CRC32();
+    private final Runnable syncRunnable = this::sync;
+
+    private FileOutputStream out;
+    private FileChannel channel;
+    private long lastTime;
+    private boolean syncScheduled;
+    private boolean failed;
+    private boolean closed;
+
+    // Metrics
+    private long recordsAppended;
+    private long bytesAppended;
+    private long syncs;
+
+    /**
+     * Opens the journal, reading the entries already in it. A torn or corrupt tail is
+     * cut off so new records follow the last valid one.
+     */
+    public ScoringJournal(File file, ScheduledExecutorService syncExecutor) throws IOException {
+        this.file = file;
+        this.syncExecutor = syncExecutor;
+        this.entries = read();
+        this.out = new FileOutputStream(file, true);
+        this.channel = out.getChannel();
+        if (channel.size() == 0) {
+            DataOutputStream header = new DataOutputStream(out);
+            header.writeInt(MAGIC);
+            header.writeByte(VERSION);
+            header.flush();
+        }
+    }
+
+    public File getFile() { return file; }
+
+    /**
+     * @return The entries in the journal, oldest first: those read at open, then the
+     *         ones appended since (after a checkpoint, those of the checkpoint).
+     */
+    public synchronized List<Entry> getEntries() {
+        return Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    /**
+     * @return The highest log sequence number of the entries, or 0.
+     */
+    public synchronized long getLastSeq() {
+        long lastSeq = 0;
+        for (Entry entry : entries) {
+            lastSeq = Math.max(lastSeq, entry.getSeq());
+        }
+        return lastSeq;
+    }
+
+    public long getRecordsAppended() { return recordsAppended; }
+
+    public long getBytesAppended() { return bytesAppended; }
+
+    public long getSyncs() { return syncs; }
+
+    // --- APPEND ---
+
+    /**
+     * Journals a delivery scored through its command.
+     * @param type The command type (Entry.TYPE_BALL, TYPE_WICKET or TYPE_EXTRAS)
+     * @param seq The log sequence number the delivery is written under
+     */
+    public synchronized void appendDelivery(String type, long seq, Ball ball, CricketEvent event) {
+        int kind = Entry.TYPE_WICKET.equals(type) ? KIND_WICKET
+            : Entry.TYPE_EXTRAS.equals(type) ? KIND_EXTRAS : KIND_BALL;
+        try {
+            // Dictionary records go out first, in the same write as the delivery
+            buffer.reset();
+            int striker = ref(event.getBatsmanStrikerId());
+            int nonStriker = ref(event.getBatsmanNonStrikerId());
+            int bowler = ref(event.getBowlerId());
+            int batsman = ref(ball.getBatsmanId());
+            int ballBowler = ref(ball.getBowlerId());
+            int eventType = ref(event.getEventType());
+            int extrasType = ref(event.getExtrasType());
+            int ballExtrasType = ref(ball.getExtrasType());
+            int ballWicketType = ref(ball.getWicketType());
+            CricketWicketDetail wicketDetail = event.getWicketDetail();
+            CricketExtrasDetail extrasDetail = event.getExtrasDetail();
+            int wicketType = wicketDetail != null ? ref(wicketDetail.getWicketType()) : 0;
+            int extrasCategory = extrasDetail != null ? ref(extrasDetail.getExtrasCategory()) : 0;
+            int ballIdRef = idRef(ball.getBallId());
+            int eventIdRef = idRef(event.getEventId());
+            int wicketDetailIdRef = wicketDetail != null ? idRef(wicketDetail.getWicketDetailId()) : 0;
+            int extrasDetailIdRef = extrasDetail != null ? idRef(extrasDetail.getExtrasDetailId()) : 0;
+
+            ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+            DataOutputStream data = new DataOutputStream(payload);
+            data.writeByte(kind);
+            writeVarLong(data, seq);
+            writeId(data, ball.getBallId(), ballIdRef);
+            writeId(data, event.getEventId(), eventIdRef);
+
+            int flags = 0;
+            if (event.isLegalDelivery()) flags |= FLAG_LEGAL;
+            if (event.isWicket()) flags |= FLAG_WICKET;
+            if (event.isBoundary()) flags |= FLAG_BOUNDARY;
+            if (ball.isWicket()) flags |= FLAG_BALL_WICKET;
+            if (ball.isBoundary()) flags |= FLAG_BALL_BOUNDARY;
+            if (wicketDetail != null) flags |= FLAG_WICKET_DETAIL;
+            if (extrasDetail != null) flags |= FLAG_EXTRAS_DETAIL;
+            if (extrasDetail != null && extrasDetail.isRunsAlsoScored()) flags |= FLAG_RUNS_ALSO_SCORED;
+            data.writeByte(flags);
+
+            writeVarInt(data, eventType);
+            writeVarInt(data, striker);
+            writeVarInt(data, nonStriker);
+            writeVarInt(data, bowler);
+            writeVarInt(data, batsman);
+            writeVarInt(data, ballBowler);
+            writeVarInt(data, extrasType);
+            writeVarInt(data, ballExtrasType);
+            writeVarInt(data, ballWicketType);
+            writeVarInt(data, wicketType);
+            writeVarInt(data, extrasCategory);
+            writeVarInt(data, event.getTotalRuns());
+            writeVarInt(data, event.getRunsScoredBat());
+            writeVarInt(data, event.getRunsScoredExtras());
+            writeVarInt(data, ball.getRunsScored());
+            writeVarInt(data, extrasDetail != null ? extrasDetail.getExtrasRuns() : 0);
+            writeVarInt(data, event.getBoundaryType());
+            writeVarInt(data, event.getOverNumber());
+            writeVarInt(data, event.getBallNumber());
+            writeVarInt(data, ball.getOverNumber());
+            writeVarInt(data, ball.getBallNumber());
+            // Event time as a delta to the previous delivery
+            long time = event.getEventTime() != null ? event.getEventTime().getTime() : 0;
+            writeVarLong(data, zigZag(time - lastTime));
+            lastTime = time;
+            // Optional trailing fields: records written before them end here
+            if (wicketDetail != null) writeId(data, wicketDetail.getWicketDetailId(), wicketDetailIdRef);
+            if (extrasDetail != null) writeId(data, extrasDetail.getExtrasDetailId(), extrasDetailIdRef);
+            data.flush();
+            writeRecord(payload.toByteArray());
+            if (commit()) entries.add(new Entry(typeOf(kind), seq, ball, event));
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Journals an undo of the last command; it moves the match to log sequence seq.
+     */
+    public void appendUndo(long seq) {
+        appendMarker(KIND_UNDO, seq);
+    }
+
+    /**
+     * Journals a redo of the last undone command; it moves the match to log sequence seq.
+     */
+    public void appendRedo(long seq) {
+        appendMarker(KIND_REDO, seq);
+    }
+
+    private synchronized void appendMarker(int kind, long seq) {
+        try {
+            buffer.reset();
+            ByteArrayOutputStream payload = new ByteArrayOutputStream(12);
+            DataOutputStream data = new DataOutputStream(payload);
+            data.writeByte(kind);
+            writeVarLong(data, seq);
+            data.flush();
+            writeRecord(payload.toByteArray());
+            if (commit()) entries.add(new Entry(typeOf(kind), seq, null, null));
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Replays entries on a stack model of the command history and returns the entries
+     * that rebuild the same history and redo stack: the history's deliveries oldest
+     * first (at most historyLimit), then the redo stack's deliveries top first, then
+     * their UNDOs in the order they were journaled. Each entry keeps the sequence number it was last
+     * applied or undone at.
+     */
+    public static List<Entry> checkpoint(List<Entry> entries, int historyLimit) {
+        // Heads are the tops of the stacks; an undone entry keeps its UNDO entry
+        Deque<Entry> history = new ArrayDeque<>();
+        Deque<Entry[]> redo = new ArrayDeque<>();
+        for (Entry entry : entries) {
+            if (entry.isDelivery()) {
+                history.push(entry);
+                if (history.size() > historyLimit) history.removeLast();
+                redo.clear();
+            } else if (Entry.TYPE_UNDO.equals(entry.getType())) {
+                if (!history.isEmpty()) redo.push(new Entry[] {history.pop(), entry});
+            } else if (Entry.TYPE_REDO.equals(entry.getType())) {
+                if (redo.isEmpty()) continue;
+                Entry undone = redo.pop()[0];
+                history.push(new Entry(undone.getType(), entry.getSeq(), undone.getBall(), undone.getEvent()));
+            }
+        }
+        List<Entry> checkpoint = new ArrayList<>(history.size() + 2 * redo.size());
+        for (Iterator<Entry> it = history.descendingIterator(); it.hasNext(); ) {
+            checkpoint.add(it.next());
+        }
+        // Undone in the order they were: the top of the redo stack is undone last
+        for (Entry[] undone : redo) {
+            checkpoint.add(undone[0]);
+        }
+        for (Iterator<Entry[]> it = redo.descendingIterator(); it.hasNext(); ) {
+            checkpoint.add(it.next()[1]);
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Replaces the journal with a checkpoint of the undo history its entries rebuild
+     * (see checkpoint()). Only valid when the persisted match contains every entry the
+     * checkpoint drops: entries dropped from the history are not replayed again. Those
+     * are at least historyLimit commands old.
+     *
+     * The checkpoint is written to a temporary file without holding up appends; then,
+     * with appends held, the entries appended meanwhile follow it, it is synced and it
+     * replaces the journal. A crash at any point leaves either the old or the new
+     * journal. Must not be called on the main thread.
+     * @return Whether the journal was replaced.
+     */
+    public boolean compact(int historyLimit) {
+        List<Entry> journaled;
+        synchronized (this) {
+            if (failed || closed || out == null) return false;
+            journaled = new ArrayList<>(entries);
+        }
+        List<Entry> checkpoint = checkpoint(journaled, historyLimit);
+        File temp = new File(file.getPath() + ".tmp");
+        ScoringJournal rewritten = null;
+        try {
+            if (temp.exists() && !temp.delete()) throw new IOException("Cannot delete " + temp);
+            rewritten = new ScoringJournal(temp, syncExecutor);
+            rewritten.appendAll(checkpoint);
+            synchronized (this) {
+                if (failed || closed || out == null) {
+                    rewritten.closeSynced();
+                    temp.delete();
+                    return false;
+                }
+                rewritten.appendAll(entries.subList(journaled.size(), entries.size()));
+                if (rewritten.failed) throw new IOException("Checkpoint of " + file.getName() + " failed");
+                rewritten.channel.force(false);
+                if (!temp.renameTo(file)) throw new IOException("Cannot replace " + file.getName());
+                // Appends go on in the checkpoint, with its dictionary
+                out.close();
+                out = rewritten.out;
+                channel = rewritten.channel;
+                entries = rewritten.entries;
+                strings = rewritten.strings;
+                stringIndex = rewritten.stringIndex;
+                lastTime = rewritten.lastTime;
+            }
+        } catch (IOException e) {
+            LOG.log(Level.SEVERE, "Cannot checkpoint " + file.getName(), e);
+            if (rewritten != null) {
+                try {
+                    rewritten.closeSynced();
+                } catch (IOException ignored) {
+                    // The checkpoint is discarded anyway
+                }
+            }
+            temp.delete();
+            return false;
+        }
+        LOG.fine("Checkpointed " + file.getName() + ": " + journaled.size() + " -> " + checkpoint.size() + " entries");
+        return true;
+    }
+
+    /**
+     * Appends entries as they were journaled (used to write a checkpoint).
+     */
+    void appendAll(List<Entry> entries) {
+        for (Entry entry : entries) {
+            if (entry.isDelivery()) {
+                appendDelivery(entry.getType(), entry.getSeq(), entry.getBall(), entry.getEvent());
+            } else if (Entry.TYPE_UNDO.equals(entry.getType())) {
+                appendUndo(entry.getSeq());
+            } else if (Entry.TYPE_REDO.equals(entry.getType())) {
+                appendRedo(entry.getSeq());
+            }
+        }
+    }
+
+    /**
+     * Syncs and closes the journal on the calling thread.
+     * @throws IOException If a record could not be written or synced.
+     */
+    public synchronized void closeSynced() throws IOException {
+        if (out == null) return;
+        try {
+            if (failed) throw new IOException("Journal " + file.getName() + " failed");
+            channel.force(false);
+        } finally {
+            out.close();
+            out = null;
+        }
+    }
+
+    /**
+     * Syncs the journal and closes it.
+     */
+    public synchronized void close() {
+        if (out == null || closed) return;
+        closed = true;
+        syncExecutor.execute(() -> {
+            sync();
+            try {
+                synchronized (this) {
+                    out.close();
+                }
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Failed to close " + file.getName(), e);
+            }
+        });
+        LOG.fine(file.getName() + ": " + recordsAppended + " records, " +
+            bytesAppended + " bytes, " + syncs + " syncs");
+    }
+
+    // --- WRITE HELPERS ---
+
+    /**
+     * @return Dictionary reference of a string: 0 for null, index + 1 otherwise.
+     *         A new string is added with a KIND_STRING record in the current write.
+     */
+    private int ref(String value) throws IOException {
+        if (value == null) return 0;
+        Integer index = stringIndex.get(value);
+        if (index != null) return index + 1;
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(value.length() + 4);
+        DataOutputStream data = new DataOutputStream(payload);
+        data.writeByte(KIND_STRING);
+        data.writeUTF(value);
+        data.flush();
+        writeRecord(payload.toByteArray());
+        addString(value);
+        return strings.size();
+    }
+
+    private int idRef(String id) throws IOException {
+        return parseUuid(id) != null ? 0 : ref(id);
+    }
+
+    private static void writeId(DataOutputStream data, String id, int ref) throws IOException {
+        UUID uuid = parseUuid(id);
+        if (uuid != null) {
+            data.writeByte(ID_UUID);
+            data.writeLong(uuid.getMostSignificantBits());
+            data.writeLong(uuid.getLeastSignificantBits());
+        } else {
+            data.writeByte(ID_STRING);
+            writeVarInt(data, ref);
+        }
+    }
+
+    private void writeRecord(byte[] payload) throws IOException {
+        DataOutputStream data = new DataOutputStream(buffer);
+        writeVarInt(data, payload.length);
+        data.write(payload);
+        crc.reset();
+        crc.update(payload, 0, payload.length);
+        data.writeInt((int) crc.getValue());
+        data.flush();
+    }
+
+    /**
+     * Hands the buffered records to the OS in one write and schedules the fsync.
+     * @return Whether the records were written.
+     */
+    private boolean commit() throws IOException {
+        if (failed || out == null) return false;
+        out.write(buffer.toByteArray());
+        recordsAppended++;
+        bytesAppended += buffer.size();
+        buffer.reset();
+        if (!syncScheduled) {
+            syncScheduled = true;
+            syncExecutor.schedule(syncRunnable, SYNC_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+
+    private void sync() {
+        FileChannel syncing;
+        synchronized (this) {
+            syncScheduled = false;
+            syncing = channel;
+        }
+        // Outside the lock: appends go on while the disk catches up
+        try {
+            if (syncing.isOpen()) {
+                syncing.force(false);
+                syncs++;
+            }
+        } catch (IOException e) {
+            LOG.log(Level.SEVERE, "Failed to sync " + file.getName(), e);
+        }
+    }
+
+    /**
+     * Stops journaling after an I/O error. Scoring carries on through Firestore; the
+     * journal is only a second line of defence.
+     */
+    private void fail(IOException e) {
+        LOG.log(Level.SEVERE, "Journal " + file.getName() + " disabled", e);
+        failed = true;
+        buffer.reset();
+    }
+
+    private static String typeOf(int kind) {
+        switch (kind) {
+            case KIND_WICKET: return Entry.TYPE_WICKET;
+            case KIND_EXTRAS: return Entry.TYPE_EXTRAS;
+            case KIND_UNDO: return Entry.TYPE_UNDO;
+            case KIND_REDO: return Entry.TYPE_REDO;
+            default: return Entry.TYPE_BALL;
+        }
+    }
+
+    private void addString(String value) {
+        stringIndex.put(value, strings.size());
+        strings.add(value);
+    }
+
+    // --- READ ---
+
+    /**
+     * Reads all valid records and truncates the file after the last one.
+     */
+    private List<Entry> read() throws IOException {
+        List<Entry> result = new ArrayList<>();
+        if (!file.exists() || file.length() < HEADER_SIZE) {
+            if (file.exists()) truncate(0);
+            return result;
+        }
+        byte[] bytes = new byte[(int) file.length()];
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            in.readFully(bytes);
+        }
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (data.readInt() != MAGIC || data.readUnsignedByte() != VERSION) {
+            LOG.warning("Unknown journal format, discarding " + file.getName());
+            truncate(0);
+            return result;
+        }
+        long valid = HEADER_SIZE;
+        while (valid < bytes.length) {
+            try {
+                int length = readVarInt(data);
+                if (length <= 0 || length > MAX_PAYLOAD) break;
+                byte[] payload = new byte[length];
+                data.readFully(payload);
+                int checksum = data.readInt();
+                crc.reset();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != checksum) break;
+                Entry entry = decode(payload);
+                if (entry != null) result.add(entry);
+                valid = bytes.length - data.available();
+            } catch (EOFException | RuntimeException e) {
+                break;
+            }
+        }
+        if (valid < bytes.length) {
+            LOG.warning("Cut " + (bytes.length - valid) + " bytes of torn tail from " + file.getName());
+            truncate(valid);
+        }
+        return result;
+    }
+
+    private void truncate(long length) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(length);
+        }
+    }
+
+    private Entry decode(byte[] payload) throws IOException {
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(payload));
+        int kind = data.readUnsignedByte();
+        switch (kind) {
+            case KIND_STRING:
+                addString(data.readUTF());
+                return null;
+            case KIND_UNDO:
+                return new Entry(Entry.TYPE_UNDO, readVarLong(data), null, null);
+            case KIND_REDO:
+                return new Entry(Entry.TYPE_REDO, readVarLong(data), null, null);
+            case KIND_BALL:
+            case KIND_WICKET:
+            case KIND_EXTRAS:
+                return decodeDelivery(kind, data);
+            default:
+                throw new IOException("Unknown record kind " + kind);
+        }
+    }
+
+    private Entry decodeDelivery(int kind, DataInputStream data) throws IOException {
+        long seq = readVarLong(data);
+        String ballId = readId(data);
+        String eventId = readId(data);
+        int flags = data.readUnsignedByte();
+
+        Ball ball = new Ball();
+        CricketEvent event = new CricketEvent();
+        ball.setBallId(ballId);
+        event.setEventId(eventId);
+        event.setEventType(string(readVarInt(data)));
+        event.setBatsmanStrikerId(string(readVarInt(data)));
+        event.setBatsmanNonStrikerId(string(readVarInt(data)));
+        event.setBowlerId(string(readVarInt(data)));
+        ball.setBatsmanId(string(readVarInt(data)));
+        ball.setBowlerId(string(readVarInt(data)));
+        event.setExtrasType(string(readVarInt(data)));
+        ball.setExtrasType(string(readVarInt(data)));
+        ball.setWicketType(string(readVarInt(data)));
+        String wicketType = string(readVarInt(data));
+        String extrasCategory = string(readVarInt(data));
+        event.setTotalRuns(readVarInt(data));
+        event.setRunsScoredBat(readVarInt(data));
+        event.setRunsScoredExtras(readVarInt(data));
+        ball.setRunsScored(readVarInt(data));
+        int extrasRuns = readVarInt(data);
+        event.setBoundaryType(readVarInt(data));
+        event.setOverNumber(readVarInt(data));
+        event.setBallNumber(readVarInt(data));
+        ball.setOverNumber(readVarInt(data));
+        ball.setBallNumber(readVarInt(data));
+        lastTime += unZigZag(readVarLong(data));
+        event.setEventTime(new Date(lastTime));
+
+        event.setLegalDelivery((flags & FLAG_LEGAL) != 0);
+        event.setWicket((flags & FLAG_WICKET) != 0);
+        event.setBoundary((flags & FLAG_BOUNDARY) != 0);
+        ball.setWicket((flags & FLAG_BALL_WICKET) != 0);
+        ball.setBoundary((flags & FLAG_BALL_BOUNDARY) != 0);
+        if ((flags & FLAG_WICKET_DETAIL) != 0) {
+            CricketWicketDetail wicketDetail = new CricketWicketDetail();
+            if (data.available() > 0) wicketDetail.setWicketDetailId(readId(data));
+            wicketDetail.setWicketType(wicketType);
+            event.setWicketDetail(wicketDetail);
+        }
+        if ((flags & FLAG_EXTRAS_DETAIL) != 0) {
+            CricketExtrasDetail extrasDetail = new CricketExtrasDetail();
+            if (data.available() > 0) extrasDetail.setExtrasDetailId(readId(data));
+            extrasDetail.setExtrasCategory(extrasCategory);
+            extrasDetail.setExtrasRuns(extrasRuns);
+            extrasDetail.setRunsAlsoScored((flags & FLAG_RUNS_ALSO_SCORED) != 0);
+            event.setExtrasDetail(extrasDetail);
+        }
+
+        return new Entry(typeOf(kind), seq, ball, event);
+    }
+
+    private String readId(DataInputStream data) throws IOException {
+        if (data.readUnsignedByte() == ID_UUID) {
+            return new UUID(data.readLong(), data.readLong()).toString();
+        }
+        return string(readVarInt(data));
+    }
+
+    private String string(int ref) throws IOException {
+        if (ref == 0) return null;
+        if (ref > strings.size()) throw new IOException("Unknown string " + ref);
+        return strings.get(ref - 1);
+    }
+
+    // --- ENCODING ---
+
+    private static UUID parseUuid(String id) {
+        if (id == null || id.length() != 36) return null;
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null; // Lowercase canonical form only
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xffffffffL);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7fL) != 0) {
+            out.writeByte((int) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
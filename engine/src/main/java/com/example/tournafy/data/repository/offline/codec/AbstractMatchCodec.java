@@ -0,0 +1,319 @@
+package com.example.tournafy.data.repository.offline.codec;
+
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.bool;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.date;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.intValue;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.list;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.longValue;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.map;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.put;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.string;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.stringList;
+
+import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.domain.models.base.MatchConfig;
+import com.example.tournafy.domain.models.base.MatchEvent;
+import com.example.tournafy.domain.models.match.MatchResult;
+import com.example.tournafy.domain.models.team.MatchTeam;
+import com.example.tournafy.domain.models.team.Player;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Shared part of the match codecs: HostedEntity / Match fields, teams and players,
+ * the match result and the common MatchEvent / MatchConfig fields.
+ * Subclasses add the sport-specific fields and nested types.
+ */
+public abstract class AbstractMatchCodec<M extends Match> implements MatchCodec<M> {
+
+    // Converts stored dates that are not java.util.Date (Firestore's Timestamp); may be null
+    private final Function<Object, Date> dateConverter;
+
+    protected AbstractMatchCodec(Function<Object, Date> dateConverter) {
+        this.dateConverter = dateConverter;
+    }
+
+    /** Creates an empty match of the concrete type. */
+    protected abstract M newMatch();
+
+    /** Reads the sport-specific fields into the match. */
+    protected abstract void decodeSportFields(M match, Map<String, Object> data);
+
+    /** Writes the sport-specific fields of the match. */
+    protected abstract void encodeSportFields(M match, Map<String, Object> out);
+
+    /** Builds the concrete MatchConfig from its map. */
+    protected abstract MatchConfig decodeConfig(Map<String, Object> data);
+
+    /** Writes the concrete MatchConfig, or returns null for a config of another sport. */
+    protected abstract Map<String, Object> encodeConfig(MatchConfig config);
+
+    /** Encodes a sport-specific nested object, or returns null if the type is not handled. */
+    protected abstract Object encodeSportValue(Object value);
+
+    // --- DECODE ---
+
+    @Override
+    public M decode(Map<String, Object> data) {
+        M match = newMatch();
+
+        // HostedEntity
+        match.setEntityId(string(data, "entityId"));
+        String entityType = string(data, "entityType");
+        if (entityType != null) match.setEntityType(entityType);
+        match.setName(string(data, "name"));
+        match.setOnline(bool(data, "online", false));
+        Date createdAt = date(data, "createdAt", dateConverter);
+        if (createdAt != null) match.setCreatedAt(createdAt);
+        match.setHostUserId(string(data, "hostUserId"));
+        String status = string(data, "status");
+        if (status == null) status = string(data, "matchStatus");
+        if (status != null) match.setMatchStatus(status);
+        match.setVisibilityLink(string(data, "visibilityLink"));
+
+        // Match
+        match.setMatchFormat(string(data, "matchFormat"));
+        match.setMatchDate(date(data, "matchDate", dateConverter));
+        match.setVenue(string(data, "venue"));
+        match.setWinnerTeamId(string(data, "winnerTeamId"));
+        match.setTournamentId(string(data, "tournamentId"));
+        match.setSeriesId(string(data, "seriesId"));
+        match.setLastAppliedSeq(longValue(data, "lastAppliedSeq", 0L));
+        match.setFieldClocks(decodeClocks(map(data, Match.FIELD_CLOCKS)));
+        match.setRemovedIds(stringList(data, Match.FIELD_REMOVED_IDS));
+
+        Map<String, Object> configData = map(data, "matchConfig");
+        if (configData != null) {
+            MatchConfig config = decodeConfig(configData);
+            config.setConfigId(string(configData, "configId"));
+            config.setMatchId(string(configData, "matchId"));
+            match.setMatchConfig(config);
+        }
+
+        decodeSportFields(match, data);
+        return match;
+    }
+
+    private static Map<String, String> decodeClocks(Map<String, Object> data) {
+        Map<String, String> clocks = new HashMap<>();
+        if (data == null) return clocks;
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            if (entry.getValue() instanceof String) {
+                clocks.put(entry.getKey(), (String) entry.getValue());
+            }
+        }
+        return clocks;
+    }
+
+    protected static List<MatchTeam> decodeTeams(Map<String, Object> data) {
+        List<?> values = list(data, "teams");
+        List<MatchTeam> teams = new ArrayList<>(values != null ? values.size() : 0);
+        if (values == null) return teams;
+        for (Object value : values) {
+            Map<String, Object> teamMap = map(value);
+            if (teamMap == null) continue;
+            MatchTeam team = new MatchTeam();
+            String matchTeamId = string(teamMap, "matchTeamId");
+            if (matchTeamId != null) team.setMatchTeamId(matchTeamId);
+            team.setMatchId(string(teamMap, "matchId"));
+            team.setTeamId(string(teamMap, "teamId"));
+            team.setTeamName(string(teamMap, "teamName"));
+            team.setHomeTeam(bool(teamMap, "homeTeam", false));
+            team.setScore(intValue(teamMap, "score", 0));
+            team.setPlayers(decodePlayers(list(teamMap, "players")));
+            teams.add(team);
+        }
+        return teams;
+    }
+
+    private static List<Player> decodePlayers(List<?> values) {
+        List<Player> players = new ArrayList<>(values != null ? values.size() : 0);
+        if (values == null) return players;
+        for (Object value : values) {
+            Map<String, Object> playerMap = map(value);
+            if (playerMap == null) continue;
+            Player player = new Player();
+            player.setPlayerId(string(playerMap, "playerId"));
+            player.setTeamId(string(playerMap, "teamId"));
+            player.setPlayerName(string(playerMap, "playerName"));
+            player.setRole(string(playerMap, "role"));
+            player.setJerseyNumber(intValue(playerMap, "jerseyNumber", 0));
+            player.setStartingXI(bool(playerMap, "startingXI", false));
+            players.add(player);
+        }
+        return players;
+    }
+
+    protected static MatchResult decodeResult(Map<String, Object> data) {
+        Map<String, Object> resultMap = map(data, "matchResult");
+        if (resultMap == null) return null;
+        MatchResult result = new MatchResult();
+        result.setResultId(string(resultMap, "resultId"));
+        result.setMatchId(string(resultMap, "matchId"));
+        result.setWinnerTeamId(string(resultMap, "winnerTeamId"));
+        result.setLoserTeamId(string(resultMap, "loserTeamId"));
+        result.setWinnerScore(intValue(resultMap, "winnerScore", 0));
+        result.setLoserScore(intValue(resultMap, "loserScore", 0));
+        result.setResultType(string(resultMap, "resultType"));
+        result.setWinMargin(string(resultMap, "winMargin"));
+        return result;
+    }
+
+    /**
+     * Reads the fields every MatchEvent has. eventType is only replaced when present so
+     * the subclass default ("CRICKET_EVENT", "FOOTBALL_EVENT") is kept otherwise.
+     */
+    protected void decodeEventFields(MatchEvent event, Map<String, Object> data) {
+        event.setEventId(string(data, "eventId"));
+        event.setMatchId(string(data, "matchId"));
+        String eventType = string(data, "eventType");
+        if (eventType != null) event.setEventType(eventType);
+        Date eventTime = date(data, "eventTime", dateConverter);
+        if (eventTime != null) event.setEventTime(eventTime);
+        event.setTeamId(string(data, "teamId"));
+        event.setPlayerId(string(data, "playerId"));
+        event.setDescription(string(data, "description"));
+    }
+
+    // --- ENCODE ---
+
+    @Override
+    public Map<String, Object> encode(M match) {
+        Map<String, Object> out = new HashMap<>();
+
+        // HostedEntity
+        put(out, "entityId", match.getEntityId());
+        put(out, "entityType", match.getEntityType());
+        put(out, "name", match.getName());
+        out.put("online", match.isOnline());
+        put(out, "createdAt", match.getCreatedAt());
+        put(out, "hostUserId", match.getHostUserId());
+        put(out, "status", match.getStatus());
+        put(out, "visibilityLink", match.getVisibilityLink());
+
+        // Match ("matchStatus" mirrors status; field updates write both)
+        put(out, "sportId", match.getSportId());
+        put(out, "matchStatus", match.getMatchStatus());
+        put(out, "matchFormat", match.getMatchFormat());
+        put(out, "matchDate", match.getMatchDate());
+        put(out, "venue", match.getVenue());
+        put(out, "winnerTeamId", match.getWinnerTeamId());
+        put(out, "tournamentId", match.getTournamentId());
+        put(out, "seriesId", match.getSeriesId());
+        out.put("lastAppliedSeq", match.getLastAppliedSeq());
+        out.put(Match.FIELD_CLOCKS, new HashMap<>(match.getFieldClocks()));
+        out.put(Match.FIELD_REMOVED_IDS, new ArrayList<>(match.getRemovedIds()));
+
+        MatchConfig config = match.getMatchConfig();
+        if (config != null) {
+            Map<String, Object> configMap = encodeConfig(config);
+            if (configMap != null) {
+                put(configMap, "configId", config.getConfigId());
+                put(configMap, "matchId", config.getMatchId());
+                out.put("matchConfig", configMap);
+            }
+        }
+
+        encodeSportFields(match, out);
+        return out;
+    }
+
+    @Override
+    public Object encodeField(String field, Object value) {
+        return encodeValue(value);
+    }
+
+    @Override
+    public Object encodeValue(Object value) {
+        if (value instanceof List) {
+            List<?> values = (List<?>) value;
+            List<Object> encoded = new ArrayList<>(values.size());
+            for (Object element : values) {
+                encoded.add(encodeValue(element));
+            }
+            return encoded;
+        }
+        if (value instanceof Map) {
+            Map<?, ?> values = (Map<?, ?>) value;
+            Map<String, Object> encoded = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : values.entrySet()) {
+                encoded.put(String.valueOf(entry.getKey()), encodeValue(entry.getValue()));
+            }
+            return encoded;
+        }
+        Object sportValue = encodeSportValue(value);
+        if (sportValue != null) return sportValue;
+        if (value instanceof MatchTeam) return encodeTeam((MatchTeam) value);
+        if (value instanceof MatchResult) return encodeResult((MatchResult) value);
+        return value;
+    }
+
+    protected static Map<String, Object> encodeTeam(MatchTeam team) {
+        Map<String, Object> out = new HashMap<>();
+        put(out, "matchTeamId", team.getMatchTeamId());
+        put(out, "matchId", team.getMatchId());
+        put(out, "teamId", team.getTeamId());
+        put(out, "teamName", team.getTeamName());
+        out.put("homeTeam", team.isHomeTeam());
+        out.put("score", team.getScore());
+        List<Player> players = team.getPlayers();
+        if (players != null) {
+            List<Object> encodedPlayers = new ArrayList<>(players.size());
+            for (Player player : players) {
+                if (player != null) encodedPlayers.add(encodePlayer(player));
+            }
+            out.put("players", encodedPlayers);
+        }
+        return out;
+    }
+
+    private static Map<String, Object> encodePlayer(Player player) {
+        Map<String, Object> out = new HashMap<>();
+        put(out, "playerId", player.getPlayerId());
+        put(out, "teamId", player.getTeamId());
+        put(out, "playerName", player.getPlayerName());
+        put(out, "role", player.getRole());
+        out.put("jerseyNumber", player.getJerseyNumber());
+        out.put("startingXI", player.isStartingXI());
+        return out;
+    }
+
+    protected static List<Object> encodeTeams(List<MatchTeam> teams) {
+        List<Object> out = new ArrayList<>(teams != null ? teams.size() : 0);
+        if (teams != null) {
+            for (MatchTeam team : teams) {
+                if (team != null) out.add(encodeTeam(team));
+            }
+        }
+        return out;
+    }
+
+    protected static Map<String, Object> encodeResult(MatchResult result) {
+        Map<String, Object> out = new HashMap<>();
+        put(out, "resultId", result.getResultId());
+        put(out, "matchId", result.getMatchId());
+        put(out, "winnerTeamId", result.getWinnerTeamId());
+        put(out, "loserTeamId", result.getLoserTeamId());
+        out.put("winnerScore", result.getWinnerScore());
+        out.put("loserScore", result.getLoserScore());
+        put(out, "resultType", result.getResultType());
+        put(out, "winMargin", result.getWinMargin());
+        return out;
+    }
+
+    protected static void encodeEventFields(MatchEvent event, Map<String, Object> out) {
+        put(out, "eventId", event.getEventId());
+        put(out, "matchId", event.getMatchId());
+        put(out, "eventType", event.getEventType());
+        put(out, "eventTime", event.getEventTime());
+        put(out, "teamId", event.getTeamId());
+        put(out, "playerId", event.getPlayerId());
+        put(out, "description", event.getDescription());
+    }
+}
@@ -0,0 +1,580 @@
+package com.example.tournafy.data.repository.offline.codec;
+
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.bool;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.intValue;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.list;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.map;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.put;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.string;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.stringList;
+
+import com.example.tournafy.domain.models.base.MatchConfig;
+import com.example.tournafy.domain.models.match.cricket.Ball;
+import com.example.tournafy.domain.models.match.cricket.BatsmanStats;
+import com.example.tournafy.domain.models.match.cricket.BowlerStats;
+import com.example.tournafy.domain.models.match.cricket.CricketEvent;
+import com.example.tournafy.domain.models.match.cricket.CricketExtrasDetail;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.domain.models.match.cricket.CricketMatchConfig;
+import com.example.tournafy.domain.models.match.cricket.CricketWicketDetail;
+import com.example.tournafy.domain.models.match.cricket.Innings;
+import com.example.tournafy.domain.models.match.cricket.Over;
+import com.example.tournafy.domain.models.match.cricket.PackedInnings;
+import com.example.tournafy.domain.models.sport.SportTypeEnum;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Codec for CricketMatch documents: innings, current overs with their balls,
+ * cricket events, batting/bowling order queues and the per-player stats maps.
+ *
+ * The balls of the current overs are stored packed (see PackedInnings): "currentOvers"
+ * holds {"overs": [over without balls, with its "packedBalls" count], "balls": packed
+ * innings}. Balls that cannot be packed losslessly fall back to the plain list of overs
+ * with nested balls, which is also how documents written before packing decode. A
+ * packed innings that cannot be read is skipped with a warning, and the overs are
+ * decoded with whatever balls they hold themselves.
+ *
+ * Boolean fields use the names the Firestore mapper derives from isX() getters
+ * ("completed", "wicket", "boundary", "out"...), so documents written before the
+ * codec existed decode unchanged.
+ */
+public class CricketMatchCodec extends AbstractMatchCodec<CricketMatch> {
+
+    private static final Logger LOG = Logger.getLogger("CricketMatchCodec");
+
+    /** A codec for documents whose dates are java.util.Date (local copies, tests). */
+    public CricketMatchCodec() {
+        this(null);
+    }
+
+    /**
+     * @param dateConverter Converts the stored dates that are not java.util.Date
+     *                      (the app passes Firestore's Timestamp conversion).
+     */
+    public CricketMatchCodec(Function<Object, Date> dateConverter) {
+        super(dateConverter);
+    }
+
+    @Override
+    public String getSportId() {
+        return SportTypeEnum.CRICKET.name();
+    }
+
+    @Override
+    public Class<CricketMatch> getMatchClass() {
+        return CricketMatch.class;
+    }
+
+    @Override
+    protected CricketMatch newMatch() {
+        return new CricketMatch();
+    }
+
+    // --- DECODE ---
+
+    @Override
+    protected void decodeSportFields(CricketMatch match, Map<String, Object> data) {
+        match.setTossWinner(string(data, "tossWinner"));
+        match.setTossDecision(string(data, "tossDecision"));
+        match.setTeams(decodeTeams(data));
+        match.setInnings(decodeInnings(list(data, CricketMatch.FIELD_INNINGS)));
+        match.setCricketEvents(decodeEvents(list(data, CricketMatch.FIELD_CRICKET_EVENTS)));
+        match.setCurrentOvers(decodeCurrentOvers(data.get(CricketMatch.FIELD_CURRENT_OVERS)));
+        match.setCurrentInningsNumber(intValue(data, "currentInningsNumber", 0));
+        match.setTargetScore(intValue(data, "targetScore", 0));
+        match.setCurrentStrikerId(string(data, "currentStrikerId"));
+        match.setCurrentNonStrikerId(string(data, "currentNonStrikerId"));
+        match.setCurrentBowlerId(string(data, "currentBowlerId"));
+        match.setBattingOrderQueue(stringList(data, "battingOrderQueue"));
+        match.setBowlingOrderQueue(stringList(data, "bowlingOrderQueue"));
+        match.setBatsmanStatsMap(decodeBatsmanStats(map(data, CricketMatch.FIELD_BATSMAN_STATS)));
+        match.setBowlerStatsMap(decodeBowlerStats(map(data, CricketMatch.FIELD_BOWLER_STATS)));
+        match.setMatchResult(decodeResult(data));
+    }
+
+    @Override
+    protected MatchConfig decodeConfig(Map<String, Object> data) {
+        CricketMatchConfig config = new CricketMatchConfig();
+        config.setNumberOfOvers(intValue(data, "numberOfOvers", config.getNumberOfOvers()));
+        config.setWideOn(bool(data, "wideOn", config.isWideOn()));
+        config.setNumberOfBouncersInOneOver(intValue(data, "numberOfBouncersInOneOver", config.getNumberOfBouncersInOneOver()));
+        String formatType = string(data, "formatType");
+        if (formatType != null) config.setFormatType(formatType);
+        config.setPlayersPerSide(intValue(data, "playersPerSide", config.getPlayersPerSide()));
+        config.setLastManStanding(bool(data, "lastManStanding", config.isLastManStanding()));
+        return config;
+    }
+
+    private static List<Innings> decodeInnings(List<?> values) {
+        List<Innings> innings = new ArrayList<>(values != null ? values.size() : 0);
+        if (values == null) return innings;
+        for (Object value : values) {
+            Map<String, Object> m = map(value);
+            if (m == null) continue;
+            Innings inning = new Innings();
+            inning.setInningsId(string(m, "inningsId"));
+            inning.setMatchId(string(m, "matchId"));
+            inning.setInningsNumber(intValue(m, "inningsNumber", 0));
+            inning.setBattingTeamId(string(m, "battingTeamId"));
+            inning.setBowlingTeamId(string(m, "bowlingTeamId"));
+            inning.setTotalRuns(intValue(m, "totalRuns", 0));
+            inning.setWicketsFallen(intValue(m, "wicketsFallen", 0));
+            inning.setOversCompleted(intValue(m, "oversCompleted", 0));
+            inning.setCompleted(bool(m, "completed", false));
+            inning.setByes(intValue(m, "byes", 0));
+            inning.setLegByes(intValue(m, "legByes", 0));
+            inning.setWides(intValue(m, "wides", 0));
+            inning.setNoBalls(intValue(m, "noBalls", 0));
+            innings.add(inning);
+        }
+        return innings;
+    }
+
+    private static List<Over> decodeCurrentOvers(Object value) {
+        Map<String, Object> packedForm = map(value);
+        if (packedForm == null) {
+            return decodeOvers(value instanceof List ? (List<?>) value : null);
+        }
+        List<?> values = list(packedForm, "overs");
+        List<Over> overs = new ArrayList<>(values != null ? values.size() : 0);
+        if (values == null) return overs;
+        PackedInnings packed = decodePacked(map(packedForm, "balls"));
+        if (packed == null) {
+            if (packedForm.get("balls") != null) {
+                LOG.warning("Malformed packed balls in currentOvers; decoding the plain overs");
+            }
+            return decodeOvers(values);
+        }
+        int next = 0;
+        for (Object overValue : values) {
+            Map<String, Object> m = map(overValue);
+            if (m == null) continue;
+            Over over = decodeOver(m);
+            int count = intValue(m, "packedBalls", 0);
+            for (int i = 0; i < count && next < packed.size(); i++) {
+                over.getBalls().add(packed.get(next++));
+            }
+            overs.add(over);
+        }
+        return overs;
+    }
+
+    /**
+     * @return The packed innings, or null if the map is missing or malformed.
+     */
+    private static PackedInnings decodePacked(Map<String, Object> m) {
+        if (m == null) return null;
+        long[] deliveries = longArray(list(m, "deliveries"));
+        long[] ballIds = longArray(list(m, "ballIds"));
+        if (deliveries == null || ballIds == null) return null;
+        try {
+            return PackedInnings.of(string(m, "matchId"), string(m, "inningsId"), intValue(m, "inningsNumber", 0),
+                stringList(m, "ids"), deliveries, ballIds);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long[] longArray(List<?> values) {
+        if (values == null) return null;
+        long[] result = new long[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            Object value = values.get(i);
+            if (!(value instanceof Number)) return null;
+            result[i] = ((Number) value).longValue();
+        }
+        return result;
+    }
+
+    private static List<Over> decodeOvers(List<?> values) {
+        List<Over> overs = new ArrayList<>(values != null ? values.size() : 0);
+        if (values == null) return overs;
+        for (Object value : values) {
+            Map<String, Object> m = map(value);
+            if (m == null) continue;
+            Over over = decodeOver(m);
+            over.setBalls(decodeBalls(list(m, "balls")));
+            overs.add(over);
+        }
+        return overs;
+    }
+
+    private static Over decodeOver(Map<String, Object> m) {
+        Over over = new Over();
+        over.setOverId(string(m, "overId"));
+        over.setInningsId(string(m, "inningsId"));
+        over.setOverNumber(intValue(m, "overNumber", 0));
+        over.setBowlerId(string(m, "bowlerId"));
+        over.setRunsInOver(intValue(m, "runsInOver", 0));
+        over.setWicketsInOver(intValue(m, "wicketsInOver", 0));
+        over.setCompleted(bool(m, "completed", false));
+        over.setBalls(new ArrayList<>());
+        return over;
+    }
+
+    private static List<Ball> decodeBalls(List<?> values) {
+        List<Ball> balls = new ArrayList<>(values != null ? values.size() : 0);
+        if (values == null) return balls;
+        for (Object value : values) {
+            Map<String, Object> m = map(value);
+            if (m == null) continue;
+            Ball ball = new Ball();
+            ball.setBallId(string(m, "ballId"));
+            ball.setMatchId(string(m, "matchId"));
+            ball.setInningsId(string(m, "inningsId"));
+            ball.setOverId(string(m, "overId"));
+            ball.setInningsNumber(intValue(m, "inningsNumber", 0));
+            ball.setOverNumber(intValue(m, "overNumber", 0));
+            ball.setBallNumber(intValue(m, "ballNumber", 0));
+            ball.setBatsmanId(string(m, "batsmanId"));
+            ball.setBowlerId(string(m, "bowlerId"));
+            ball.setRunsScored(intValue(m, "runsScored", 0));
+            ball.setWicket(bool(m, "wicket", "isWicket", false));
+            ball.setBoundary(bool(m, "boundary", "isBoundary", false));
+            ball.setExtrasType(string(m, "extrasType"));
+            ball.setWicketType(string(m, "wicketType"));
+            balls.add(ball);
+        }
+        return balls;
+    }
+
+    private List<CricketEvent> decodeEvents(List<?> values) {
+        List<CricketEvent> events = new ArrayList<>(values != null ? values.size() : 0);
+        if (values == null) return events;
+        for (Object value : values) {
+            Map<String, Object> m = map(value);
+            if (m == null) continue;
+            CricketEvent event = new CricketEvent();
+            decodeEventFields(event, m);
+            event.setOverNumber(intValue(m, "overNumber", 0));
+            event.setBallNumber(intValue(m, "ballNumber", 0));
+            event.setBatsmanStrikerId(string(m, "batsmanStrikerId"));
+            event.setBatsmanNonStrikerId(string(m, "batsmanNonStrikerId"));
+            event.setBowlerId(string(m, "bowlerId"));
+            event.setRunsScoredBat(intValue(m, "runsScoredBat", 0));
+            event.setRunsScoredExtras(intValue(m, "runsScoredExtras", 0));
+            event.setTotalRuns(intValue(m, "totalRuns", 0));
+            event.setWicket(bool(m, "wicket", false));
+            event.setLegalDelivery(bool(m, "legalDelivery", false));
+            event.setExtrasType(string(m, "extrasType"));
+            event.setBoundary(bool(m, "boundary", false));
+            event.setBoundaryType(intValue(m, "boundaryType", 0));
+            event.setFreeHit(bool(m, "freeHit", false));
+            event.setBallOutcome(string(m, "ballOutcome"));
+
+            Map<String, Object> wicketMap = map(m, "wicketDetail");
+            if (wicketMap != null) {
+                CricketWicketDetail wicket = new CricketWicketDetail();
+                String wicketDetailId = string(wicketMap, "wicketDetailId");
+                if (wicketDetailId != null) wicket.setWicketDetailId(wicketDetailId);
+                wicket.setEventId(string(wicketMap, "eventId"));
+                wicket.setDismissedBatsmanId(string(wicketMap, "dismissedBatsmanId"));
+                wicket.setBowlerId(string(wicketMap, "bowlerId"));
+                wicket.setFielderId(string(wicketMap, "fielderId"));
+                wicket.setWicketType(string(wicketMap, "wicketType"));
+                wicket.setWicketDescription(string(wicketMap, "wicketDescription"));
+                wicket.setTeamScoreAtWicket(intValue(wicketMap, "teamScoreAtWicket", 0));
+                wicket.setTeamWicketsFallen(intValue(wicketMap, "teamWicketsFallen", 0));
+                event.setWicketDetail(wicket);
+            }
+
+            Map<String, Object> extrasMap = map(m, "extrasDetail");
+            if (extrasMap != null) {
+                CricketExtrasDetail extras = new CricketExtrasDetail();
+                String extrasDetailId = string(extrasMap, "extrasDetailId");
+                if (extrasDetailId != null) extras.setExtrasDetailId(extrasDetailId);
+                extras.setEventId(string(extrasMap, "eventId"));
+                extras.setExtrasCategory(string(extrasMap, "extrasCategory"));
+                extras.setExtrasRuns(intValue(extrasMap, "extrasRuns", 0));
+                extras.setRunsAlsoScored(bool(extrasMap, "runsAlsoScored", false));
+                event.setExtrasDetail(extras);
+            }
+            events.add(event);
+        }
+        return events;
+    }
+
+    private static Map<String, BatsmanStats> decodeBatsmanStats(Map<String, Object> data) {
+        Map<String, BatsmanStats> statsMap = new HashMap<>();
+        if (data == null) return statsMap;
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            Map<String, Object> m = map(entry.getValue());
+            if (m == null) continue;
+            String playerName = string(m, "playerName");
+            BatsmanStats stats = new BatsmanStats(entry.getKey(), playerName != null ? playerName : "");
+            stats.setRunsScored(intValue(m, "runsScored", 0));
+            stats.setBallsFaced(intValue(m, "ballsFaced", 0));
+            stats.setFours(intValue(m, "fours", 0));
+            stats.setSixes(intValue(m, "sixes", 0));
+            stats.setOut(bool(m, "out", false));
+            stats.setDismissalType(string(m, "dismissalType"));
+            statsMap.put(entry.getKey(), stats);
+        }
+        return statsMap;
+    }
+
+    private static Map<String, BowlerStats> decodeBowlerStats(Map<String, Object> data) {
+        Map<String, BowlerStats> statsMap = new HashMap<>();
+        if (data == null) return statsMap;
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            Map<String, Object> m = map(entry.getValue());
+            if (m == null) continue;
+            String playerName = string(m, "playerName");
+            BowlerStats stats = new BowlerStats(entry.getKey(), playerName != null ? playerName : "");
+            stats.setBallsBowled(intValue(m, "ballsBowled", 0));
+            stats.setRunsConceded(intValue(m, "runsConceded", 0));
+            stats.setWicketsTaken(intValue(m, "wicketsTaken", 0));
+            stats.setWides(intValue(m, "wides", 0));
+            stats.setNoBalls(intValue(m, "noBalls", 0));
+            stats.setMaidenOvers(intValue(m, "maidenOvers", 0));
+            statsMap.put(entry.getKey(), stats);
+        }
+        return statsMap;
+    }
+
+    // --- ENCODE ---
+
+    @Override
+    protected void encodeSportFields(CricketMatch match, Map<String, Object> out) {
+        put(out, "tossWinner", match.getTossWinner());
+        put(out, "tossDecision", match.getTossDecision());
+        out.put("teams", encodeTeams(match.getTeams()));
+        out.put(CricketMatch.FIELD_INNINGS, encodeValue(match.getInnings() != null ? match.getInnings() : new ArrayList<>()));
+        out.put(CricketMatch.FIELD_CRICKET_EVENTS, encodeValue(match.getCricketEvents() != null ? match.getCricketEvents() : new ArrayList<>()));
+        out.put(CricketMatch.FIELD_CURRENT_OVERS, encodeCurrentOvers(match.getCurrentOvers() != null ? match.getCurrentOvers() : new ArrayList<>()));
+        out.put("currentInningsNumber", match.getCurrentInningsNumber());
+        out.put("targetScore", match.getTargetScore());
+        put(out, "currentStrikerId", match.getCurrentStrikerId());
+        put(out, "currentNonStrikerId", match.getCurrentNonStrikerId());
+        put(out, "currentBowlerId", match.getCurrentBowlerId());
+        out.put("battingOrderQueue", new ArrayList<>(match.getBattingOrderQueue()));
+        out.put("bowlingOrderQueue", new ArrayList<>(match.getBowlingOrderQueue()));
+        out.put(CricketMatch.FIELD_BATSMAN_STATS, encodeValue(match.getBatsmanStatsMap()));
+        out.put(CricketMatch.FIELD_BOWLER_STATS, encodeValue(match.getBowlerStatsMap()));
+        if (match.getMatchResult() != null) {
+            out.put("matchResult", encodeResult(match.getMatchResult()));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object encodeField(String field, Object value) {
+        if (CricketMatch.FIELD_CURRENT_OVERS.equals(field) && value instanceof List) {
+            // Only ever tracked with the match's List<Over>
+            return encodeCurrentOvers((List<Over>) value);
+        }
+        return super.encodeField(field, value);
+    }
+
+    @Override
+    protected Map<String, Object> encodeConfig(MatchConfig config) {
+        if (!(config instanceof CricketMatchConfig)) return null;
+        CricketMatchConfig cricketConfig = (CricketMatchConfig) config;
+        Map<String, Object> out = new HashMap<>();
+        out.put("numberOfOvers", cricketConfig.getNumberOfOvers());
+        out.put("wideOn", cricketConfig.isWideOn());
+        out.put("numberOfBouncersInOneOver", cricketConfig.getNumberOfBouncersInOneOver());
+        put(out, "formatType", cricketConfig.getFormatType());
+        out.put("playersPerSide", cricketConfig.getPlayersPerSide());
+        out.put("lastManStanding", cricketConfig.isLastManStanding());
+        return out;
+    }
+
+    @Override
+    protected Object encodeSportValue(Object value) {
+        if (value instanceof Innings) return encodeInnings((Innings) value);
+        if (value instanceof Over) return encodeOver((Over) value);
+        if (value instanceof Ball) return encodeBall((Ball) value);
+        if (value instanceof CricketEvent) return encodeEvent((CricketEvent) value);
+        if (value instanceof BatsmanStats) return encodeBatsmanStats((BatsmanStats) value);
+        if (value instanceof BowlerStats) return encodeBowlerStats((BowlerStats) value);
+        return null;
+    }
+
+    private static Map<String, Object> encodeInnings(Innings inning) {
+        Map<String, Object> out = new HashMap<>();
+        put(out, "inningsId", inning.getInningsId());
+        put(out, "matchId", inning.getMatchId());
+        out.put("inningsNumber", inning.getInningsNumber());
+        put(out, "battingTeamId", inning.getBattingTeamId());
+        put(out, "bowlingTeamId", inning.getBowlingTeamId());
+        out.put("totalRuns", inning.getTotalRuns());
+        out.put("wicketsFallen", inning.getWicketsFallen());
+        out.put("oversCompleted", inning.getOversCompleted());
+        out.put("completed", inning.isCompleted());
+        out.put("byes", inning.getByes());
+        out.put("legByes", inning.getLegByes());
+        out.put("wides", inning.getWides());
+        out.put("noBalls", inning.getNoBalls());
+        return out;
+    }
+
+    /**
+     * Writes the current overs with their balls packed, or as the plain list when a
+     * ball cannot be packed losslessly.
+     */
+    private Object encodeCurrentOvers(List<Over> overs) {
+        List<Object> overMaps = new ArrayList<>(overs.size());
+        PackedInnings packed = null;
+        try {
+            for (Over over : overs) {
+                Map<String, Object> out = encodeOverFields(over);
+                List<Ball> balls = over.getBalls() != null ? over.getBalls() : new ArrayList<>();
+                for (Ball ball : balls) {
+                    if (packed == null) {
+                        packed = new PackedInnings(ball.getMatchId(), ball.getInningsId(), ball.getInningsNumber());
+                    }
+                    packed.add(ball);
+                }
+                out.put("packedBalls", balls.size());
+                overMaps.add(out);
+            }
+        } catch (IllegalArgumentException e) {
+            return encodeValue(overs);
+        }
+        Map<String, Object> out = new HashMap<>();
+        out.put("overs", overMaps);
+        if (packed != null) {
+            out.put("balls", encodePacked(packed));
+        }
+        return out;
+    }
+
+    private static Map<String, Object> encodePacked(PackedInnings packed) {
+        Map<String, Object> out = new HashMap<>();
+        put(out, "matchId", packed.getMatchId());
+        put(out, "inningsId", packed.getInningsId());
+        out.put("inningsNumber", packed.getInningsNumber());
+        out.put("ids", new ArrayList<>(packed.getIds()));
+        List<Long> deliveries = new ArrayList<>(packed.size());
+        for (long delivery : packed.getDeliveries()) {
+            deliveries.add(delivery);
+        }
+        out.put("deliveries", deliveries);
+        List<Long> ballIds = new ArrayList<>(packed.size() * 2);
+        for (long bits : packed.getBallIds()) {
+            ballIds.add(bits);
+        }
+        out.put("ballIds", ballIds);
+        return out;
+    }
+
+    private Map<String, Object> encodeOver(Over over) {
+        Map<String, Object> out = encodeOverFields(over);
+        if (over.getBalls() != null) {
+            out.put("balls", encodeValue(over.getBalls()));
+        }
+        return out;
+    }
+
+    private static Map<String, Object> encodeOverFields(Over over) {
+        Map<String, Object> out = new HashMap<>();
+        put(out, "overId", over.getOverId());
+        put(out, "inningsId", over.getInningsId());
+        out.put("overNumber", over.getOverNumber());
+        put(out, "bowlerId", over.getBowlerId());
+        out.put("runsInOver", over.getRunsInOver());
+        out.put("wicketsInOver", over.getWicketsInOver());
+        out.put("completed", over.isCompleted());
+        return out;
+    }
+
+    private static Map<String, Object> encodeBall(Ball ball) {
+        Map<String, Object> out = new HashMap<>();
+        put(out, "ballId", ball.getBallId());
+        put(out, "matchId", ball.getMatchId());
+        put(out, "inningsId", ball.getInningsId());
+        put(out, "overId", ball.getOverId());
+        out.put("inningsNumber", ball.getInningsNumber());
+        out.put("overNumber", ball.getOverNumber());
+        out.put("ballNumber", ball.getBallNumber());
+        put(out, "batsmanId", ball.getBatsmanId());
+        put(out, "bowlerId", ball.getBowlerId());
+        out.put("runsScored", ball.getRunsScored());
+        out.put("wicket", ball.isWicket());
+        out.put("boundary", ball.isBoundary());
+        put(out, "extrasType", ball.getExtrasType());
+        put(out, "wicketType", ball.getWicketType());
+        return out;
+    }
+
+    private static Map<String, Object> encodeEvent(CricketEvent event) {
+        Map<String, Object> out = new HashMap<>();
+        encodeEventFields(event, out);
+        out.put("overNumber", event.getOverNumber());
+        out.put("ballNumber", event.getBallNumber());
+        put(out, "batsmanStrikerId", event.getBatsmanStrikerId());
+        put(out, "batsmanNonStrikerId", event.getBatsmanNonStrikerId());
+        put(out, "bowlerId", event.getBowlerId());
+        out.put("runsScoredBat", event.getRunsScoredBat());
+        out.put("runsScoredExtras", event.getRunsScoredExtras());
+        out.put("totalRuns", event.getTotalRuns());
+        out.put("wicket", event.isWicket());
+        out.put("legalDelivery", event.isLegalDelivery());
+        put(out, "extrasType", event.getExtrasType());
+        out.put("boundary", event.isBoundary());
+        out.put("boundaryType", event.getBoundaryType());
+        out.put("freeHit", event.isFreeHit());
+        put(out, "ballOutcome", event.getBallOutcome());
+
+        CricketWicketDetail wicket = event.getWicketDetail();
+        if (wicket != null) {
+            Map<String, Object> wicketMap = new HashMap<>();
+            put(wicketMap, "wicketDetailId", wicket.getWicketDetailId());
+            put(wicketMap, "eventId", wicket.getEventId());
+            put(wicketMap, "dismissedBatsmanId", wicket.getDismissedBatsmanId());
+            put(wicketMap, "bowlerId", wicket.getBowlerId());
+            put(wicketMap, "fielderId", wicket.getFielderId());
+            put(wicketMap, "wicketType", wicket.getWicketType());
+            put(wicketMap, "wicketDescription", wicket.getWicketDescription());
+            wicketMap.put("teamScoreAtWicket", wicket.getTeamScoreAtWicket());
+            wicketMap.put("teamWicketsFallen", wicket.getTeamWicketsFallen());
+            out.put("wicketDetail", wicketMap);
+        }
+
+        CricketExtrasDetail extras = event.getExtrasDetail();
+        if (extras != null) {
+            Map<String, Object> extrasMap = new HashMap<>();
+            put(extrasMap, "extrasDetailId", extras.getExtrasDetailId());
+            put(extrasMap, "eventId", extras.getEventId());
+            put(extrasMap, "extrasCategory", extras.getExtrasCategory());
+            extrasMap.put("extrasRuns", extras.getExtrasRuns());
+            extrasMap.put("runsAlsoScored", extras.isRunsAlsoScored());
+            out.put("extrasDetail", extrasMap);
+        }
+        return out;
+    }
+
+    private static Map<String, Object> encodeBatsmanStats(BatsmanStats stats) {
+        Map<String, Object> out = new HashMap<>();
+        put(out, "playerId", stats.getPlayerId());
+        put(out, "playerName", stats.getPlayerName());
+        out.put("runsScored", stats.getRunsScored());
+        out.put("ballsFaced", stats.getBallsFaced());
+        out.put("fours", stats.getFours());
+        out.put("sixes", stats.getSixes());
+        out.put("out", stats.isOut());
+        put(out, "dismissalType", stats.getDismissalType());
+        return out;
+    }
+
+    private static Map<String, Object> encodeBowlerStats(BowlerStats stats) {
+        Map<String, Object> out = new HashMap<>();
+        put(out, "playerId", stats.getPlayerId());
+        put(out, "playerName", stats.getPlayerName());
+        out.put("ballsBowled", stats.getBallsBowled());
+        out.put("runsConceded", stats.getRunsConceded());
+        out.put("wicketsTaken", stats.getWicketsTaken());
+        out.put("wides", stats.getWides());
+        out.put("noBalls", stats.getNoBalls());
+        out.put("maidenOvers", stats.getMaidenOvers());
+        return out;
+    }
+}
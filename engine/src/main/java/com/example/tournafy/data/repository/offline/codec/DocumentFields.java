@@ -0,0 +1,102 @@
+package com.example.tournafy.data.repository.offline.codec;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Typed, exception-free accessors for the Map&lt;String, Object&gt; view of a Firestore document.
+ *
+ * Firestore returns integers as Long, decimals as Double and dates as Timestamp
+ * (converted by the dateConverter the app passes in, so this stays plain Java).
+ * Every accessor checks the runtime type and falls back to a default instead of
+ * throwing, so a malformed field never aborts the decode of the whole match.
+ */
+public final class DocumentFields {
+
+    private DocumentFields() {
+    }
+
+    public static String string(Map<String, Object> data, String key) {
+        Object value = data.get(key);
+        return value instanceof String ? (String) value : null;
+    }
+
+    public static int intValue(Map<String, Object> data, String key, int defaultValue) {
+        Object value = data.get(key);
+        return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+    }
+
+    public static long longValue(Map<String, Object> data, String key, long defaultValue) {
+        Object value = data.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : defaultValue;
+    }
+
+    public static double doubleValue(Map<String, Object> data, String key, double defaultValue) {
+        Object value = data.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : defaultValue;
+    }
+
+    public static boolean bool(Map<String, Object> data, String key, boolean defaultValue) {
+        Object value = data.get(key);
+        return value instanceof Boolean ? (Boolean) value : defaultValue;
+    }
+
+    /**
+     * Reads a boolean stored under either of two names (e.g. "wicket" as written by the
+     * Firestore mapper for isWicket(), or the legacy "isWicket").
+     */
+    public static boolean bool(Map<String, Object> data, String key, String legacyKey, boolean defaultValue) {
+        Object value = data.get(key);
+        if (value instanceof Boolean) return (Boolean) value;
+        return bool(data, legacyKey, defaultValue);
+    }
+
+    /**
+     * Reads a Date, or any other representation the converter understands (null when it
+     * returns null or there is no converter).
+     */
+    public static Date date(Map<String, Object> data, String key, Function<Object, Date> dateConverter) {
+        Object value = data.get(key);
+        if (value instanceof Date) return (Date) value;
+        if (value == null || dateConverter == null) return null;
+        return dateConverter.apply(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> map(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : null;
+    }
+
+    public static Map<String, Object> map(Map<String, Object> data, String key) {
+        return map(data.get(key));
+    }
+
+    public static List<?> list(Map<String, Object> data, String key) {
+        Object value = data.get(key);
+        return value instanceof List ? (List<?>) value : null;
+    }
+
+    public static List<String> stringList(Map<String, Object> data, String key) {
+        List<?> values = list(data, key);
+        List<String> result = new ArrayList<>(values != null ? values.size() : 0);
+        if (values != null) {
+            for (Object value : values) {
+                if (value instanceof String) result.add((String) value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Puts the value unless it is null. Absent and null fields decode the same way,
+     * so nulls are not written to keep documents small.
+     */
+    public static void put(Map<String, Object> target, String key, Object value) {
+        if (value != null) {
+            target.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.example.tournafy.data.repository.offline.codec;
+
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.bool;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.doubleValue;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.intValue;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.list;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.longValue;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.map;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.put;
+import static com.example.tournafy.data.repository.offline.codec.DocumentFields.string;
+
+import com.example.tournafy.domain.models.base.MatchConfig;
+import com.example.tournafy.domain.models.match.football.FootballCardDetail;
+import com.example.tournafy.domain.models.match.football.FootballEvent;
+import com.example.tournafy.domain.models.match.football.FootballGoalDetail;
+import com.example.tournafy.domain.models.match.football.FootballMatch;
+import com.example.tournafy.domain.models.match.football.FootballMatchConfig;
+import com.example.tournafy.domain.models.match.football.FootballSaveDetail;
+import com.example.tournafy.domain.models.match.football.FootballShotDetail;
+import com.example.tournafy.domain.models.match.football.FootballSubstitutionDetail;
+import com.example.tournafy.domain.models.sport.SportTypeEnum;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Codec for FootballMatch documents: scores, period/minute, timer state and the
+ * football events with their goal / card / substitution / shot / save details.
+ */
+public class FootballMatchCodec extends AbstractMatchCodec<FootballMatch> {
+
+    /** A codec for documents whose dates are java.util.Date (local copies, tests). */
+    public FootballMatchCodec() {
+        this(null);
+    }
+
+    /**
+     * @param dateConverter Converts the stored dates that are not java.util.Date
+     *                      (the app passes Firestore's Timestamp conversion).
+     */
+    public FootballMatchCodec(Function<Object, Date> dateConverter) {
+        super(dateConverter);
+    }
+
+    @Override
+    public String getSportId() {
+        return SportTypeEnum.FOOTBALL.name();
+    }
+
+    @Override
+    public Class<FootballMatch> getMatchClass() {
+        return FootballMatch.class;
+    }
+
+    @Override
+    protected FootballMatch newMatch() {
+        return new FootballMatch();
+    }
+
+    // --- DECODE ---
+
+    @Override
+    protected void decodeSportFields(FootballMatch match, Map<String, Object> data) {
+        match.setTeams(decodeTeams(data));
+        match.setFootballEvents(decodeEvents(list(data, FootballMatch.FIELD_FOOTBALL_EVENTS)));
+        match.setHomeScore(intValue(data, "homeScore", 0));
+        match.setAwayScore(intValue(data, "awayScore", 0));
+        match.setCurrentMatchMinute(intValue(data, "currentMatchMinute", 0));
+        String matchPeriod = string(data, "matchPeriod");
+        if (matchPeriod != null) match.setMatchPeriod(matchPeriod);
+        match.setElapsedTimeMillis(longValue(data, "elapsedTimeMillis", 0L));
+        match.setTimerRunning(bool(data, "timerRunning", false));
+        match.setMatchResult(decodeResult(data));
+    }
+
+    @Override
+    protected MatchConfig decodeConfig(Map<String, Object> data) {
+        FootballMatchConfig config = new FootballMatchConfig();
+        config.setMatchDuration(intValue(data, "matchDuration", config.getMatchDuration()));
+        config.setPlayersPerSide(intValue(data, "playersPerSide", config.getPlayersPerSide()));
+        config.setOffsideOn(bool(data, "offsideOn", config.isOffsideOn()));
+        return config;
+    }
+
+    private List<FootballEvent> decodeEvents(List<?> values) {
+        List<FootballEvent> events = new ArrayList<>(values != null ? values.size() : 0);
+        if (values == null) return events;
+        for (Object value : values) {
+            Map<String, Object> m = map(value);
+            if (m == null) continue;
+            FootballEvent event = new FootballEvent();
+            decodeEventFields(event, m);
+            event.setEventCategory(string(m, "eventCategory"));
+            event.setMatchMinute(intValue(m, "matchMinute", 0));
+            event.setAddedTimeMinute(intValue(m, "addedTimeMinute", 0));
+            event.setMatchPeriod(string(m, "matchPeriod"));
+            event.setHomeScoreAtEvent(intValue(m, "homeScoreAtEvent", 0));
+            event.setAwayScoreAtEvent(intValue(m, "awayScoreAtEvent", 0));
+            event.setLocationOnPitch(string(m, "locationOnPitch"));
+
+            Map<String, Object> goalMap = map(m, "goalDetail");
+            if (goalMap != null) {
+                FootballGoalDetail goal = new FootballGoalDetail();
+                String goalDetailId = string(goalMap, "goalDetailId");
+                if (goalDetailId != null) goal.setGoalDetailId(goalDetailId);
+                goal.setEventId(string(goalMap, "eventId"));
+                goal.setScorerId(string(goalMap, "scorerId"));
+                goal.setAssistPlayerId(string(goalMap, "assistPlayerId"));
+                goal.setGoalType(string(goalMap, "goalType"));
+                goal.setBodyPart(string(goalMap, "bodyPart"));
+                goal.setPenalty(bool(goalMap, "penalty", false));
+                goal.setOwnGoal(bool(goalMap, "ownGoal", false));
+                goal.setMinuteScored(intValue(goalMap, "minuteScored", 0));
+                goal.setGoalDescription(string(goalMap, "goalDescription"));
+                event.setGoalDetail(goal);
+            }
+
+            Map<String, Object> cardMap = map(m, "cardDetail");
+            if (cardMap != null) {
+                FootballCardDetail card = new FootballCardDetail();
+                String cardDetailId = string(cardMap, "cardDetailId");
+                if (cardDetailId != null) card.setCardDetailId(cardDetailId);
+                card.setEventId(string(cardMap, "eventId"));
+                card.setPlayerId(string(cardMap, "playerId"));
+                card.setCardType(string(cardMap, "cardType"));
+                card.setCardReason(string(cardMap, "cardReason"));
+                card.setSecondYellow(bool(cardMap, "secondYellow", false));
+                card.setMinuteIssued(intValue(cardMap, "minuteIssued", 0));
+                card.setCardDescription(string(cardMap, "cardDescription"));
+                event.setCardDetail(card);
+            }
+
+            Map<String, Object> subMap = map(m, "substitutionDetail");
+            if (subMap != null) {
+                FootballSubstitutionDetail sub = new FootballSubstitutionDetail();
+                String substitutionDetailId = string(subMap, "substitutionDetailId");
+                if (substitutionDetailId != null) sub.setSubstitutionDetailId(substitutionDetailId);
+                sub.setEventId(string(subMap, "eventId"));
+                sub.setPlayerOutId(string(subMap, "playerOutId"));
+                sub.setPlayerInId(string(subMap, "playerInId"));
+                sub.setTeamId(string(subMap, "teamId"));
+                sub.setMinuteSubstituted(intValue(subMap, "minuteSubstituted", 0));
+                sub.setSubstitutionReason(string(subMap, "substitutionReason"));
+                sub.setSubstitutionNumber(intValue(subMap, "substitutionNumber", 0));
+                event.setSubstitutionDetail(sub);
+            }
+
+            Map<String, Object> shotMap = map(m, "shotDetail");
+            if (shotMap != null) {
+                FootballShotDetail shot = new FootballShotDetail();
+                String shotDetailId = string(shotMap, "shotDetailId");
+                if (shotDetailId != null) shot.setShotDetailId(shotDetailId);
+                shot.setEventId(string(shotMap, "eventId"));
+                shot.setPlayerId(string(shotMap, "playerId"));
+                shot.setShotType(string(shotMap, "shotType"));
+                shot.setShotMethod(string(shotMap, "shotMethod"));
+                shot.setBigChance(bool(shotMap, "bigChance", false));
+                shot.setXGValue(doubleValue(shotMap, "xgvalue", 0d));
+                event.setShotDetail(shot);
+            }
+
+            Map<String, Object> saveMap = map(m, "saveDetail");
+            if (saveMap != null) {
+                FootballSaveDetail save = new FootballSaveDetail();
+                String saveDetailId = string(saveMap, "saveDetailId");
+                if (saveDetailId != null) save.setSaveDetailId(saveDetailId);
+                save.setEventId(string(saveMap, "eventId"));
+                save.setGoalkeeperId(string(saveMap, "goalkeeperId"));
+                save.setSaveType(string(saveMap, "saveType"));
+                save.setSpectacular(bool(saveMap, "spectacular", false));
+                save.setShotOriginPlayerId(string(saveMap, "shotOriginPlayerId"));
+                event.setSaveDetail(save);
+            }
+            events.add(event);
+        }
+        return events;
+    }
+
+    // --- ENCODE ---
+
+    @Override
+    protected void encodeSportFields(FootballMatch match, Map<String, Object> out) {
+        out.put("teams", encodeTeams(match.getTeams()));
+        out.put(FootballMatch.FIELD_FOOTBALL_EVENTS, encodeValue(match.getFootballEvents() != null ? match.getFootballEvents() : new ArrayList<>()));
+        out.put("homeScore", match.getHomeScore());
+        out.put("awayScore", match.getAwayScore());
+        out.put("currentMatchMinute", match.getCurrentMatchMinute());
+        put(out, "matchPeriod", match.getMatchPeriod());
+        out.put("elapsedTimeMillis", match.getElapsedTimeMillis());
+        out.put("timerRunning", match.isTimerRunning());
+        if (match.getMatchResult() != null) {
+            out.put("matchResult", encodeResult(match.getMatchResult()));
+        }
+    }
+
+    @Override
+    protected Map<String, Object> encodeConfig(MatchConfig config) {
+        if (!(config instanceof FootballMatchConfig)) return null;
+        FootballMatchConfig footballConfig = (FootballMatchConfig) config;
+        Map<String, Object> out = new HashMap<>();
+        out.put("matchDuration", footballConfig.getMatchDuration());
+        out.put("playersPerSide", footballConfig.getPlayersPerSide());
+        out.put("offsideOn", footballConfig.isOffsideOn());
+        return out;
+    }
+
+    @Override
+    protected Object encodeSportValue(Object value) {
+        if (value instanceof FootballEvent) return encodeEvent((FootballEvent) value);
+        return null;
+    }
+
+    private static Map<String, Object> encodeEvent(FootballEvent event) {
+        Map<String, Object> out = new HashMap<>();
+        encodeEventFields(event, out);
+        put(out, "eventCategory", event.getEventCategory());
+        out.put("matchMinute", event.getMatchMinute());
+        out.put("addedTimeMinute", event.getAddedTimeMinute());
+        put(out, "matchPeriod", event.getMatchPeriod());
+        out.put("homeScoreAtEvent", event.getHomeScoreAtEvent());
+        out.put("awayScoreAtEvent", event.getAwayScoreAtEvent());
+        put(out, "locationOnPitch", event.getLocationOnPitch());
+
+        FootballGoalDetail goal = event.getGoalDetail();
+        if (goal != null) {
+            Map<String, Object> goalMap = new HashMap<>();
+            put(goalMap, "goalDetailId", goal.getGoalDetailId());
+            put(goalMap, "eventId", goal.getEventId());
+            put(goalMap, "scorerId", goal.getScorerId());
+            put(goalMap, "assistPlayerId", goal.getAssistPlayerId());
+            put(goalMap, "goalType", goal.getGoalType());
+            put(goalMap, "bodyPart", goal.getBodyPart());
+            goalMap.put("penalty", goal.isPenalty());
+            goalMap.put("ownGoal", goal.isOwnGoal());
+            goalMap.put("minuteScored", goal.getMinuteScored());
+            put(goalMap, "goalDescription", goal.getGoalDescription());
+            out.put("goalDetail", goalMap);
+        }
+
+        FootballCardDetail card = event.getCardDetail();
+        if (card != null) {
+            Map<String, Object> cardMap = new HashMap<>();
+            put(cardMap, "cardDetailId", card.getCardDetailId());
+            put(cardMap, "eventId", card.getEventId());
+            put(cardMap, "playerId", card.getPlayerId());
+            put(cardMap, "cardType", card.getCardType());
+            put(cardMap, "cardReason", card.getCardReason());
+            cardMap.put("secondYellow", card.isSecondYellow());
+            cardMap.put("minuteIssued", card.getMinuteIssued());
+            put(cardMap, "cardDescription", card.getCardDescription());
+            out.put("cardDetail", cardMap);
+        }
+
+        FootballSubstitutionDetail sub = event.getSubstitutionDetail();
+        if (sub != null) {
+            Map<String, Object> subMap = new HashMap<>();
+            put(subMap, "substitutionDetailId", sub.getSubstitutionDetailId());
+            put(subMap, "eventId", sub.getEventId());
+            put(subMap, "playerOutId", sub.getPlayerOutId());
+            put(subMap, "playerInId", sub.getPlayerInId());
+            put(subMap, "teamId", sub.getTeamId());
+            subMap.put("minuteSubstituted", sub.getMinuteSubstituted());
+            put(subMap, "substitutionReason", sub.getSubstitutionReason());
+            subMap.put("substitutionNumber", sub.getSubstitutionNumber());
+            out.put("substitutionDetail", subMap);
+        }
+
+        FootballShotDetail shot = event.getShotDetail();
+        if (shot != null) {
+            Map<String, Object> shotMap = new HashMap<>();
+            put(shotMap, "shotDetailId", shot.getShotDetailId());
+            put(shotMap, "eventId", shot.getEventId());
+            put(shotMap, "playerId", shot.getPlayerId());
+            put(shotMap, "shotType", shot.getShotType());
+            put(shotMap, "shotMethod", shot.getShotMethod());
+            shotMap.put("bigChance", shot.isBigChance());
+            shotMap.put("xgvalue", shot.getXGValue());
+            out.put("shotDetail", shotMap);
+        }
+
+        FootballSaveDetail save = event.getSaveDetail();
+        if (save != null) {
+            Map<String, Object> saveMap = new HashMap<>();
+            put(saveMap, "saveDetailId", save.getSaveDetailId());
+            put(saveMap, "eventId", save.getEventId());
+            put(saveMap, "goalkeeperId", save.getGoalkeeperId());
+            put(saveMap, "saveType", save.getSaveType());
+            saveMap.put("spectacular", save.isSpectacular());
+            put(saveMap, "shotOriginPlayerId", save.getShotOriginPlayerId());
+            out.put("saveDetail", saveMap);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.tournafy.data.repository.offline.codec;
+
+import com.example.tournafy.domain.models.base.Match;
+
+import java.util.Map;
+
+/**
+ * Hand-written mapping between one concrete Match class and its Firestore document.
+ * Replaces the reflective snapshot.toObject() path, which cannot instantiate the
+ * abstract MatchConfig and always fails before falling back to manual parsing.
+ *
+ * @param <M> The concrete match type (CricketMatch, FootballMatch).
+ */
+public interface MatchCodec<M extends Match> {
+
+    /**
+     * @return The sportId value (SportTypeEnum name) of the documents this codec handles.
+     */
+    String getSportId();
+
+    /**
+     * @return The concrete class produced by decode().
+     */
+    Class<M> getMatchClass();
+
+    /**
+     * Builds the match, including its sport-specific MatchConfig, in a single pass.
+     * Malformed fields are skipped; this method does not throw for bad data.
+     *
+     * @param data The document data (DocumentSnapshot.getData()).
+     * @return The decoded match.
+     */
+    M decode(Map<String, Object> data);
+
+    /**
+     * Produces the document written for the match. Only persisted state is written;
+     * derived getters (run rates, current innings, ...) are not.
+     *
+     * @param match The match to encode.
+     * @return The document data.
+     */
+    Map<String, Object> encode(M match);
+
+    /**
+     * Encodes a value nested in the match document (innings list, a stats entry,
+     * an event...) exactly as encode() writes it, so field-level updates and
+     * arrayUnion / arrayRemove produce the same shape as full writes.
+     * Values of unknown types are returned unchanged.
+     *
+     * @param value The value held in a MatchDelta.
+     * @return The encoded value.
+     */
+    Object encodeValue(Object value);
+
+    /**
+     * Encodes the value of a top-level field exactly as encode() writes it. Differs from
+     * encodeValue() for fields whose stored shape is not that of their elements
+     * (e.g. the packed current overs of a cricket match).
+     *
+     * @param field The field name, as recorded in a MatchDelta.
+     * @param value The field value.
+     * @return The encoded value.
+     */
+    Object encodeField(String field, Object value);
+}
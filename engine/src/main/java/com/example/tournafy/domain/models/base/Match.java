@@ -0,0 +1,344 @@
+package com.example.tournafy.domain.models.base;
+
+import com.example.tournafy.domain.models.match.LiveTicker;
+import com.example.tournafy.domain.models.match.MatchLogEntry;
+import com.example.tournafy.domain.models.match.MatchSummary;
+import com.example.tournafy.domain.models.sync.HybridLogicalClock;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Abstract class for a Match.
+ * UPDATED to include common statistic methods required by MatchViewModel.
+ */
+public abstract class Match extends HostedEntity {
+
+    protected String sportId;
+    protected String matchFormat;
+    protected MatchConfig matchConfig;
+    protected Date matchDate;
+    protected String venue;
+    protected String winnerTeamId;
+    
+    protected String tournamentId;
+    protected String seriesId;
+
+    // Sequence number of the last scoring-log entry reflected in this state
+    protected long lastAppliedSeq;
+
+    // Field-level changes since the last save (no getter, so never persisted)
+    private transient MatchDelta pendingDelta;
+
+    // --- SYNC MERGE METADATA (see FieldMergeSyncStrategy) ---
+
+    public static final String FIELD_CLOCKS = "fieldClocks";
+    public static final String FIELD_REMOVED_IDS = "removedIds";
+
+    // Hybrid-logical-clock stamp of the last local change per field group
+    protected Map<String, String> fieldClocks = new HashMap<>();
+    // Ids of balls / events removed by undo, so a merge does not bring them back
+    protected List<String> removedIds = new ArrayList<>();
+    // Stamps changes only while attached (the live match of the host); loaded copies are never stamped
+    private transient HybridLogicalClock clock;
+
+    public Match() {
+        super();
+        this.entityType = "MATCH";
+    }
+
+    // --- CORE ABSTRACT METHODS ---
+    public abstract void startMatch();
+    public abstract void endMatch();
+    public abstract void addEvent(MatchEvent event);
+    public abstract boolean canStartMatch();
+
+    // --- COMMAND PATTERN SUPPORT METHODS ---
+    public abstract void addMatchEvent(MatchEvent event);
+    public abstract void removeMatchEvent(MatchEvent event);
+    public abstract void setHomeScore(int score);
+    public abstract void setAwayScore(int score);
+    public abstract String getHomeTeamId();
+    public abstract void performSubstitution(String playerOutId, String playerInId);
+
+    // --- EVENT LOG SUPPORT ---
+
+    /**
+     * Applies an event read from the scoring log on top of a loaded snapshot.
+     * Must produce the same state the live scoring flow produced for that event.
+     */
+    public abstract void replayEvent(MatchEvent event);
+
+    /**
+     * Records on a new log entry the ids of what the last applied event created, so
+     * replayEntry() can reuse them. Sports whose events create nothing keep this no-op.
+     */
+    public void describeLastEvent(MatchLogEntry entry) {
+    }
+
+    /**
+     * Replays a log entry: its event, with the ids the entry recorded.
+     */
+    public void replayEntry(MatchLogEntry entry) {
+        replayEvent(entry.getEvent());
+    }
+
+    // --- NEW: ABSTRACT STATISTIC/HELPER METHODS (Required by ViewModel) ---
+    
+    /**
+     * Gets the required run rate for the chasing team (Cricket only).
+     * Returns 0.0f for non-cricket matches.
+     */
+    public abstract float getRequiredRunRate();
+    
+    /**
+     * Gets the number of balls remaining in the current innings (Cricket only).
+     * Returns 0 for non-cricket matches.
+     */
+    public abstract int getRemainingBalls();
+    
+    /**
+     * Gets the total number of extras conceded by the bowling side (Cricket only).
+     * Returns 0 for non-cricket matches.
+     */
+    public abstract int getExtrasCount();
+    
+    // --- Getters and Setters (Omitted for brevity) ---
+    // ...
+    public String getSportId() { return sportId; }
+    public void setSportId(String sportId) { this.sportId = sportId; }
+    public String getMatchFormat() { return matchFormat; }
+    public void setMatchFormat(String matchFormat) { this.matchFormat = matchFormat; }
+    public MatchConfig getMatchConfig() { return matchConfig; }
+    public void setMatchConfig(MatchConfig matchConfig) { this.matchConfig = matchConfig; }
+    public Date getMatchDate() { return matchDate; }
+    public void setMatchDate(Date matchDate) { this.matchDate = matchDate; }
+    public String getVenue() { return venue; }
+    public void setVenue(String venue) { this.venue = venue; }
+    public String getWinnerTeamId() { return winnerTeamId; }
+    public void setWinnerTeamId(String winnerTeamId) {
+        this.winnerTeamId = winnerTeamId;
+        trackSet("winnerTeamId", winnerTeamId);
+    }
+    
+    public String getMatchStatus() { return this.status; }
+    public void setMatchStatus(String matchStatus) {
+        this.status = matchStatus;
+        trackSet("status", matchStatus);
+        trackSet("matchStatus", matchStatus);
+    }
+
+    public String getTournamentId() { return tournamentId; }
+    public void setTournamentId(String tournamentId) { this.tournamentId = tournamentId; }
+    public String getSeriesId() { return seriesId; }
+    public void setSeriesId(String seriesId) { this.seriesId = seriesId; }
+
+    public Map<String, String> getFieldClocks() { return fieldClocks; }
+    public void setFieldClocks(Map<String, String> fieldClocks) {
+        this.fieldClocks = fieldClocks != null ? fieldClocks : new HashMap<>();
+    }
+
+    public List<String> getRemovedIds() { return removedIds; }
+    public void setRemovedIds(List<String> removedIds) {
+        this.removedIds = removedIds != null ? removedIds : new ArrayList<>();
+    }
+
+    public long getLastAppliedSeq() { return lastAppliedSeq; }
+    public void setLastAppliedSeq(long lastAppliedSeq) {
+        this.lastAppliedSeq = lastAppliedSeq;
+        trackSet("lastAppliedSeq", lastAppliedSeq);
+    }
+
+    /**
+     * Reserves the next scoring-log sequence number. The caller is expected to
+     * have applied the event to this match already.
+     */
+    public long nextLogSeq() {
+        setLastAppliedSeq(lastAppliedSeq + 1);
+        return lastAppliedSeq;
+    }
+
+    // --- LIST PROJECTION ---
+
+    /**
+     * Builds the list-card projection of this match (see MatchSummary).
+     * Subclasses add teams and score lines in populateSummary().
+     */
+    public MatchSummary toSummary() {
+        MatchSummary summary = new MatchSummary();
+        summary.setEntityId(entityId);
+        summary.setName(name);
+        summary.setHostUserId(hostUserId);
+        summary.setOnline(isOnline);
+        summary.setCreatedAt(createdAt);
+        summary.setStatus(status);
+        summary.setVisibilityLink(visibilityLink);
+        summary.setSportId(sportId);
+        summary.setMatchFormat(matchFormat);
+        summary.setMatchDate(matchDate);
+        summary.setVenue(venue);
+        summary.setTournamentId(tournamentId);
+        summary.setSeriesId(seriesId);
+        summary.setWinnerTeamId(winnerTeamId);
+        summary.setConfigured(matchConfig != null);
+        populateSummary(summary);
+        return summary;
+    }
+
+    /**
+     * Fills the sport-specific fields of the summary (teams and score lines).
+     */
+    protected void populateSummary(MatchSummary summary) {
+    }
+
+    // --- VIEWER PROJECTION ---
+
+    /**
+     * Builds the live-ticker projection of this match (see LiveTicker).
+     * Subclasses add teams, score and sport-specific fields in populateLiveTicker().
+     */
+    public LiveTicker toLiveTicker() {
+        LiveTicker ticker = new LiveTicker();
+        ticker.setMatchId(entityId);
+        ticker.setSportId(sportId);
+        ticker.setMatchStatus(getMatchStatus());
+        populateLiveTicker(ticker);
+        return ticker;
+    }
+
+    /**
+     * Fills the sport-specific fields of the live ticker.
+     */
+    protected void populateLiveTicker(LiveTicker ticker) {
+    }
+
+    // --- CHANGE TRACKING (field-level delta writes) ---
+
+    /**
+     * Records that a document field now holds the given value.
+     */
+    protected void trackSet(String path, Object value) {
+        pendingChanges().set(path, value);
+        stamp(path);
+    }
+
+    /**
+     * Records a numeric change of a counter field.
+     */
+    protected void trackIncrement(String path, long by) {
+        pendingChanges().increment(path, by);
+        stamp(path);
+    }
+
+    /**
+     * Records an element appended to an array field.
+     */
+    protected void trackAppend(String path, Object value) {
+        pendingChanges().append(path, value);
+        stamp(path);
+    }
+
+    /**
+     * Records an element removed from an array field.
+     */
+    protected void trackRemove(String path, Object value) {
+        pendingChanges().remove(path, value);
+        stamp(path);
+    }
+
+    /**
+     * Records that a ball or event was removed (undo), so the sync merge treats it as
+     * deleted instead of re-adding it from another copy of the match.
+     */
+    public void recordRemoval(String id) {
+        if (id == null || removedIds.contains(id)) return;
+        removedIds.add(id);
+        trackAppend(FIELD_REMOVED_IDS, id);
+    }
+
+    // --- SYNC CLOCK ---
+
+    /**
+     * Starts stamping the field groups this match changes with the given clock.
+     * Called by the sync service for the host's live match.
+     */
+    public void attachClock(HybridLogicalClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Maps a tracked field path to its merge group: the top-level field, or
+     * "field:key" for an entry of a stats map ("batsmanStatsMap.p1" -> "batsmanStatsMap:p1").
+     * The status fields form one group.
+     */
+    public static String fieldGroup(String path) {
+        if ("matchStatus".equals(path)) return "status";
+        int dot = path.indexOf('.');
+        if (dot < 0) return path;
+        int next = path.indexOf('.', dot + 1);
+        return path.substring(0, dot) + ":" + path.substring(dot + 1, next < 0 ? path.length() : next);
+    }
+
+    private void stamp(String path) {
+        if (clock == null || path.startsWith(FIELD_CLOCKS) || FIELD_REMOVED_IDS.equals(path)) return;
+        String group = fieldGroup(path);
+        String stamp = clock.now();
+        fieldClocks.put(group, stamp);
+        pendingChanges().set(FIELD_CLOCKS + "." + group, stamp);
+    }
+
+    /**
+     * Forces the next save to write the whole document.
+     */
+    public void requireFullWrite() {
+        pendingChanges().requireFullWrite();
+    }
+
+    public boolean hasPendingChanges() {
+        return pendingDelta != null && !pendingDelta.isEmpty();
+    }
+
+    /**
+     * Returns the changes recorded since the last call and starts a new delta.
+     * Never returns null.
+     */
+    public MatchDelta drainPendingChanges() {
+        MatchDelta delta = pendingDelta != null ? pendingDelta : new MatchDelta();
+        pendingDelta = null;
+        return delta;
+    }
+
+    /**
+     * Discards recorded changes, e.g. after a full write or after deserialization
+     * (which goes through the tracked setters).
+     */
+    public void clearPendingChanges() {
+        pendingDelta = null;
+    }
+
+    private MatchDelta pendingChanges() {
+        if (pendingDelta == null) pendingDelta = new MatchDelta();
+        return pendingDelta;
+    }
+
+    // --- Abstract Builder (Omitted for brevity) ---
+    public static abstract class Builder<T extends Builder<T>> {
+        protected String name;
+        protected String hostUserId;
+        protected String venue;
+        protected Date matchDate;
+
+        public Builder(String name, String hostUserId) {
+            this.name = name;
+            this.hostUserId = hostUserId;
+            this.matchDate = new Date(); 
+        }
+        public T withVenue(String venue) { this.venue = venue; return self(); }
+        public T withMatchDate(Date matchDate) { this.matchDate = matchDate; return self(); }
+        protected abstract T self();
+        public abstract Match build();
+    }
+}
\ No newline at end of file
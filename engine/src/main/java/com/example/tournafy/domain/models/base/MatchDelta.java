@@ -0,0 +1,170 @@
+package com.example.tournafy.domain.models.base;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set of field-level changes recorded on a Match since it was last persisted.
+ *
+ * Paths use the dot-separated field names of the stored match document
+ * (e.g. "currentStrikerId", "batsmanStatsMap.p1"). The repository turns a delta
+ * into a single update() call instead of re-writing the whole document:
+ * - sets       -> plain field values
+ * - increments -> FieldValue.increment
+ * - appends    -> FieldValue.arrayUnion
+ * - removals   -> FieldValue.arrayRemove
+ *
+ * Values are held by reference, so a set path is serialized with the state the
+ * object has when the delta is applied (always the latest state).
+ */
+public class MatchDelta {
+
+    private final Map<String, Object> sets = new LinkedHashMap<>();
+    private final Map<String, Long> increments = new LinkedHashMap<>();
+    private final Map<String, List<Object>> appends = new LinkedHashMap<>();
+    private final Map<String, List<Object>> removals = new LinkedHashMap<>();
+    private boolean fullWriteRequired;
+
+    /**
+     * Records that the field at the given path now holds the given value.
+     * Replaces any pending increment/append/removal on the same path or below it.
+     */
+    public void set(String path, Object value) {
+        if (isCoveredBySet(path)) {
+            // An ancestor is already written as a whole and carries this value by reference
+            return;
+        }
+        dropDescendants(sets, path);
+        dropDescendants(increments, path);
+        dropDescendants(appends, path);
+        dropDescendants(removals, path);
+        sets.put(path, value);
+    }
+
+    /**
+     * Records a numeric change of a counter field (e.g. a score total).
+     */
+    public void increment(String path, long by) {
+        if (by == 0 || isCoveredBySet(path)) return;
+        Long current = increments.get(path);
+        long total = (current != null ? current : 0L) + by;
+        if (total == 0) {
+            increments.remove(path);
+        } else {
+            increments.put(path, total);
+        }
+    }
+
+    /**
+     * Records an element appended to an array field (balls, events).
+     */
+    public void append(String path, Object value) {
+        if (isCoveredBySet(path)) return;
+        // Re-adding something removed in this same delta just cancels the removal
+        if (removeByIdentity(removals, path, value)) return;
+        addTo(appends, path, value);
+        checkArrayConflict(path);
+    }
+
+    /**
+     * Records an element removed from an array field (used by undo).
+     */
+    public void remove(String path, Object value) {
+        if (isCoveredBySet(path)) return;
+        // Removing something appended in this same delta just cancels the append
+        if (removeByIdentity(appends, path, value)) return;
+        addTo(removals, path, value);
+        checkArrayConflict(path);
+    }
+
+    /**
+     * Marks the delta as unusable, e.g. after a structural change that cannot be
+     * expressed as field paths. The caller must fall back to a full write.
+     */
+    public void requireFullWrite() {
+        this.fullWriteRequired = true;
+    }
+
+    public boolean isFullWriteRequired() { return fullWriteRequired; }
+
+    public boolean isEmpty() {
+        return !fullWriteRequired && sets.isEmpty() && increments.isEmpty()
+                && appends.isEmpty() && removals.isEmpty();
+    }
+
+    public Map<String, Object> getSets() { return sets; }
+    public Map<String, Long> getIncrements() { return increments; }
+    public Map<String, List<Object>> getAppends() { return appends; }
+    public Map<String, List<Object>> getRemovals() { return removals; }
+
+    /**
+     * Returns all paths touched by this delta (used for logging).
+     */
+    public List<String> getDirtyPaths() {
+        List<String> paths = new ArrayList<>(sets.keySet());
+        paths.addAll(increments.keySet());
+        paths.addAll(appends.keySet());
+        paths.addAll(removals.keySet());
+        return paths;
+    }
+
+    // --- HELPERS ---
+
+    /**
+     * Looks up the path and each of its ancestors: O(depth), not O(sets), since a
+     * busy delta (a whole over, or a replay) holds many set paths.
+     */
+    private boolean isCoveredBySet(String path) {
+        if (sets.isEmpty()) return false;
+        if (sets.containsKey(path)) return true;
+        for (int dot = path.indexOf('.'); dot >= 0; dot = path.indexOf('.', dot + 1)) {
+            if (sets.containsKey(path.substring(0, dot))) return true;
+        }
+        return false;
+    }
+
+    private static void dropDescendants(Map<String, ?> map, String path) {
+        if (map.isEmpty()) return;
+        map.remove(path);
+        String prefix = path + ".";
+        Iterator<String> it = map.keySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().startsWith(prefix)) it.remove();
+        }
+    }
+
+    private static void addTo(Map<String, List<Object>> map, String path, Object value) {
+        List<Object> values = map.get(path);
+        if (values == null) {
+            values = new ArrayList<>();
+            map.put(path, values);
+        }
+        values.add(value);
+    }
+
+    private static boolean removeByIdentity(Map<String, List<Object>> map, String path, Object value) {
+        List<Object> values = map.get(path);
+        if (values == null) return false;
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i) == value) {
+                values.remove(i);
+                if (values.isEmpty()) map.remove(path);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A single update() can only carry one transform per field, so appending and
+     * removing different elements of the same array cannot be combined.
+     */
+    private void checkArrayConflict(String path) {
+        if (appends.containsKey(path) && removals.containsKey(path)) {
+            requireFullWrite();
+        }
+    }
+}
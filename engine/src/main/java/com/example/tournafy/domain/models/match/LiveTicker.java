@@ -0,0 +1,126 @@
+package com.example.tournafy.domain.models.match;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Viewer projection of a live match (File: LiveTicker.java).
+ *
+ * Stored in the Realtime Database at "live/{matchId}" and kept up to date by the
+ * host's sync outbox, field by field, in the same multi-path update as the match.
+ * It holds only what a live score view shows (score, overs, batters, bowler, the
+ * last balls, status), so a change fans out a few hundred bytes to each viewer
+ * instead of the whole match. The full scorecard is read only on demand.
+ *
+ * Built with Match.toLiveTicker(). "seq" is incremented on the server with every
+ * update, so viewers can tell updates apart and order them.
+ */
+public class LiveTicker {
+
+    /** Number of recent deliveries kept in lastBalls. */
+    public static final int LAST_BALLS = 6;
+    public static final String FIELD_SEQ = "seq";
+
+    private String matchId;
+    private String sportId;
+    private String matchStatus;
+    private String homeTeamName;
+    private String awayTeamName;
+    private String homeScore;        // e.g. "142/6 (18.3)" or "2"
+    private String awayScore;
+    private String battingTeamName;  // Cricket
+    private String overs;            // Cricket, e.g. "18.3"
+    private int target;              // Cricket, 0 until the second innings
+    private String strikerName;      // Cricket
+    private String nonStrikerName;   // Cricket
+    private String bowlerName;       // Cricket
+    private List<String> lastBalls = new ArrayList<>(); // Cricket, oldest first, e.g. "1", "4", "W", "1wd"
+    private int minute;              // Football, elapsed minutes
+    private long viewerCount;        // Folded from the presence shards by the host (ViewerCountAggregator)
+    private long seq;
+
+    public LiveTicker() {
+        // Required for Firebase
+    }
+
+    /**
+     * @return The displayed fields by node name (everything but seq and viewerCount),
+     *         as written under "live/{matchId}" by the sync outbox.
+     */
+    public Map<String, Object> toFields() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("matchId", matchId);
+        fields.put("sportId", sportId);
+        fields.put("matchStatus", matchStatus);
+        fields.put("homeTeamName", homeTeamName);
+        fields.put("awayTeamName", awayTeamName);
+        fields.put("homeScore", homeScore);
+        fields.put("awayScore", awayScore);
+        fields.put("battingTeamName", battingTeamName);
+        fields.put("overs", overs);
+        fields.put("target", target);
+        fields.put("strikerName", strikerName);
+        fields.put("nonStrikerName", nonStrikerName);
+        fields.put("bowlerName", bowlerName);
+        fields.put("lastBalls", new ArrayList<>(lastBalls));
+        fields.put("minute", minute);
+        return fields;
+    }
+
+    // --- Getters and Setters ---
+
+    public String getMatchId() { return matchId; }
+    public void setMatchId(String matchId) { this.matchId = matchId; }
+
+    public String getSportId() { return sportId; }
+    public void setSportId(String sportId) { this.sportId = sportId; }
+
+    public String getMatchStatus() { return matchStatus; }
+    public void setMatchStatus(String matchStatus) { this.matchStatus = matchStatus; }
+
+    public String getHomeTeamName() { return homeTeamName; }
+    public void setHomeTeamName(String homeTeamName) { this.homeTeamName = homeTeamName; }
+
+    public String getAwayTeamName() { return awayTeamName; }
+    public void setAwayTeamName(String awayTeamName) { this.awayTeamName = awayTeamName; }
+
+    public String getHomeScore() { return homeScore; }
+    public void setHomeScore(String homeScore) { this.homeScore = homeScore; }
+
+    public String getAwayScore() { return awayScore; }
+    public void setAwayScore(String awayScore) { this.awayScore = awayScore; }
+
+    public String getBattingTeamName() { return battingTeamName; }
+    public void setBattingTeamName(String battingTeamName) { this.battingTeamName = battingTeamName; }
+
+    public String getOvers() { return overs; }
+    public void setOvers(String overs) { this.overs = overs; }
+
+    public int getTarget() { return target; }
+    public void setTarget(int target) { this.target = target; }
+
+    public String getStrikerName() { return strikerName; }
+    public void setStrikerName(String strikerName) { this.strikerName = strikerName; }
+
+    public String getNonStrikerName() { return nonStrikerName; }
+    public void setNonStrikerName(String nonStrikerName) { this.nonStrikerName = nonStrikerName; }
+
+    public String getBowlerName() { return bowlerName; }
+    public void setBowlerName(String bowlerName) { this.bowlerName = bowlerName; }
+
+    public List<String> getLastBalls() { return lastBalls; }
+    public void setLastBalls(List<String> lastBalls) {
+        this.lastBalls = lastBalls != null ? lastBalls : new ArrayList<>();
+    }
+
+    public int getMinute() { return minute; }
+    public void setMinute(int minute) { this.minute = minute; }
+
+    public long getViewerCount() { return viewerCount; }
+    public void setViewerCount(long viewerCount) { this.viewerCount = viewerCount; }
+
+    public long getSeq() { return seq; }
+    public void setSeq(long seq) { this.seq = seq; }
+}
@@ -0,0 +1,83 @@
+package com.example.tournafy.domain.models.match;
+
+import com.example.tournafy.domain.models.base.MatchEvent;
+import com.example.tournafy.domain.models.match.cricket.CricketEvent;
+import com.example.tournafy.domain.models.match.football.FootballEvent;
+
+import java.util.Date;
+
+/**
+ * One entry of the append-only scoring log stored at matches/{matchId}/events/{seq}.
+ *
+ * Entries are numbered with a per-match, monotonically increasing sequence number.
+ * The match document is a compacted snapshot tagged with lastAppliedSeq; every
+ * entry with a higher seq is replayed on top of it when the match is loaded.
+ *
+ * Only one of cricketEvent / footballEvent is set, matching the sport of the match
+ * (kept as two typed fields so Firestore can deserialize them without a type adapter).
+ *
+ * ballId / overId are the ids of the objects the event created in the live match (a
+ * cricket delivery's ball, and the over it opened when it ended one). Replay reuses
+ * them, so a match rebuilt from the log has the same ids as the one that was scored.
+ */
+public class MatchLogEntry {
+
+    private long seq;
+    private String matchId;
+    private String sportId;
+    private CricketEvent cricketEvent;
+    private FootballEvent footballEvent;
+    private String ballId;
+    private String overId;
+    private Date loggedAt;
+
+    public MatchLogEntry() {
+        // Default constructor for Firestore
+    }
+
+    /**
+     * @param seq     The sequence number of this entry within the match.
+     * @param matchId The ID of the match the event belongs to.
+     * @param sportId The sport of the match (CRICKET / FOOTBALL).
+     * @param event   The scoring event; must be a CricketEvent or FootballEvent.
+     */
+    public MatchLogEntry(long seq, String matchId, String sportId, MatchEvent event) {
+        this.seq = seq;
+        this.matchId = matchId;
+        this.sportId = sportId;
+        this.loggedAt = new Date();
+        if (event instanceof CricketEvent) {
+            this.cricketEvent = (CricketEvent) event;
+        } else if (event instanceof FootballEvent) {
+            this.footballEvent = (FootballEvent) event;
+        } else {
+            throw new IllegalArgumentException("Unsupported event type for match log: " + event);
+        }
+    }
+
+    /**
+     * Returns whichever sport-specific event this entry holds.
+     */
+    public MatchEvent getEvent() {
+        return cricketEvent != null ? cricketEvent : footballEvent;
+    }
+
+    // --- Getters and Setters ---
+
+    public long getSeq() { return seq; }
+    public void setSeq(long seq) { this.seq = seq; }
+    public String getMatchId() { return matchId; }
+    public void setMatchId(String matchId) { this.matchId = matchId; }
+    public String getSportId() { return sportId; }
+    public void setSportId(String sportId) { this.sportId = sportId; }
+    public CricketEvent getCricketEvent() { return cricketEvent; }
+    public void setCricketEvent(CricketEvent cricketEvent) { this.cricketEvent = cricketEvent; }
+    public FootballEvent getFootballEvent() { return footballEvent; }
+    public void setFootballEvent(FootballEvent footballEvent) { this.footballEvent = footballEvent; }
+    public String getBallId() { return ballId; }
+    public void setBallId(String ballId) { this.ballId = ballId; }
+    public String getOverId() { return overId; }
+    public void setOverId(String overId) { this.overId = overId; }
+    public Date getLoggedAt() { return loggedAt; }
+    public void setLoggedAt(Date loggedAt) { this.loggedAt = loggedAt; }
+}
@@ -0,0 +1,122 @@
+package com.example.tournafy.domain.models.match;
+
+import com.example.tournafy.domain.models.base.HostedEntity;
+
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Lightweight projection of a Match for list screens (File: MatchSummary.java).
+ *
+ * Stored in the "match_summaries" collection under the match ID and rewritten by
+ * the match write path whenever one of its fields changes. It holds only what a
+ * list card shows (teams, score lines, status, date, code), so home, search and
+ * tournament lists never download innings, balls or events.
+ *
+ * Built with Match.toSummary().
+ */
+public class MatchSummary extends HostedEntity {
+
+    private String sportId;
+    private String matchFormat;
+    private Date matchDate;
+    private String venue;
+    private String tournamentId;
+    private String seriesId;
+    private String homeTeamId;
+    private String homeTeamName;
+    private String awayTeamId;
+    private String awayTeamName;
+    private String homeScore; // e.g. "142/6 (18.3)" or "2"
+    private String awayScore;
+    private String winnerTeamId;
+    private boolean configured; // false until the match has a MatchConfig
+
+    public MatchSummary() {
+        super();
+        this.entityType = "MATCH";
+    }
+
+    // --- Getters and Setters ---
+
+    public String getSportId() { return sportId; }
+    public void setSportId(String sportId) { this.sportId = sportId; }
+
+    public String getMatchFormat() { return matchFormat; }
+    public void setMatchFormat(String matchFormat) { this.matchFormat = matchFormat; }
+
+    public Date getMatchDate() { return matchDate; }
+    public void setMatchDate(Date matchDate) { this.matchDate = matchDate; }
+
+    public String getVenue() { return venue; }
+    public void setVenue(String venue) { this.venue = venue; }
+
+    public String getTournamentId() { return tournamentId; }
+    public void setTournamentId(String tournamentId) { this.tournamentId = tournamentId; }
+
+    public String getSeriesId() { return seriesId; }
+    public void setSeriesId(String seriesId) { this.seriesId = seriesId; }
+
+    public String getHomeTeamId() { return homeTeamId; }
+    public void setHomeTeamId(String homeTeamId) { this.homeTeamId = homeTeamId; }
+
+    public String getHomeTeamName() { return homeTeamName; }
+    public void setHomeTeamName(String homeTeamName) { this.homeTeamName = homeTeamName; }
+
+    public String getAwayTeamId() { return awayTeamId; }
+    public void setAwayTeamId(String awayTeamId) { this.awayTeamId = awayTeamId; }
+
+    public String getAwayTeamName() { return awayTeamName; }
+    public void setAwayTeamName(String awayTeamName) { this.awayTeamName = awayTeamName; }
+
+    public String getHomeScore() { return homeScore; }
+    public void setHomeScore(String homeScore) { this.homeScore = homeScore; }
+
+    public String getAwayScore() { return awayScore; }
+    public void setAwayScore(String awayScore) { this.awayScore = awayScore; }
+
+    public String getWinnerTeamId() { return winnerTeamId; }
+    public void setWinnerTeamId(String winnerTeamId) { this.winnerTeamId = winnerTeamId; }
+
+    public boolean isConfigured() { return configured; }
+    public void setConfigured(boolean configured) { this.configured = configured; }
+
+    /** Same accessors as Match, for code that handles both. */
+    public String getMatchStatus() { return status; }
+    public void setMatchStatus(String matchStatus) { this.status = matchStatus; }
+
+    // --- Equality (used to skip rewriting an unchanged summary) ---
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MatchSummary)) return false;
+        MatchSummary that = (MatchSummary) o;
+        return isOnline == that.isOnline
+                && configured == that.configured
+                && Objects.equals(entityId, that.entityId)
+                && Objects.equals(name, that.name)
+                && Objects.equals(hostUserId, that.hostUserId)
+                && Objects.equals(status, that.status)
+                && Objects.equals(visibilityLink, that.visibilityLink)
+                && Objects.equals(createdAt, that.createdAt)
+                && Objects.equals(sportId, that.sportId)
+                && Objects.equals(matchFormat, that.matchFormat)
+                && Objects.equals(matchDate, that.matchDate)
+                && Objects.equals(venue, that.venue)
+                && Objects.equals(tournamentId, that.tournamentId)
+                && Objects.equals(seriesId, that.seriesId)
+                && Objects.equals(homeTeamId, that.homeTeamId)
+                && Objects.equals(homeTeamName, that.homeTeamName)
+                && Objects.equals(awayTeamId, that.awayTeamId)
+                && Objects.equals(awayTeamName, that.awayTeamName)
+                && Objects.equals(homeScore, that.homeScore)
+                && Objects.equals(awayScore, that.awayScore)
+                && Objects.equals(winnerTeamId, that.winnerTeamId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entityId, status, homeScore, awayScore);
+    }
+}
@@ -90,11 +90,10 @@ public class Ball {
      * - WIDE - ball too wide to hit
      * - NO_BALL - bowler overstepped or illegal action
      * 
-     * This is a calculated field and should not be serialized to Firestore.
+     * This is a calculated field: the Firestore repositories leave it out of the documents.
      * 
      * @return true if the ball is legal, false otherwise
      */
-    @com.google.firebase.firestore.Exclude
     public boolean isLegalDelivery() {
         // Wide and No-Ball are illegal deliveries (don't count towards over)
         if (extrasType != null && (extrasType.equals("WIDE") || extrasType.equals("NO_BALL"))) {
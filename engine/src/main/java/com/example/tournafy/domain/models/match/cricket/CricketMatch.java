@@ -4,10 +4,12 @@ import com.example.tournafy.domain.enums.MatchStatus;
 import com.example.tournafy.domain.interfaces.MatchObserver;
 import com.example.tournafy.domain.models.base.Match;
 import com.example.tournafy.domain.models.base.MatchEvent;
+import com.example.tournafy.domain.models.match.MatchLogEntry;
 import com.example.tournafy.domain.models.match.MatchResult;
+import com.example.tournafy.domain.models.match.LiveTicker;
+import com.example.tournafy.domain.models.match.MatchSummary;
 import com.example.tournafy.domain.models.sport.SportTypeEnum;
 import com.example.tournafy.domain.models.team.MatchTeam;
-import com.google.firebase.database.Exclude;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -15,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.logging.Logger;
 
 /**
  * Concrete implementation of a Match for Cricket.
@@ -22,6 +25,15 @@ import java.util.UUID;
  */
 public class CricketMatch extends Match {
 
+    private static final Logger LOG = Logger.getLogger("CricketMatch");
+
+    // Document field names used for field-level delta writes
+    public static final String FIELD_INNINGS = "innings";
+    public static final String FIELD_CRICKET_EVENTS = "cricketEvents";
+    public static final String FIELD_CURRENT_OVERS = "currentOvers";
+    public static final String FIELD_BATSMAN_STATS = "batsmanStatsMap";
+    public static final String FIELD_BOWLER_STATS = "bowlerStatsMap";
+
     // Cricket-specific relational data
     private List<Innings> innings;
     private List<CricketEvent> cricketEvents; // For AddWicketCommand, AddExtrasCommand [cite: 99, 100]
@@ -34,8 +46,16 @@ public class CricketMatch extends Match {
     // State tracking
     private int currentInningsNumber;
     private int targetScore;
-    @Exclude
     private List<Over> currentOvers;
+    // Running totals of the current innings (see InningsAggregate); null until next read
+    private InningsAggregate inningsAggregate;
+
+    // Ids the last delivery created: its ball, and the over it opened (see describeLastEvent)
+    private String lastBallId;
+    private String lastOpenedOverId;
+    // Ids of the log entry being replayed, used instead of new ones (see replayEntry)
+    private String replayBallId;
+    private String replayOverId;
     
     // Player tracking (striker, non-striker, bowler)
     private String currentStrikerId;
@@ -53,7 +73,6 @@ public class CricketMatch extends Match {
     private Map<String, BowlerStats> bowlerStatsMap;
 
     // Observer Pattern
-    @Exclude
     private List<MatchObserver> observers;
 
     // Match Result
@@ -107,11 +126,13 @@ public class CricketMatch extends Match {
         if (cricketEvent.getEventTime() == null) cricketEvent.setEventTime(new Date());
 
         this.cricketEvents.add(cricketEvent);
+        trackAppend(FIELD_CRICKET_EVENTS, cricketEvent);
 
         // Update State
         Ball ball = createBallFromEvent(cricketEvent);
         if (currentOver.getBalls() == null) currentOver.setBalls(new ArrayList<>());
         currentOver.getBalls().add(ball);
+        onBallAdded(ball);
 
         int runsToAdd = cricketEvent.getTotalRuns();
         currentInnings.setTotalRuns(currentInnings.getTotalRuns() + runsToAdd);
@@ -130,9 +151,11 @@ public class CricketMatch extends Match {
             currentOver.setWicketsInOver(currentOver.getWicketsInOver() + 1);
             // TODO: Update striker to next batsman from team roster
         }
+        markOversChanged();
+        markInningsChanged();
 
         if (cricketEvent.isLegalDelivery()) {
-            int legalBallsInOver = countLegalBalls(currentOver);
+            int legalBallsInOver = currentInningsAggregate().getOverLegalBalls();
             if (legalBallsInOver >= 6) {
                 endOver(currentInnings, currentOver);
                 // Swap strikers at end of over
@@ -217,7 +240,7 @@ public class CricketMatch extends Match {
 
         // Check for over completion
         if (event.isLegalDelivery()) {
-            int legalBallsInOver = countLegalBalls(currentOver);
+            int legalBallsInOver = currentInningsAggregate().getOverLegalBalls();
             if (legalBallsInOver >= 6) {
                 endOver(currentInnings, currentOver);
                 // Swap strikers at end of over
@@ -262,24 +285,31 @@ public class CricketMatch extends Match {
 
     private Over createNewOver(Innings innings) {
         Over over = new Over();
-        over.setOverId(UUID.randomUUID().toString());
+        over.setOverId(replayOverId != null ? replayOverId : UUID.randomUUID().toString());
+        lastOpenedOverId = over.getOverId();
         over.setInningsId(innings.getInningsId());
         over.setOverNumber(innings.getOversCompleted() + 1);
         over.setBalls(new ArrayList<>());
         over.setCompleted(false);
 
         this.currentOvers.add(over);
+        if (inningsAggregate != null) inningsAggregate.startOver();
+        markOversChanged();
         return over;
     }
 
     private void endOver(Innings innings, Over over) {
         over.setCompleted(true);
         innings.setOversCompleted(innings.getOversCompleted() + 1);
+        markOversChanged();
+        markInningsChanged();
         if (!innings.isCompleted()) createNewOver(innings);
     }
 
     private void endInnings(Innings innings) {
         innings.setCompleted(true);
+        markInningsChanged();
+        markOversChanged();
         
         // End the current over if it exists
         if (getCurrentOver() != null) {
@@ -288,9 +318,12 @@ public class CricketMatch extends Match {
         
         if (currentInningsNumber == 1) {
             this.targetScore = innings.getTotalRuns() + 1;
+            trackSet("targetScore", targetScore);
             if (this.innings.size() > 1) {
                 currentInningsNumber = 2;
+                trackSet("currentInningsNumber", currentInningsNumber);
                 this.currentOvers.clear();
+                inningsAggregate = null;
                 // Create first over for second innings
                 Innings secondInnings = this.innings.get(1);
                 createNewOver(secondInnings);
@@ -330,6 +363,8 @@ public class CricketMatch extends Match {
             this.matchResult.setResultType("WIN");
             this.matchResult.setWinMargin((firstInnings.getTotalRuns() - secondInnings.getTotalRuns()) + " runs");
         }
+        trackSet("winnerTeamId", winnerTeamId);
+        trackSet("matchResult", matchResult);
 
         setMatchStatus(MatchStatus.COMPLETED.name());
         notifyStatusChanged(MatchStatus.COMPLETED.name());
@@ -355,13 +390,68 @@ public class CricketMatch extends Match {
         return currentOvers.get(currentOvers.size() - 1);
     }
 
-    private int countLegalBalls(Over over) {
-        if (over.getBalls() == null) return 0;
-        int count = 0;
-        for (Ball b : over.getBalls()) {
-            if (b.isLegalDelivery()) count++;
+    // --- INNINGS AGGREGATE ---
+
+    /**
+     * @return Running totals of the current innings. Recomputed from the overs after
+     *         they were loaded or replaced, then maintained by onBallAdded() /
+     *         onBallRemoved() as deliveries are scored and undone. Not a bean getter,
+     *         so the database object mappers never serialize it.
+     */
+    public InningsAggregate currentInningsAggregate() {
+        if (inningsAggregate == null) {
+            inningsAggregate = InningsAggregate.of(currentOvers);
+            Innings current = getCurrentInnings();
+            if (current != null && copyExtras(inningsAggregate, current)) {
+                markInningsChanged();
+            }
+        }
+        return inningsAggregate;
+    }
+
+    /**
+     * Records a ball appended to the current over (commands and processEvent).
+     */
+    public void onBallAdded(Ball ball) {
+        lastBallId = ball.getBallId();
+        lastOpenedOverId = null;
+        if (inningsAggregate == null) {
+            currentInningsAggregate(); // Recomputed from the overs, which already reflect the change
+            return;
+        }
+        inningsAggregate.add(ball);
+        Innings current = getCurrentInnings();
+        if (current != null) copyExtras(inningsAggregate, current);
+    }
+
+    /**
+     * Records the last ball of the current over being removed (undo).
+     */
+    public void onBallRemoved(Ball ball) {
+        if (inningsAggregate == null) {
+            currentInningsAggregate(); // Recomputed from the overs, which already reflect the change
+            return;
+        }
+        inningsAggregate.remove(ball);
+        Innings current = getCurrentInnings();
+        if (current != null) copyExtras(inningsAggregate, current);
+    }
+
+    /**
+     * Keeps the persisted extras breakdown of the innings (shown on the scorecard,
+     * also after the innings) equal to the aggregate.
+     * @return Whether a value changed.
+     */
+    private static boolean copyExtras(InningsAggregate aggregate, Innings innings) {
+        if (innings.getWides() == aggregate.getWides() && innings.getNoBalls() == aggregate.getNoBalls() &&
+                innings.getByes() == aggregate.getByes() && innings.getLegByes() == aggregate.getLegByes()) {
+            return false;
         }
-        return count;
+        innings.setWides(aggregate.getWides());
+        innings.setNoBalls(aggregate.getNoBalls());
+        innings.setByes(aggregate.getByes());
+        innings.setLegByes(aggregate.getLegByes());
+        return true;
     }
 
     /**
@@ -387,7 +477,7 @@ public class CricketMatch extends Match {
 
     private Ball createBallFromEvent(CricketEvent event) {
         Ball ball = new Ball();
-        ball.setBallId(UUID.randomUUID().toString());
+        ball.setBallId(replayBallId != null ? replayBallId : UUID.randomUUID().toString());
         ball.setBallNumber(event.getBallNumber());
         ball.setBatsmanId(event.getBatsmanStrikerId());
         ball.setBowlerId(event.getBowlerId());
@@ -444,6 +534,8 @@ public class CricketMatch extends Match {
         String temp = this.currentStrikerId;
         this.currentStrikerId = this.currentNonStrikerId;
         this.currentNonStrikerId = temp;
+        trackSet("currentStrikerId", currentStrikerId);
+        trackSet("currentNonStrikerId", currentNonStrikerId);
     }
 
     // --- ABSTRACT IMPL (startMatch, endMatch, addEvent, canStartMatch) ---
@@ -512,6 +604,8 @@ public class CricketMatch extends Match {
             second.setBattingTeamId(firstBowlingTeam.getTeamId()); // Team that bowled first now bats
             second.setBowlingTeamId(firstBattingTeam.getTeamId()); // Team that batted first now bowls
             innings.add(second);
+            markInningsChanged();
+            trackSet("currentInningsNumber", currentInningsNumber);
             
             // Don't initialize players here - let the UI dialogs handle selection
             // This allows user input for batsmen and bowler selection at start
@@ -550,6 +644,7 @@ public class CricketMatch extends Match {
     public void addMatchEvent(MatchEvent event) {
         if (event instanceof CricketEvent) {
             this.cricketEvents.add((CricketEvent) event);
+            trackAppend(FIELD_CRICKET_EVENTS, event);
         }
         // NOTE: We rely on the Command implementation to handle score/state updates
         // before calling this method, or we assume the event is already processed
@@ -562,7 +657,120 @@ public class CricketMatch extends Match {
      */
     @Override
     public void removeMatchEvent(MatchEvent event) {
-        this.cricketEvents.remove(event);
+        if (this.cricketEvents.remove(event)) {
+            trackRemove(FIELD_CRICKET_EVENTS, event);
+            recordRemoval(event.getEventId());
+        }
+    }
+
+    // --- EVENT LOG REPLAY ---
+
+    /**
+     * Replays a logged delivery on top of a loaded snapshot.
+     * The event recorded who was at the crease when it was bowled, so the crease
+     * is restored first (player selections between deliveries are not logged),
+     * then the delivery goes through processEvent and the player stats are updated
+     * the same way the live scoring flow does.
+     */
+    @Override
+    public void replayEvent(MatchEvent event) {
+        if (!(event instanceof CricketEvent)) {
+            throw new IllegalArgumentException("Event must be a CricketEvent for CricketMatch");
+        }
+        CricketEvent cricketEvent = (CricketEvent) event;
+
+        if (cricketEvent.getBatsmanStrikerId() != null) setCurrentStrikerId(cricketEvent.getBatsmanStrikerId());
+        if (cricketEvent.getBatsmanNonStrikerId() != null) setCurrentNonStrikerId(cricketEvent.getBatsmanNonStrikerId());
+        if (cricketEvent.getBowlerId() != null) setCurrentBowlerId(cricketEvent.getBowlerId());
+
+        processEvent(cricketEvent);
+        applyPlayerStats(cricketEvent);
+    }
+
+    /**
+     * Records the id of the delivery's ball and of the over it opened (null if it did
+     * not end an over). Must be called right after the delivery was scored.
+     */
+    @Override
+    public void describeLastEvent(MatchLogEntry entry) {
+        entry.setBallId(lastBallId);
+        entry.setOverId(lastOpenedOverId);
+    }
+
+    /**
+     * Replays the entry's delivery with the ball id and opened over id it recorded
+     * (new ids for entries logged before they were recorded). An over ending the first
+     * innings opens an over that endInnings replaces at once; both get the recorded id.
+     */
+    @Override
+    public void replayEntry(MatchLogEntry entry) {
+        replayBallId = entry.getBallId();
+        replayOverId = entry.getOverId();
+        try {
+            replayEvent(entry.getEvent());
+        } finally {
+            replayBallId = null;
+            replayOverId = null;
+        }
+    }
+
+    /**
+     * Updates batsman and bowler statistics for a delivery.
+     * Handles regular balls, extras (wide, no-ball, bye, leg-bye) and wickets.
+     */
+    public void applyPlayerStats(CricketEvent event) {
+        String extrasType = event.getExtrasType();
+        boolean isExtra = extrasType != null && !extrasType.equals("NONE");
+
+        // Batsman: every legal delivery counts as a ball faced
+        String strikerId = event.getBatsmanStrikerId();
+        if (strikerId != null && (event.isLegalDelivery() || !isExtra)) {
+            BatsmanStats batsmanStats = getBatsmanStats(strikerId);
+            if (batsmanStats == null) {
+                batsmanStats = new BatsmanStats(strikerId, findPlayerName(strikerId));
+            }
+            batsmanStats.addBall();
+            if (event.isWicket()) {
+                batsmanStats.dismissBatsman(event.getWicketDetail() != null ? event.getWicketDetail().getWicketType() : null);
+            } else if (!isExtra && event.getRunsScoredBat() > 0) {
+                batsmanStats.addRuns(event.getRunsScoredBat());
+            }
+            updateBatsmanStats(strikerId, batsmanStats);
+        }
+
+        // Bowler: runs off the bat, wides/no-balls, wickets
+        String bowlerId = event.getBowlerId();
+        if (bowlerId != null) {
+            BowlerStats bowlerStats = getBowlerStats(bowlerId);
+            if (bowlerStats == null) {
+                bowlerStats = new BowlerStats(bowlerId, findPlayerName(bowlerId));
+            }
+            if (event.isWicket()) {
+                if (event.isLegalDelivery()) {
+                    bowlerStats.addBall(0);
+                    bowlerStats.addWicket();
+                }
+            } else if ("WIDE".equals(extrasType)) {
+                bowlerStats.addWide(event.getRunsScoredExtras() - 1); // Subtract the 1 auto-added run
+            } else if ("NO_BALL".equals(extrasType)) {
+                bowlerStats.addNoBall(event.getRunsScoredExtras() - 1);
+            } else if (event.isLegalDelivery()) {
+                // Byes/Leg-byes don't count against bowler's runs
+                bowlerStats.addBall(isExtra ? 0 : event.getTotalRuns());
+            }
+            updateBowlerStats(bowlerId, bowlerStats);
+        }
+    }
+
+    private String findPlayerName(String playerId) {
+        if (teams == null || playerId == null) return null;
+        for (MatchTeam team : teams) {
+            if (team.getPlayers() == null) continue;
+            for (com.example.tournafy.domain.models.team.Player player : team.getPlayers()) {
+                if (playerId.equals(player.getPlayerId())) return player.getPlayerName();
+            }
+        }
+        return null;
     }
     
     // --- COMMAND HELPERS: FOOTBALL SPECIFIC (UNSUPPORTED IN CRICKET) ---
@@ -611,21 +819,50 @@ public class CricketMatch extends Match {
     // --- GETTERS ---
 
     public List<Innings> getInnings() { return innings; }
-    public void setInnings(List<Innings> innings) { this.innings = innings; }
+    public void setInnings(List<Innings> innings) { this.innings = innings; markInningsChanged(); }
     public List<CricketEvent> getCricketEvents() { return cricketEvents; }
-    public void setCricketEvents(List<CricketEvent> cricketEvents) { this.cricketEvents = cricketEvents; }
+    public void setCricketEvents(List<CricketEvent> cricketEvents) {
+        this.cricketEvents = cricketEvents;
+        trackSet(FIELD_CRICKET_EVENTS, cricketEvents);
+    }
     public List<MatchTeam> getTeams() { return teams; }
-    public void setTeams(List<MatchTeam> teams) { this.teams = teams; }
+    public void setTeams(List<MatchTeam> teams) { this.teams = teams; trackSet("teams", teams); }
     public int getCurrentInningsNumber() { return currentInningsNumber; }
+    public void setCurrentInningsNumber(int currentInningsNumber) {
+        this.currentInningsNumber = currentInningsNumber;
+        trackSet("currentInningsNumber", currentInningsNumber);
+    }
     public int getTargetScore() { return targetScore; }
+    public void setTargetScore(int targetScore) {
+        this.targetScore = targetScore;
+        trackSet("targetScore", targetScore);
+    }
     public MatchResult getMatchResult() { return matchResult; }
+    public void setMatchResult(MatchResult matchResult) {
+        this.matchResult = matchResult;
+        trackSet("matchResult", matchResult);
+    }
     public List<Over> getCurrentOvers() { return currentOvers; }
+    public void setCurrentOvers(List<Over> currentOvers) {
+        this.currentOvers = currentOvers != null ? currentOvers : new ArrayList<>();
+        inningsAggregate = null;
+        markOversChanged();
+    }
     public String getCurrentStrikerId() { return currentStrikerId; }
-    public void setCurrentStrikerId(String currentStrikerId) { this.currentStrikerId = currentStrikerId; }
+    public void setCurrentStrikerId(String currentStrikerId) {
+        this.currentStrikerId = currentStrikerId;
+        trackSet("currentStrikerId", currentStrikerId);
+    }
     public String getCurrentNonStrikerId() { return currentNonStrikerId; }
-    public void setCurrentNonStrikerId(String currentNonStrikerId) { this.currentNonStrikerId = currentNonStrikerId; }
+    public void setCurrentNonStrikerId(String currentNonStrikerId) {
+        this.currentNonStrikerId = currentNonStrikerId;
+        trackSet("currentNonStrikerId", currentNonStrikerId);
+    }
     public String getCurrentBowlerId() { return currentBowlerId; }
-    public void setCurrentBowlerId(String currentBowlerId) { this.currentBowlerId = currentBowlerId; }
+    public void setCurrentBowlerId(String currentBowlerId) {
+        this.currentBowlerId = currentBowlerId;
+        trackSet("currentBowlerId", currentBowlerId);
+    }
     
     // Batting/Bowling order queue getters/setters
     public List<String> getBattingOrderQueue() { 
@@ -633,19 +870,21 @@ public class CricketMatch extends Match {
     }
     public void setBattingOrderQueue(List<String> battingOrderQueue) { 
         this.battingOrderQueue = battingOrderQueue; 
+        trackSet("battingOrderQueue", battingOrderQueue);
     }
     public List<String> getBowlingOrderQueue() { 
         return bowlingOrderQueue != null ? bowlingOrderQueue : new ArrayList<>(); 
     }
     public void setBowlingOrderQueue(List<String> bowlingOrderQueue) { 
         this.bowlingOrderQueue = bowlingOrderQueue; 
+        trackSet("bowlingOrderQueue", bowlingOrderQueue);
     }
     
     // Toss getters/setters
     public String getTossWinner() { return tossWinner; }
-    public void setTossWinner(String tossWinner) { this.tossWinner = tossWinner; }
+    public void setTossWinner(String tossWinner) { this.tossWinner = tossWinner; trackSet("tossWinner", tossWinner); }
     public String getTossDecision() { return tossDecision; }
-    public void setTossDecision(String tossDecision) { this.tossDecision = tossDecision; }
+    public void setTossDecision(String tossDecision) { this.tossDecision = tossDecision; trackSet("tossDecision", tossDecision); }
     
     // Stats getters/setters
     public Map<String, BatsmanStats> getBatsmanStatsMap() { 
@@ -653,12 +892,14 @@ public class CricketMatch extends Match {
     }
     public void setBatsmanStatsMap(Map<String, BatsmanStats> batsmanStatsMap) { 
         this.batsmanStatsMap = batsmanStatsMap; 
+        trackSet(FIELD_BATSMAN_STATS, batsmanStatsMap);
     }
     public Map<String, BowlerStats> getBowlerStatsMap() { 
         return bowlerStatsMap != null ? bowlerStatsMap : new HashMap<>(); 
     }
     public void setBowlerStatsMap(Map<String, BowlerStats> bowlerStatsMap) { 
         this.bowlerStatsMap = bowlerStatsMap; 
+        trackSet(FIELD_BOWLER_STATS, bowlerStatsMap);
     }
     
     // Helper methods for stats
@@ -674,6 +915,7 @@ public class CricketMatch extends Match {
             batsmanStatsMap = new HashMap<>();
         }
         batsmanStatsMap.put(playerId, stats);
+        trackMapEntry(FIELD_BATSMAN_STATS, batsmanStatsMap, playerId, stats);
     }
     
     public BowlerStats getBowlerStats(String playerId) {
@@ -688,6 +930,7 @@ public class CricketMatch extends Match {
             bowlerStatsMap = new HashMap<>();
         }
         bowlerStatsMap.put(playerId, stats);
+        trackMapEntry(FIELD_BOWLER_STATS, bowlerStatsMap, playerId, stats);
     }
     
     // Helper methods for batting order queue
@@ -697,17 +940,19 @@ public class CricketMatch extends Match {
         }
         if (!battingOrderQueue.contains(playerId)) {
             battingOrderQueue.add(playerId);
-            android.util.Log.d("CricketMatch", "Added player " + playerId + " to batting order. Queue size: " + battingOrderQueue.size());
+            trackSet("battingOrderQueue", battingOrderQueue);
+            LOG.fine("Added player " + playerId + " to batting order. Queue size: " + battingOrderQueue.size());
         }
     }
     
     public String getNextBatsmanFromQueue() {
         if (battingOrderQueue == null || battingOrderQueue.isEmpty()) {
-            android.util.Log.d("CricketMatch", "Batting order queue is empty");
+            LOG.fine("Batting order queue is empty");
             return null;
         }
         String nextBatsman = battingOrderQueue.remove(0);
-        android.util.Log.d("CricketMatch", "Retrieved next batsman from queue: " + nextBatsman + ". Remaining in queue: " + battingOrderQueue.size());
+        trackSet("battingOrderQueue", battingOrderQueue);
+        LOG.fine("Retrieved next batsman from queue: " + nextBatsman + ". Remaining in queue: " + battingOrderQueue.size());
         return nextBatsman;
     }
     
@@ -718,6 +963,7 @@ public class CricketMatch extends Match {
     public void clearBattingOrderQueue() {
         if (battingOrderQueue != null) {
             battingOrderQueue.clear();
+            trackSet("battingOrderQueue", battingOrderQueue);
         }
     }
     
@@ -728,17 +974,19 @@ public class CricketMatch extends Match {
         }
         if (!bowlingOrderQueue.contains(playerId)) {
             bowlingOrderQueue.add(playerId);
-            android.util.Log.d("CricketMatch", "Added player " + playerId + " to bowling order. Queue size: " + bowlingOrderQueue.size());
+            trackSet("bowlingOrderQueue", bowlingOrderQueue);
+            LOG.fine("Added player " + playerId + " to bowling order. Queue size: " + bowlingOrderQueue.size());
         }
     }
     
     public String getNextBowlerFromQueue() {
         if (bowlingOrderQueue == null || bowlingOrderQueue.isEmpty()) {
-            android.util.Log.d("CricketMatch", "Bowling order queue is empty");
+            LOG.fine("Bowling order queue is empty");
             return null;
         }
         String nextBowler = bowlingOrderQueue.remove(0);
-        android.util.Log.d("CricketMatch", "Retrieved next bowler from queue: " + nextBowler + ". Remaining in queue: " + bowlingOrderQueue.size());
+        trackSet("bowlingOrderQueue", bowlingOrderQueue);
+        LOG.fine("Retrieved next bowler from queue: " + nextBowler + ". Remaining in queue: " + bowlingOrderQueue.size());
         return nextBowler;
     }
     
@@ -749,6 +997,7 @@ public class CricketMatch extends Match {
     public void clearBowlingOrderQueue() {
         if (bowlingOrderQueue != null) {
             bowlingOrderQueue.clear();
+            trackSet("bowlingOrderQueue", bowlingOrderQueue);
         }
     }
 
@@ -764,12 +1013,46 @@ public class CricketMatch extends Match {
             Over last = currentOvers.remove(currentOvers.size() - 1);
             Innings curr = getCurrentInnings();
             if (curr != null && last.isCompleted()) curr.setOversCompleted(curr.getOversCompleted() - 1);
+            inningsAggregate = null;
+            markOversChanged();
+            markInningsChanged();
         }
     }
 
     public void setCurrentOver(Over over) {
         if (!currentOvers.isEmpty()) currentOvers.set(currentOvers.size() - 1, over);
         else currentOvers.add(over);
+        inningsAggregate = null;
+        markOversChanged();
+    }
+
+    /**
+     * Records that the balls/runs of the current innings' overs changed.
+     * Over and ball objects are nested inside an array in the stored document,
+     * so the over list is written as one field (it is reset every innings).
+     */
+    public void markOversChanged() {
+        trackSet(FIELD_CURRENT_OVERS, currentOvers);
+    }
+
+    /**
+     * Records that innings totals (runs, wickets, overs, extras) changed.
+     */
+    public void markInningsChanged() {
+        trackSet(FIELD_INNINGS, innings);
+    }
+
+    /**
+     * Tracks a single stats entry as "mapField.playerId" so only that player's
+     * stats are written. Falls back to the whole map when the key is not a
+     * valid field path segment.
+     */
+    private void trackMapEntry(String mapField, Map<String, ?> map, String key, Object value) {
+        if (key == null || key.isEmpty() || key.contains(".")) {
+            trackSet(mapField, map);
+        } else {
+            trackSet(mapField + "." + key, value);
+        }
     }
 
     public void endCurrentOver() {
@@ -790,6 +1073,109 @@ public class CricketMatch extends Match {
 
     public String getMatchSummary() { return "Summary Logic Placeholder"; }
 
+    /**
+     * Adds both teams and their score lines ("runs/wickets (overs)", innings joined
+     * with " & ") to the list projection.
+     */
+    @Override
+    protected void populateSummary(MatchSummary summary) {
+        if (teams == null || teams.isEmpty()) return;
+        MatchTeam home = teams.get(0);
+        summary.setHomeTeamId(home.getTeamId());
+        summary.setHomeTeamName(home.getTeamName());
+        summary.setHomeScore(scoreLine(home.getTeamId()));
+        if (teams.size() > 1) {
+            MatchTeam away = teams.get(1);
+            summary.setAwayTeamId(away.getTeamId());
+            summary.setAwayTeamName(away.getTeamName());
+            summary.setAwayScore(scoreLine(away.getTeamId()));
+        }
+    }
+
+    /**
+     * Adds the score lines, the current innings (batting team, overs, target), the
+     * batters at the crease, the bowler and the last deliveries to the live ticker.
+     */
+    @Override
+    protected void populateLiveTicker(LiveTicker ticker) {
+        if (teams != null && !teams.isEmpty()) {
+            ticker.setHomeTeamName(teams.get(0).getTeamName());
+            ticker.setHomeScore(scoreLine(teams.get(0).getTeamId()));
+            if (teams.size() > 1) {
+                ticker.setAwayTeamName(teams.get(1).getTeamName());
+                ticker.setAwayScore(scoreLine(teams.get(1).getTeamId()));
+            }
+        }
+        Innings current = getCurrentInnings();
+        if (current != null) {
+            ticker.setBattingTeamName(findTeamName(current.getBattingTeamId()));
+            ticker.setOvers(oversText(current));
+        }
+        ticker.setTarget(currentInningsNumber == 2 ? targetScore : 0);
+        ticker.setStrikerName(findPlayerName(currentStrikerId));
+        ticker.setNonStrikerName(findPlayerName(currentNonStrikerId));
+        ticker.setBowlerName(findPlayerName(currentBowlerId));
+
+        // Last deliveries of the current innings, oldest first
+        java.util.LinkedList<String> lastBalls = new java.util.LinkedList<>();
+        if (currentOvers != null) {
+            for (int o = currentOvers.size() - 1; o >= 0 && lastBalls.size() < LiveTicker.LAST_BALLS; o--) {
+                List<Ball> balls = currentOvers.get(o).getBalls();
+                if (balls == null) continue;
+                for (int b = balls.size() - 1; b >= 0 && lastBalls.size() < LiveTicker.LAST_BALLS; b--) {
+                    lastBalls.addFirst(ballLabel(balls.get(b)));
+                }
+            }
+        }
+        ticker.setLastBalls(new ArrayList<>(lastBalls));
+    }
+
+    private static String ballLabel(Ball ball) {
+        if (ball.isWicket()) return "W";
+        String extras = ball.getExtrasType();
+        if (extras == null || extras.equals("NONE")) return String.valueOf(ball.getRunsScored());
+        String code;
+        switch (extras) {
+            case "WIDE": code = "wd"; break;
+            case "NO_BALL": code = "nb"; break;
+            case "BYE": code = "b"; break;
+            case "LEG_BYE": code = "lb"; break;
+            default: code = extras.toLowerCase(java.util.Locale.ROOT);
+        }
+        return ball.getRunsScored() > 0 ? ball.getRunsScored() + code : code;
+    }
+
+    private String findTeamName(String teamId) {
+        if (teams == null || teamId == null) return null;
+        for (MatchTeam team : teams) {
+            if (teamId.equals(team.getTeamId())) return team.getTeamName();
+        }
+        return null;
+    }
+
+    private String scoreLine(String teamId) {
+        if (teamId == null || innings == null) return null;
+        StringBuilder line = new StringBuilder();
+        for (Innings inning : innings) {
+            if (!teamId.equals(inning.getBattingTeamId())) continue;
+            if (line.length() > 0) line.append(" & ");
+            line.append(inning.getTotalRuns()).append('/').append(inning.getWicketsFallen())
+                .append(" (").append(oversText(inning)).append(')');
+        }
+        return line.length() > 0 ? line.toString() : null;
+    }
+
+    private String oversText(Innings inning) {
+        int balls = 0;
+        if (inning == getCurrentInnings()) {
+            Over over = getCurrentOver();
+            if (over != null && !over.isCompleted()) balls = currentInningsAggregate().getOverLegalBalls();
+        }
+        return balls > 0 && balls < 6
+            ? inning.getOversCompleted() + "." + balls
+            : String.valueOf(inning.getOversCompleted());
+    }
+
     // --- ABSTRACT METHOD IMPLEMENTATIONS (Required by Match.java) ---
 
     /**
@@ -850,7 +1236,7 @@ public class CricketMatch extends Match {
         // Add legal balls in current incomplete over
         Over currentOver = getCurrentOver();
         if (currentOver != null && !currentOver.isCompleted()) {
-            ballsBowled += countLegalBalls(currentOver);
+            ballsBowled += currentInningsAggregate().getOverLegalBalls();
         }
 
         return Math.max(0, totalBalls - ballsBowled);
@@ -863,27 +1249,10 @@ public class CricketMatch extends Match {
      */
     @Override
     public int getExtrasCount() {
-        Innings currentInnings = getCurrentInnings();
-        if (currentInnings == null) {
+        if (getCurrentInnings() == null) {
             return 0;
         }
-
-        int extrasCount = 0;
-
-        // Count extras from all cricket events in current innings
-        for (CricketEvent event : cricketEvents) {
-            // Only count events from current innings
-            if (event.getOverNumber() > 0 && 
-                event.getOverNumber() <= currentInnings.getOversCompleted() + 1) {
-                
-                String extrasType = event.getExtrasType();
-                if (extrasType != null && !extrasType.equals("NONE")) {
-                    extrasCount += event.getTotalRuns();
-                }
-            }
-        }
-
-        return extrasCount;
+        return currentInningsAggregate().getExtras();
     }
 
 
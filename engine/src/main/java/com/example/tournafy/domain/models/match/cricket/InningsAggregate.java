@@ -0,0 +1,160 @@
+package com.example.tournafy.domain.models.match.cricket;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Running totals of the current innings, derived from the balls of its overs
+ * (CricketMatch.currentOvers) so the score screens never walk the ball lists.
+ *
+ * Kept up to date with O(1) deltas: add() for every ball appended to the current over,
+ * remove() for the last ball taken off it (undo), startOver() when a new over begins.
+ * of() recomputes everything from the overs; the maintained aggregate always equals it.
+ *
+ * Not persisted: CricketMatch recomputes it after loading or replacing its overs.
+ */
+public class InningsAggregate {
+
+    private int legalBalls;
+    private int overLegalBalls;
+    private int wides;
+    private int noBalls;
+    private int byes;
+    private int legByes;
+    private int otherExtras;
+    private int fours;
+    private int sixes;
+    private int dotBalls;
+    private int wickets;
+    private int partnershipRuns;
+    // Partnership runs before each wicket of the innings, latest last (restored by remove())
+    private final Deque<Integer> partnerships = new ArrayDeque<>();
+
+    /**
+     * Full recomputation from the overs of an innings, oldest first.
+     */
+    public static InningsAggregate of(List<Over> overs) {
+        InningsAggregate aggregate = new InningsAggregate();
+        if (overs == null) return aggregate;
+        for (Over over : overs) {
+            aggregate.startOver();
+            if (over.getBalls() == null) continue;
+            for (Ball ball : over.getBalls()) {
+                aggregate.add(ball);
+            }
+        }
+        return aggregate;
+    }
+
+    /**
+     * A new over starts: nothing bowled in it yet.
+     */
+    public void startOver() {
+        overLegalBalls = 0;
+    }
+
+    /**
+     * A ball was appended to the current over.
+     */
+    public void add(Ball ball) {
+        apply(ball, 1);
+        partnershipRuns += ball.getRunsScored();
+        if (ball.isWicket()) {
+            partnerships.push(partnershipRuns);
+            partnershipRuns = 0;
+        }
+    }
+
+    /**
+     * The last ball of the current over was taken off it.
+     */
+    public void remove(Ball ball) {
+        apply(ball, -1);
+        if (ball.isWicket() && !partnerships.isEmpty()) {
+            partnershipRuns = partnerships.pop();
+        }
+        partnershipRuns -= ball.getRunsScored();
+    }
+
+    private void apply(Ball ball, int sign) {
+        int runs = ball.getRunsScored();
+        if (ball.isLegalDelivery()) {
+            legalBalls += sign;
+            overLegalBalls += sign;
+            if (runs == 0) dotBalls += sign;
+        }
+        if (ball.isWicket()) wickets += sign;
+        if (ball.isBoundary()) {
+            if (runs == 4) fours += sign;
+            else if (runs == 6) sixes += sign;
+        }
+        String extrasType = ball.getExtrasType();
+        if (extrasType == null || extrasType.equals("NONE")) return;
+        switch (extrasType) {
+            case "WIDE": wides += sign * runs; break;
+            case "NO_BALL": noBalls += sign * runs; break;
+            case "BYE": byes += sign * runs; break;
+            case "LEG_BYE": legByes += sign * runs; break;
+            default: otherExtras += sign * runs; break;
+        }
+    }
+
+    /** Legal deliveries of the innings. */
+    public int getLegalBalls() { return legalBalls; }
+
+    /** Legal deliveries of the current (last) over. */
+    public int getOverLegalBalls() { return overLegalBalls; }
+
+    public int getWides() { return wides; }
+
+    public int getNoBalls() { return noBalls; }
+
+    public int getByes() { return byes; }
+
+    public int getLegByes() { return legByes; }
+
+    /** Extras runs of all types (wides, no-balls, byes, leg-byes, penalties). */
+    public int getExtras() { return wides + noBalls + byes + legByes + otherExtras; }
+
+    public int getFours() { return fours; }
+
+    public int getSixes() { return sixes; }
+
+    public int getBoundaries() { return fours + sixes; }
+
+    /** Legal deliveries off which nothing was scored. */
+    public int getDotBalls() { return dotBalls; }
+
+    /** Deliveries on which a wicket fell. */
+    public int getWickets() { return wickets; }
+
+    /** Runs since the last wicket. */
+    public int getPartnershipRuns() { return partnershipRuns; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof InningsAggregate)) return false;
+        InningsAggregate other = (InningsAggregate) o;
+        return legalBalls == other.legalBalls && overLegalBalls == other.overLegalBalls &&
+            wides == other.wides && noBalls == other.noBalls && byes == other.byes &&
+            legByes == other.legByes && otherExtras == other.otherExtras &&
+            fours == other.fours && sixes == other.sixes && dotBalls == other.dotBalls &&
+            wickets == other.wickets && partnershipRuns == other.partnershipRuns;
+    }
+
+    @Override
+    public int hashCode() {
+        return java.util.Objects.hash(legalBalls, overLegalBalls, wides, noBalls, byes, legByes,
+            otherExtras, fours, sixes, dotBalls, wickets, partnershipRuns);
+    }
+
+    @Override
+    public String toString() {
+        return "InningsAggregate{legalBalls=" + legalBalls + ", overLegalBalls=" + overLegalBalls +
+            ", extras=" + getExtras() + " (w " + wides + ", nb " + noBalls + ", b " + byes +
+            ", lb " + legByes + "), fours=" + fours + ", sixes=" + sixes + ", dots=" + dotBalls +
+            ", wickets=" + wickets + ", partnership=" + partnershipRuns + "}";
+    }
+}
@@ -0,0 +1,398 @@
+package com.example.tournafy.domain.models.match.cricket;
+
+import com.example.tournafy.domain.enums.cricket.ExtrasType;
+import com.example.tournafy.domain.enums.cricket.WicketType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The balls of one innings packed into primitive arrays: one long per delivery, plus a
+ * per-innings dictionary of the string ids the deliveries refer to (players, overs).
+ *
+ * DELIVERY LAYOUT (bit 0 = least significant):
+ * - 0-5:   runs scored (0-63)
+ * - 6-8:   extras type (0 = null, else ExtrasType ordinal + 1)
+ * - 9-12:  wicket type (0 = null, else WicketType ordinal + 1)
+ * - 13:    wicket
+ * - 14:    boundary
+ * - 15-24: batsman (0 = null, else dictionary index + 1)
+ * - 25-34: bowler (same)
+ * - 35-44: over id (same)
+ * - 45-54: over number (0-1023)
+ * - 55-60: ball number (0-63)
+ *
+ * Ball ids take two longs each: the bits of a UUID, or 0 and a dictionary reference for
+ * any other id (0, 0 for none). Match id, innings id and innings number are the same
+ * for every ball of an innings and are stored once.
+ *
+ * Conversion is lossless: unpack() returns balls equal field by field to the packed
+ * ones. Balls that do not fit (another innings, unknown extras / wicket types, values
+ * out of range, more than MAX_IDS ids) are rejected with IllegalArgumentException.
+ *
+ * The totals (totalRuns(), runsByBatsman()...) are computed on the packed arrays
+ * without creating Ball objects.
+ */
+public final class PackedInnings {
+
+    /** Dictionary size limit: references are 10 bits, 0 meaning none. */
+    public static final int MAX_IDS = (1 << 10) - 1;
+
+    private static final int RUNS_SHIFT = 0;
+    private static final int EXTRAS_SHIFT = 6;
+    private static final int WICKET_TYPE_SHIFT = 9;
+    private static final int WICKET_SHIFT = 13;
+    private static final int BOUNDARY_SHIFT = 14;
+    private static final int BATSMAN_SHIFT = 15;
+    private static final int BOWLER_SHIFT = 25;
+    private static final int OVER_REF_SHIFT = 35;
+    private static final int OVER_NUMBER_SHIFT = 45;
+    private static final int BALL_NUMBER_SHIFT = 55;
+
+    private static final long RUNS_MASK = 0x3f;
+    private static final long EXTRAS_MASK = 0x7;
+    private static final long WICKET_TYPE_MASK = 0xf;
+    private static final long REF_MASK = 0x3ff;
+    private static final long OVER_NUMBER_MASK = 0x3ff;
+    private static final long BALL_NUMBER_MASK = 0x3f;
+
+    private static final ExtrasType[] EXTRAS_TYPES = ExtrasType.values();
+    private static final WicketType[] WICKET_TYPES = WicketType.values();
+
+    private final String matchId;
+    private final String inningsId;
+    private final int inningsNumber;
+    private final List<String> ids = new ArrayList<>();
+    private final Map<String, Integer> idRefs = new HashMap<>();
+    private long[] deliveries;
+    private long[] ballIds;
+    private int size;
+
+    public PackedInnings(String matchId, String inningsId, int inningsNumber) {
+        this.matchId = matchId;
+        this.inningsId = inningsId;
+        this.inningsNumber = inningsNumber;
+        this.deliveries = new long[16];
+        this.ballIds = new long[32];
+    }
+
+    /**
+     * Packs the balls of one innings, in order. The innings is taken from the first ball.
+     */
+    public static PackedInnings pack(List<Ball> balls) {
+        Ball first = balls.isEmpty() ? null : balls.get(0);
+        PackedInnings packed = first != null
+            ? new PackedInnings(first.getMatchId(), first.getInningsId(), first.getInningsNumber())
+            : new PackedInnings(null, null, 0);
+        for (Ball ball : balls) {
+            packed.add(ball);
+        }
+        return packed;
+    }
+
+    /**
+     * Rebuilds a packed innings from its stored parts (see getIds(), getDeliveries(),
+     * getBallIds()).
+     * @throws IllegalArgumentException If the parts do not belong together.
+     */
+    public static PackedInnings of(String matchId, String inningsId, int inningsNumber,
+                                   List<String> ids, long[] deliveries, long[] ballIds) {
+        if (ballIds.length != deliveries.length * 2 || ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("Malformed packed innings");
+        }
+        PackedInnings packed = new PackedInnings(matchId, inningsId, inningsNumber);
+        for (String id : ids) {
+            packed.idRefs.put(id, packed.ids.size() + 1);
+            packed.ids.add(id);
+        }
+        packed.deliveries = Arrays.copyOf(deliveries, Math.max(deliveries.length, 16));
+        packed.ballIds = Arrays.copyOf(ballIds, Math.max(ballIds.length, 32));
+        packed.size = deliveries.length;
+        for (int i = 0; i < packed.size; i++) {
+            long delivery = packed.deliveries[i];
+            if (ref(delivery, BATSMAN_SHIFT) > ids.size() || ref(delivery, BOWLER_SHIFT) > ids.size() ||
+                    ref(delivery, OVER_REF_SHIFT) > ids.size() ||
+                    (packed.ballIds[2 * i] == 0 && packed.ballIds[2 * i + 1] > ids.size())) {
+                throw new IllegalArgumentException("Delivery " + i + " refers to a missing id");
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Appends a ball.
+     * @throws IllegalArgumentException If the ball cannot be packed losslessly into this innings.
+     */
+    public void add(Ball ball) {
+        if (!Objects.equals(ball.getMatchId(), matchId) || !Objects.equals(ball.getInningsId(), inningsId) ||
+                ball.getInningsNumber() != inningsNumber) {
+            throw new IllegalArgumentException("Ball " + ball.getBallId() + " is not of innings " + inningsId);
+        }
+        long delivery = field(ball.getRunsScored(), RUNS_MASK, RUNS_SHIFT, "runs")
+            | field(extrasCode(ball.getExtrasType()), EXTRAS_MASK, EXTRAS_SHIFT, "extras type")
+            | field(wicketCode(ball.getWicketType()), WICKET_TYPE_MASK, WICKET_TYPE_SHIFT, "wicket type")
+            | (ball.isWicket() ? 1L << WICKET_SHIFT : 0)
+            | (ball.isBoundary() ? 1L << BOUNDARY_SHIFT : 0)
+            | field(ball.getOverNumber(), OVER_NUMBER_MASK, OVER_NUMBER_SHIFT, "over number")
+            | field(ball.getBallNumber(), BALL_NUMBER_MASK, BALL_NUMBER_SHIFT, "ball number");
+        // Ids last: a rejected ball must not leave entries in the dictionary
+        int idsBefore = ids.size();
+        try {
+            delivery |= (long) idRef(ball.getBatsmanId()) << BATSMAN_SHIFT
+                | (long) idRef(ball.getBowlerId()) << BOWLER_SHIFT
+                | (long) idRef(ball.getOverId()) << OVER_REF_SHIFT;
+            long mostSigBits = 0;
+            long leastSigBits = 0;
+            UUID uuid = asUuid(ball.getBallId());
+            if (uuid != null) {
+                mostSigBits = uuid.getMostSignificantBits();
+                leastSigBits = uuid.getLeastSignificantBits();
+            } else {
+                leastSigBits = idRef(ball.getBallId());
+            }
+            ensureCapacity(size + 1);
+            deliveries[size] = delivery;
+            ballIds[2 * size] = mostSigBits;
+            ballIds[2 * size + 1] = leastSigBits;
+            size++;
+        } catch (IllegalArgumentException e) {
+            while (ids.size() > idsBefore) {
+                idRefs.remove(ids.remove(ids.size() - 1));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Unpacks one ball.
+     */
+    public Ball get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Ball " + index + " of " + size);
+        }
+        long delivery = deliveries[index];
+        Ball ball = new Ball();
+        ball.setBallId(ballId(index));
+        ball.setMatchId(matchId);
+        ball.setInningsId(inningsId);
+        ball.setInningsNumber(inningsNumber);
+        ball.setOverId(id(ref(delivery, OVER_REF_SHIFT)));
+        ball.setOverNumber(overNumber(delivery));
+        ball.setBallNumber(ballNumber(delivery));
+        ball.setBatsmanId(id(ref(delivery, BATSMAN_SHIFT)));
+        ball.setBowlerId(id(ref(delivery, BOWLER_SHIFT)));
+        ball.setRunsScored(runs(delivery));
+        ball.setWicket(isWicket(delivery));
+        ball.setBoundary(isBoundary(delivery));
+        ball.setExtrasType(extrasType(delivery));
+        ball.setWicketType(wicketType(delivery));
+        return ball;
+    }
+
+    /**
+     * Unpacks all balls, in order.
+     */
+    public List<Ball> unpack() {
+        List<Ball> balls = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            balls.add(get(i));
+        }
+        return balls;
+    }
+
+    public String getMatchId() { return matchId; }
+
+    public String getInningsId() { return inningsId; }
+
+    public int getInningsNumber() { return inningsNumber; }
+
+    public int size() { return size; }
+
+    /** The dictionary: reference r of a delivery is getIds().get(r - 1). */
+    public List<String> getIds() { return Collections.unmodifiableList(ids); }
+
+    /** One long per delivery, in order (see the class comment for the layout). */
+    public long[] getDeliveries() { return Arrays.copyOf(deliveries, size); }
+
+    /** Two longs per delivery, in order. */
+    public long[] getBallIds() { return Arrays.copyOf(ballIds, 2 * size); }
+
+    public long getDelivery(int index) { return deliveries[index]; }
+
+    /**
+     * Dictionary index of a player, or -1 if no delivery refers to them.
+     */
+    public int indexOf(String id) {
+        Integer ref = idRefs.get(id);
+        return ref != null ? ref - 1 : -1;
+    }
+
+    // --- TOTALS ---
+
+    public int totalRuns() {
+        int runs = 0;
+        for (int i = 0; i < size; i++) {
+            runs += runs(deliveries[i]);
+        }
+        return runs;
+    }
+
+    public int wickets() {
+        int wickets = 0;
+        for (int i = 0; i < size; i++) {
+            if (isWicket(deliveries[i])) wickets++;
+        }
+        return wickets;
+    }
+
+    /** Deliveries that count towards an over (see Ball.isLegalDelivery()). */
+    public int legalDeliveries() {
+        int legal = 0;
+        for (int i = 0; i < size; i++) {
+            if (isLegal(deliveries[i])) legal++;
+        }
+        return legal;
+    }
+
+    /**
+     * Runs scored on the deliveries each player faced, indexed like getIds().
+     */
+    public int[] runsByBatsman() {
+        int[] runs = new int[ids.size()];
+        for (int i = 0; i < size; i++) {
+            int ref = ref(deliveries[i], BATSMAN_SHIFT);
+            if (ref != 0) runs[ref - 1] += runs(deliveries[i]);
+        }
+        return runs;
+    }
+
+    /**
+     * Runs scored on the deliveries each player bowled, indexed like getIds().
+     */
+    public int[] runsByBowler() {
+        int[] runs = new int[ids.size()];
+        for (int i = 0; i < size; i++) {
+            int ref = ref(deliveries[i], BOWLER_SHIFT);
+            if (ref != 0) runs[ref - 1] += runs(deliveries[i]);
+        }
+        return runs;
+    }
+
+    // --- DELIVERY FIELDS ---
+
+    public static int runs(long delivery) {
+        return (int) ((delivery >>> RUNS_SHIFT) & RUNS_MASK);
+    }
+
+    public static boolean isWicket(long delivery) {
+        return (delivery & (1L << WICKET_SHIFT)) != 0;
+    }
+
+    public static boolean isBoundary(long delivery) {
+        return (delivery & (1L << BOUNDARY_SHIFT)) != 0;
+    }
+
+    public static String extrasType(long delivery) {
+        int code = (int) ((delivery >>> EXTRAS_SHIFT) & EXTRAS_MASK);
+        return code == 0 ? null : EXTRAS_TYPES[code - 1].name();
+    }
+
+    public static String wicketType(long delivery) {
+        int code = (int) ((delivery >>> WICKET_TYPE_SHIFT) & WICKET_TYPE_MASK);
+        return code == 0 ? null : WICKET_TYPES[code - 1].name();
+    }
+
+    public static boolean isLegal(long delivery) {
+        int code = (int) ((delivery >>> EXTRAS_SHIFT) & EXTRAS_MASK);
+        return code != ExtrasType.WIDE.ordinal() + 1 && code != ExtrasType.NO_BALL.ordinal() + 1;
+    }
+
+    public static int overNumber(long delivery) {
+        return (int) ((delivery >>> OVER_NUMBER_SHIFT) & OVER_NUMBER_MASK);
+    }
+
+    public static int ballNumber(long delivery) {
+        return (int) ((delivery >>> BALL_NUMBER_SHIFT) & BALL_NUMBER_MASK);
+    }
+
+    // --- HELPERS ---
+
+    private static int ref(long delivery, int shift) {
+        return (int) ((delivery >>> shift) & REF_MASK);
+    }
+
+    private String id(int ref) {
+        return ref == 0 ? null : ids.get(ref - 1);
+    }
+
+    private String ballId(int index) {
+        long mostSigBits = ballIds[2 * index];
+        long leastSigBits = ballIds[2 * index + 1];
+        if (mostSigBits != 0) return new UUID(mostSigBits, leastSigBits).toString();
+        return id((int) leastSigBits);
+    }
+
+    private int idRef(String id) {
+        if (id == null) return 0;
+        Integer ref = idRefs.get(id);
+        if (ref != null) return ref;
+        if (ids.size() == MAX_IDS) {
+            throw new IllegalArgumentException("More than " + MAX_IDS + " ids in innings " + inningsId);
+        }
+        ids.add(id);
+        idRefs.put(id, ids.size());
+        return ids.size();
+    }
+
+    /**
+     * The id as a UUID if it is one in canonical form (so that it prints back
+     * unchanged), else null. The nil UUID is left to the dictionary: a zero high half
+     * marks a dictionary reference.
+     */
+    private static UUID asUuid(String id) {
+        if (id == null || id.length() != 36) return null;
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.getMostSignificantBits() != 0 && uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long field(int value, long mask, int shift, String name) {
+        if (value < 0 || value > mask) {
+            throw new IllegalArgumentException("Cannot pack " + name + " " + value);
+        }
+        return (long) value << shift;
+    }
+
+    private static int extrasCode(String extrasType) {
+        if (extrasType == null) return 0;
+        for (ExtrasType type : EXTRAS_TYPES) {
+            if (type.name().equals(extrasType)) return type.ordinal() + 1;
+        }
+        throw new IllegalArgumentException("Unknown extras type " + extrasType);
+    }
+
+    private static int wicketCode(String wicketType) {
+        if (wicketType == null) return 0;
+        for (WicketType type : WICKET_TYPES) {
+            if (type.name().equals(wicketType)) return type.ordinal() + 1;
+        }
+        throw new IllegalArgumentException("Unknown wicket type " + wicketType);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > deliveries.length) {
+            int grown = Math.max(capacity, deliveries.length * 2);
+            deliveries = Arrays.copyOf(deliveries, grown);
+            ballIds = Arrays.copyOf(ballIds, grown * 2);
+        }
+    }
+}
@@ -6,13 +6,18 @@ import com.example.tournafy.domain.interfaces.MatchObserver;
 import com.example.tournafy.domain.models.base.Match;
 import com.example.tournafy.domain.models.base.MatchEvent;
 import com.example.tournafy.domain.models.match.MatchResult;
+import com.example.tournafy.domain.models.match.LiveTicker;
+import com.example.tournafy.domain.models.match.MatchSummary;
 import com.example.tournafy.domain.models.sport.SportTypeEnum;
 import com.example.tournafy.domain.models.team.MatchTeam;
 import com.example.tournafy.domain.models.team.Player;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.logging.Logger;
 
 /**
  * Concrete implementation of a Match for Football (Futsal).
@@ -20,6 +25,11 @@ import java.util.UUID;
  */
 public class FootballMatch extends Match {
 
+    private static final Logger LOG = Logger.getLogger("FootballMatch");
+
+    // Document field names used for field-level delta writes
+    public static final String FIELD_FOOTBALL_EVENTS = "footballEvents";
+
     private List<FootballEvent> footballEvents;
     private List<MatchTeam> teams; 
     
@@ -36,6 +46,17 @@ public class FootballMatch extends Match {
     
     private MatchResult matchResult;
 
+    // Indexes of the events and the rosters, built on first use (see timeline(), findPlayer());
+    // the roster index is rebuilt when a roster changes
+    private FootballTimeline timeline;
+    private Map<String, Player> playersById;
+    private Map<String, String> teamIdsByPlayer;
+    // The team list, and the list, size and last player of each roster, the roster index was built from
+    private List<MatchTeam> indexedTeams;
+    private Object[] indexedRosters;
+    private int[] indexedRosterSizes;
+    private Player[] indexedLastPlayers;
+
     public FootballMatch() {
         super();
         this.entityType = "MATCH";
@@ -65,13 +86,17 @@ public class FootballMatch extends Match {
         footballEvent.setAwayScoreAtEvent(this.awayScore);
         
         this.footballEvents.add(footballEvent);
+        trackAppend(FIELD_FOOTBALL_EVENTS, footballEvent);
+        if (timeline != null) timeline.add(footballEvent);
         
         if (footballEvent.getMatchMinute() > 0) {
             this.currentMatchMinute = footballEvent.getMatchMinute();
+            trackSet("currentMatchMinute", currentMatchMinute);
         }
         
         if (footballEvent.getMatchPeriod() != null && !footballEvent.getMatchPeriod().isEmpty()) {
             this.matchPeriod = footballEvent.getMatchPeriod();
+            trackSet("matchPeriod", matchPeriod);
         }
         
         String eventCategory = footballEvent.getEventCategory();
@@ -96,6 +121,7 @@ public class FootballMatch extends Match {
 
     public void updateMatchTime(int newMinute) {
         this.currentMatchMinute = newMinute;
+        trackSet("currentMatchMinute", currentMatchMinute);
         
         FootballMatchConfig config = (FootballMatchConfig) this.matchConfig;
         int halfDuration = config.getMatchDuration() / 2;
@@ -118,10 +144,13 @@ public class FootballMatch extends Match {
         boolean isHomeTeam = scoringTeam.isHomeTeam();
         boolean isOwnGoal = event.getGoalDetail().isOwnGoal();
         
-        if (isOwnGoal) {
-            if (isHomeTeam) this.awayScore++; else this.homeScore++;
+        boolean homeScored = isOwnGoal ? !isHomeTeam : isHomeTeam;
+        if (homeScored) {
+            this.homeScore++;
+            trackIncrement("homeScore", 1);
         } else {
-            if (isHomeTeam) this.homeScore++; else this.awayScore++;
+            this.awayScore++;
+            trackIncrement("awayScore", 1);
         }
         updateTeamScores();
     }
@@ -131,6 +160,7 @@ public class FootballMatch extends Match {
     private void endMatchPeriod() {
         if (this.matchPeriod.equals(MatchPeriod.FIRST_HALF.name())) {
             this.matchPeriod = MatchPeriod.SECOND_HALF.name();
+            trackSet("matchPeriod", matchPeriod);
             notifyStatusChanged("HALF_TIME");
         } else if (this.matchPeriod.equals(MatchPeriod.SECOND_HALF.name())) {
             determineWinner();
@@ -175,6 +205,8 @@ public class FootballMatch extends Match {
             this.matchResult.setWinMargin("Match Drawn");
         }
         
+        trackSet("winnerTeamId", winnerTeamId);
+        trackSet("matchResult", matchResult);
         setMatchStatus(MatchStatus.COMPLETED.name());
         this.status = "COMPLETED";
         
@@ -186,6 +218,7 @@ public class FootballMatch extends Match {
             if (team.isHomeTeam()) team.setScore(this.homeScore);
             else team.setScore(this.awayScore);
         }
+        trackSet("teams", teams);
     }
 
     // --- OBSERVER PATTERN IMPLEMENTATION ---
@@ -205,6 +238,8 @@ public class FootballMatch extends Match {
         this.status = MatchStatus.LIVE.name(); // Keep status in sync with matchStatus
         this.matchPeriod = MatchPeriod.FIRST_HALF.name();
         this.currentMatchMinute = 0;
+        trackSet("matchPeriod", matchPeriod);
+        trackSet("currentMatchMinute", currentMatchMinute);
         
         notifyStatusChanged(MatchStatus.LIVE.name());
     }
@@ -226,21 +261,21 @@ public class FootballMatch extends Match {
 
     @Override
     public boolean canStartMatch() {
-        android.util.Log.d("FootballMatch", "=== canStartMatch() START ===");
-        android.util.Log.d("FootballMatch", "Match ID: " + getEntityId());
-        android.util.Log.d("FootballMatch", "Match Status: " + getMatchStatus());
+        LOG.fine("=== canStartMatch() START ===");
+        LOG.fine("Match ID: " + getEntityId());
+        LOG.fine("Match Status: " + getMatchStatus());
         
         // Log teams object reference
-        android.util.Log.d("FootballMatch", "teams object: " + (teams != null ? teams.toString() : "NULL"));
+        LOG.fine("teams object: " + (teams != null ? teams.toString() : "NULL"));
         
         if (teams == null || teams.size() < 2 || matchConfig == null) {
-            android.util.Log.d("FootballMatch", "Basic validation failed - teams: " + (teams != null ? teams.size() : "null") + 
+            LOG.fine("Basic validation failed - teams: " + (teams != null ? teams.size() : "null") + 
                               ", config: " + (matchConfig != null ? "present" : "null"));
             return false;
         }
         
         if (!getMatchStatus().equals(MatchStatus.SCHEDULED.name())) {
-            android.util.Log.d("FootballMatch", "Match status is not SCHEDULED: " + getMatchStatus());
+            LOG.fine("Match status is not SCHEDULED: " + getMatchStatus());
             return false;
         }
         
@@ -249,37 +284,37 @@ public class FootballMatch extends Match {
             FootballMatchConfig config = (FootballMatchConfig) matchConfig;
             int minPlayers = config.getPlayersPerSide();
             
-            android.util.Log.d("FootballMatch", "Minimum players required: " + minPlayers);
+            LOG.fine("Minimum players required: " + minPlayers);
             
             // Verify each team has minimum required players
             int teamIndex = 0;
             for (MatchTeam team : teams) {
-                android.util.Log.d("FootballMatch", "Checking team " + teamIndex);
-                android.util.Log.d("FootballMatch", "  - Team ID: " + team.getTeamId());
-                android.util.Log.d("FootballMatch", "  - Team Name: " + team.getTeamName());
-                android.util.Log.d("FootballMatch", "  - Players list: " + (team.getPlayers() != null ? "NOT NULL" : "NULL"));
+                LOG.fine("Checking team " + teamIndex);
+                LOG.fine("  - Team ID: " + team.getTeamId());
+                LOG.fine("  - Team Name: " + team.getTeamName());
+                LOG.fine("  - Players list: " + (team.getPlayers() != null ? "NOT NULL" : "NULL"));
                 
                 int playerCount = (team.getPlayers() != null) ? team.getPlayers().size() : 0;
-                android.util.Log.d("FootballMatch", "  - Player count: " + playerCount);
+                LOG.fine("  - Player count: " + playerCount);
                 
                 // Log each player
                 if (team.getPlayers() != null) {
                     for (int i = 0; i < team.getPlayers().size(); i++) {
                         Player p = team.getPlayers().get(i);
-                        android.util.Log.d("FootballMatch", "    Player " + i + ": " + 
+                        LOG.fine("    Player " + i + ": " + 
                             (p != null ? (p.getPlayerName() + " (ID: " + p.getPlayerId() + ")") : "NULL"));
                     }
                 }
                 
                 if (team.getPlayers() == null || team.getPlayers().size() < minPlayers) {
-                    android.util.Log.d("FootballMatch", "Team " + teamIndex + " does not have enough players (need " + minPlayers + ", have " + playerCount + ")");
+                    LOG.fine("Team " + teamIndex + " does not have enough players (need " + minPlayers + ", have " + playerCount + ")");
                     return false;
                 }
                 teamIndex++;
             }
         }
         
-        android.util.Log.d("FootballMatch", "=== canStartMatch() returning TRUE ===");
+        LOG.fine("=== canStartMatch() returning TRUE ===");
         return true;
     }
 
@@ -291,26 +326,136 @@ public class FootballMatch extends Match {
     public void addMatchEvent(MatchEvent event) {
         if (event instanceof FootballEvent) {
             this.footballEvents.add((FootballEvent) event);
+            trackAppend(FIELD_FOOTBALL_EVENTS, event);
+            if (timeline != null) timeline.add((FootballEvent) event);
         }
     }
 
     @Override
     public void removeMatchEvent(MatchEvent event) {
-        this.footballEvents.remove(event);
+        if (this.footballEvents.remove(event)) {
+            trackRemove(FIELD_FOOTBALL_EVENTS, event);
+            recordRemoval(event.getEventId());
+            if (timeline != null) timeline.remove((FootballEvent) event);
+        }
+    }
+
+    /**
+     * The events indexed by minute, category, team and player, with running team
+     * totals. Built from the event list on first use, then kept up to date by
+     * processEvent, addMatchEvent and removeMatchEvent.
+     * Not a bean getter: the database mappers never serialize it.
+     */
+    public FootballTimeline timeline() {
+        if (timeline == null) {
+            timeline = new FootballTimeline(footballEvents != null ? footballEvents : new ArrayList<>());
+        }
+        return timeline;
+    }
+
+    /**
+     * Looks a player up in the team rosters.
+     * @return The player, or null if no team lists them.
+     */
+    public Player findPlayer(String playerId) {
+        if (playerId == null) return null;
+        if (rostersChanged()) {
+            indexRosters();
+        }
+        return playersById.get(playerId);
+    }
+
+    /**
+     * Whether a team or a roster was added, removed or replaced, or a player added to
+     * or removed from a roster, since the roster index was built. O(teams).
+     * A player replaced in place inside a roster (List.set) is not seen; set the
+     * roster again with MatchTeam.setPlayers() instead.
+     */
+    private boolean rostersChanged() {
+        if (playersById == null || indexedTeams != teams) return true;
+        if (teams == null) return false;
+        if (indexedRosters.length != teams.size()) return true;
+        for (int i = 0; i < indexedRosters.length; i++) {
+            MatchTeam team = teams.get(i);
+            List<Player> players = team != null ? team.getPlayers() : null;
+            if (indexedRosters[i] != players) return true;
+            if (players == null) continue;
+            if (indexedRosterSizes[i] != players.size()) return true;
+            if (!players.isEmpty() && indexedLastPlayers[i] != players.get(players.size() - 1)) return true;
+        }
+        return false;
+    }
+
+    private void indexRosters() {
+        playersById = new HashMap<>();
+        teamIdsByPlayer = new HashMap<>();
+        indexedTeams = teams;
+        if (teams == null) return;
+        indexedRosters = new Object[teams.size()];
+        indexedRosterSizes = new int[teams.size()];
+        indexedLastPlayers = new Player[teams.size()];
+        for (int i = 0; i < teams.size(); i++) {
+            MatchTeam team = teams.get(i);
+            if (team == null || team.getPlayers() == null) continue;
+            indexedRosters[i] = team.getPlayers();
+            indexedRosterSizes[i] = team.getPlayers().size();
+            if (!team.getPlayers().isEmpty()) indexedLastPlayers[i] = team.getPlayers().get(team.getPlayers().size() - 1);
+            for (Player player : team.getPlayers()) {
+                if (player == null || player.getPlayerId() == null) continue;
+                playersById.put(player.getPlayerId(), player);
+                teamIdsByPlayer.put(player.getPlayerId(), team.getTeamId());
+            }
+        }
     }
 
     @Override
     public void setHomeScore(int score) {
+        trackIncrement("homeScore", score - this.homeScore);
         this.homeScore = score;
         updateTeamScores();
     }
 
     @Override
     public void setAwayScore(int score) {
+        trackIncrement("awayScore", score - this.awayScore);
         this.awayScore = score;
         updateTeamScores();
     }
 
+    /**
+     * Adds the home and away teams and their goals to the list projection.
+     */
+    @Override
+    protected void populateSummary(MatchSummary summary) {
+        if (teams == null) return;
+        MatchTeam homeTeam = getHomeTeam();
+        MatchTeam awayTeam = getAwayTeam();
+        if (homeTeam != null) {
+            summary.setHomeTeamId(homeTeam.getTeamId());
+            summary.setHomeTeamName(homeTeam.getTeamName());
+        }
+        if (awayTeam != null) {
+            summary.setAwayTeamId(awayTeam.getTeamId());
+            summary.setAwayTeamName(awayTeam.getTeamName());
+        }
+        summary.setHomeScore(String.valueOf(homeScore));
+        summary.setAwayScore(String.valueOf(awayScore));
+    }
+
+    /**
+     * Adds the teams, their goals and the elapsed minute to the live ticker.
+     */
+    @Override
+    protected void populateLiveTicker(LiveTicker ticker) {
+        MatchTeam homeTeam = teams != null ? getHomeTeam() : null;
+        MatchTeam awayTeam = teams != null ? getAwayTeam() : null;
+        if (homeTeam != null) ticker.setHomeTeamName(homeTeam.getTeamName());
+        if (awayTeam != null) ticker.setAwayTeamName(awayTeam.getTeamName());
+        ticker.setHomeScore(String.valueOf(homeScore));
+        ticker.setAwayScore(String.valueOf(awayScore));
+        ticker.setMinute((int) (elapsedTimeMillis / 60_000L));
+    }
+
     @Override
     public String getHomeTeamId() {
         MatchTeam homeTeam = getHomeTeam();
@@ -322,6 +467,43 @@ public class FootballMatch extends Match {
         // Placeholder implementation for Command Pattern execution
     }
 
+    /**
+     * Swaps the isStartingXI status when a substitution occurs.
+     * Player going out becomes bench player (isStartingXI = false)
+     * Player coming in becomes starting player (isStartingXI = true)
+     */
+    public void applyLineupSubstitution(String teamId, String playerOutId, String playerInId) {
+        if (teamId == null || teams == null) return;
+
+        Player playerOut = findPlayer(playerOutId);
+        if (playerOut != null && teamId.equals(teamIdsByPlayer.get(playerOutId))) {
+            playerOut.setStartingXI(false);
+        }
+        Player playerIn = findPlayer(playerInId);
+        if (playerIn != null && teamId.equals(teamIdsByPlayer.get(playerInId))) {
+            playerIn.setStartingXI(true);
+        }
+        trackSet("teams", teams);
+    }
+
+    // --- EVENT LOG REPLAY ---
+
+    /**
+     * Replays a logged event on top of a loaded snapshot: the event goes through
+     * processEvent, and substitutions are applied to the lineup the same way the
+     * live scoring flow does.
+     */
+    @Override
+    public void replayEvent(MatchEvent event) {
+        processEvent(event);
+
+        FootballEvent footballEvent = (FootballEvent) event;
+        FootballSubstitutionDetail sub = footballEvent.getSubstitutionDetail();
+        if ("SUBSTITUTION".equalsIgnoreCase(footballEvent.getEventCategory()) && sub != null) {
+            applyLineupSubstitution(footballEvent.getTeamId(), sub.getPlayerOutId(), sub.getPlayerInId());
+        }
+    }
+
     // =========================================================================
     // NEW: CRICKET-SPECIFIC METHODS (Returning Safe Defaults for ISP/LSP)
     // =========================================================================
@@ -366,20 +548,45 @@ public class FootballMatch extends Match {
     }
     
     public List<FootballEvent> getFootballEvents() { return footballEvents; }
-    public void setFootballEvents(List<FootballEvent> footballEvents) { this.footballEvents = footballEvents; }
+    public void setFootballEvents(List<FootballEvent> footballEvents) {
+        this.footballEvents = footballEvents;
+        timeline = null;
+        trackSet(FIELD_FOOTBALL_EVENTS, footballEvents);
+    }
     public List<MatchTeam> getTeams() { return teams; }
-    public void setTeams(List<MatchTeam> teams) { this.teams = teams; }
+    public void setTeams(List<MatchTeam> teams) {
+        this.teams = teams;
+        trackSet("teams", teams);
+    }
     public int getHomeScore() { return homeScore; }
     public int getAwayScore() { return awayScore; }
     public int getCurrentMatchMinute() { return currentMatchMinute; }
+    public void setCurrentMatchMinute(int currentMatchMinute) {
+        this.currentMatchMinute = currentMatchMinute;
+        trackSet("currentMatchMinute", currentMatchMinute);
+    }
     public String getMatchPeriod() { return matchPeriod; }
+    public void setMatchPeriod(String matchPeriod) {
+        this.matchPeriod = matchPeriod;
+        trackSet("matchPeriod", matchPeriod);
+    }
     public MatchResult getMatchResult() { return matchResult; }
+    public void setMatchResult(MatchResult matchResult) {
+        this.matchResult = matchResult;
+        trackSet("matchResult", matchResult);
+    }
     
     // Timer state getters/setters
     public long getElapsedTimeMillis() { return elapsedTimeMillis; }
-    public void setElapsedTimeMillis(long elapsedTimeMillis) { this.elapsedTimeMillis = elapsedTimeMillis; }
+    public void setElapsedTimeMillis(long elapsedTimeMillis) {
+        this.elapsedTimeMillis = elapsedTimeMillis;
+        trackSet("elapsedTimeMillis", elapsedTimeMillis);
+    }
     public boolean isTimerRunning() { return timerRunning; }
-    public void setTimerRunning(boolean timerRunning) { this.timerRunning = timerRunning; }
+    public void setTimerRunning(boolean timerRunning) {
+        this.timerRunning = timerRunning;
+        trackSet("timerRunning", timerRunning);
+    }
 
 
     public static class Builder extends Match.Builder<Builder> {
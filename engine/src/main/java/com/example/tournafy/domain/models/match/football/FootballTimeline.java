@@ -0,0 +1,247 @@
+package com.example.tournafy.domain.models.match.football;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of the events of a football match by minute, category, team and player, with
+ * running per-team totals. Kept by FootballMatch as events are added and removed (see
+ * FootballMatch.timeline()), so statistics and timeline screens do not rescan the
+ * event list on every refresh.
+ *
+ * Adding or removing an event updates the category, team and player indexes and the
+ * team totals in constant time, and the minute index in O(log m) for m distinct
+ * minutes. eventsBetween() is O(log m + k) for k events returned.
+ *
+ * Events are indexed by the values they have when added (category, team, details):
+ * they must not change while indexed. Within a minute, events keep the order they
+ * were added in. Not thread-safe.
+ */
+public class FootballTimeline {
+
+    /**
+     * Running totals of one team. A goal also counts as a shot on target, and a card
+     * that is not RED as a yellow card, as on the statistics screen.
+     */
+    public static final class TeamStats {
+        private int goals;
+        private int shots;
+        private int shotsOnTarget;
+        private int saves;
+        private int yellowCards;
+        private int redCards;
+        private int substitutions;
+        private int corners;
+        private int fouls;
+        private int offsides;
+
+        /** Goal events recorded for the team, own goals included. */
+        public int getGoals() { return goals; }
+        public int getShots() { return shots; }
+        public int getShotsOnTarget() { return shotsOnTarget; }
+        public int getSaves() { return saves; }
+        public int getYellowCards() { return yellowCards; }
+        public int getRedCards() { return redCards; }
+        public int getSubstitutions() { return substitutions; }
+        public int getCorners() { return corners; }
+        public int getFouls() { return fouls; }
+        public int getOffsides() { return offsides; }
+
+        private void apply(FootballEvent event, String category, int delta) {
+            switch (category) {
+                case "GOAL":
+                    goals += delta;
+                    shots += delta;
+                    shotsOnTarget += delta;
+                    break;
+                case "SHOT":
+                    shots += delta;
+                    if (event.getShotDetail() != null && event.getShotDetail().isOnTarget()) shotsOnTarget += delta;
+                    break;
+                case "SAVE":
+                    saves += delta;
+                    break;
+                case "CARD":
+                    if (event.getCardDetail() == null) break;
+                    if ("RED".equals(event.getCardDetail().getCardType())) redCards += delta;
+                    else yellowCards += delta;
+                    break;
+                case "SUBSTITUTION":
+                    substitutions += delta;
+                    break;
+                case "CORNER":
+                    corners += delta;
+                    break;
+                case "FOUL":
+                    fouls += delta;
+                    break;
+                case "OFFSIDE":
+                    offsides += delta;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static final TeamStats NO_STATS = new TeamStats();
+
+    private final NavigableMap<Integer, Set<FootballEvent>> byMinute = new TreeMap<>();
+    private final Map<String, Set<FootballEvent>> byCategory = new HashMap<>();
+    private final Map<String, Set<FootballEvent>> byTeam = new HashMap<>();
+    private final Map<String, Set<FootballEvent>> byPlayer = new HashMap<>();
+    private final Map<String, TeamStats> teamStats = new HashMap<>();
+    private int size;
+
+    public FootballTimeline() {
+    }
+
+    public FootballTimeline(Collection<FootballEvent> events) {
+        for (FootballEvent event : events) {
+            add(event);
+        }
+    }
+
+    public void add(FootballEvent event) {
+        if (event == null) return;
+        byMinute.computeIfAbsent(event.getMatchMinute(), minute -> new LinkedHashSet<>()).add(event);
+        String category = categoryOf(event);
+        if (category != null) index(byCategory, category, event);
+        if (event.getTeamId() != null) {
+            index(byTeam, event.getTeamId(), event);
+            if (category != null) {
+                teamStats.computeIfAbsent(event.getTeamId(), teamId -> new TeamStats()).apply(event, category, 1);
+            }
+        }
+        for (String playerId : playersOf(event)) {
+            index(byPlayer, playerId, event);
+        }
+        size++;
+    }
+
+    /**
+     * Removes an event added before (the same instance); other events are ignored.
+     */
+    public void remove(FootballEvent event) {
+        if (event == null) return;
+        Set<FootballEvent> minute = byMinute.get(event.getMatchMinute());
+        if (minute == null || !minute.remove(event)) return;
+        if (minute.isEmpty()) byMinute.remove(event.getMatchMinute());
+        String category = categoryOf(event);
+        if (category != null) unindex(byCategory, category, event);
+        if (event.getTeamId() != null) {
+            unindex(byTeam, event.getTeamId(), event);
+            TeamStats stats = teamStats.get(event.getTeamId());
+            if (stats != null && category != null) stats.apply(event, category, -1);
+        }
+        for (String playerId : playersOf(event)) {
+            unindex(byPlayer, playerId, event);
+        }
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * All events, by minute: the order of the timeline screen.
+     */
+    public List<FootballEvent> events() {
+        List<FootballEvent> events = new ArrayList<>(size);
+        for (Set<FootballEvent> minute : byMinute.values()) {
+            events.addAll(minute);
+        }
+        return events;
+    }
+
+    /**
+     * Events from minute fromMinute to minute toMinute, both included, by minute.
+     */
+    public List<FootballEvent> eventsBetween(int fromMinute, int toMinute) {
+        List<FootballEvent> events = new ArrayList<>();
+        if (fromMinute > toMinute) return events;
+        for (Set<FootballEvent> minute : byMinute.subMap(fromMinute, true, toMinute, true).values()) {
+            events.addAll(minute);
+        }
+        return events;
+    }
+
+    /**
+     * Events of a category (EventCategory name, any case), in the order they were added.
+     */
+    public List<FootballEvent> eventsOf(String category) {
+        return category != null ? listOf(byCategory.get(category.toUpperCase(Locale.ROOT))) : Collections.emptyList();
+    }
+
+    public List<FootballEvent> eventsOfTeam(String teamId) {
+        return listOf(byTeam.get(teamId));
+    }
+
+    /**
+     * Events naming the player: scorer or assist, card, shot, save (goalkeeper or
+     * shooter), or either side of a substitution.
+     */
+    public List<FootballEvent> eventsOfPlayer(String playerId) {
+        return listOf(byPlayer.get(playerId));
+    }
+
+    /**
+     * @return The team's totals; all zero if it has no events. Read-only.
+     */
+    public TeamStats statsOf(String teamId) {
+        TeamStats stats = teamStats.get(teamId);
+        return stats != null ? stats : NO_STATS;
+    }
+
+    private static String categoryOf(FootballEvent event) {
+        return event.getEventCategory() != null ? event.getEventCategory().toUpperCase(Locale.ROOT) : null;
+    }
+
+    private static List<String> playersOf(FootballEvent event) {
+        List<String> players = new ArrayList<>(2);
+        if (event.getGoalDetail() != null) {
+            addPlayer(players, event.getGoalDetail().getScorerId());
+            addPlayer(players, event.getGoalDetail().getAssistPlayerId());
+        }
+        if (event.getCardDetail() != null) addPlayer(players, event.getCardDetail().getPlayerId());
+        if (event.getShotDetail() != null) addPlayer(players, event.getShotDetail().getPlayerId());
+        if (event.getSaveDetail() != null) {
+            addPlayer(players, event.getSaveDetail().getGoalkeeperId());
+            addPlayer(players, event.getSaveDetail().getShotOriginPlayerId());
+        }
+        if (event.getSubstitutionDetail() != null) {
+            addPlayer(players, event.getSubstitutionDetail().getPlayerOutId());
+            addPlayer(players, event.getSubstitutionDetail().getPlayerInId());
+        }
+        return players;
+    }
+
+    private static void addPlayer(List<String> players, String playerId) {
+        if (playerId != null && !players.contains(playerId)) players.add(playerId);
+    }
+
+    private static void index(Map<String, Set<FootballEvent>> index, String key, FootballEvent event) {
+        index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(event);
+    }
+
+    private static void unindex(Map<String, Set<FootballEvent>> index, String key, FootballEvent event) {
+        Set<FootballEvent> events = index.get(key);
+        if (events == null) return;
+        events.remove(event);
+        if (events.isEmpty()) index.remove(key);
+    }
+
+    private static List<FootballEvent> listOf(Set<FootballEvent> events) {
+        return events != null ? new ArrayList<>(events) : Collections.emptyList();
+    }
+}
@@ -2,13 +2,15 @@ package com.example.tournafy.domain.models.search;
 
 /**
  * Model class representing a search result.
- * Can represent a Match, Tournament, or Series.
+ * Can represent a Match, Tournament, Series, Team or Player.
  */
 public class SearchResult {
     
     public static final int TYPE_MATCH = 0;
     public static final int TYPE_TOURNAMENT = 1;
     public static final int TYPE_SERIES = 2;
+    public static final int TYPE_TEAM = 3;
+    public static final int TYPE_PLAYER = 4;
     
     private String id;
     private int type;
@@ -0,0 +1,94 @@
+package com.example.tournafy.domain.models.search;
+
+/**
+ * One posting of the search index ("search_terms" collection): a token (normalized
+ * word or edge n-gram of a name) pointing to an entity, with its rank score.
+ *
+ * The document ID is "{token}|{entityKey}", so re-indexing an entity overwrites its
+ * postings. The display fields are copied in, so a result page needs no further reads.
+ */
+public class SearchTerm {
+
+    private String token;
+    private String entityKey;      // "{type}:{entityId}"
+    private int type;              // SearchResult.TYPE_*
+    private String entityId;
+    private String title;
+    private String normalizedTitle; // For multi-word queries, filtered on the client
+    private String subtitle;
+    private String code;
+    private String sportId;
+    private long score;
+
+    public SearchTerm() {
+        // Required for Firestore
+    }
+
+    /**
+     * @param token The indexed token.
+     * @param score The rank of the entity for this token.
+     * @param normalizedTitle The normalized name the token was taken from.
+     * @param entity The entity, as the search result it is shown as.
+     */
+    public SearchTerm(String token, long score, String normalizedTitle, SearchResult entity) {
+        this.token = token;
+        this.score = score;
+        this.normalizedTitle = normalizedTitle;
+        this.entityKey = keyOf(entity.getType(), entity.getId());
+        this.type = entity.getType();
+        this.entityId = entity.getId();
+        this.title = entity.getTitle();
+        this.subtitle = entity.getSubtitle();
+        this.code = entity.getCode();
+        this.sportId = entity.getSportId();
+    }
+
+    /**
+     * @return Key identifying the entity across types.
+     */
+    public static String keyOf(int type, String entityId) {
+        return type + ":" + entityId;
+    }
+
+    /**
+     * @return The search result this posting is displayed as.
+     */
+    public SearchResult toResult() {
+        SearchResult result = new SearchResult(entityId, type, title, subtitle);
+        result.setCode(code);
+        result.setSportId(sportId);
+        return result;
+    }
+
+    // --- Getters and Setters ---
+
+    public String getToken() { return token; }
+    public void setToken(String token) { this.token = token; }
+
+    public String getEntityKey() { return entityKey; }
+    public void setEntityKey(String entityKey) { this.entityKey = entityKey; }
+
+    public int getType() { return type; }
+    public void setType(int type) { this.type = type; }
+
+    public String getEntityId() { return entityId; }
+    public void setEntityId(String entityId) { this.entityId = entityId; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getNormalizedTitle() { return normalizedTitle; }
+    public void setNormalizedTitle(String normalizedTitle) { this.normalizedTitle = normalizedTitle; }
+
+    public String getSubtitle() { return subtitle; }
+    public void setSubtitle(String subtitle) { this.subtitle = subtitle; }
+
+    public String getCode() { return code; }
+    public void setCode(String code) { this.code = code; }
+
+    public String getSportId() { return sportId; }
+    public void setSportId(String sportId) { this.sportId = sportId; }
+
+    public long getScore() { return score; }
+    public void setScore(long score) { this.score = score; }
+}
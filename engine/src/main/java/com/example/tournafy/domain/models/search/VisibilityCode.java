@@ -0,0 +1,46 @@
+package com.example.tournafy.domain.models.search;
+
+/**
+ * Entry of the "codes" index collection: maps a shareable code to the entity it opens.
+ *
+ * The document ID is the normalized code (LinkGenerator.normalizeCode: uppercase,
+ * no hyphens), so resolving a code typed by a user or taken from a deep link is a
+ * single document read instead of a scan of every match.
+ */
+public class VisibilityCode {
+
+    private String code;        // Normalized code, same as the document ID
+    private String displayCode; // Code as generated, e.g. "MHA-E2B"
+    private String entityType;  // "MATCH", "TOURNAMENT" or "SERIES"
+    private String entityId;
+    private String hostUserId;
+
+    public VisibilityCode() {
+        // Required for Firestore
+    }
+
+    public VisibilityCode(String code, String displayCode, String entityType, String entityId, String hostUserId) {
+        this.code = code;
+        this.displayCode = displayCode;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.hostUserId = hostUserId;
+    }
+
+    // --- Getters and Setters ---
+
+    public String getCode() { return code; }
+    public void setCode(String code) { this.code = code; }
+
+    public String getDisplayCode() { return displayCode; }
+    public void setDisplayCode(String displayCode) { this.displayCode = displayCode; }
+
+    public String getEntityType() { return entityType; }
+    public void setEntityType(String entityType) { this.entityType = entityType; }
+
+    public String getEntityId() { return entityId; }
+    public void setEntityId(String entityId) { this.entityId = entityId; }
+
+    public String getHostUserId() { return hostUserId; }
+    public void setHostUserId(String hostUserId) { this.hostUserId = hostUserId; }
+}
@@ -0,0 +1,100 @@
+package com.example.tournafy.domain.models.sync;
+
+import java.util.Locale;
+
+/**
+ * Hybrid logical clock (physical milliseconds + logical counter + node id) used to
+ * stamp field groups of a match for the field-level sync merge (see
+ * FieldMergeSyncStrategy).
+ *
+ * Stamps are strings of the form "{millis, 13 digits}-{counter, 6 hex digits}-{nodeId}",
+ * so they compare correctly as plain strings and are stored as-is in Firestore and the
+ * Realtime Database. A stamp is always greater than every stamp this clock produced or
+ * observed before, even if the device's wall clock goes backwards, and it stays close
+ * to wall-clock time. Two devices never produce the same stamp because of the node id.
+ *
+ * Thread-safe.
+ */
+public class HybridLogicalClock {
+
+    /**
+     * Source of wall-clock time in milliseconds (System::currentTimeMillis in the app).
+     */
+    public interface WallClock {
+        long millis();
+    }
+
+    private final String nodeId;
+    private final WallClock wallClock;
+    private long physical;
+    private int logical;
+
+    public HybridLogicalClock(String nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    public HybridLogicalClock(String nodeId, WallClock wallClock) {
+        this.nodeId = nodeId;
+        this.wallClock = wallClock;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @return A new stamp for a local change.
+     */
+    public synchronized String now() {
+        long wall = wallClock.millis();
+        if (wall > physical) {
+            physical = wall;
+            logical = 0;
+        } else {
+            logical++;
+        }
+        return format(physical, logical, nodeId);
+    }
+
+    /**
+     * Moves the clock past a stamp received from another node, so later local stamps
+     * order after it. Invalid stamps are ignored.
+     */
+    public synchronized void observe(String stamp) {
+        if (stamp == null) return;
+        long remotePhysical;
+        int remoteLogical;
+        try {
+            remotePhysical = Long.parseLong(stamp.substring(0, 13));
+            remoteLogical = Integer.parseInt(stamp.substring(14, 20), 16);
+        } catch (RuntimeException e) {
+            return;
+        }
+        if (remotePhysical > physical) {
+            physical = remotePhysical;
+            logical = remoteLogical;
+        } else if (remotePhysical == physical && remoteLogical > logical) {
+            logical = remoteLogical;
+        }
+    }
+
+    /**
+     * Orders two stamps; a missing stamp (null) is older than any stamp.
+     */
+    public static int compare(String a, String b) {
+        if (a == null) return b == null ? 0 : -1;
+        if (b == null) return 1;
+        return a.compareTo(b);
+    }
+
+    /**
+     * @return The newer of two stamps (either one if equal).
+     */
+    public static String max(String a, String b) {
+        return compare(a, b) >= 0 ? a : b;
+    }
+
+    private static String format(long physical, int logical, String nodeId) {
+        return String.format(Locale.US, "%013d-%06x-%s", physical, logical, nodeId);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.tournafy.domain.models.sync;
+
+import com.example.tournafy.domain.models.match.cricket.Ball;
+import com.example.tournafy.domain.models.match.cricket.CricketEvent;
+
+import java.util.Locale;
+
+/**
+ * One scoring operation of a match shared by several scorers (host and co-hosts),
+ * stored in the per-match operation log "match_ops/{matchId}/{opId}".
+ *
+ * An operation is identified by (lamport, clientId): the Lamport time of the client
+ * that created it and that client's id. The id is formatted so that ordering ids as
+ * strings is the total order of the log (lamport first, then clientId), which every
+ * client applies to reach the same match state (see MatchOperationLog).
+ */
+public class MatchOperation {
+
+    public static final String TYPE_BALL = "BALL";
+    public static final String TYPE_WICKET = "WICKET";
+    public static final String TYPE_EXTRAS = "EXTRAS";
+    public static final String TYPE_UNDO = "UNDO";
+
+    private String opId;
+    private String matchId;
+    private String clientId;
+    private long lamport;
+    private String type;           // BALL, WICKET, EXTRAS, UNDO
+    private CricketEvent event;    // The delivery (BALL / WICKET / EXTRAS)
+    private Ball ball;
+    private String targetOpId;     // The operation cancelled by an UNDO
+    private long createdAt;
+
+    // No-arg constructor for Firebase
+    public MatchOperation() {}
+
+    public MatchOperation(String matchId, String clientId, long lamport, String type) {
+        this.opId = idOf(lamport, clientId);
+        this.matchId = matchId;
+        this.clientId = clientId;
+        this.lamport = lamport;
+        this.type = type;
+        this.createdAt = System.currentTimeMillis();
+    }
+
+    /**
+     * @return The id of the operation created by a client at a Lamport time. Ids sort
+     *         as strings in the total order of the log.
+     */
+    public static String idOf(long lamport, String clientId) {
+        return String.format(Locale.US, "%012d-%s", lamport, clientId);
+    }
+
+    /**
+     * Total order of the log: Lamport time, then client id.
+     */
+    public static int compare(MatchOperation a, MatchOperation b) {
+        int byTime = Long.compare(a.lamport, b.lamport);
+        return byTime != 0 ? byTime : a.clientId.compareTo(b.clientId);
+    }
+
+    public boolean isUndo() {
+        return TYPE_UNDO.equals(type);
+    }
+
+    public String getOpId() { return opId; }
+    public void setOpId(String opId) { this.opId = opId; }
+
+    public String getMatchId() { return matchId; }
+    public void setMatchId(String matchId) { this.matchId = matchId; }
+
+    public String getClientId() { return clientId; }
+    public void setClientId(String clientId) { this.clientId = clientId; }
+
+    public long getLamport() { return lamport; }
+    public void setLamport(long lamport) { this.lamport = lamport; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public CricketEvent getEvent() { return event; }
+    public void setEvent(CricketEvent event) { this.event = event; }
+
+    public Ball getBall() { return ball; }
+    public void setBall(Ball ball) { this.ball = ball; }
+
+    public String getTargetOpId() { return targetOpId; }
+    public void setTargetOpId(String targetOpId) { this.targetOpId = targetOpId; }
+
+    public long getCreatedAt() { return createdAt; }
+    public void setCreatedAt(long createdAt) { this.createdAt = createdAt; }
+}
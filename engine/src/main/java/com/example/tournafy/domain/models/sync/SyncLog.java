@@ -1,6 +1,8 @@
 package com.example.tournafy.domain.models.sync;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 /**
  * Domain Model for a Sync Log.
@@ -17,6 +19,11 @@ public class SyncLog {
     private String syncDirection; // "UP", "DOWN"
     private String errorMessage;
     private int retryCount;
+    private String status; // "PENDING", "FAILED", "SYNCED"
+    private List<String> paths = new ArrayList<>(); // Online paths still to be written
+    private List<String> removedPaths = new ArrayList<>(); // Online paths still to be deleted
+    private Date createdAt;
+    private Date lastAttemptAt;
 
     // No-arg constructor for Firestore
     public SyncLog() {}
@@ -85,4 +92,44 @@ public class SyncLog {
     public void setRetryCount(int retryCount) {
         this.retryCount = retryCount;
     }
-}
\ No newline at end of file
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths != null ? paths : new ArrayList<>();
+    }
+
+    public List<String> getRemovedPaths() {
+        return removedPaths;
+    }
+
+    public void setRemovedPaths(List<String> removedPaths) {
+        this.removedPaths = removedPaths != null ? removedPaths : new ArrayList<>();
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Date getLastAttemptAt() {
+        return lastAttemptAt;
+    }
+
+    public void setLastAttemptAt(Date lastAttemptAt) {
+        this.lastAttemptAt = lastAttemptAt;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.tournafy.domain.models.sync;
+
+import java.util.Date;
+
+/**
+ * How far an online entity (match, tournament, series) downloaded for offline viewing
+ * is up to date. Stored offline in "sync_watermarks/{entityId}", written in the same
+ * batch as the downloaded data, so it never runs ahead of it.
+ *
+ * The position is the last change read from the entity's change index
+ * ("sync_index/{entityId}", see SyncIndexFirebaseRepository): its server timestamp and,
+ * for changes with the same timestamp, its key. The next pull asks only for what
+ * comes after it.
+ */
+public class SyncWatermark {
+
+    private String entityId;
+    private String entityType;   // "MATCH", "TOURNAMENT", "SERIES"
+    private long serverTime;     // Server timestamp (ms) of the last change applied
+    private String lastKey;      // Index key of that change, to order changes with equal timestamps
+    private long seq;            // Number of changes applied so far
+    private Date pulledAt;
+
+    // No-arg constructor for Firestore
+    public SyncWatermark() {}
+
+    public String getEntityId() { return entityId; }
+    public void setEntityId(String entityId) { this.entityId = entityId; }
+
+    public String getEntityType() { return entityType; }
+    public void setEntityType(String entityType) { this.entityType = entityType; }
+
+    public long getServerTime() { return serverTime; }
+    public void setServerTime(long serverTime) { this.serverTime = serverTime; }
+
+    public String getLastKey() { return lastKey; }
+    public void setLastKey(String lastKey) { this.lastKey = lastKey; }
+
+    public long getSeq() { return seq; }
+    public void setSeq(long seq) { this.seq = seq; }
+
+    public Date getPulledAt() { return pulledAt; }
+    public void setPulledAt(Date pulledAt) { this.pulledAt = pulledAt; }
+}
@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.Date;
 import java.util.Map;
 import com.example.tournafy.domain.models.team.TournamentTeam;
-import com.google.firebase.firestore.Exclude;
 
 public class Tournament extends HostedEntity {
 
@@ -1,6 +1,5 @@
 package com.example.tournafy.domain.models.user;
 
-import com.google.firebase.firestore.Exclude;
 import java.io.Serializable;
 
 /**
@@ -44,12 +43,10 @@ public class CoHost implements Serializable {
      * Helper method for Generic Repository usage.
      * Returns the Primary Key of this entity.
      */
-    @Exclude
     public String getEntityId() {
         return coHostId;
     }
 
-    @Exclude
     public void setEntityId(String id) {
         this.coHostId = id;
     }
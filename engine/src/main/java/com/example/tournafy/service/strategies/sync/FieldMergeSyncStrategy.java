@@ -0,0 +1,304 @@
+package com.example.tournafy.service.strategies.sync;
+
+import com.example.tournafy.domain.models.base.Match;
+import com.example.tournafy.domain.models.base.MatchEvent;
+import com.example.tournafy.domain.models.match.cricket.Ball;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.domain.models.match.cricket.Innings;
+import com.example.tournafy.domain.models.match.cricket.Over;
+import com.example.tournafy.domain.models.match.football.FootballMatch;
+import com.example.tournafy.domain.models.sync.HybridLogicalClock;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Field-level merge of two copies of a match (local = host device, remote = online).
+ *
+ * Every tracked change of the host's live match stamps its field group with a hybrid
+ * logical clock (Match.getFieldClocks(), see Match.fieldGroup()). The merge works per
+ * group instead of per document:
+ * - scalar groups (status, crease, toss, queues, scores...) take the side with the newer
+ *   stamp; an unstamped group on both sides keeps the local value;
+ * - stats maps are merged per player ("batsmanStatsMap:p1");
+ * - innings and overs are matched by id and take the newer side, and the balls of an
+ *   over and the event lists are append-only: they are the union of both sides by id,
+ *   minus the ids either side removed by undo (Match.getRemovedIds());
+ * - the clocks themselves merge per group to the newer stamp.
+ *
+ * So a co-host's ball is kept when the host writes, and a retry converges in one pass
+ * (merging the result again changes nothing). Totals derived from balls (innings runs,
+ * over runs) come from the newer side, not recomputed from the union.
+ *
+ * The result is built on the remote copy (freshly loaded, so it may be modified);
+ * the local match is never modified. Non-match entities resolve to the local copy.
+ */
+public class FieldMergeSyncStrategy implements ISyncStrategy {
+
+    private static final Comparator<Over> OVER_ORDER = Comparator.comparingInt(Over::getOverNumber);
+    private static final Comparator<Ball> BALL_ORDER = Comparator.comparingInt(Ball::getBallNumber);
+    private static final Comparator<MatchEvent> EVENT_ORDER = Comparator
+            .comparing((MatchEvent event) -> event.getEventTime(), Comparator.nullsFirst(Comparator.<Date>naturalOrder()))
+            .thenComparing(MatchEvent::getEventId, Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+
+    private final HybridLogicalClock clock;
+
+    /**
+     * @param clock This device's clock; it observes the remote stamps so later local
+     *              changes order after them.
+     */
+    public FieldMergeSyncStrategy(HybridLogicalClock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T resolveConflict(T localEntity, T remoteEntity) {
+        if (localEntity == null || remoteEntity == null) {
+            return localEntity != null ? localEntity : remoteEntity;
+        }
+        if (localEntity instanceof CricketMatch && remoteEntity instanceof CricketMatch) {
+            return (T) mergeCricket((CricketMatch) localEntity, (CricketMatch) remoteEntity);
+        }
+        if (localEntity instanceof FootballMatch && remoteEntity instanceof FootballMatch) {
+            return (T) mergeFootball((FootballMatch) localEntity, (FootballMatch) remoteEntity);
+        }
+        return localEntity;
+    }
+
+    // --- MATCHES ---
+
+    private CricketMatch mergeCricket(CricketMatch local, CricketMatch remote) {
+        Set<String> removed = mergeCommon(local, remote);
+
+        if (localWins(local, remote, "teams")) remote.setTeams(local.getTeams());
+        if (localWins(local, remote, "tossWinner")) remote.setTossWinner(local.getTossWinner());
+        if (localWins(local, remote, "tossDecision")) remote.setTossDecision(local.getTossDecision());
+        if (localWins(local, remote, "currentInningsNumber")) remote.setCurrentInningsNumber(local.getCurrentInningsNumber());
+        if (localWins(local, remote, "targetScore")) remote.setTargetScore(local.getTargetScore());
+        if (localWins(local, remote, "matchResult")) remote.setMatchResult(local.getMatchResult());
+        if (localWins(local, remote, "currentStrikerId")) remote.setCurrentStrikerId(local.getCurrentStrikerId());
+        if (localWins(local, remote, "currentNonStrikerId")) remote.setCurrentNonStrikerId(local.getCurrentNonStrikerId());
+        if (localWins(local, remote, "currentBowlerId")) remote.setCurrentBowlerId(local.getCurrentBowlerId());
+        if (localWins(local, remote, "battingOrderQueue")) remote.setBattingOrderQueue(local.getBattingOrderQueue());
+        if (localWins(local, remote, "bowlingOrderQueue")) remote.setBowlingOrderQueue(local.getBowlingOrderQueue());
+
+        boolean localInnings = localWins(local, remote, CricketMatch.FIELD_INNINGS);
+        remote.setInnings(mergeById(local.getInnings(), remote.getInnings(), Innings::getInningsId,
+                localInnings, Comparator.comparingInt(Innings::getInningsNumber)));
+
+        remote.setCurrentOvers(mergeOvers(local.getCurrentOvers(), remote.getCurrentOvers(),
+                localWins(local, remote, CricketMatch.FIELD_CURRENT_OVERS), removed));
+
+        remote.setCricketEvents(union(local.getCricketEvents(), remote.getCricketEvents(), removed));
+
+        remote.setBatsmanStatsMap(mergeMap(local, remote, CricketMatch.FIELD_BATSMAN_STATS,
+                local.getBatsmanStatsMap(), remote.getBatsmanStatsMap()));
+        remote.setBowlerStatsMap(mergeMap(local, remote, CricketMatch.FIELD_BOWLER_STATS,
+                local.getBowlerStatsMap(), remote.getBowlerStatsMap()));
+
+        mergeClocks(local, remote);
+        return remote;
+    }
+
+    private FootballMatch mergeFootball(FootballMatch local, FootballMatch remote) {
+        Set<String> removed = mergeCommon(local, remote);
+
+        if (localWins(local, remote, "teams")) remote.setTeams(local.getTeams());
+        if (localWins(local, remote, "homeScore")) remote.setHomeScore(local.getHomeScore());
+        if (localWins(local, remote, "awayScore")) remote.setAwayScore(local.getAwayScore());
+        if (localWins(local, remote, "currentMatchMinute")) remote.setCurrentMatchMinute(local.getCurrentMatchMinute());
+        if (localWins(local, remote, "matchPeriod")) remote.setMatchPeriod(local.getMatchPeriod());
+        if (localWins(local, remote, "matchResult")) remote.setMatchResult(local.getMatchResult());
+        if (localWins(local, remote, "elapsedTimeMillis")) remote.setElapsedTimeMillis(local.getElapsedTimeMillis());
+        if (localWins(local, remote, "timerRunning")) remote.setTimerRunning(local.isTimerRunning());
+
+        remote.setFootballEvents(union(local.getFootballEvents(), remote.getFootballEvents(), removed));
+
+        mergeClocks(local, remote);
+        return remote;
+    }
+
+    /**
+     * Merges the fields every match has and returns the union of removed ids.
+     */
+    private Set<String> mergeCommon(Match local, Match remote) {
+        for (String stamp : remote.getFieldClocks().values()) {
+            clock.observe(stamp);
+        }
+        if (localWins(local, remote, "status")) remote.setMatchStatus(local.getMatchStatus());
+        if (localWins(local, remote, "winnerTeamId")) remote.setWinnerTeamId(local.getWinnerTeamId());
+        if (localWins(local, remote, "lastAppliedSeq")) remote.setLastAppliedSeq(local.getLastAppliedSeq());
+
+        Set<String> removed = new TreeSet<>(remote.getRemovedIds());
+        removed.addAll(local.getRemovedIds());
+        remote.setRemovedIds(new ArrayList<>(removed));
+        return removed;
+    }
+
+    private static void mergeClocks(Match local, Match remote) {
+        Map<String, String> clocks = new HashMap<>(remote.getFieldClocks());
+        for (Map.Entry<String, String> entry : local.getFieldClocks().entrySet()) {
+            clocks.put(entry.getKey(), HybridLogicalClock.max(clocks.get(entry.getKey()), entry.getValue()));
+        }
+        remote.setFieldClocks(clocks);
+    }
+
+    /**
+     * True if the local value of a group replaces the remote one: its stamp is newer,
+     * or neither side stamped the group.
+     */
+    private static boolean localWins(Match local, Match remote, String group) {
+        String localStamp = local.getFieldClocks().get(group);
+        String remoteStamp = remote.getFieldClocks().get(group);
+        if (localStamp == null && remoteStamp == null) return true;
+        return HybridLogicalClock.compare(localStamp, remoteStamp) > 0;
+    }
+
+    // --- GROUP MERGES ---
+
+    /**
+     * Per-key merge of a stats map: each entry takes the side whose stamp for
+     * "field:key" (or for the whole field) is newer.
+     */
+    private static <V> Map<String, V> mergeMap(Match local, Match remote, String field,
+                                               Map<String, V> localMap, Map<String, V> remoteMap) {
+        Map<String, V> merged = new HashMap<>(remoteMap);
+        String localWhole = local.getFieldClocks().get(field);
+        String remoteWhole = remote.getFieldClocks().get(field);
+        for (Map.Entry<String, V> entry : localMap.entrySet()) {
+            String key = field + ":" + entry.getKey();
+            String localStamp = HybridLogicalClock.max(local.getFieldClocks().get(key), localWhole);
+            String remoteStamp = HybridLogicalClock.max(remote.getFieldClocks().get(key), remoteWhole);
+            if (!merged.containsKey(entry.getKey())
+                    || (localStamp == null && remoteStamp == null)
+                    || HybridLogicalClock.compare(localStamp, remoteStamp) > 0) {
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Union of two lists by id; an item on both sides comes from the local list if
+     * localWins, else from the remote one.
+     */
+    private static <E> List<E> mergeById(List<E> localItems, List<E> remoteItems, Function<E, String> id,
+                                         boolean localWins, Comparator<E> order) {
+        Map<String, E> merged = new LinkedHashMap<>();
+        List<E> unkeyed = new ArrayList<>();
+        for (Collection<E> items : orderedSides(localItems, remoteItems, localWins)) {
+            for (E item : items) {
+                if (item == null) continue;
+                String key = id.apply(item);
+                if (key == null) {
+                    unkeyed.add(item);
+                } else if (!merged.containsKey(key)) {
+                    merged.put(key, item);
+                }
+            }
+        }
+        List<E> result = new ArrayList<>(merged.values());
+        result.sort(order);
+        result.addAll(unkeyed);
+        return result;
+    }
+
+    /**
+     * Union of the overs by id. An over on both sides takes its totals from the newer
+     * side and the union of both sides' balls; removed balls are left out. Over
+     * objects of the local match are copied, never modified.
+     */
+    private static List<Over> mergeOvers(List<Over> localOvers, List<Over> remoteOvers,
+                                         boolean localWins, Set<String> removed) {
+        Map<String, Over> localById = new HashMap<>();
+        if (localOvers != null) {
+            for (Over over : localOvers) {
+                if (over != null && over.getOverId() != null) localById.put(over.getOverId(), over);
+            }
+        }
+        Map<String, Over> remoteById = new HashMap<>();
+        if (remoteOvers != null) {
+            for (Over over : remoteOvers) {
+                if (over != null && over.getOverId() != null) remoteById.put(over.getOverId(), over);
+            }
+        }
+        Set<String> ids = new HashSet<>(localById.keySet());
+        ids.addAll(remoteById.keySet());
+
+        List<Over> merged = new ArrayList<>();
+        for (String overId : ids) {
+            Over localOver = localById.get(overId);
+            Over remoteOver = remoteById.get(overId);
+            Over winner = remoteOver == null || (localOver != null && localWins) ? localOver : remoteOver;
+            Over over = copyOver(winner);
+            List<Ball> balls = union(localOver != null ? localOver.getBalls() : null,
+                    remoteOver != null ? remoteOver.getBalls() : null, removed, Ball::getBallId, localWins);
+            balls.sort(BALL_ORDER);
+            over.setBalls(balls);
+            merged.add(over);
+        }
+        merged.sort(OVER_ORDER);
+        return merged;
+    }
+
+    private static <E extends MatchEvent> List<E> union(List<E> localEvents, List<E> remoteEvents, Set<String> removed) {
+        List<E> events = union(localEvents, remoteEvents, removed, MatchEvent::getEventId, true);
+        events.sort(EVENT_ORDER);
+        return events;
+    }
+
+    /**
+     * Union of append-only items by id, without the removed ids. Items without an id
+     * are kept from both sides.
+     */
+    private static <E> List<E> union(List<E> localItems, List<E> remoteItems, Set<String> removed,
+                                     Function<E, String> id, boolean localFirst) {
+        Map<String, E> merged = new LinkedHashMap<>();
+        List<E> result = new ArrayList<>();
+        for (Collection<E> items : orderedSides(localItems, remoteItems, localFirst)) {
+            for (E item : items) {
+                if (item == null) continue;
+                String key = id.apply(item);
+                if (key == null) {
+                    result.add(item);
+                } else if (!removed.contains(key) && !merged.containsKey(key)) {
+                    merged.put(key, item);
+                }
+            }
+        }
+        result.addAll(merged.values());
+        return result;
+    }
+
+    private static <E> List<Collection<E>> orderedSides(List<E> local, List<E> remote, boolean localFirst) {
+        List<Collection<E>> sides = new ArrayList<>(2);
+        Collection<E> localSide = local != null ? local : new ArrayList<>();
+        Collection<E> remoteSide = remote != null ? remote : new ArrayList<>();
+        sides.add(localFirst ? localSide : remoteSide);
+        sides.add(localFirst ? remoteSide : localSide);
+        return sides;
+    }
+
+    private static Over copyOver(Over source) {
+        Over over = new Over();
+        over.setOverId(source.getOverId());
+        over.setInningsId(source.getInningsId());
+        over.setOverNumber(source.getOverNumber());
+        over.setBowlerId(source.getBowlerId());
+        over.setRunsInOver(source.getRunsInOver());
+        over.setWicketsInOver(source.getWicketsInOver());
+        over.setCompleted(source.isCompleted());
+        return over;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.tournafy.service.util;
+
+/**
+ * Shard math and counting protocol of match viewer presence, kept apart from the
+ * database (see the app's ViewerPresenceRepository, which backs a Counter with
+ * "presence/{matchId}/{shard}").
+ *
+ * A viewer always counts in the same shard, so its joins and leaves touch one of
+ * SHARD_COUNT counters, and the viewer count of a match is the sum of its shards.
+ */
+public final class ViewerShards {
+
+    /** Shards per match. */
+    public static final int SHARD_COUNT = 32;
+
+    private ViewerShards() {
+    }
+
+    /**
+     * @return The shard a viewer counts in, from 0 to SHARD_COUNT - 1.
+     */
+    public static int shardOf(String viewerId) {
+        return (viewerId.hashCode() & 0x7fffffff) % SHARD_COUNT;
+    }
+
+    /**
+     * Folds the shard counters of a match into its viewer count. Missing shards and
+     * shards left below zero by a lost decrement count as empty.
+     */
+    public static long total(Iterable<Long> shardCounts) {
+        long total = 0;
+        for (Long count : shardCounts) {
+            if (count != null && count > 0) total += count;
+        }
+        return total;
+    }
+
+    /**
+     * One shard counter of the presence database.
+     */
+    public interface Counter {
+        /**
+         * Has the server decrement the counter when this client's connection drops,
+         * then runs onRegistered once the server accepted it.
+         */
+        void decrementOnDisconnect(Runnable onRegistered);
+
+        /** Cancels the pending decrement registered by decrementOnDisconnect. */
+        void cancelOnDisconnect();
+
+        void increment(long delta);
+    }
+
+    /**
+     * A viewer's presence in one match, driven by the client's connection state: the
+     * viewer is counted while connected, and again after each reconnect.
+     */
+    public static final class Presence {
+
+        private final Counter shard;
+        private boolean counted;
+        private boolean left;
+
+        public Presence(Counter shard) {
+            this.shard = shard;
+        }
+
+        public void onConnectionChanged(boolean connected) {
+            if (left) return;
+            if (!connected) {
+                counted = false; // The server ran the onDisconnect decrement
+                return;
+            }
+            if (counted) return;
+            counted = true;
+            // Register the cleanup before counting, so a drop in between cannot leak a viewer
+            shard.decrementOnDisconnect(() -> shard.increment(1));
+        }
+
+        /**
+         * Stops counting the viewer. Connection changes after this are ignored.
+         */
+        public void leave() {
+            left = true;
+            if (counted) {
+                counted = false;
+                shard.cancelOnDisconnect();
+                shard.increment(-1);
+            }
+        }
+
+        public boolean isCounted() {
+            return counted;
+        }
+    }
+}
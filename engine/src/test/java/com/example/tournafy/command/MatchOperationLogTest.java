@@ -0,0 +1,242 @@
+package com.example.tournafy.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.example.tournafy.data.repository.offline.codec.CricketMatchCodec;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.domain.models.match.cricket.Over;
+import com.example.tournafy.domain.models.sync.MatchOperation;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+
+public class MatchOperationLogTest {
+
+    private static final String MATCH_ID = "shared-match";
+
+    private final CricketMatchCodec codec = new CricketMatchCodec();
+    private Map<String, Object> start;
+
+    // --- ORDERING AND REBUILDS ---
+
+    @Test
+    public void operationsAreKeptInLogOrderWhateverTheArrivalOrder() {
+        Scorer scorer = new Scorer("b", base());
+        Scorer other = new Scorer("a", base());
+        List<MatchOperation> sent = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            sent.add(copy(other.score(CricketFixtures.ball(other.log.getMatch(), i))));
+        }
+
+        for (int i : new int[]{2, 0, 3, 1}) {
+            scorer.log.onOperation(sent.get(i));
+        }
+
+        List<String> order = new ArrayList<>();
+        for (MatchOperation operation : scorer.log.operations()) order.add(operation.getOpId());
+        List<String> sorted = new ArrayList<>(order);
+        sorted.sort(null);
+        assertEquals(sorted, order);
+        assertEquals(documentOf(other), documentOf(scorer));
+    }
+
+    @Test
+    public void operationAfterTheLastIsFoldedWithoutARebuild() {
+        Scorer scorer = new Scorer("a", base());
+        CricketMatch before = scorer.log.getMatch();
+
+        scorer.score(CricketFixtures.ball(before, 1));
+        scorer.score(CricketFixtures.ball(scorer.log.getMatch(), 4));
+
+        assertEquals(0, scorer.log.getRebaseCount());
+        assertSame(before, scorer.log.getMatch());
+        assertEquals(2, scorer.log.getPendingCount());
+    }
+
+    @Test
+    public void concurrentEarlierOperationRebuildsTheMatch() {
+        Scorer a = new Scorer("a", base());
+        Scorer b = new Scorer("b", base());
+        MatchOperation fromA = copy(a.score(CricketFixtures.ball(a.log.getMatch(), 6)));
+        MatchOperation fromB = copy(b.score(CricketFixtures.ball(b.log.getMatch(), 1)));
+        CricketMatch beforeRebase = b.log.getMatch();
+
+        // Both have Lamport time 1; "a" sorts first, so b folds it before its own ball
+        b.log.onOperation(fromA);
+        a.log.onOperation(fromB);
+
+        assertEquals(1, b.log.getRebaseCount());
+        assertNotSame(beforeRebase, b.log.getMatch());
+        assertEquals(0, a.log.getRebaseCount());
+        assertEquals(documentOf(a), documentOf(b));
+        assertEquals(7, b.log.getMatch().getCurrentInnings().getTotalRuns());
+    }
+
+    @Test
+    public void undoRebuildsWithoutTheDeliveryAndKeepsItsTombstones() {
+        Scorer scorer = new Scorer("a", base());
+        scorer.score(CricketFixtures.ball(scorer.log.getMatch(), 2));
+        CricketFixtures.Delivery four = CricketFixtures.ball(scorer.log.getMatch(), 4);
+        scorer.score(four);
+
+        assertTrue(scorer.log.canUndo());
+        MatchOperation undone = scorer.log.undoLast();
+
+        CricketMatch match = scorer.log.getMatch();
+        assertEquals(four.event.getEventId(), undone.getEvent().getEventId());
+        assertEquals(2, match.getCurrentInnings().getTotalRuns());
+        assertEquals(1, match.getCricketEvents().size());
+        assertTrue(match.getRemovedIds().containsAll(Arrays.asList(four.ball.getBallId(), four.event.getEventId())));
+    }
+
+    @Test
+    public void undoOnlyTakesBackOwnDeliveries() {
+        Scorer a = new Scorer("a", base());
+        Scorer b = new Scorer("b", base());
+        a.log.onOperation(copy(b.score(CricketFixtures.ball(b.log.getMatch(), 3))));
+
+        assertFalse(a.log.canUndo());
+        assertEquals(null, a.log.undoLast());
+        assertEquals(3, a.log.getMatch().getCurrentInnings().getTotalRuns());
+    }
+
+    @Test
+    public void oldCheckpointsAreEvictedButTheInitialStateIsKept() {
+        Scorer scorer = new Scorer("b", base());
+        Scorer other = new Scorer("a", base());
+        Random random = new Random(3);
+        MatchOperation early = copy(other.score(CricketFixtures.ball(other.log.getMatch(), 1)));
+        for (int i = 0; i < 84; i++) {
+            scorer.score(CricketFixtures.random(scorer.log.getMatch(), random));
+        }
+
+        assertEquals(new TreeSet<>(Arrays.asList(0, 48, 60, 72, 84)), scorer.log.checkpointPositions());
+
+        // A rebase behind every kept checkpoint but the first rebuilds from the initial state
+        scorer.log.onOperation(early);
+
+        assertEquals(1, scorer.log.getRebaseCount());
+        assertEquals(85, scorer.log.operations().size());
+        assertEquals(early.getOpId(), scorer.log.operations().get(0).getOpId());
+        assertTrue(scorer.log.checkpointPositions().first() == 0);
+    }
+
+    // --- SIMULATION ---
+
+    /**
+     * Three scorers score, undo and receive each other's operations (and the echoes of
+     * their own) in random order, with deliveries crossing in flight. Once every
+     * operation has been delivered everywhere, all scorers hold the same match.
+     */
+    @Test
+    public void scorersConvergeWhateverTheDeliveryOrder() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random random = new Random(seed);
+            List<Scorer> scorers = new ArrayList<>();
+            for (String clientId : new String[]{"host", "cohost-1", "cohost-2"}) {
+                scorers.add(new Scorer(clientId, base()));
+            }
+            for (Scorer scorer : scorers) scorer.peers = scorers;
+
+            for (int step = 0; step < 300; step++) {
+                Scorer scorer = scorers.get(random.nextInt(scorers.size()));
+                int roll = random.nextInt(100);
+                if (roll < 40 && CricketFixtures.isScoring(scorer.log.getMatch())) {
+                    scorer.score(CricketFixtures.random(scorer.log.getMatch(), random));
+                } else if (roll < 48) {
+                    scorer.log.undoLast();
+                } else {
+                    scorer.receive(random);
+                }
+            }
+            for (Scorer scorer : scorers) {
+                while (!scorer.inbox.isEmpty()) scorer.receive(random);
+            }
+
+            Map<String, Object> expected = documentOf(scorers.get(0));
+            for (Scorer scorer : scorers) {
+                assertEquals("seed " + seed + ", " + scorer.clientId, expected, documentOf(scorer));
+                assertEquals(0, scorer.log.getPendingCount());
+            }
+        }
+    }
+
+    // --- STAND-INS ---
+
+    /**
+     * One scorer's log. Its publisher puts a copy of each operation in the inbox of
+     * every scorer of the simulation, itself included (the echo of the shared log).
+     */
+    private final class Scorer {
+        final String clientId;
+        final MatchOperationLog log;
+        final List<MatchOperation> inbox = new ArrayList<>();
+        List<Scorer> peers = new ArrayList<>();
+
+        Scorer(String clientId, CricketMatch match) {
+            this.clientId = clientId;
+            this.log = new MatchOperationLog(match, clientId,
+                source -> codec.decode(codec.encode(source)),
+                operation -> {
+                    for (Scorer peer : peers) peer.inbox.add(copy(operation));
+                },
+                (changed, operation, rebuilt) -> { });
+        }
+
+        MatchOperation score(CricketFixtures.Delivery delivery) {
+            return log.submit(delivery.type, delivery.event, delivery.ball);
+        }
+
+        void receive(Random random) {
+            if (inbox.isEmpty()) return;
+            log.onOperation(inbox.remove(random.nextInt(inbox.size())));
+        }
+    }
+
+    /** Every scorer starts from its own copy of the same match document. */
+    private CricketMatch base() {
+        if (start == null) {
+            CricketMatch match = CricketFixtures.startedMatch(20);
+            match.setEntityId(MATCH_ID);
+            start = codec.encode(match);
+        }
+        return codec.decode(start);
+    }
+
+    private Map<String, Object> documentOf(Scorer scorer) {
+        return codec.encode(scorer.log.getMatch());
+    }
+
+    /**
+     * What another scorer reads from the shared log: an independent copy of the
+     * operation, its event and ball decoded from their stored form.
+     */
+    private MatchOperation copy(MatchOperation operation) {
+        MatchOperation copy = new MatchOperation(operation.getMatchId(), operation.getClientId(),
+            operation.getLamport(), operation.getType());
+        copy.setTargetOpId(operation.getTargetOpId());
+        if (operation.getEvent() != null && operation.getBall() != null) {
+            CricketMatch carrier = new CricketMatch();
+            carrier.setCricketEvents(new ArrayList<>(List.of(operation.getEvent())));
+            Over over = new Over();
+            over.setOverId("carrier");
+            over.setBalls(new ArrayList<>(List.of(operation.getBall())));
+            carrier.setCurrentOvers(new ArrayList<>(List.of(over)));
+            CricketMatch decoded = codec.decode(codec.encode(carrier));
+            copy.setEvent(decoded.getCricketEvents().get(0));
+            copy.setBall(decoded.getCurrentOvers().get(0).getBalls().get(0));
+        }
+        return copy;
+    }
+}
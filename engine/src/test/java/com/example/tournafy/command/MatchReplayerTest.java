@@ -0,0 +1,41 @@
+package com.example.tournafy.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.junit.Test;
+
+public class MatchReplayerTest {
+
+    @Test
+    public void matchScoredThroughTheCommandsIsConsistent() {
+        for (long seed = 1; seed <= 20; seed++) {
+            CricketMatch match = CricketFixtures.scoredMatch(20, 300, seed);
+
+            MatchReplayer.Verification verification = MatchReplayer.verify(match);
+
+            assertEquals("seed " + seed + ": " + verification.getDriftedFields(),
+                MatchReplayer.Verification.Status.CONSISTENT, verification.getStatus());
+            assertFalse(MatchReplayer.repair(match, verification));
+        }
+    }
+
+    @Test
+    public void driftedTotalIsRepairedFromTheEvents() {
+        CricketMatch match = CricketFixtures.scoredMatch(20, 60, 3);
+        int runs = match.getCurrentInnings().getTotalRuns();
+        match.getCurrentInnings().setTotalRuns(runs + 10);
+
+        MatchReplayer.Verification verification = MatchReplayer.verify(match);
+
+        assertEquals(MatchReplayer.Verification.Status.DRIFTED, verification.getStatus());
+        assertTrue(verification.getDriftedFields().contains("innings[0].totalRuns"));
+        assertTrue(MatchReplayer.repair(match, verification));
+        assertEquals(runs, match.getCurrentInnings().getTotalRuns());
+        assertEquals(MatchReplayer.Verification.Status.CONSISTENT, MatchReplayer.verify(match).getStatus());
+    }
+}
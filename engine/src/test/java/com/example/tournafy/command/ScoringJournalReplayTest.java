@@ -0,0 +1,209 @@
+package com.example.tournafy.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.example.tournafy.data.repository.offline.ScoringJournal;
+import com.example.tournafy.data.repository.offline.codec.CricketMatchCodec;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class ScoringJournalReplayTest {
+
+    private static final int HISTORY_LIMIT = 8;
+
+    private final CricketMatchCodec codec = new CricketMatchCodec();
+    private final ScheduledExecutorService syncExecutor = Executors.newSingleThreadScheduledExecutor();
+
+    @After
+    public void shutDown() {
+        syncExecutor.shutdownNow();
+    }
+
+    /**
+     * The snapshot holds deliveries, an undo and a redo; the journal goes on past it
+     * with more of each. Recovery rebuilds the live match and its undo and redo stacks.
+     */
+    @Test
+    public void recoveryRebuildsTheMatchAndItsHistory() throws IOException {
+        Session live = new Session();
+        live.score(CricketFixtures.ball(live.match, 4));
+        live.score(CricketFixtures.extra(live.match, "WIDE", 0));
+        live.score(CricketFixtures.ball(live.match, 1));
+        live.score(CricketFixtures.wicket(live.match, "BOWLED"));
+        live.undo();
+        live.undo();
+        live.redo();
+        Map<String, Object> snapshot = codec.encode(live.match);
+        long snapshotSeq = live.match.getLastAppliedSeq();
+        live.score(CricketFixtures.ball(live.match, 2));
+        live.score(CricketFixtures.extra(live.match, "BYE", 1));
+        live.undo();
+        live.redo();
+        live.undo();
+
+        CricketMatch recovered = codec.decode(snapshot);
+        MatchCommandManager commands = new MatchCommandManager();
+        int applied = ScoringJournalReplay.recover(recovered, live.closeAndRead(), commands);
+
+        assertEquals(5, applied);
+        assertTrue(recovered.getLastAppliedSeq() > snapshotSeq);
+        assertSameHistory(live.match, live.commands, recovered, commands);
+    }
+
+    @Test
+    public void currentSnapshotOnlyRebuildsTheHistory() throws IOException {
+        Session live = new Session();
+        live.score(CricketFixtures.ball(live.match, 3));
+        live.score(CricketFixtures.ball(live.match, 0));
+        live.score(CricketFixtures.extra(live.match, "NO_BALL", 1));
+        live.undo();
+
+        CricketMatch recovered = codec.decode(codec.encode(live.match));
+        MatchCommandManager commands = new MatchCommandManager();
+        int applied = ScoringJournalReplay.recover(recovered, live.closeAndRead(), commands);
+
+        assertEquals(0, applied);
+        assertSameHistory(live.match, live.commands, recovered, commands);
+    }
+
+    /**
+     * A checkpoint taken while scoring goes on, then reopened: the entries appended
+     * after it follow it, and the whole rebuilds the live undo and redo stacks.
+     */
+    @Test
+    public void checkpointWhileScoringRebuildsTheSameHistory() throws IOException {
+        for (long seed = 1; seed <= 10; seed++) {
+            Random random = new Random(seed);
+            Session live = new Session(HISTORY_LIMIT);
+            scoreRandomly(live, random, 40);
+            int journaled = live.journal.getEntries().size();
+
+            assertTrue("seed " + seed, live.journal.compact(HISTORY_LIMIT));
+            scoreRandomly(live, random, 20);
+            List<ScoringJournal.Entry> entries = live.closeAndRead();
+            CricketMatch recovered = codec.decode(codec.encode(live.match));
+            MatchCommandManager commands = new MatchCommandManager(HISTORY_LIMIT);
+            ScoringJournalReplay.recover(recovered, entries, commands);
+
+            assertTrue("seed " + seed, entries.size() < journaled);
+            assertSameHistory(live.match, live.commands, recovered, commands);
+        }
+    }
+
+    @Test
+    public void checkpointOfAPersistedJournalRebuildsTheSameHistory() throws IOException {
+        for (long seed = 1; seed <= 10; seed++) {
+            Session live = new Session(HISTORY_LIMIT);
+            scoreRandomly(live, new Random(seed), 60);
+
+            assertTrue("seed " + seed, live.journal.compact(HISTORY_LIMIT));
+            CricketMatch recovered = codec.decode(codec.encode(live.match));
+            MatchCommandManager commands = new MatchCommandManager(HISTORY_LIMIT);
+            int applied = ScoringJournalReplay.recover(recovered, live.closeAndRead(), commands);
+
+            assertEquals("seed " + seed, 0, applied);
+            assertSameHistory(live.match, live.commands, recovered, commands);
+        }
+    }
+
+    /** Deliveries, undos and redos in the mix a scorer would tap them. */
+    private static void scoreRandomly(Session session, Random random, int steps) {
+        for (int step = 0; step < steps; step++) {
+            int roll = random.nextInt(10);
+            if (roll < 2 && session.commands.canUndo()) {
+                session.undo();
+            } else if (roll < 3 && session.commands.canRedo()) {
+                session.redo();
+            } else if (CricketFixtures.isScoring(session.match)) {
+                session.score(CricketFixtures.random(session.match, random));
+            }
+        }
+    }
+
+    /**
+     * Redoes then undoes both matches step by step; they stay equal, so both stacks
+     * hold the same commands on the same match state.
+     */
+    private void assertSameHistory(CricketMatch expected, MatchCommandManager expectedCommands,
+                                   CricketMatch actual, MatchCommandManager actualCommands) {
+        assertEquals(codec.encode(expected), codec.encode(actual));
+        int step = 0;
+        while (expectedCommands.canRedo()) {
+            assertTrue("redo " + step, actualCommands.canRedo());
+            expectedCommands.redo();
+            actualCommands.redo();
+            assertEquals("redo " + step++, codec.encode(expected), codec.encode(actual));
+        }
+        assertFalse(actualCommands.canRedo());
+        step = 0;
+        while (expectedCommands.canUndo()) {
+            assertTrue("undo " + step, actualCommands.canUndo());
+            assertEquals("undo " + step, expectedCommands.getLastExecutedCommand().getEventId(),
+                actualCommands.getLastExecutedCommand().getEventId());
+            expectedCommands.undo();
+            actualCommands.undo();
+            assertEquals("undo " + step++, codec.encode(expected), codec.encode(actual));
+        }
+        assertFalse(actualCommands.canUndo());
+    }
+
+    /**
+     * A match scored and journaled the way MatchViewModel does it.
+     */
+    private final class Session {
+        final CricketMatch match = CricketFixtures.startedMatch(20);
+        final MatchCommandManager commands;
+        final File file;
+        final ScoringJournal journal;
+
+        Session() throws IOException {
+            this(MatchCommandManager.DEFAULT_HISTORY_LIMIT);
+        }
+
+        Session(int historyLimit) throws IOException {
+            commands = new MatchCommandManager(historyLimit);
+            File directory = Files.createTempDirectory("journal").toFile();
+            directory.deleteOnExit();
+            file = new File(directory, "match.journal");
+            file.deleteOnExit();
+            journal = new ScoringJournal(file, syncExecutor);
+        }
+
+        void score(CricketFixtures.Delivery delivery) {
+            journal.appendDelivery(delivery.type, match.getLastAppliedSeq() + 1, delivery.ball, delivery.event);
+            CricketFixtures.score(match, commands, delivery);
+            match.nextLogSeq();
+        }
+
+        void undo() {
+            journal.appendUndo(match.nextLogSeq());
+            commands.undo();
+        }
+
+        void redo() {
+            journal.appendRedo(match.nextLogSeq());
+            commands.redo();
+        }
+
+        List<ScoringJournal.Entry> closeAndRead() throws IOException {
+            journal.closeSynced();
+            ScoringJournal reopened = new ScoringJournal(file, syncExecutor);
+            reopened.closeSynced();
+            return reopened.getEntries();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.tournafy.data.repository.offline;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.example.tournafy.domain.models.match.MatchLogEntry;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PendingMatchWritesTest {
+
+    // --- DRAINING ---
+
+    @Test
+    public void drainHandsOverEverythingOnce() {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        PendingMatchWrites pending = new PendingMatchWrites();
+        pending.addEntry(match, entry(1));
+        pending.addEntry(match, entry(2));
+        pending.requestSnapshot(match);
+
+        PendingMatchWrites.Batch batch = pending.drain();
+
+        assertSame(match, batch.getMatch());
+        assertEquals(List.of(1L, 2L), seqs(batch.getEntries()));
+        assertEquals(3, batch.getMutations());
+        assertTrue(batch.isSnapshot());
+        assertFalse(batch.isFullWrite());
+        assertTrue(pending.isEmpty());
+        assertNull(pending.drain());
+    }
+
+    // --- FAILED COMMITS ---
+
+    @Test
+    public void failedBatchGoesBackAheadOfNewerWritesAsAFullWrite() {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        PendingMatchWrites pending = new PendingMatchWrites();
+        pending.addEntry(match, entry(1));
+        pending.addEntry(match, entry(2));
+        pending.requestSnapshot(match);
+        PendingMatchWrites.Batch failed = pending.drain();
+        pending.addEntry(match, entry(3));
+
+        pending.restore(failed);
+        PendingMatchWrites.Batch retry = pending.drain();
+
+        assertSame(match, retry.getMatch());
+        assertEquals(List.of(1L, 2L, 3L), seqs(retry.getEntries()));
+        assertEquals(4, retry.getMutations());
+        assertTrue(retry.isFullWrite());
+        assertTrue(pending.isEmpty());
+    }
+
+    @Test
+    public void failedBatchIsRetriedWhenNothingWasQueuedSince() {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        PendingMatchWrites pending = new PendingMatchWrites();
+        pending.addEntry(match, entry(1));
+        PendingMatchWrites.Batch failed = pending.drain();
+
+        pending.restore(failed);
+
+        assertFalse(pending.isEmpty());
+        PendingMatchWrites.Batch retry = pending.drain();
+        assertEquals(List.of(1L), seqs(retry.getEntries()));
+        assertTrue(retry.isFullWrite());
+    }
+
+    @Test
+    public void failedBatchOfAReplacedInstanceIsWrittenWithTheNewOne() {
+        CricketMatch stale = CricketFixtures.startedMatch(20);
+        CricketMatch current = CricketFixtures.startedMatch(20);
+        PendingMatchWrites pending = new PendingMatchWrites();
+        pending.addEntry(stale, entry(1));
+        PendingMatchWrites.Batch failed = pending.drain();
+        pending.addEntry(current, entry(2));
+
+        pending.restore(failed);
+        PendingMatchWrites.Batch retry = pending.drain();
+
+        assertSame(current, retry.getMatch());
+        assertEquals(List.of(1L, 2L), seqs(retry.getEntries()));
+        assertTrue(retry.isFullWrite());
+    }
+
+    @Test
+    public void repeatedFailuresKeepEveryEntryInOrder() {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        PendingMatchWrites pending = new PendingMatchWrites();
+        long seq = 0;
+        for (int attempt = 0; attempt < 5; attempt++) {
+            pending.addEntry(match, entry(++seq));
+            pending.addEntry(match, entry(++seq));
+            pending.restore(pending.drain());
+        }
+
+        PendingMatchWrites.Batch retry = pending.drain();
+
+        List<Long> expected = new ArrayList<>();
+        for (long s = 1; s <= seq; s++) expected.add(s);
+        assertEquals(expected, seqs(retry.getEntries()));
+        assertEquals(10, retry.getMutations());
+    }
+
+    private static MatchLogEntry entry(long seq) {
+        MatchLogEntry entry = new MatchLogEntry();
+        entry.setSeq(seq);
+        return entry;
+    }
+
+    private static List<Long> seqs(List<MatchLogEntry> entries) {
+        List<Long> seqs = new ArrayList<>();
+        for (MatchLogEntry entry : entries) seqs.add(entry.getSeq());
+        return seqs;
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.tournafy.data.repository.offline;
+
+import static org.junit.Assert.assertEquals;
+
+import com.example.tournafy.command.MatchCommandManager;
+import com.example.tournafy.domain.models.match.cricket.Ball;
+import com.example.tournafy.domain.models.match.cricket.CricketEvent;
+import com.example.tournafy.domain.models.match.cricket.CricketExtrasDetail;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.domain.models.match.cricket.CricketWicketDetail;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class ScoringJournalTest {
+
+    private final ScheduledExecutorService syncExecutor = Executors.newSingleThreadScheduledExecutor();
+
+    @After
+    public void shutDown() {
+        syncExecutor.shutdownNow();
+    }
+
+    // --- ROUND TRIPS ---
+
+    @Test
+    public void everyCommandTypeReadsBackUnchanged() throws IOException {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        MatchCommandManager commands = new MatchCommandManager();
+        List<CricketFixtures.Delivery> deliveries = new ArrayList<>();
+        deliveries.add(CricketFixtures.ball(match, 0));
+        deliveries.add(CricketFixtures.ball(match, 4));
+        deliveries.add(CricketFixtures.ball(match, 6));
+        for (String type : CricketFixtures.EXTRAS_TYPES) deliveries.add(CricketFixtures.extra(match, type, 2));
+        for (String type : CricketFixtures.WICKET_TYPES) deliveries.add(CricketFixtures.wicket(match, type));
+        CricketFixtures.Delivery legacy = CricketFixtures.ball(match, 1);
+        legacy.ball.setBallId("legacy-ball-7");
+        legacy.event.setEventId("legacy-event-7");
+        deliveries.add(legacy);
+
+        File file = newFile();
+        ScoringJournal journal = new ScoringJournal(file, syncExecutor);
+        List<String> written = new ArrayList<>();
+        long seq = 0;
+        for (CricketFixtures.Delivery delivery : deliveries) {
+            // Scored in turn so each delivery is built against the match it follows
+            CricketFixtures.score(match, commands, delivery);
+            journal.appendDelivery(delivery.type, ++seq, delivery.ball, delivery.event);
+            written.add(describe(delivery.type, seq, delivery.ball, delivery.event));
+        }
+        journal.appendUndo(++seq);
+        written.add(ScoringJournal.Entry.TYPE_UNDO + "|" + seq);
+        journal.appendRedo(++seq);
+        written.add(ScoringJournal.Entry.TYPE_REDO + "|" + seq);
+        journal.closeSynced();
+
+        ScoringJournal reopened = reopen(file);
+
+        assertEquals(written, describe(reopened.getEntries()));
+        assertEquals(seq, reopened.getLastSeq());
+    }
+
+    @Test
+    public void appendsAfterReopeningFollowTheEarlierRecords() throws IOException {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        File file = newFile();
+        ScoringJournal journal = new ScoringJournal(file, syncExecutor);
+        CricketFixtures.Delivery first = CricketFixtures.ball(match, 1);
+        journal.appendDelivery(first.type, 1, first.ball, first.event);
+        journal.closeSynced();
+
+        // The dictionary read back resolves the strings the first session wrote
+        ScoringJournal reopened = new ScoringJournal(file, syncExecutor);
+        CricketFixtures.Delivery second = CricketFixtures.ball(match, 2);
+        reopened.appendDelivery(second.type, 2, second.ball, second.event);
+        reopened.closeSynced();
+
+        assertEquals(Arrays.asList(describe(first.type, 1, first.ball, first.event),
+                describe(second.type, 2, second.ball, second.event)),
+            describe(reopen(file).getEntries()));
+    }
+
+    // --- DAMAGED TAILS ---
+
+    @Test
+    public void tornLastRecordLeavesTheEarlierRecords() throws IOException {
+        File file = newFile();
+        long beforeLast = writeSession(file, 12);
+        byte[] whole = Files.readAllBytes(file.toPath());
+        List<String> expected = describe(reopen(file).getEntries()).subList(0, 11);
+
+        for (int cut = (int) beforeLast; cut < whole.length; cut++) {
+            Files.write(file.toPath(), Arrays.copyOf(whole, cut));
+
+            assertEquals("cut at " + cut, expected, describe(reopen(file).getEntries()));
+            assertEquals("cut at " + cut, beforeLast, file.length());
+        }
+    }
+
+    @Test
+    public void flippedChecksumDropsItsRecord() throws IOException {
+        File file = newFile();
+        long beforeLast = writeSession(file, 12);
+        List<String> expected = describe(reopen(file).getEntries()).subList(0, 11);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            // The last byte of the file is the last byte of the last record's CRC
+            raf.seek(raf.length() - 1);
+            int last = raf.read();
+            raf.seek(raf.length() - 1);
+            raf.write(last ^ 0x01);
+        }
+
+        assertEquals(expected, describe(reopen(file).getEntries()));
+        assertEquals(beforeLast, file.length());
+    }
+
+    /**
+     * Journals plain deliveries; the last one is scored by players already in the
+     * dictionary, so its write is a single record.
+     * @return Length of the file before the last delivery was appended.
+     */
+    private long writeSession(File file, int deliveries) throws IOException {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        MatchCommandManager commands = new MatchCommandManager();
+        ScoringJournal journal = new ScoringJournal(file, syncExecutor);
+        for (int seq = 1; seq < deliveries; seq++) {
+            CricketFixtures.Delivery delivery = CricketFixtures.ball(match, seq % 3);
+            CricketFixtures.score(match, commands, delivery);
+            journal.appendDelivery(delivery.type, seq, delivery.ball, delivery.event);
+        }
+        long beforeLast = file.length();
+        CricketFixtures.Delivery last = CricketFixtures.ball(match, 1);
+        journal.appendDelivery(last.type, deliveries, last.ball, last.event);
+        journal.closeSynced();
+        return beforeLast;
+    }
+
+    /** Opens and closes the journal; open cuts a damaged tail off the file. */
+    private ScoringJournal reopen(File file) throws IOException {
+        ScoringJournal journal = new ScoringJournal(file, syncExecutor);
+        journal.closeSynced();
+        return journal;
+    }
+
+    private static File newFile() throws IOException {
+        File directory = Files.createTempDirectory("journal").toFile();
+        directory.deleteOnExit();
+        File file = new File(directory, "match.journal");
+        file.deleteOnExit();
+        return file;
+    }
+
+    private static List<String> describe(List<ScoringJournal.Entry> entries) {
+        List<String> described = new ArrayList<>();
+        for (ScoringJournal.Entry entry : entries) {
+            described.add(entry.isDelivery()
+                ? describe(entry.getType(), entry.getSeq(), entry.getBall(), entry.getEvent())
+                : entry.getType() + "|" + entry.getSeq());
+        }
+        return described;
+    }
+
+    /** Every journaled field of a delivery. */
+    private static String describe(String type, long seq, Ball ball, CricketEvent event) {
+        CricketWicketDetail wicket = event.getWicketDetail();
+        CricketExtrasDetail extras = event.getExtrasDetail();
+        return String.join("|", type, String.valueOf(seq),
+            ball.getBallId(), ball.getBatsmanId(), ball.getBowlerId(), ball.getExtrasType(), ball.getWicketType(),
+            String.valueOf(ball.getRunsScored()), String.valueOf(ball.getOverNumber()),
+            String.valueOf(ball.getBallNumber()), String.valueOf(ball.isWicket()), String.valueOf(ball.isBoundary()),
+            event.getEventId(), event.getEventType(), event.getBatsmanStrikerId(), event.getBatsmanNonStrikerId(),
+            event.getBowlerId(), event.getExtrasType(), String.valueOf(event.getTotalRuns()),
+            String.valueOf(event.getRunsScoredBat()), String.valueOf(event.getRunsScoredExtras()),
+            String.valueOf(event.getBoundaryType()), String.valueOf(event.getOverNumber()),
+            String.valueOf(event.getBallNumber()), String.valueOf(event.isLegalDelivery()),
+            String.valueOf(event.isWicket()), String.valueOf(event.isBoundary()),
+            String.valueOf(event.getEventTime().getTime()),
+            wicket != null ? wicket.getWicketDetailId() + "/" + wicket.getWicketType() : "-",
+            extras != null ? extras.getExtrasDetailId() + "/" + extras.getExtrasCategory() + "/"
+                + extras.getExtrasRuns() + "/" + extras.isRunsAlsoScored() : "-");
+    }
+}
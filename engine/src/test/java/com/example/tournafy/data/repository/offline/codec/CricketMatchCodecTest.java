@@ -0,0 +1,133 @@
+package com.example.tournafy.data.repository.offline.codec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.example.tournafy.domain.models.match.cricket.Ball;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.domain.models.match.cricket.Innings;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CricketMatchCodecTest {
+
+    private final CricketMatchCodec codec = new CricketMatchCodec();
+
+    @Test
+    public void scoredMatchRoundTripsThroughItsDocument() {
+        CricketMatch match = CricketFixtures.scoredMatch(20, 150, 7);
+        Map<String, Object> document = codec.encode(match);
+
+        CricketMatch decoded = codec.decode(document);
+
+        assertEquals(document, codec.encode(decoded));
+        assertEquals(match.getEntityId(), decoded.getEntityId());
+        assertEquals(match.getCricketEvents().size(), decoded.getCricketEvents().size());
+        for (int i = 0; i < match.getInnings().size(); i++) {
+            Innings expected = match.getInnings().get(i);
+            Innings actual = decoded.getInnings().get(i);
+            assertEquals(expected.getTotalRuns(), actual.getTotalRuns());
+            assertEquals(expected.getWicketsFallen(), actual.getWicketsFallen());
+        }
+        assertEquals(ballIds(match), ballIds(decoded));
+    }
+
+    @Test
+    public void completedFirstInningsRoundTrips() {
+        CricketMatch match = CricketFixtures.scoredMatch(20, 130, 11);
+        assertTrue(match.getInnings().get(0).isCompleted());
+
+        Map<String, Object> document = codec.encode(match);
+
+        assertEquals(document, codec.encode(codec.decode(document)));
+    }
+
+    @Test
+    public void decodesNumbersAsFirestoreReturnsThem() {
+        CricketMatch match = CricketFixtures.scoredMatch(20, 40, 3);
+        Map<String, Object> document = codec.encode(match);
+
+        // Firestore hands back every integer as a Long
+        CricketMatch decoded = codec.decode(asFirestoreReturns(document));
+
+        assertEquals(document, codec.encode(decoded));
+    }
+
+    @Test
+    public void convertsDatesThroughTheDateConverter() {
+        Date date = new Date(1_700_000_000_000L);
+        CricketMatchCodec converting = new CricketMatchCodec(value -> value instanceof Long ? new Date((Long) value) : null);
+        Map<String, Object> document = codec.encode(CricketFixtures.startedMatch(20));
+        document.put("matchDate", date.getTime());
+
+        assertEquals(date, converting.decode(document).getMatchDate());
+        assertNull(codec.decode(document).getMatchDate());
+    }
+
+    @Test
+    public void malformedFieldsFallBackToDefaults() {
+        Map<String, Object> document = new HashMap<>();
+        document.put("entityId", 42);
+        document.put("innings", "not a list");
+        document.put(CricketMatch.FIELD_CRICKET_EVENTS, List.of("not a map"));
+
+        CricketMatch decoded = codec.decode(document);
+
+        assertNotNull(decoded);
+        assertNull(decoded.getEntityId());
+        assertTrue(decoded.getCricketEvents().isEmpty());
+    }
+
+    @Test
+    public void unreadablePackedBallsFallBackToThePlainOvers() {
+        CricketMatch match = CricketFixtures.scoredMatch(20, 40, 9);
+        Map<String, Object> document = codec.encode(match);
+        Map<String, Object> currentOvers = new HashMap<>();
+        currentOvers.put("overs", codec.encodeValue(match.getCurrentOvers()));
+        currentOvers.put("balls", Map.of("deliveries", "not a list"));
+        document.put(CricketMatch.FIELD_CURRENT_OVERS, currentOvers);
+
+        CricketMatch decoded = codec.decode(document);
+
+        assertEquals(match.getCurrentOvers().size(), decoded.getCurrentOvers().size());
+        assertEquals(ballIds(match), ballIds(decoded));
+    }
+
+    private static List<String> ballIds(CricketMatch match) {
+        List<String> ids = new ArrayList<>();
+        match.getCurrentOvers().forEach(over -> {
+            for (Ball ball : over.getBalls()) ids.add(ball.getBallId());
+        });
+        return ids;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object asFirestoreReturns(Object value) {
+        if (value instanceof Integer) return ((Integer) value).longValue();
+        if (value instanceof Map) {
+            Map<String, Object> out = new HashMap<>();
+            ((Map<String, Object>) value).forEach((key, v) -> out.put(key, asFirestoreReturns(v)));
+            return out;
+        }
+        if (value instanceof List) {
+            List<Object> out = new ArrayList<>();
+            for (Object v : (List<?>) value) out.add(asFirestoreReturns(v));
+            return out;
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asFirestoreReturns(Map<String, Object> document) {
+        return (Map<String, Object>) asFirestoreReturns((Object) document);
+    }
+}
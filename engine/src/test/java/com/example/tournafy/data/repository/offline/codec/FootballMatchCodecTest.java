@@ -0,0 +1,139 @@
+package com.example.tournafy.data.repository.offline.codec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.example.tournafy.domain.models.match.football.FootballCardDetail;
+import com.example.tournafy.domain.models.match.football.FootballEvent;
+import com.example.tournafy.domain.models.match.football.FootballGoalDetail;
+import com.example.tournafy.domain.models.match.football.FootballMatch;
+import com.example.tournafy.domain.models.match.football.FootballMatchConfig;
+import com.example.tournafy.domain.models.match.football.FootballSaveDetail;
+import com.example.tournafy.domain.models.match.football.FootballShotDetail;
+import com.example.tournafy.domain.models.match.football.FootballSubstitutionDetail;
+import com.example.tournafy.domain.models.team.MatchTeam;
+import com.example.tournafy.domain.models.team.Player;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class FootballMatchCodecTest {
+
+    private final FootballMatchCodec codec = new FootballMatchCodec();
+
+    @Test
+    public void matchWithEveryEventDetailRoundTrips() {
+        FootballMatch match = liveMatch();
+        String home = match.getTeams().get(0).getTeamId();
+        String away = match.getTeams().get(1).getTeamId();
+
+        FootballGoalDetail goal = new FootballGoalDetail();
+        goal.setScorerId(home + "-9");
+        goal.setAssistPlayerId(home + "-10");
+        goal.setGoalType("OPEN_PLAY");
+        goal.setBodyPart("HEAD");
+        goal.setMinuteScored(23);
+        match.addMatchEvent(event("GOAL", home, 23, e -> e.setGoalDetail(goal)));
+        match.setHomeScore(1);
+
+        FootballCardDetail card = new FootballCardDetail();
+        card.setPlayerId(away + "-4");
+        card.setCardType("YELLOW");
+        card.setSecondYellow(true);
+        card.setMinuteIssued(31);
+        match.addMatchEvent(event("CARD", away, 31, e -> e.setCardDetail(card)));
+
+        FootballSubstitutionDetail sub = new FootballSubstitutionDetail();
+        sub.setPlayerOutId(away + "-7");
+        sub.setPlayerInId(away + "-12");
+        sub.setTeamId(away);
+        sub.setMinuteSubstituted(46);
+        sub.setSubstitutionNumber(1);
+        match.addMatchEvent(event("SUBSTITUTION", away, 46, e -> e.setSubstitutionDetail(sub)));
+
+        FootballShotDetail shot = new FootballShotDetail();
+        shot.setPlayerId(away + "-9");
+        shot.setShotType("ON_TARGET");
+        shot.setBigChance(true);
+        shot.setXGValue(0.37);
+        match.addMatchEvent(event("SHOT", away, 58, e -> e.setShotDetail(shot)));
+
+        FootballSaveDetail save = new FootballSaveDetail();
+        save.setGoalkeeperId(home + "-1");
+        save.setSaveType("DIVING");
+        save.setSpectacular(true);
+        save.setShotOriginPlayerId(away + "-9");
+        match.addMatchEvent(event("SAVE", home, 58, e -> e.setSaveDetail(save)));
+
+        match.setCurrentMatchMinute(60);
+        match.setElapsedTimeMillis(3_600_000L);
+        match.setTimerRunning(true);
+
+        Map<String, Object> document = codec.encode(match);
+        FootballMatch decoded = codec.decode(document);
+
+        assertEquals(document, codec.encode(decoded));
+        assertEquals(5, decoded.getFootballEvents().size());
+        assertEquals(1, decoded.getHomeScore());
+        FootballEvent decodedShot = decoded.getFootballEvents().get(3);
+        assertEquals(0.37, decodedShot.getShotDetail().getXGValue(), 0d);
+        assertTrue(decoded.getFootballEvents().get(1).getCardDetail().isSecondYellow());
+    }
+
+    @Test
+    public void scheduledMatchRoundTrips() {
+        FootballMatch match = new FootballMatch.Builder("Fixture", "host")
+            .withConfig(new FootballMatchConfig())
+            .addTeam(team("HOME"))
+            .addTeam(team("AWAY"))
+            .build();
+
+        Map<String, Object> document = codec.encode(match);
+
+        assertEquals(document, codec.encode(codec.decode(document)));
+    }
+
+    private static FootballMatch liveMatch() {
+        FootballMatch match = new FootballMatch.Builder("Fixture", "host")
+            .withConfig(new FootballMatchConfig())
+            .addTeam(team("HOME"))
+            .addTeam(team("AWAY"))
+            .build();
+        match.startMatch();
+        return match;
+    }
+
+    private static FootballEvent event(String category, String teamId, int minute,
+                                       Consumer<FootballEvent> detail) {
+        FootballEvent event = new FootballEvent();
+        event.setEventId(category + "-" + minute);
+        event.setTeamId(teamId);
+        event.setEventCategory(category);
+        event.setMatchMinute(minute);
+        event.setMatchPeriod(minute < 46 ? "FIRST_HALF" : "SECOND_HALF");
+        event.setEventTime(new Date(1_700_000_000_000L + minute * 60_000L));
+        detail.accept(event);
+        return event;
+    }
+
+    private static MatchTeam team(String name) {
+        MatchTeam team = new MatchTeam();
+        team.setTeamId(name);
+        team.setTeamName(name);
+        List<Player> players = new ArrayList<>();
+        for (int i = 1; i <= 14; i++) {
+            Player player = new Player();
+            player.setPlayerId(name + "-" + i);
+            player.setTeamId(name);
+            player.setPlayerName(name + " " + i);
+            players.add(player);
+        }
+        team.setPlayers(players);
+        return team;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.tournafy.domain.models.base;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.example.tournafy.command.MatchCommandManager;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class MatchDeltaTest {
+
+    // --- PATH SEMANTICS ---
+
+    @Test
+    public void setOfAFieldCoversItsEntries() {
+        MatchDelta delta = new MatchDelta();
+        delta.set("batsmanStatsMap.p1", "old");
+        delta.set("batsmanStatsMap", "whole");
+        delta.set("batsmanStatsMap.p2", "ignored");
+        delta.increment("batsmanStatsMap.p3", 4);
+
+        assertEquals(Collections.singletonList("batsmanStatsMap"), delta.getDirtyPaths());
+    }
+
+    @Test
+    public void setCoversOnlyPathsBelowIt() {
+        MatchDelta delta = new MatchDelta();
+        delta.set("fieldClocks.batsmanStatsMap:p1", "t1");
+        delta.set("fieldClocks.batsmanStatsMap:p1.deep.er", "ignored");
+        delta.set("fieldClocks.batsmanStatsMap:p10", "t2");
+        delta.set("fieldClocksAll", "t3");
+        delta.increment("fieldClocks", 1);
+
+        assertEquals(Arrays.asList("fieldClocks.batsmanStatsMap:p1", "fieldClocks.batsmanStatsMap:p10",
+            "fieldClocksAll", "fieldClocks"), delta.getDirtyPaths());
+
+        delta.set("fieldClocks", "whole");
+
+        assertEquals(Arrays.asList("fieldClocksAll", "fieldClocks"), delta.getDirtyPaths());
+    }
+
+    @Test
+    public void incrementsAddUpAndCancel() {
+        MatchDelta delta = new MatchDelta();
+        delta.increment("homeScore", 2);
+        delta.increment("homeScore", 1);
+        assertEquals(Long.valueOf(3), delta.getIncrements().get("homeScore"));
+
+        delta.increment("homeScore", -3);
+        assertTrue(delta.isEmpty());
+    }
+
+    @Test
+    public void removingAnAppendedElementCancelsBoth() {
+        MatchDelta delta = new MatchDelta();
+        Object event = new Object();
+        delta.append("cricketEvents", event);
+        delta.remove("cricketEvents", event);
+
+        assertTrue(delta.isEmpty());
+        assertFalse(delta.isFullWriteRequired());
+    }
+
+    @Test
+    public void appendAndRemoveOfDifferentElementsNeedAFullWrite() {
+        MatchDelta delta = new MatchDelta();
+        delta.append("cricketEvents", new Object());
+        delta.remove("cricketEvents", new Object());
+
+        assertTrue(delta.isFullWriteRequired());
+    }
+
+    // --- DELTAS OF SCORED DELIVERIES ---
+
+    @Test
+    public void dotBallWritesOnlyTheOverInningsEventAndStatsEntries() {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        match.drainPendingChanges();
+        String striker = match.getCurrentStrikerId();
+        String bowler = match.getCurrentBowlerId();
+        CricketFixtures.Delivery delivery = CricketFixtures.ball(match, 0);
+
+        CricketFixtures.score(match, new MatchCommandManager(), delivery);
+        MatchDelta delta = match.drainPendingChanges();
+
+        assertFalse(delta.isFullWriteRequired());
+        assertEquals(paths(CricketMatch.FIELD_CURRENT_OVERS, CricketMatch.FIELD_INNINGS,
+            "batsmanStatsMap." + striker, "bowlerStatsMap." + bowler), delta.getSets().keySet());
+        assertEquals(Collections.singleton(CricketMatch.FIELD_CRICKET_EVENTS), delta.getAppends().keySet());
+        List<Object> appended = delta.getAppends().get(CricketMatch.FIELD_CRICKET_EVENTS);
+        assertEquals(1, appended.size());
+        assertSame(delivery.event, appended.get(0));
+        assertTrue(delta.getIncrements().isEmpty());
+        assertTrue(delta.getRemovals().isEmpty());
+    }
+
+    @Test
+    public void singleAlsoWritesTheStrikeChange() {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        match.drainPendingChanges();
+        String striker = match.getCurrentStrikerId();
+        String bowler = match.getCurrentBowlerId();
+
+        CricketFixtures.score(match, new MatchCommandManager(), CricketFixtures.ball(match, 1));
+
+        assertEquals(paths(CricketMatch.FIELD_CURRENT_OVERS, CricketMatch.FIELD_INNINGS,
+            "currentStrikerId", "currentNonStrikerId",
+            "batsmanStatsMap." + striker, "bowlerStatsMap." + bowler),
+            match.drainPendingChanges().getSets().keySet());
+    }
+
+    @Test
+    public void undoRemovesTheEventAndRecordsItsId() {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        MatchCommandManager commands = new MatchCommandManager();
+        CricketFixtures.Delivery delivery = CricketFixtures.ball(match, 4);
+        CricketFixtures.score(match, commands, delivery);
+        match.drainPendingChanges();
+
+        commands.undo();
+        MatchDelta delta = match.drainPendingChanges();
+
+        assertEquals(paths(CricketMatch.FIELD_CURRENT_OVERS, CricketMatch.FIELD_INNINGS), delta.getSets().keySet());
+        assertEquals(Collections.singletonList(delivery.event), delta.getRemovals().get(CricketMatch.FIELD_CRICKET_EVENTS));
+        assertEquals(Collections.singleton(Match.FIELD_REMOVED_IDS), delta.getAppends().keySet());
+    }
+
+    @Test
+    public void noDeliveryOfAnInningsRewritesTheTeamsOrConfig() {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        match.drainPendingChanges();
+        MatchCommandManager commands = new MatchCommandManager();
+        Random random = new Random(5);
+
+        while (match.getCurrentInningsNumber() == 1 && CricketFixtures.isScoring(match)) {
+            CricketFixtures.score(match, commands, CricketFixtures.random(match, random));
+            MatchDelta delta = match.drainPendingChanges();
+
+            assertFalse(delta.isFullWriteRequired());
+            for (String path : delta.getDirtyPaths()) {
+                assertFalse(path, path.equals("teams") || path.startsWith("matchConfig"));
+            }
+        }
+    }
+
+    private static Set<String> paths(String... paths) {
+        return new HashSet<>(Arrays.asList(paths));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.tournafy.domain.models.match.cricket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import com.example.tournafy.command.MatchCommandManager;
+import com.example.tournafy.data.repository.offline.codec.CricketMatchCodec;
+import com.example.tournafy.domain.models.match.MatchLogEntry;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class CricketMatchReplayTest {
+
+    private final CricketMatchCodec codec = new CricketMatchCodec();
+
+    @Test
+    public void entryRecordsTheBallAndTheOverItOpened() {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        MatchCommandManager commands = new MatchCommandManager();
+        int[] runs = {0, 1, 2, 0, 4};
+        for (int run : runs) {
+            CricketFixtures.score(match, commands, CricketFixtures.ball(match, run));
+        }
+
+        CricketFixtures.Delivery sixth = CricketFixtures.ball(match, 6);
+        CricketFixtures.score(match, commands, sixth);
+        MatchLogEntry entry = logEntry(match, 6, sixth);
+
+        assertEquals(sixth.ball.getBallId(), entry.getBallId());
+        assertEquals(match.getCurrentOver().getOverId(), entry.getOverId());
+
+        CricketFixtures.Delivery next = CricketFixtures.ball(match, 0);
+        CricketFixtures.score(match, commands, next);
+        assertNull(logEntry(match, 7, next).getOverId());
+    }
+
+    @Test
+    public void replayedTailKeepsTheLiveBallAndOverIds() {
+        CricketMatch live = CricketFixtures.startedMatch(20);
+        MatchCommandManager commands = new MatchCommandManager();
+        Random random = new Random(17);
+        for (int i = 0; i < 100; i++) {
+            CricketFixtures.score(live, commands, CricketFixtures.random(live, random));
+        }
+        CricketMatch replayed = codec.decode(codec.encode(live));
+
+        // The tail crosses the end of the first innings
+        List<MatchLogEntry> tail = new ArrayList<>();
+        for (int seq = 1; seq <= 60 && CricketFixtures.isScoring(live); seq++) {
+            CricketFixtures.Delivery delivery = CricketFixtures.random(live, random);
+            CricketFixtures.score(live, commands, delivery);
+            tail.add(logEntry(live, seq, delivery));
+        }
+        assertEquals(2, live.getCurrentInningsNumber());
+
+        for (MatchLogEntry entry : tail) {
+            replayed.replayEntry(entry);
+        }
+
+        assertEquals(overIds(live), overIds(replayed));
+        assertEquals(ballIds(live), ballIds(replayed));
+        for (int i = 0; i < live.getInnings().size(); i++) {
+            assertEquals(live.getInnings().get(i).getTotalRuns(), replayed.getInnings().get(i).getTotalRuns());
+            assertEquals(live.getInnings().get(i).getWicketsFallen(), replayed.getInnings().get(i).getWicketsFallen());
+        }
+    }
+
+    @Test
+    public void entryWithoutIdsReplaysWithNewOnes() {
+        CricketMatch live = CricketFixtures.startedMatch(20);
+        CricketMatch replayed = codec.decode(codec.encode(live));
+        CricketFixtures.Delivery delivery = CricketFixtures.ball(live, 2);
+        CricketFixtures.score(live, new MatchCommandManager(), delivery);
+        MatchLogEntry entry = new MatchLogEntry(1, live.getEntityId(), live.getSportId(), delivery.event);
+
+        replayed.replayEntry(entry);
+
+        String ballId = ballIds(replayed).get(0);
+        assertNotNull(ballId);
+        assertNotEquals(delivery.ball.getBallId(), ballId);
+    }
+
+    private static MatchLogEntry logEntry(CricketMatch match, long seq, CricketFixtures.Delivery delivery) {
+        MatchLogEntry entry = new MatchLogEntry(seq, match.getEntityId(), match.getSportId(), delivery.event);
+        match.describeLastEvent(entry);
+        return entry;
+    }
+
+    private static List<String> overIds(CricketMatch match) {
+        List<String> ids = new ArrayList<>();
+        for (Over over : match.getCurrentOvers()) ids.add(over.getOverId());
+        return ids;
+    }
+
+    private static List<String> ballIds(CricketMatch match) {
+        List<String> ids = new ArrayList<>();
+        for (Over over : match.getCurrentOvers()) {
+            for (Ball ball : over.getBalls()) ids.add(ball.getBallId() + "@" + ball.getOverId());
+        }
+        return ids;
+    }
+}
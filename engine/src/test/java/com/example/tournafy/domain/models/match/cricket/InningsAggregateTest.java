@@ -0,0 +1,57 @@
+package com.example.tournafy.domain.models.match.cricket;
+
+import static org.junit.Assert.assertEquals;
+
+import com.example.tournafy.command.MatchCommandManager;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+public class InningsAggregateTest {
+
+    /**
+     * Random sequences of balls, extras and wickets, undone and redone through the
+     * command manager as the scorer would: after every step the maintained aggregate
+     * equals a full recomputation from the overs.
+     */
+    @Test
+    public void maintainedAggregateEqualsRecomputation() {
+        for (long seed = 1; seed <= 50; seed++) {
+            Random random = new Random(seed);
+            CricketMatch match = CricketFixtures.startedMatch(5);
+            MatchCommandManager commands = new MatchCommandManager();
+
+            for (int step = 0; step < 150; step++) {
+                int roll = random.nextInt(10);
+                if (roll < 2 && commands.canUndo()) {
+                    commands.undo();
+                } else if (roll < 3 && commands.canRedo()) {
+                    commands.redo();
+                } else if (CricketFixtures.isScoring(match)) {
+                    CricketFixtures.score(match, commands, CricketFixtures.random(match, random));
+                }
+                assertEquals("seed " + seed + ", step " + step,
+                    InningsAggregate.of(match.getCurrentOvers()), match.currentInningsAggregate());
+            }
+        }
+    }
+
+    @Test
+    public void undoingAWicketRestoresThePartnership() {
+        CricketMatch match = CricketFixtures.startedMatch(20);
+        MatchCommandManager commands = new MatchCommandManager();
+        CricketFixtures.score(match, commands, CricketFixtures.ball(match, 4));
+        CricketFixtures.score(match, commands, CricketFixtures.ball(match, 2));
+        CricketFixtures.score(match, commands, CricketFixtures.wicket(match, "BOWLED"));
+        assertEquals(0, match.currentInningsAggregate().getPartnershipRuns());
+
+        commands.undo();
+
+        InningsAggregate aggregate = match.currentInningsAggregate();
+        assertEquals(6, aggregate.getPartnershipRuns());
+        assertEquals(0, aggregate.getWickets());
+        assertEquals(InningsAggregate.of(match.getCurrentOvers()), aggregate);
+    }
+}
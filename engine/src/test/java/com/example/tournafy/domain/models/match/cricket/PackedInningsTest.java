@@ -0,0 +1,164 @@
+package com.example.tournafy.domain.models.match.cricket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import com.example.tournafy.domain.enums.cricket.ExtrasType;
+import com.example.tournafy.domain.enums.cricket.WicketType;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+public class PackedInningsTest {
+
+    private static final String MATCH_ID = "match-1";
+    private static final String INNINGS_ID = "innings-1";
+
+    // --- ROUND TRIPS ---
+
+    @Test
+    public void everyExtrasTypeUnpacksUnchanged() {
+        List<Ball> balls = new ArrayList<>();
+        for (ExtrasType type : ExtrasType.values()) {
+            Ball ball = ball(balls.size() + 1);
+            ball.setExtrasType(type.name());
+            ball.setRunsScored(1 + balls.size());
+            balls.add(ball);
+        }
+
+        assertRoundTrip(balls);
+    }
+
+    @Test
+    public void everyWicketTypeUnpacksUnchanged() {
+        List<Ball> balls = new ArrayList<>();
+        for (WicketType type : WicketType.values()) {
+            Ball ball = ball(balls.size() + 1);
+            ball.setWicket(true);
+            ball.setWicketType(type.name());
+            balls.add(ball);
+        }
+
+        assertRoundTrip(balls);
+    }
+
+    @Test
+    public void extremeValuesAndMissingIdsUnpackUnchanged() {
+        Ball largest = ball(63);
+        largest.setRunsScored(63);
+        largest.setOverNumber(1023);
+        largest.setBoundary(true);
+        Ball bare = new Ball();
+        bare.setMatchId(MATCH_ID);
+        bare.setInningsId(INNINGS_ID);
+        bare.setInningsNumber(1);
+        Ball namedId = ball(2);
+        namedId.setBallId("legacy-ball-7");
+
+        assertRoundTrip(Arrays.asList(largest, bare, namedId));
+    }
+
+    @Test
+    public void scoredInningsUnpacksUnchanged() {
+        CricketMatch match = CricketFixtures.scoredMatch(20, 120, 11);
+        List<Ball> balls = new ArrayList<>();
+        for (Over over : match.getCurrentOvers()) balls.addAll(over.getBalls());
+
+        assertRoundTrip(balls);
+    }
+
+    @Test
+    public void storedPartsRebuildTheSameInnings() {
+        List<Ball> balls = new ArrayList<>();
+        for (WicketType type : WicketType.values()) {
+            Ball ball = ball(balls.size() + 1);
+            ball.setWicket(true);
+            ball.setWicketType(type.name());
+            ball.setExtrasType(ExtrasType.values()[balls.size() % ExtrasType.values().length].name());
+            balls.add(ball);
+        }
+        PackedInnings packed = PackedInnings.pack(balls);
+
+        PackedInnings rebuilt = PackedInnings.of(packed.getMatchId(), packed.getInningsId(),
+            packed.getInningsNumber(), packed.getIds(), packed.getDeliveries(), packed.getBallIds());
+
+        assertEquals(describe(balls), describe(rebuilt.unpack()));
+    }
+
+    // --- REJECTED BALLS ---
+
+    @Test
+    public void unknownTypesAndOutOfRangeValuesAreRejected() {
+        Ball unknownExtras = ball(1);
+        unknownExtras.setExtrasType("OVERTHROW");
+        Ball unknownWicket = ball(1);
+        unknownWicket.setWicketType("HANDLED_BALL");
+        Ball tooManyRuns = ball(1);
+        tooManyRuns.setRunsScored(64);
+        Ball otherInnings = ball(1);
+        otherInnings.setInningsNumber(2);
+
+        for (Ball ball : Arrays.asList(unknownExtras, unknownWicket, tooManyRuns, otherInnings)) {
+            PackedInnings packed = new PackedInnings(MATCH_ID, INNINGS_ID, 1);
+            try {
+                packed.add(ball);
+                fail("Packed " + describe(ball));
+            } catch (IllegalArgumentException expected) {
+                assertEquals(0, packed.size());
+                assertEquals(0, packed.getIds().size());
+            }
+        }
+    }
+
+    @Test
+    public void missingTypesStayMissing() {
+        Ball ball = ball(1);
+
+        Ball unpacked = PackedInnings.pack(List.of(ball)).get(0);
+
+        assertNull(unpacked.getExtrasType());
+        assertNull(unpacked.getWicketType());
+    }
+
+    private static void assertRoundTrip(List<Ball> balls) {
+        PackedInnings packed = PackedInnings.pack(balls);
+
+        assertEquals(balls.size(), packed.size());
+        assertEquals(describe(balls), describe(packed.unpack()));
+    }
+
+    private static Ball ball(int number) {
+        Ball ball = new Ball();
+        ball.setBallId(UUID.randomUUID().toString());
+        ball.setMatchId(MATCH_ID);
+        ball.setInningsId(INNINGS_ID);
+        ball.setInningsNumber(1);
+        ball.setOverId("over-" + (number / 6 + 1));
+        ball.setOverNumber(number / 6 + 1);
+        ball.setBallNumber(number % 6 + 1);
+        ball.setBatsmanId("batsman-" + number % 3);
+        ball.setBowlerId("bowler-" + number % 2);
+        return ball;
+    }
+
+    private static List<String> describe(List<Ball> balls) {
+        List<String> described = new ArrayList<>();
+        for (Ball ball : balls) described.add(describe(ball));
+        return described;
+    }
+
+    /** Every field of a ball. */
+    private static String describe(Ball ball) {
+        return String.join("|", ball.getBallId(), ball.getMatchId(), ball.getInningsId(), ball.getOverId(),
+            String.valueOf(ball.getInningsNumber()), String.valueOf(ball.getOverNumber()),
+            String.valueOf(ball.getBallNumber()), ball.getBatsmanId(), ball.getBowlerId(),
+            String.valueOf(ball.getRunsScored()), String.valueOf(ball.isWicket()),
+            String.valueOf(ball.isBoundary()), ball.getExtrasType(), ball.getWicketType());
+    }
+}
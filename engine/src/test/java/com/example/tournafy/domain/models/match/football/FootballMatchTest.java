@@ -0,0 +1,74 @@
+package com.example.tournafy.domain.models.match.football;
+
+import static com.example.tournafy.fixtures.FootballFixtures.AWAY;
+import static com.example.tournafy.fixtures.FootballFixtures.HOME;
+import static com.example.tournafy.fixtures.FootballFixtures.player;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.example.tournafy.domain.models.team.MatchTeam;
+import com.example.tournafy.domain.models.team.Player;
+import com.example.tournafy.fixtures.FootballFixtures;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FootballMatchTest {
+
+    // --- ROSTER INDEX ---
+
+    @Test
+    public void findPlayerSeesPlayersAddedAndRemovedAfterALookup() {
+        FootballMatch match = FootballFixtures.startedMatch();
+        List<Player> home = match.getTeams().get(0).getPlayers();
+        assertNull(match.findPlayer("HOME-17"));
+
+        Player added = new Player();
+        added.setPlayerId("HOME-17");
+        home.add(added);
+        Player removed = home.remove(0);
+
+        assertSame(added, match.findPlayer("HOME-17"));
+        assertNull(match.findPlayer(removed.getPlayerId()));
+        assertSame(home.get(0), match.findPlayer(player(HOME, 2)));
+    }
+
+    @Test
+    public void findPlayerSeesReplacedRostersAndTeams() {
+        FootballMatch match = FootballFixtures.startedMatch();
+        assertSame(match.getTeams().get(1).getPlayers().get(0), match.findPlayer(player(AWAY, 1)));
+
+        Player replacement = new Player();
+        replacement.setPlayerId("AWAY-99");
+        match.getTeams().get(1).setPlayers(new ArrayList<>(List.of(replacement)));
+
+        assertNull(match.findPlayer(player(AWAY, 1)));
+        assertSame(replacement, match.findPlayer("AWAY-99"));
+
+        MatchTeam other = new MatchTeam();
+        other.setTeamId("OTHER");
+        match.setTeams(new ArrayList<>(List.of(match.getTeams().get(0), other)));
+
+        assertNull(match.findPlayer("AWAY-99"));
+        assertSame(match.getTeams().get(0).getPlayers().get(1), match.findPlayer(player(HOME, 2)));
+    }
+
+    @Test
+    public void lineupSubstitutionSwapsStartersOfTheNamedTeamOnly() {
+        FootballMatch match = FootballFixtures.startedMatch();
+
+        match.applyLineupSubstitution(HOME, player(HOME, 10), player(HOME, 14));
+        match.applyLineupSubstitution(HOME, player(AWAY, 9), player(AWAY, 15));
+
+        assertFalse(match.findPlayer(player(HOME, 10)).isStartingXI());
+        assertTrue(match.findPlayer(player(HOME, 14)).isStartingXI());
+        assertTrue(match.findPlayer(player(AWAY, 9)).isStartingXI());
+        assertFalse(match.findPlayer(player(AWAY, 15)).isStartingXI());
+        assertEquals(2, match.getTeams().size());
+    }
+}
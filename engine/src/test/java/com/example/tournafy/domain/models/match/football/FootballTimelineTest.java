@@ -0,0 +1,232 @@
+package com.example.tournafy.domain.models.match.football;
+
+import static com.example.tournafy.fixtures.FootballFixtures.AWAY;
+import static com.example.tournafy.fixtures.FootballFixtures.HOME;
+import static com.example.tournafy.fixtures.FootballFixtures.player;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.example.tournafy.command.MatchCommandManager;
+import com.example.tournafy.fixtures.FootballFixtures;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class FootballTimelineTest {
+
+    private static final String[] CATEGORIES = {"GOAL", "CARD", "SHOT", "SAVE", "SUBSTITUTION"};
+
+    // --- SCORED THROUGH THE COMMANDS ---
+
+    @Test
+    public void eventsScoredThroughTheCommandsAreIndexed() {
+        FootballMatch match = FootballFixtures.startedMatch();
+        FootballTimeline timeline = match.timeline();
+        MatchCommandManager commands = new MatchCommandManager();
+        commands.executeCommand(FootballFixtures.shot(match, HOME, 12, player(HOME, 9), "OFF_TARGET"));
+        commands.executeCommand(FootballFixtures.goal(match, HOME, 30, player(HOME, 9), player(HOME, 10)));
+        commands.executeCommand(FootballFixtures.card(match, AWAY, 38, player(AWAY, 4), "YELLOW"));
+        commands.executeCommand(FootballFixtures.save(match, AWAY, 45, player(AWAY, 1), player(HOME, 9)));
+        commands.executeCommand(FootballFixtures.card(match, AWAY, 45, player(AWAY, 5), "RED"));
+        commands.executeCommand(FootballFixtures.substitution(match, HOME, 46, player(HOME, 10), player(HOME, 14)));
+        commands.executeCommand(FootballFixtures.shot(match, AWAY, 70, player(AWAY, 9), "SAVED"));
+        List<FootballEvent> events = match.getFootballEvents();
+
+        assertEquals(events.subList(1, 5), timeline.eventsBetween(30, 45));
+        assertEquals(List.of(events.get(2), events.get(4)), timeline.eventsOf("card"));
+        assertEquals(List.of(events.get(0), events.get(1), events.get(3)), timeline.eventsOfPlayer(player(HOME, 9)));
+        assertEquals(List.of(events.get(1), events.get(5)), timeline.eventsOfPlayer(player(HOME, 10)));
+        assertEquals(List.of(events.get(0), events.get(1), events.get(5)), timeline.eventsOfTeam(HOME));
+        assertEquals("1/2/1/0/0/0/1/0/0/0", describe(timeline.statsOf(HOME)));
+        assertEquals("0/1/1/1/1/1/0/0/0/0", describe(timeline.statsOf(AWAY)));
+        assertEquals(7, timeline.size());
+        assertTrue(timeline.eventsBetween(46, 45).isEmpty());
+        assertTrue(timeline.eventsOfPlayer("nobody").isEmpty());
+        assertEquals("0/0/0/0/0/0/0/0/0/0", describe(timeline.statsOf("nobody")));
+    }
+
+    /**
+     * Undo takes the event out of the timeline in place: no rebuild, and only that
+     * event's minute, category, team, players and totals change.
+     */
+    @Test
+    public void undoAndRedoUpdateTheTimelineInPlace() {
+        FootballMatch match = FootballFixtures.startedMatch();
+        MatchCommandManager commands = new MatchCommandManager();
+        commands.executeCommand(FootballFixtures.goal(match, HOME, 30, player(HOME, 9), player(HOME, 10)));
+        FootballTimeline timeline = match.timeline();
+        commands.executeCommand(FootballFixtures.goal(match, HOME, 40, player(HOME, 7), null));
+        FootballEvent second = match.getFootballEvents().get(1);
+
+        commands.undo();
+
+        assertSame(timeline, match.timeline());
+        assertEquals(1, timeline.size());
+        assertEquals(1, timeline.statsOf(HOME).getGoals());
+        assertTrue(timeline.eventsBetween(31, 45).isEmpty());
+        assertTrue(timeline.eventsOfPlayer(player(HOME, 7)).isEmpty());
+        assertEquals(1, timeline.eventsOf("GOAL").size());
+        assertEquals(1, match.getHomeScore());
+
+        commands.redo();
+
+        assertSame(timeline, match.timeline());
+        assertEquals(2, timeline.statsOf(HOME).getGoals());
+        assertEquals(List.of(second), timeline.eventsBetween(31, 45));
+        assertEquals(List.of(second), timeline.eventsOfPlayer(player(HOME, 7)));
+    }
+
+    @Test
+    public void randomScoringWithUndoAndRedoMatchesAScanOfTheEvents() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Random random = new Random(seed);
+            FootballMatch match = FootballFixtures.startedMatch();
+            FootballTimeline timeline = match.timeline();
+            MatchCommandManager commands = new MatchCommandManager();
+            int minute = 1;
+            for (int step = 0; step < 150; step++) {
+                int roll = random.nextInt(10);
+                if (roll < 2 && commands.canUndo()) {
+                    commands.undo();
+                } else if (roll < 3 && commands.canRedo()) {
+                    commands.redo();
+                } else {
+                    minute = Math.min(90, minute + random.nextInt(3));
+                    commands.executeCommand(FootballFixtures.random(match, random, minute));
+                }
+                String message = "seed " + seed + ", step " + step;
+                assertSame(message, timeline, match.timeline());
+                assertMatchesScan(message, match.getFootballEvents(), timeline, random);
+            }
+            // Built from the list in one go, the timeline is the same
+            assertMatchesScan("seed " + seed, match.getFootballEvents(),
+                new FootballTimeline(match.getFootballEvents()), random);
+        }
+    }
+
+    @Test
+    public void replacedEventListIsIndexedOnNextUse() {
+        FootballMatch match = FootballFixtures.startedMatch();
+        FootballTimeline stale = match.timeline();
+        FootballMatch other = FootballFixtures.startedMatch();
+        MatchCommandManager commands = new MatchCommandManager();
+        commands.executeCommand(FootballFixtures.card(other, AWAY, 20, player(AWAY, 3), "YELLOW"));
+
+        match.setFootballEvents(new ArrayList<>(other.getFootballEvents()));
+
+        assertEquals(0, stale.size());
+        assertEquals(1, match.timeline().statsOf(AWAY).getYellowCards());
+    }
+
+    /**
+     * Every index and the totals of both teams against a scan of the event list, over
+     * 30'-45', the whole match and a random range.
+     */
+    private static void assertMatchesScan(String message, List<FootballEvent> events, FootballTimeline timeline,
+                                          Random random) {
+        assertEquals(message, events.size(), timeline.size());
+        assertEquals(message, scanBetween(events, 0, 90), timeline.events());
+        int from = random.nextInt(91);
+        int[][] ranges = {{30, 45}, {0, 90}, {from, from + random.nextInt(20)}};
+        for (int[] range : ranges) {
+            assertEquals(message + ", " + range[0] + "'-" + range[1] + "'",
+                scanBetween(events, range[0], range[1]), timeline.eventsBetween(range[0], range[1]));
+        }
+        for (String category : CATEGORIES) {
+            List<FootballEvent> expected = new ArrayList<>();
+            for (FootballEvent event : events) if (category.equals(event.getEventCategory())) expected.add(event);
+            assertEquals(message + ", " + category, expected, timeline.eventsOf(category));
+        }
+        for (String team : Arrays.asList(HOME, AWAY)) {
+            List<FootballEvent> expected = new ArrayList<>();
+            for (FootballEvent event : events) if (team.equals(event.getTeamId())) expected.add(event);
+            assertEquals(message + ", " + team, expected, timeline.eventsOfTeam(team));
+            assertEquals(message + ", " + team, scanStats(events, team), describe(timeline.statsOf(team)));
+            for (int number = 1; number <= 16; number++) {
+                String playerId = player(team, number);
+                List<FootballEvent> expectedOfPlayer = new ArrayList<>();
+                for (FootballEvent event : events) if (playersOf(event).contains(playerId)) expectedOfPlayer.add(event);
+                assertEquals(message + ", " + playerId, expectedOfPlayer, timeline.eventsOfPlayer(playerId));
+            }
+        }
+    }
+
+    private static List<FootballEvent> scanBetween(List<FootballEvent> events, int fromMinute, int toMinute) {
+        List<FootballEvent> expected = new ArrayList<>();
+        for (FootballEvent event : events) {
+            if (event.getMatchMinute() >= fromMinute && event.getMatchMinute() <= toMinute) expected.add(event);
+        }
+        // Stable: within a minute, events stay in the order they were added
+        expected.sort(Comparator.comparingInt(FootballEvent::getMatchMinute));
+        return expected;
+    }
+
+    /** Team totals counted the way the statistics screen counted them. */
+    private static String scanStats(List<FootballEvent> events, String teamId) {
+        int[] stats = new int[10];
+        for (FootballEvent event : events) {
+            if (!teamId.equals(event.getTeamId())) continue;
+            switch (event.getEventCategory()) {
+                case "GOAL":
+                    stats[0]++;
+                    stats[1]++;
+                    stats[2]++;
+                    break;
+                case "SHOT":
+                    stats[1]++;
+                    if (event.getShotDetail().isOnTarget()) stats[2]++;
+                    break;
+                case "SAVE":
+                    stats[3]++;
+                    break;
+                case "CARD":
+                    if ("RED".equals(event.getCardDetail().getCardType())) stats[5]++;
+                    else stats[4]++;
+                    break;
+                case "SUBSTITUTION":
+                    stats[6]++;
+                    break;
+                default:
+                    break;
+            }
+        }
+        StringBuilder described = new StringBuilder();
+        for (int stat : stats) described.append(described.length() > 0 ? "/" : "").append(stat);
+        return described.toString();
+    }
+
+    private static Set<String> playersOf(FootballEvent event) {
+        Set<String> players = new LinkedHashSet<>();
+        if (event.getGoalDetail() != null) {
+            players.add(event.getGoalDetail().getScorerId());
+            players.add(event.getGoalDetail().getAssistPlayerId());
+        }
+        if (event.getCardDetail() != null) players.add(event.getCardDetail().getPlayerId());
+        if (event.getShotDetail() != null) players.add(event.getShotDetail().getPlayerId());
+        if (event.getSaveDetail() != null) {
+            players.add(event.getSaveDetail().getGoalkeeperId());
+            players.add(event.getSaveDetail().getShotOriginPlayerId());
+        }
+        if (event.getSubstitutionDetail() != null) {
+            players.add(event.getSubstitutionDetail().getPlayerOutId());
+            players.add(event.getSubstitutionDetail().getPlayerInId());
+        }
+        players.remove(null);
+        return players;
+    }
+
+    /** Goals, shots, on target, saves, yellow, red, substitutions, corners, fouls, offsides. */
+    private static String describe(FootballTimeline.TeamStats stats) {
+        return stats.getGoals() + "/" + stats.getShots() + "/" + stats.getShotsOnTarget() + "/" + stats.getSaves()
+            + "/" + stats.getYellowCards() + "/" + stats.getRedCards() + "/" + stats.getSubstitutions()
+            + "/" + stats.getCorners() + "/" + stats.getFouls() + "/" + stats.getOffsides();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.tournafy.domain.models.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HybridLogicalClockTest {
+
+    private long wall = 1_700_000_000_000L;
+
+    @Test
+    public void stampsIncreaseWhenTheWallClockStandsStillOrGoesBack() {
+        HybridLogicalClock clock = new HybridLogicalClock("a", () -> wall);
+        String first = clock.now();
+        String second = clock.now();
+        wall -= 5_000;
+        String third = clock.now();
+
+        assertTrue(HybridLogicalClock.compare(second, first) > 0);
+        assertTrue(HybridLogicalClock.compare(third, second) > 0);
+    }
+
+    @Test
+    public void observedStampOrdersBeforeTheNextLocalStamp() {
+        HybridLogicalClock behind = new HybridLogicalClock("a", () -> wall);
+        HybridLogicalClock ahead = new HybridLogicalClock("b", () -> wall + 60_000);
+        String remote = ahead.now();
+
+        behind.observe(remote);
+
+        assertTrue(HybridLogicalClock.compare(behind.now(), remote) > 0);
+    }
+
+    @Test
+    public void nodesNeverProduceTheSameStamp() {
+        HybridLogicalClock a = new HybridLogicalClock("a", () -> wall);
+        HybridLogicalClock b = new HybridLogicalClock("b", () -> wall);
+
+        assertNotEquals(a.now(), b.now());
+    }
+
+    @Test
+    public void stampsCompareInTimeOrderAsStrings() {
+        HybridLogicalClock clock = new HybridLogicalClock("z", () -> wall);
+        String earlier = clock.now();
+        wall += 1;
+        String later = clock.now();
+
+        assertTrue(earlier.compareTo(later) < 0);
+        assertEquals("1700000000000-000000-z", earlier);
+    }
+
+    @Test
+    public void missingStampIsOlderThanAnyStamp() {
+        String stamp = new HybridLogicalClock("a", () -> wall).now();
+
+        assertTrue(HybridLogicalClock.compare(null, stamp) < 0);
+        assertEquals(0, HybridLogicalClock.compare(null, null));
+        assertEquals(stamp, HybridLogicalClock.max(null, stamp));
+        assertNull(HybridLogicalClock.max(null, null));
+    }
+
+    @Test
+    public void invalidStampIsIgnored() {
+        HybridLogicalClock clock = new HybridLogicalClock("a", () -> wall);
+        String before = clock.now();
+
+        clock.observe("not-a-stamp");
+        clock.observe(null);
+
+        assertEquals(before.substring(0, 13), clock.now().substring(0, 13));
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.tournafy.fixtures;
+
+import com.example.tournafy.command.MatchCommandManager;
+import com.example.tournafy.command.cricket.AddBallCommand;
+import com.example.tournafy.command.cricket.AddExtrasCommand;
+import com.example.tournafy.command.cricket.AddWicketCommand;
+import com.example.tournafy.command.interfaces.MatchCommand;
+import com.example.tournafy.domain.models.match.cricket.Ball;
+import com.example.tournafy.domain.models.match.cricket.CricketEvent;
+import com.example.tournafy.domain.models.match.cricket.CricketExtrasDetail;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.domain.models.match.cricket.CricketMatchConfig;
+import com.example.tournafy.domain.models.match.cricket.CricketWicketDetail;
+import com.example.tournafy.domain.models.match.cricket.Innings;
+import com.example.tournafy.domain.models.match.cricket.Over;
+import com.example.tournafy.domain.models.sync.MatchOperation;
+import com.example.tournafy.domain.models.team.MatchTeam;
+import com.example.tournafy.domain.models.team.Player;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Cricket matches and deliveries built the way MatchViewModel builds them, for the
+ * engine tests and benchmarks.
+ */
+public final class CricketFixtures {
+
+    public static final String[] EXTRAS_TYPES = {"WIDE", "NO_BALL", "BYE", "LEG_BYE"};
+    public static final String[] WICKET_TYPES = {"BOWLED", "CAUGHT", "LBW", "RUN_OUT", "STUMPED", "HIT_WICKET"};
+
+    private static final int PLAYERS_PER_SIDE = 11;
+
+    private CricketFixtures() {
+    }
+
+    /**
+     * One delivery: the ball and event MatchViewModel creates for a tap, and the type
+     * of command that scores it (a MatchOperation type).
+     */
+    public static final class Delivery {
+        public final String type;
+        public final Ball ball;
+        public final CricketEvent event;
+
+        Delivery(String type, Ball ball, CricketEvent event) {
+            this.type = type;
+            this.ball = ball;
+            this.event = event;
+        }
+
+        public MatchCommand command(CricketMatch match) {
+            switch (type) {
+                case MatchOperation.TYPE_WICKET:
+                    return new AddWicketCommand(match, ball, event, event.getWicketDetail());
+                case MatchOperation.TYPE_EXTRAS:
+                    return new AddExtrasCommand(match, ball, event, event.getExtrasDetail());
+                default:
+                    return new AddBallCommand(match, ball, event);
+            }
+        }
+    }
+
+    /**
+     * @return A live match of two teams of eleven, with the first over open and the
+     *         openers and the first bowler at the crease.
+     */
+    public static CricketMatch startedMatch(int overs) {
+        CricketMatchConfig config = new CricketMatchConfig();
+        config.setNumberOfOvers(overs);
+        CricketMatch match = new CricketMatch.Builder("Fixture", "host")
+            .withConfig(config)
+            .addTeam(team("HOME"))
+            .addTeam(team("AWAY"))
+            .build();
+        match.startMatch();
+        match.startNewOver();
+        takeCrease(match);
+        return match;
+    }
+
+    public static Delivery ball(CricketMatch match, int runs) {
+        takeCrease(match);
+        Ball ball = newBall(match, runs, "NONE");
+        ball.setBoundary(runs == 4 || runs == 6);
+        CricketEvent event = newEvent(match, "BALL", runs);
+        event.setRunsScoredBat(runs);
+        event.setLegalDelivery(true);
+        event.setExtrasType("NONE");
+        event.setBoundary(runs == 4 || runs == 6);
+        event.setBoundaryType(runs == 4 ? 4 : (runs == 6 ? 6 : 0));
+        return new Delivery(MatchOperation.TYPE_BALL, ball, event);
+    }
+
+    public static Delivery wicket(CricketMatch match, String wicketType) {
+        takeCrease(match);
+        Ball ball = newBall(match, 0, "NONE");
+        ball.setWicket(true);
+        CricketEvent event = newEvent(match, "WICKET", 0);
+        event.setLegalDelivery(true);
+        event.setWicket(true);
+        event.setExtrasType("NONE");
+        CricketWicketDetail detail = new CricketWicketDetail();
+        detail.setWicketType(wicketType);
+        event.setWicketDetail(detail);
+        return new Delivery(MatchOperation.TYPE_WICKET, ball, event);
+    }
+
+    public static Delivery extra(CricketMatch match, String extrasType, int additionalRuns) {
+        takeCrease(match);
+        boolean penalty = extrasType.equals("WIDE") || extrasType.equals("NO_BALL");
+        int extrasRuns = (penalty ? 1 : 0) + additionalRuns;
+        Ball ball = newBall(match, extrasRuns, extrasType);
+        CricketEvent event = newEvent(match, "EXTRA", extrasRuns);
+        event.setRunsScoredExtras(extrasRuns);
+        event.setLegalDelivery(!penalty);
+        event.setExtrasType(extrasType);
+        CricketExtrasDetail detail = new CricketExtrasDetail();
+        detail.setExtrasCategory(extrasType);
+        detail.setExtrasRuns(extrasRuns);
+        detail.setRunsAlsoScored(additionalRuns > 0);
+        event.setExtrasDetail(detail);
+        return new Delivery(MatchOperation.TYPE_EXTRAS, ball, event);
+    }
+
+    /**
+     * @return A delivery drawn from a T20-like mix: mostly runs, some extras, a few wickets.
+     */
+    public static Delivery random(CricketMatch match, Random random) {
+        int roll = random.nextInt(100);
+        if (roll < 6) return wicket(match, WICKET_TYPES[random.nextInt(WICKET_TYPES.length)]);
+        if (roll < 16) return extra(match, EXTRAS_TYPES[random.nextInt(EXTRAS_TYPES.length)], random.nextInt(3));
+        int[] runs = {0, 0, 0, 1, 1, 1, 2, 3, 4, 4, 6};
+        return ball(match, runs[random.nextInt(runs.length)]);
+    }
+
+    /**
+     * @return A started match with up to deliveries random deliveries scored through
+     *         the commands (fewer if the match ends first).
+     */
+    public static CricketMatch scoredMatch(int overs, int deliveries, long seed) {
+        CricketMatch match = startedMatch(overs);
+        MatchCommandManager commands = new MatchCommandManager();
+        Random random = new Random(seed);
+        for (int i = 0; i < deliveries && isScoring(match); i++) {
+            score(match, commands, random(match, random));
+        }
+        return match;
+    }
+
+    /**
+     * Scores a delivery as MatchViewModel does: the command through the manager, the
+     * post-ball logic, then the player stats.
+     */
+    public static void score(CricketMatch match, MatchCommandManager commands, Delivery delivery) {
+        commands.executeCommand(delivery.command(match));
+        match.processPostBallLogic(delivery.event);
+        match.applyPlayerStats(delivery.event);
+    }
+
+    /**
+     * @return Whether the match can take another delivery.
+     */
+    public static boolean isScoring(CricketMatch match) {
+        Innings innings = match.getCurrentInnings();
+        return innings != null && !innings.isCompleted() && match.getCurrentOver() != null;
+    }
+
+    /**
+     * Puts the players the scorer would pick at the crease: a new batsman after a
+     * wicket, the openers and a bowler of the other side when an innings starts, and
+     * a new bowler every over.
+     */
+    private static void takeCrease(CricketMatch match) {
+        Innings innings = match.getCurrentInnings();
+        Over over = match.getCurrentOver();
+        if (innings == null) return;
+        List<Player> batting = playersOf(match, innings.getBattingTeamId());
+        List<Player> bowling = playersOf(match, innings.getBowlingTeamId());
+        if (!contains(batting, match.getCurrentStrikerId()) || !contains(batting, match.getCurrentNonStrikerId())) {
+            match.setCurrentStrikerId(batting.get(0).getPlayerId());
+            match.setCurrentNonStrikerId(batting.get(1).getPlayerId());
+        }
+        String out = dismissed(match);
+        if (out != null) {
+            int next = Math.min(innings.getWicketsFallen() + 1, batting.size() - 1);
+            if (out.equals(match.getCurrentStrikerId())) match.setCurrentStrikerId(batting.get(next).getPlayerId());
+            else match.setCurrentNonStrikerId(batting.get(next).getPlayerId());
+        }
+        int overNumber = over != null ? over.getOverNumber() : 1;
+        String bowler = bowling.get(bowling.size() - 1 - (overNumber - 1) % 5).getPlayerId();
+        if (!bowler.equals(match.getCurrentBowlerId())) match.setCurrentBowlerId(bowler);
+    }
+
+    private static String dismissed(CricketMatch match) {
+        for (String playerId : new String[]{match.getCurrentStrikerId(), match.getCurrentNonStrikerId()}) {
+            if (match.getBatsmanStats(playerId) != null && match.getBatsmanStats(playerId).isOut()) return playerId;
+        }
+        return null;
+    }
+
+    private static Ball newBall(CricketMatch match, int runs, String extrasType) {
+        Innings innings = match.getCurrentInnings();
+        Over over = match.getCurrentOver();
+        Ball ball = new Ball();
+        ball.setBallId(UUID.randomUUID().toString());
+        ball.setMatchId(match.getEntityId());
+        ball.setInningsId(innings.getInningsId());
+        ball.setOverId(over != null ? over.getOverId() : null);
+        ball.setInningsNumber(innings.getInningsNumber());
+        ball.setOverNumber(over != null ? over.getOverNumber() : 0);
+        ball.setBallNumber(over != null && over.getBalls() != null ? over.getBalls().size() + 1 : 1);
+        ball.setRunsScored(runs);
+        ball.setExtrasType(extrasType);
+        ball.setBatsmanId(match.getCurrentStrikerId());
+        ball.setBowlerId(match.getCurrentBowlerId());
+        return ball;
+    }
+
+    private static CricketEvent newEvent(CricketMatch match, String eventType, int totalRuns) {
+        Innings innings = match.getCurrentInnings();
+        Over over = match.getCurrentOver();
+        CricketEvent event = new CricketEvent();
+        event.setEventId(UUID.randomUUID().toString());
+        event.setMatchId(match.getEntityId());
+        event.setTeamId(innings.getBattingTeamId());
+        event.setEventType(eventType);
+        event.setOverNumber(over != null ? over.getOverNumber() : 0);
+        event.setBallNumber(over != null && over.getBalls() != null ? over.getBalls().size() + 1 : 0);
+        event.setTotalRuns(totalRuns);
+        event.setEventTime(new Date());
+        event.setBatsmanStrikerId(match.getCurrentStrikerId());
+        event.setBatsmanNonStrikerId(match.getCurrentNonStrikerId());
+        event.setBowlerId(match.getCurrentBowlerId());
+        return event;
+    }
+
+    private static MatchTeam team(String name) {
+        MatchTeam team = new MatchTeam();
+        team.setTeamId(idOf(name));
+        team.setTeamName(name);
+        List<Player> players = new ArrayList<>();
+        for (int i = 1; i <= PLAYERS_PER_SIDE; i++) {
+            Player player = new Player();
+            player.setPlayerId(idOf(name + "-" + i));
+            player.setTeamId(team.getTeamId());
+            player.setPlayerName(name + " " + i);
+            players.add(player);
+        }
+        team.setPlayers(players);
+        return team;
+    }
+
+    private static List<Player> playersOf(CricketMatch match, String teamId) {
+        for (MatchTeam team : match.getTeams()) {
+            if (team.getTeamId().equals(teamId)) return team.getPlayers();
+        }
+        throw new IllegalStateException("No team " + teamId);
+    }
+
+    private static boolean contains(List<Player> players, String playerId) {
+        for (Player player : players) {
+            if (player.getPlayerId().equals(playerId)) return true;
+        }
+        return false;
+    }
+
+    private static String idOf(String name) {
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.tournafy.fixtures;
+
+import com.example.tournafy.command.football.AddCardCommand;
+import com.example.tournafy.command.football.AddGoalCommand;
+import com.example.tournafy.command.football.AddSaveCommand;
+import com.example.tournafy.command.football.AddShotCommand;
+import com.example.tournafy.command.football.SubstitutePlayerCommand;
+import com.example.tournafy.command.interfaces.MatchCommand;
+import com.example.tournafy.domain.models.match.football.FootballCardDetail;
+import com.example.tournafy.domain.models.match.football.FootballEvent;
+import com.example.tournafy.domain.models.match.football.FootballGoalDetail;
+import com.example.tournafy.domain.models.match.football.FootballMatch;
+import com.example.tournafy.domain.models.match.football.FootballMatchConfig;
+import com.example.tournafy.domain.models.match.football.FootballSaveDetail;
+import com.example.tournafy.domain.models.match.football.FootballShotDetail;
+import com.example.tournafy.domain.models.match.football.FootballSubstitutionDetail;
+import com.example.tournafy.domain.models.team.MatchTeam;
+import com.example.tournafy.domain.models.team.Player;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Football matches and the commands the football scoring screen issues, for the
+ * engine tests.
+ */
+public final class FootballFixtures {
+
+    public static final String HOME = "HOME";
+    public static final String AWAY = "AWAY";
+
+    private static final int PLAYERS_PER_SIDE = 16;
+    private static final String[] SHOT_TYPES = {"ON_TARGET", "OFF_TARGET", "SAVED", "BLOCKED"};
+
+    private FootballFixtures() {
+    }
+
+    /**
+     * @return A live match of HOME (the home team) and AWAY, with players "HOME-1"
+     *         to "HOME-16" and "AWAY-1" to "AWAY-16".
+     */
+    public static FootballMatch startedMatch() {
+        FootballMatch match = new FootballMatch.Builder("Fixture", "host")
+            .withConfig(new FootballMatchConfig())
+            .addTeam(team(HOME, true))
+            .addTeam(team(AWAY, false))
+            .build();
+        match.startMatch();
+        return match;
+    }
+
+    public static String player(String teamId, int number) {
+        return teamId + "-" + number;
+    }
+
+    public static MatchCommand goal(FootballMatch match, String teamId, int minute, String scorerId, String assistId) {
+        FootballGoalDetail goal = new FootballGoalDetail();
+        goal.setScorerId(scorerId);
+        goal.setAssistPlayerId(assistId);
+        goal.setGoalType("OPEN_PLAY");
+        goal.setMinuteScored(minute);
+        return new AddGoalCommand(match, event("GOAL", teamId, minute), goal);
+    }
+
+    public static MatchCommand card(FootballMatch match, String teamId, int minute, String playerId, String cardType) {
+        FootballCardDetail card = new FootballCardDetail();
+        card.setPlayerId(playerId);
+        card.setCardType(cardType);
+        card.setMinuteIssued(minute);
+        return new AddCardCommand(match, event("CARD", teamId, minute), card);
+    }
+
+    public static MatchCommand shot(FootballMatch match, String teamId, int minute, String playerId, String shotType) {
+        FootballShotDetail shot = new FootballShotDetail();
+        shot.setPlayerId(playerId);
+        shot.setShotType(shotType);
+        return new AddShotCommand(match, event("SHOT", teamId, minute), shot);
+    }
+
+    public static MatchCommand save(FootballMatch match, String teamId, int minute, String goalkeeperId,
+                                    String shooterId) {
+        FootballSaveDetail save = new FootballSaveDetail();
+        save.setGoalkeeperId(goalkeeperId);
+        save.setShotOriginPlayerId(shooterId);
+        save.setSaveType("DIVING");
+        return new AddSaveCommand(match, event("SAVE", teamId, minute), save);
+    }
+
+    public static MatchCommand substitution(FootballMatch match, String teamId, int minute, String playerOutId,
+                                            String playerInId) {
+        FootballSubstitutionDetail sub = new FootballSubstitutionDetail();
+        sub.setPlayerOutId(playerOutId);
+        sub.setPlayerInId(playerInId);
+        sub.setTeamId(teamId);
+        sub.setMinuteSubstituted(minute);
+        return new SubstitutePlayerCommand(match, event("SUBSTITUTION", teamId, minute), sub);
+    }
+
+    /**
+     * A goal, card, shot, save or substitution by a random side and players, in the
+     * given minute.
+     */
+    public static MatchCommand random(FootballMatch match, Random random, int minute) {
+        String team = random.nextBoolean() ? HOME : AWAY;
+        String other = HOME.equals(team) ? AWAY : HOME;
+        String playerId = player(team, 1 + random.nextInt(11));
+        switch (random.nextInt(5)) {
+            case 0:
+                return goal(match, team, minute, playerId, random.nextBoolean() ? player(team, 2 + random.nextInt(10)) : null);
+            case 1:
+                return card(match, team, minute, playerId, random.nextInt(4) == 0 ? "RED" : "YELLOW");
+            case 2:
+                return shot(match, team, minute, playerId, SHOT_TYPES[random.nextInt(SHOT_TYPES.length)]);
+            case 3:
+                return save(match, team, minute, player(team, 1), player(other, 2 + random.nextInt(10)));
+            default:
+                return substitution(match, team, minute, playerId, player(team, 12 + random.nextInt(5)));
+        }
+    }
+
+    private static FootballEvent event(String category, String teamId, int minute) {
+        FootballEvent event = new FootballEvent();
+        event.setEventId(UUID.randomUUID().toString());
+        event.setTeamId(teamId);
+        event.setEventCategory(category);
+        event.setMatchMinute(minute);
+        event.setMatchPeriod(minute < 46 ? "FIRST_HALF" : "SECOND_HALF");
+        event.setEventTime(new Date(1_700_000_000_000L + minute * 60_000L));
+        return event;
+    }
+
+    private static MatchTeam team(String name, boolean home) {
+        MatchTeam team = new MatchTeam();
+        team.setTeamId(name);
+        team.setTeamName(name);
+        team.setHomeTeam(home);
+        List<Player> players = new ArrayList<>();
+        for (int i = 1; i <= PLAYERS_PER_SIDE; i++) {
+            Player player = new Player();
+            player.setPlayerId(player(name, i));
+            player.setTeamId(name);
+            player.setPlayerName(name + " " + i);
+            player.setStartingXI(i <= 11);
+            players.add(player);
+        }
+        team.setPlayers(players);
+        return team;
+    }
+}
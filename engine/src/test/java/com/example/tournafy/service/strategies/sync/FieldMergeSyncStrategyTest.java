@@ -0,0 +1,281 @@
+package com.example.tournafy.service.strategies.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.example.tournafy.data.repository.offline.codec.CricketMatchCodec;
+import com.example.tournafy.domain.models.base.MatchEvent;
+import com.example.tournafy.domain.models.match.cricket.BatsmanStats;
+import com.example.tournafy.domain.models.match.cricket.CricketEvent;
+import com.example.tournafy.domain.models.match.cricket.CricketMatch;
+import com.example.tournafy.domain.models.sync.HybridLogicalClock;
+import com.example.tournafy.domain.models.team.Player;
+import com.example.tournafy.fixtures.CricketFixtures;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+public class FieldMergeSyncStrategyTest {
+
+    private static final String MATCH_ID = "match-1";
+
+    private final CricketMatchCodec codec = new CricketMatchCodec();
+    private long wall = 1_700_000_000_000L;
+    // Event ids added / removed by the replicas of the convergence harness
+    private final Set<String> added = new HashSet<>();
+    private final Set<String> removed = new HashSet<>();
+
+    // --- MERGE RULES ---
+
+    @Test
+    public void eachGroupTakesTheNewerSide() {
+        InMemoryMatchStore online = new InMemoryMatchStore(codec, CricketFixtures.startedMatch(20));
+        Replica host = new Replica("host", online, 0);
+        Replica coHost = new Replica("cohost", online, 0);
+        String striker = player(host.match, 5);
+        String bowler = player(host.match, 20);
+
+        coHost.match.setCurrentBowlerId(bowler);
+        wall++;
+        host.match.setCurrentStrikerId(striker);
+        coHost.sync();
+        host.sync();
+
+        CricketMatch merged = online.load();
+        assertEquals(striker, merged.getCurrentStrikerId());
+        assertEquals(bowler, merged.getCurrentBowlerId());
+    }
+
+    @Test
+    public void statsMapsMergePerPlayer() {
+        InMemoryMatchStore online = new InMemoryMatchStore(codec, CricketFixtures.startedMatch(20));
+        Replica host = new Replica("host", online, 0);
+        Replica coHost = new Replica("cohost", online, 0);
+        String first = player(host.match, 1);
+        String second = player(host.match, 2);
+
+        host.match.updateBatsmanStats(first, stats(first, 12));
+        wall++;
+        coHost.match.updateBatsmanStats(second, stats(second, 30));
+        host.sync();
+        coHost.sync();
+
+        Map<String, BatsmanStats> merged = online.load().getBatsmanStatsMap();
+        assertEquals(12, merged.get(first).getRunsScored());
+        assertEquals(30, merged.get(second).getRunsScored());
+    }
+
+    @Test
+    public void eventsOfBothSidesAreKeptAndRemovedOnesStayRemoved() {
+        InMemoryMatchStore online = new InMemoryMatchStore(codec, CricketFixtures.startedMatch(20));
+        Replica host = new Replica("host", online, 0);
+        Replica coHost = new Replica("cohost", online, 0);
+
+        host.match.addMatchEvent(event("host-1"));
+        host.match.addMatchEvent(event("host-2"));
+        host.sync();
+        coHost.sync();
+        coHost.match.addMatchEvent(event("cohost-1"));
+        host.match.removeMatchEvent(host.match.getCricketEvents().get(1));
+        coHost.sync();
+        host.sync();
+
+        assertEquals(List.of("cohost-1", "host-1"), eventIds(online.load()));
+    }
+
+    @Test
+    public void mergingTheResultAgainChangesNothing() {
+        InMemoryMatchStore online = new InMemoryMatchStore(codec, CricketFixtures.startedMatch(20));
+        Replica host = new Replica("host", online, 0);
+        host.match.setTossWinner("HOME");
+        host.match.addMatchEvent(event("host-1"));
+        host.sync();
+        Map<String, Object> once = online.document();
+
+        host.sync();
+
+        assertEquals(once, online.document());
+    }
+
+    @Test
+    public void otherEntitiesResolveToTheLocalCopy() {
+        FieldMergeSyncStrategy strategy = new FieldMergeSyncStrategy(new HybridLogicalClock("a", () -> wall));
+        String local = "local";
+
+        assertSame(local, strategy.resolveConflict(local, "remote"));
+        assertSame(local, strategy.resolveConflict(local, null));
+    }
+
+    // --- CONVERGENCE ---
+
+    /**
+     * Replicas with skewed wall clocks make random concurrent edits of every kind of
+     * field group and sync in random order through the online copy. Once every
+     * replica has synced twice with no edits in between, all of them hold the same
+     * match as the online copy, with every event added and not removed by any of them.
+     */
+    @Test
+    public void concurrentEditsConverge() {
+        for (long seed = 1; seed <= 25; seed++) {
+            Random random = new Random(seed);
+            added.clear();
+            removed.clear();
+            InMemoryMatchStore online = new InMemoryMatchStore(codec, CricketFixtures.startedMatch(20));
+            List<Replica> replicas = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                replicas.add(new Replica("r" + i, online, random.nextInt(201) - 100));
+            }
+
+            for (int step = 0; step < 200; step++) {
+                wall += random.nextInt(4);
+                Replica replica = replicas.get(random.nextInt(replicas.size()));
+                if (random.nextInt(4) == 0) {
+                    replica.sync();
+                } else {
+                    replica.edit(random);
+                }
+            }
+            for (int round = 0; round < 2; round++) {
+                for (Replica replica : replicas) replica.sync();
+            }
+
+            Map<String, Object> converged = online.document();
+            for (Replica replica : replicas) {
+                assertEquals("seed " + seed + ", " + replica.clock.getNodeId(), converged, codec.encode(replica.match));
+            }
+            List<String> kept = new ArrayList<>(added);
+            kept.removeAll(removed);
+            kept.sort(null);
+            assertEquals("seed " + seed, kept, eventIds(online.load()));
+        }
+    }
+
+    // --- STAND-INS ---
+
+    /**
+     * The online match: stored as its encoded document, so every load is a fresh copy
+     * like a read from the remote database.
+     */
+    static final class InMemoryMatchStore {
+        private final CricketMatchCodec codec;
+        private Map<String, Object> document;
+
+        InMemoryMatchStore(CricketMatchCodec codec, CricketMatch match) {
+            this.codec = codec;
+            match.setEntityId(MATCH_ID);
+            this.document = codec.encode(match);
+        }
+
+        CricketMatch load() {
+            return codec.decode(document);
+        }
+
+        void save(CricketMatch match) {
+            document = codec.encode(match);
+        }
+
+        Map<String, Object> document() {
+            return document;
+        }
+    }
+
+    /**
+     * One device: its local copy of the match, stamped by its own clock, synced the way
+     * SyncService does (local resolved against a fresh online copy, then written) and
+     * refreshed from the result.
+     */
+    private final class Replica {
+        final HybridLogicalClock clock;
+        final FieldMergeSyncStrategy strategy;
+        final InMemoryMatchStore online;
+        CricketMatch match;
+        private int events;
+
+        Replica(String nodeId, InMemoryMatchStore online, long skew) {
+            this.clock = new HybridLogicalClock(nodeId, () -> wall + skew);
+            this.strategy = new FieldMergeSyncStrategy(clock);
+            this.online = online;
+            adopt(online.load());
+        }
+
+        void sync() {
+            CricketMatch merged = strategy.resolveConflict(match, online.load());
+            online.save(merged);
+            adopt(codec.decode(codec.encode(merged)));
+        }
+
+        void edit(Random random) {
+            switch (random.nextInt(7)) {
+                case 0:
+                    match.setCurrentStrikerId(player(match, random.nextInt(11)));
+                    break;
+                case 1:
+                    match.setCurrentBowlerId(player(match, 11 + random.nextInt(11)));
+                    break;
+                case 2:
+                    match.setTossDecision(random.nextBoolean() ? "BAT" : "BOWL");
+                    break;
+                case 3:
+                    match.setTargetScore(random.nextInt(250));
+                    break;
+                case 4:
+                    String batsman = player(match, random.nextInt(11));
+                    match.updateBatsmanStats(batsman, stats(batsman, random.nextInt(100)));
+                    break;
+                case 5:
+                    String id = clock.getNodeId() + "-" + events++;
+                    match.addMatchEvent(event(id));
+                    added.add(id);
+                    break;
+                default:
+                    List<CricketEvent> current = match.getCricketEvents();
+                    if (current.isEmpty()) break;
+                    CricketEvent undone = current.get(random.nextInt(current.size()));
+                    match.removeMatchEvent(undone);
+                    removed.add(undone.getEventId());
+                    break;
+            }
+        }
+
+        private void adopt(CricketMatch copy) {
+            copy.clearPendingChanges();
+            copy.attachClock(clock);
+            match = copy;
+        }
+    }
+
+    private CricketEvent event(String id) {
+        CricketEvent event = new CricketEvent();
+        event.setEventId(id);
+        event.setMatchId(MATCH_ID);
+        event.setEventType("BALL");
+        event.setEventTime(new Date(wall));
+        return event;
+    }
+
+    private static BatsmanStats stats(String playerId, int runs) {
+        BatsmanStats stats = new BatsmanStats(playerId, playerId);
+        stats.addRuns(runs);
+        return stats;
+    }
+
+    /** Players 0-10 bat for the first team, 11-21 for the second. */
+    private static String player(CricketMatch match, int index) {
+        List<Player> players = match.getTeams().get(index / 11).getPlayers();
+        return players.get(index % 11).getPlayerId();
+    }
+
+    private static List<String> eventIds(CricketMatch match) {
+        List<String> ids = new ArrayList<>();
+        for (MatchEvent event : match.getCricketEvents()) ids.add(event.getEventId());
+        ids.sort(null);
+        return ids;
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.tournafy.service.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+public class ViewerShardsTest {
+
+    private static final int VIEWERS = 10_000;
+
+    // --- SHARD MATH ---
+
+    @Test
+    public void viewerAlwaysCountsInTheSameShardInRange() {
+        // "polygenelubricants" hashes to Integer.MIN_VALUE
+        for (String viewerId : Arrays.asList("polygenelubricants", "", "viewer-1", UUID.randomUUID().toString())) {
+            int shard = ViewerShards.shardOf(viewerId);
+            assertTrue(viewerId, shard >= 0 && shard < ViewerShards.SHARD_COUNT);
+            assertEquals(shard, ViewerShards.shardOf(new String(viewerId)));
+        }
+    }
+
+    @Test
+    public void viewersSpreadEvenlyOverTheShards() {
+        int[] perShard = new int[ViewerShards.SHARD_COUNT];
+        Random random = new Random(1);
+        for (int i = 0; i < VIEWERS; i++) {
+            perShard[ViewerShards.shardOf(new UUID(random.nextLong(), random.nextLong()).toString())]++;
+        }
+
+        int mean = VIEWERS / ViewerShards.SHARD_COUNT;
+        for (int count : perShard) {
+            assertTrue("shard with " + count + " viewers", Math.abs(count - mean) < mean / 4);
+        }
+    }
+
+    // --- AGGREGATION ---
+
+    @Test
+    public void totalSumsTheShards() {
+        assertEquals(12, ViewerShards.total(Arrays.asList(3L, 4L, 5L)));
+        assertEquals(0, ViewerShards.total(new ArrayList<>()));
+    }
+
+    @Test
+    public void missingAndNegativeShardsCountAsEmpty() {
+        assertEquals(7, ViewerShards.total(Arrays.asList(null, 7L, -2L, 0L)));
+    }
+
+    // --- PRESENCE ---
+
+    @Test
+    public void viewerIsCountedWhileConnected() {
+        InMemoryPresenceDatabase database = new InMemoryPresenceDatabase();
+        Viewer viewer = new Viewer(database, "viewer-1");
+
+        viewer.connect();
+        viewer.connect(); // Repeated connected event
+        assertEquals(1, database.total());
+
+        viewer.drop();
+        assertEquals(0, database.total());
+
+        viewer.connect();
+        assertEquals(1, database.total());
+
+        viewer.presence.leave();
+        assertEquals(0, database.total());
+        assertFalse(viewer.presence.isCounted());
+    }
+
+    @Test
+    public void viewerWhoLeftIsNotCountedAgainOnReconnect() {
+        InMemoryPresenceDatabase database = new InMemoryPresenceDatabase();
+        Viewer viewer = new Viewer(database, "viewer-1");
+        viewer.connect();
+        viewer.presence.leave();
+
+        viewer.drop();
+        viewer.connect();
+
+        assertEquals(0, database.total());
+    }
+
+    /**
+     * 10k viewers join one match, drop and regain their connection, and leave in random
+     * order. After every round the folded shards count exactly the viewers that are
+     * connected and have not left, and no shard takes more than twice its share of
+     * the writes.
+     */
+    @Test
+    public void tenThousandViewersAreCountedExactly() {
+        Random random = new Random(7);
+        InMemoryPresenceDatabase database = new InMemoryPresenceDatabase();
+        List<Viewer> viewers = new ArrayList<>();
+        for (int i = 0; i < VIEWERS; i++) {
+            Viewer viewer = new Viewer(database, new UUID(random.nextLong(), random.nextLong()).toString());
+            viewer.connect();
+            viewers.add(viewer);
+        }
+        assertEquals(VIEWERS, database.total());
+
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < VIEWERS / 10; i++) {
+                Viewer viewer = viewers.get(random.nextInt(VIEWERS));
+                int roll = random.nextInt(10);
+                if (roll < 5) {
+                    viewer.drop();
+                } else if (roll < 9) {
+                    viewer.connect();
+                } else {
+                    viewer.leave();
+                }
+            }
+            long watching = viewers.stream().filter(viewer -> viewer.connected && !viewer.left).count();
+            assertEquals("round " + round, watching, database.total());
+        }
+
+        long meanWrites = database.writes() / ViewerShards.SHARD_COUNT;
+        for (int writes : database.writesPerShard) {
+            assertTrue("shard with " + writes + " writes", writes < 2 * meanWrites);
+        }
+    }
+
+    // --- STAND-INS ---
+
+    /**
+     * The presence shards of one match: counters, and the decrements the server runs
+     * for each client when its connection drops.
+     */
+    private static final class InMemoryPresenceDatabase {
+        final long[] shards = new long[ViewerShards.SHARD_COUNT];
+        final int[] writesPerShard = new int[ViewerShards.SHARD_COUNT];
+        final Map<String, List<Integer>> onDisconnect = new HashMap<>();
+
+        ViewerShards.Counter counter(String clientId, int shard) {
+            return new ViewerShards.Counter() {
+                @Override
+                public void decrementOnDisconnect(Runnable onRegistered) {
+                    onDisconnect.computeIfAbsent(clientId, id -> new ArrayList<>()).add(shard);
+                    onRegistered.run();
+                }
+
+                @Override
+                public void cancelOnDisconnect() {
+                    onDisconnect.remove(clientId);
+                }
+
+                @Override
+                public void increment(long delta) {
+                    shards[shard] += delta;
+                    writesPerShard[shard]++;
+                }
+            };
+        }
+
+        void disconnect(String clientId) {
+            List<Integer> pending = onDisconnect.remove(clientId);
+            if (pending == null) return;
+            for (int shard : pending) {
+                shards[shard]--;
+                writesPerShard[shard]++;
+            }
+        }
+
+        long total() {
+            List<Long> counts = new ArrayList<>();
+            for (long count : shards) counts.add(count);
+            return ViewerShards.total(counts);
+        }
+
+        long writes() {
+            long writes = 0;
+            for (int count : writesPerShard) writes += count;
+            return writes;
+        }
+    }
+
+    private static final class Viewer {
+        final InMemoryPresenceDatabase database;
+        final String viewerId;
+        final ViewerShards.Presence presence;
+        boolean connected;
+        boolean left;
+
+        Viewer(InMemoryPresenceDatabase database, String viewerId) {
+            this.database = database;
+            this.viewerId = viewerId;
+            this.presence = new ViewerShards.Presence(database.counter(viewerId, ViewerShards.shardOf(viewerId)));
+        }
+
+        void connect() {
+            connected = true;
+            presence.onConnectionChanged(true);
+        }
+
+        void drop() {
+            if (!connected) return;
+            connected = false;
+            database.disconnect(viewerId);
+            presence.onConnectionChanged(false);
+        }
+
+        void leave() {
+            left = true;
+            presence.leave();
+        }
+    }
+}
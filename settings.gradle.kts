@@ -21,4 +21,4 @@ dependencyResolutionManagement {
 
 rootProject.name = "Tournafy"
 include(":app")
- 
\ No newline at end of file
+include(":engine")